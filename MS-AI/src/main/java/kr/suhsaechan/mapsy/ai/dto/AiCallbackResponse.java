@@ -23,4 +23,7 @@ public class AiCallbackResponse {
 
   @Schema(description = "Content UUID")
   private UUID contentId;
+
+  @Schema(description = "이미 수신된 동일 Callback 여부 (true면 재처리하지 않음)", example = "false")
+  private Boolean duplicate;
 }
@@ -0,0 +1,22 @@
+package kr.suhsaechan.mapsy.ai.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * AI 서버로 장소 추출 일괄 요청 시 사용하는 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceExtractionBatchRequest {
+
+  @Schema(description = "장소 추출 요청 목록 (Content별 1건)")
+  private List<PlaceExtractionRequest> items;
+}
@@ -0,0 +1,26 @@
+package kr.suhsaechan.mapsy.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * AI 서버로부터 장소 추출 일괄 요청 응답 (202 Accepted)
+ * AI 서버 응답 형식: {"results": [{"contentId": "...", "received": true}, ...]}
+ * - 결과에 없는 Content는 접수되지 않은 것으로 처리
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PlaceExtractionBatchResponse {
+
+  @Schema(description = "Content별 접수 결과")
+  private List<PlaceExtractionResponse> results;
+}
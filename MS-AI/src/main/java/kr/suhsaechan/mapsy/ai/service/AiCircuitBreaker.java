@@ -0,0 +1,74 @@
+package kr.suhsaechan.mapsy.ai.service;
+
+/**
+ * AI 서버 요청 Circuit Breaker
+ * - CLOSED: 정상, 연속 실패가 failureThreshold에 도달하면 OPEN
+ * - OPEN: openMillis 동안 요청 즉시 실패 (장애 중인 AI 서버에 요청을 쌓지 않음)
+ * - HALF_OPEN: OPEN 시간이 지나면 요청 1건만 허용, 성공 시 CLOSED / 실패 시 다시 OPEN
+ */
+final class AiCircuitBreaker {
+
+  enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final int failureThreshold;
+  private final long openMillis;
+
+  private State state = State.CLOSED;
+  private int consecutiveFailures;
+  private long openedAt;
+  private boolean probeInFlight;
+
+  AiCircuitBreaker(int failureThreshold, long openMillis) {
+    this.failureThreshold = Math.max(1, failureThreshold);
+    this.openMillis = openMillis;
+  }
+
+  /**
+   * 요청 허용 여부 (HALF_OPEN 전환 시 허용된 요청이 복구 확인 요청이 됨)
+   */
+  synchronized boolean allowRequest() {
+    switch (state) {
+      case CLOSED -> {
+        return true;
+      }
+      case OPEN -> {
+        if (System.currentTimeMillis() - openedAt < openMillis) {
+          return false;
+        }
+        state = State.HALF_OPEN;
+        probeInFlight = true;
+        return true;
+      }
+      default -> {
+        if (probeInFlight) {
+          return false;
+        }
+        probeInFlight = true;
+        return true;
+      }
+    }
+  }
+
+  synchronized void recordSuccess() {
+    state = State.CLOSED;
+    consecutiveFailures = 0;
+    probeInFlight = false;
+  }
+
+  synchronized void recordFailure() {
+    consecutiveFailures++;
+    if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+      state = State.OPEN;
+      openedAt = System.currentTimeMillis();
+      probeInFlight = false;
+    }
+  }
+
+  synchronized State getState() {
+    return state;
+  }
+}
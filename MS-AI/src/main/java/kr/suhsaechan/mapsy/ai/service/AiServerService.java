@@ -1,13 +1,31 @@
 package kr.suhsaechan.mapsy.ai.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import kr.suhsaechan.mapsy.ai.dto.PlaceExtractionBatchRequest;
+import kr.suhsaechan.mapsy.ai.dto.PlaceExtractionBatchResponse;
 import kr.suhsaechan.mapsy.ai.dto.PlaceExtractionRequest;
-import kr.suhsaechan.mapsy.ai.dto.PlaceExtractionResponse;
 import kr.suhsaechan.mapsy.common.exception.CustomException;
 import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
+import kr.suhsaechan.mapsy.common.properties.AiServerClientProperties;
 import kr.suhsaechan.mapsy.common.properties.AiServerProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -15,83 +33,219 @@ import okhttp3.RequestBody;
 import okhttp3.Response;
 import org.springframework.stereotype.Service;
 
-import java.util.UUID;
-
 /**
  * AI 서버와의 통신을 담당하는 서비스
+ * - 요청은 OkHttp enqueue로 비동기 전송 (호출 스레드/DB 연결을 붙잡지 않음)
+ * - AI 서버 전용 연결 풀과 Dispatcher로 동시 요청 수 제한 (초과분은 Dispatcher 큐에서 대기)
+ * - 네트워크 오류, 429, 5xx는 지수 백오프 + jitter로 재시도
+ * - 429/503 과부하 신호(Retry-After)는 일괄 요청 디스패처에 전달하여 전송 속도 조절
+ * - 연속 실패 시 Circuit Breaker OPEN → 일정 시간 요청 즉시 실패
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AiServerService {
 
+  private static final MediaType JSON = MediaType.get("application/json");
+
   private final OkHttpClient okHttpClient;
   private final ObjectMapper objectMapper;
   private final AiServerProperties aiServerProperties;
+  private final AiServerClientProperties aiServerClientProperties;
+  private final MeterRegistry meterRegistry;
+
+  private OkHttpClient aiHttpClient;
+  private ScheduledExecutorService retryScheduler;
+  private AiCircuitBreaker circuitBreaker;
+  private final AtomicLong overloadedUntil = new AtomicLong();
+
+  @PostConstruct
+  void init() {
+    Dispatcher dispatcher = new Dispatcher();
+    dispatcher.setMaxRequests(aiServerClientProperties.getMaxConcurrentRequests());
+    dispatcher.setMaxRequestsPerHost(aiServerClientProperties.getMaxConcurrentRequests());
+
+    aiHttpClient = okHttpClient.newBuilder()
+        .dispatcher(dispatcher)
+        .connectionPool(new ConnectionPool(
+            aiServerClientProperties.getMaxIdleConnections(),
+            aiServerClientProperties.getKeepAliveSeconds(), TimeUnit.SECONDS))
+        .connectTimeout(aiServerClientProperties.getConnectTimeoutMs(), TimeUnit.MILLISECONDS)
+        .callTimeout(aiServerClientProperties.getCallTimeoutMs(), TimeUnit.MILLISECONDS)
+        .retryOnConnectionFailure(false)
+        .build();
+
+    retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "ai-server-retry");
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    circuitBreaker = new AiCircuitBreaker(
+        aiServerClientProperties.getCircuitFailureThreshold(), aiServerClientProperties.getCircuitOpenMs());
+
+    Gauge.builder("ai.server.requests.queued", dispatcher, Dispatcher::queuedCallsCount)
+        .description("동시 요청 수 제한으로 대기 중인 AI 서버 요청 수")
+        .register(meterRegistry);
+    Gauge.builder("ai.server.circuit.open", circuitBreaker,
+            breaker -> breaker.getState() == AiCircuitBreaker.State.CLOSED ? 0 : 1)
+        .description("AI 서버 Circuit Breaker OPEN/HALF_OPEN 여부")
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    retryScheduler.shutdownNow();
+  }
 
   /**
-   * AI 서버에 장소 추출 요청을 전송합니다.
-   * 비동기 요청이며, AI 서버는 202 Accepted를 즉시 반환합니다.
-   * 실제 결과는 Webhook Callback으로 수신됩니다.
+   * AI 서버에 장소 추출 일괄 요청을 비동기로 전송합니다.
+   * AI 서버는 202 Accepted를 즉시 반환하며, 실제 결과는 Content별 Webhook Callback으로 수신됩니다.
+   * - 재시도 소진, Circuit Breaker OPEN, 재시도 불가 응답(4xx)은 CustomException으로 완료
    *
-   * @param contentId Content UUID
-   * @param snsUrl    분석할 SNS URL
-   * @return AI 서버 응답 (202 Accepted)
+   * @param items Content별 장소 추출 요청 목록
+   * @return AI 서버 응답 (202 Accepted, Content별 접수 결과)
    */
-  public PlaceExtractionResponse sendPlaceExtractionRequest(UUID contentId, String snsUrl) {
-    String aiServerPlaceExtractionUrl = aiServerProperties.getBaseUrl() + aiServerProperties.getExtractPlacesUri();
+  public CompletableFuture<PlaceExtractionBatchResponse> sendPlaceExtractionBatchRequest(
+      List<PlaceExtractionRequest> items) {
+    CompletableFuture<PlaceExtractionBatchResponse> future = new CompletableFuture<>();
 
-    PlaceExtractionRequest aiContentRequest = PlaceExtractionRequest.builder()
-            .contentId(contentId)
-            .snsUrl(snsUrl)
-            .build();
+    Request request;
+    try {
+      request = buildRequest(PlaceExtractionBatchRequest.builder().items(items).build());
+    } catch (Exception e) {
+      log.error("Failed to build AI server batch request: size={}", items.size(), e);
+      future.completeExceptionally(new CustomException(ErrorCode.EXTERNAL_API_ERROR));
+      return future;
+    }
 
-    log.info("Requesting place extraction to AI server: contentId={}, snsUrl={}", contentId, snsUrl);
+    log.info("Requesting place extraction batch to AI server: size={}", items.size());
+    attempt(request, items.size(), 1, future);
+    return future;
+  }
 
-    try {
-      // JSON 직렬화
-      String jsonBody = objectMapper.writeValueAsString(aiContentRequest);
-      RequestBody body = RequestBody.create(jsonBody, MediaType.get("application/json"));
-
-      // OkHttp 요청 생성
-      Request request = new Request.Builder()
-          .url(aiServerPlaceExtractionUrl)
-          .addHeader("X-API-Key", aiServerProperties.getApiKey())
-          .addHeader("Content-Type", "application/json")
-          .addHeader("Accept", "application/json")
-          .post(body)
-          .build();
-
-      // OkHttp로 POST 요청 실행
-      try (Response httpResponse = okHttpClient.newCall(request).execute()) {
-        if (!httpResponse.isSuccessful()) {
-          log.error("AI server HTTP error: code={}", httpResponse.code());
-          throw new CustomException(ErrorCode.EXTERNAL_API_ERROR);
-        }
+  /**
+   * AI 서버 과부하 신호(429/503)에 따른 남은 대기 시간
+   * - 일괄 요청 디스패처는 이 시간 동안 새 요청 전송을 멈추고 대기열에 적재 (back-pressure)
+   *
+   * @return 남은 대기 시간 (ms), 과부하 아니면 0
+   */
+  public long getOverloadBackoffMillis() {
+    return Math.max(0, overloadedUntil.get() - System.currentTimeMillis());
+  }
 
-        if (httpResponse.body() == null) {
-          log.error("AI server response body is null");
-          throw new CustomException(ErrorCode.EXTERNAL_API_ERROR);
-        }
+  private Request buildRequest(PlaceExtractionBatchRequest batchRequest) throws IOException {
+    String aiServerBatchUrl = aiServerProperties.getBaseUrl() + aiServerProperties.getExtractPlacesBatchUri();
+
+    // JSON 직렬화
+    String jsonBody = objectMapper.writeValueAsString(batchRequest);
 
-        String responseBody = httpResponse.body().string();
-        log.info("AI server raw response: contentId={}, httpStatus={}, responseBody={}",
-            contentId, httpResponse.code(), responseBody);
+    return new Request.Builder()
+        .url(aiServerBatchUrl)
+        .addHeader("X-API-Key", aiServerProperties.getApiKey())
+        .addHeader("Content-Type", "application/json")
+        .addHeader("Accept", "application/json")
+        .post(RequestBody.create(jsonBody, JSON))
+        .build();
+  }
 
-        PlaceExtractionResponse response = objectMapper.readValue(responseBody, PlaceExtractionResponse.class);
+  private void attempt(Request request, int size, int attempt,
+      CompletableFuture<PlaceExtractionBatchResponse> future) {
+    if (!circuitBreaker.allowRequest()) {
+      log.warn("AI server circuit open. Rejecting batch request: size={}, attempt={}", size, attempt);
+      future.completeExceptionally(new CustomException(ErrorCode.AI_SERVER_ERROR));
+      return;
+    }
 
-        log.info("AI server accepted the request: contentId={}, received={}, status={}, message={}",
-            contentId, response.getReceived(), response.getStatus(), response.getMessage());
+    aiHttpClient.newCall(request).enqueue(new Callback() {
+      @Override
+      public void onFailure(Call call, IOException e) {
+        log.warn("AI server call failed: size={}, attempt={}, error={}", size, attempt, e.getMessage());
+        circuitBreaker.recordFailure();
+        retryOrFail(request, size, attempt, 0, future);
+      }
 
-        return response;
+      @Override
+      public void onResponse(Call call, Response httpResponse) {
+        try (httpResponse) {
+          int code = httpResponse.code();
+          if (code == 429 || code == 503) {
+            // 과부하 신호: AI 서버는 살아 있으므로 Circuit Breaker 실패로 집계하지 않고 전송 속도를 늦춤
+            long retryAfterMillis = retryAfterMillis(httpResponse.header("Retry-After"));
+            overloadedUntil.accumulateAndGet(System.currentTimeMillis() + retryAfterMillis, Math::max);
+            log.warn("AI server overloaded: size={}, attempt={}, code={}, retryAfterMs={}",
+                size, attempt, code, retryAfterMillis);
+            circuitBreaker.recordSuccess();
+            retryOrFail(request, size, attempt, retryAfterMillis, future);
+            return;
+          }
+          if (code >= 500) {
+            log.warn("AI server HTTP error: size={}, attempt={}, code={}", size, attempt, code);
+            circuitBreaker.recordFailure();
+            retryOrFail(request, size, attempt, 0, future);
+            return;
+          }
+
+          // 4xx 등 재시도해도 결과가 같은 응답은 AI 서버 장애로 보지 않음
+          circuitBreaker.recordSuccess();
+          if (!httpResponse.isSuccessful() || httpResponse.body() == null) {
+            log.error("AI server rejected the batch request: size={}, code={}", size, code);
+            future.completeExceptionally(new CustomException(ErrorCode.EXTERNAL_API_ERROR));
+            return;
+          }
+
+          String responseBody = httpResponse.body().string();
+          log.debug("AI server raw response: httpStatus={}, responseBody={}", code, responseBody);
+
+          PlaceExtractionBatchResponse response =
+              objectMapper.readValue(responseBody, PlaceExtractionBatchResponse.class);
+
+          log.info("AI server accepted the batch request: size={}, results={}",
+              size, response.getResults() != null ? response.getResults().size() : 0);
+
+          future.complete(response);
+        } catch (Exception e) {
+          log.error("Unexpected error during AI server call: size={}", size, e);
+          future.completeExceptionally(new CustomException(ErrorCode.EXTERNAL_API_ERROR));
+        }
       }
+    });
+  }
 
-    } catch (CustomException e) {
-      log.error("AI server error: contentId={}, error={}", contentId, e.getMessage());
-      throw e;
-    } catch (Exception e) {
-      log.error("Unexpected error during AI server call: contentId={}", contentId, e);
-      throw new CustomException(ErrorCode.EXTERNAL_API_ERROR);
+  /**
+   * 재시도 가능한 실패 처리
+   * - 지연 = 0 ~ min(최대 지연, 기본 지연 * 2^(시도-1)) 사이 무작위 (full jitter, 동시 재시도 분산)
+   * - AI 서버가 Retry-After를 지정하면 그 이후로 지연
+   */
+  private void retryOrFail(Request request, int size, int attempt, long minDelayMillis,
+      CompletableFuture<PlaceExtractionBatchResponse> future) {
+    if (attempt >= aiServerClientProperties.getMaxAttempts()) {
+      log.error("AI server batch request failed after {} attempts: size={}", attempt, size);
+      future.completeExceptionally(new CustomException(ErrorCode.EXTERNAL_API_ERROR));
+      return;
+    }
+
+    long backoff = Math.min(aiServerClientProperties.getRetryMaxDelayMs(),
+        aiServerClientProperties.getRetryBaseDelayMs() << Math.min(attempt - 1, 20));
+    long delay = Math.max(minDelayMillis, ThreadLocalRandom.current().nextLong(backoff + 1));
+    log.info("Retrying AI server batch request in {}ms: size={}, nextAttempt={}", delay, size, attempt + 1);
+
+    retryScheduler.schedule(() -> attempt(request, size, attempt + 1, future), delay, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Retry-After 헤더(초) 해석, 없거나 잘못된 값이면 재시도 기본 지연 사용
+   */
+  private long retryAfterMillis(String retryAfter) {
+    long defaultMillis = aiServerClientProperties.getRetryBaseDelayMs();
+    if (retryAfter == null || retryAfter.isBlank()) {
+      return defaultMillis;
+    }
+    try {
+      long millis = TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+      return Math.min(Math.max(millis, 0), aiServerClientProperties.getRetryMaxDelayMs());
+    } catch (NumberFormatException e) {
+      return defaultMillis;
     }
   }
 }
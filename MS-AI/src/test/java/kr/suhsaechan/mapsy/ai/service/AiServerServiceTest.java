@@ -0,0 +1,115 @@
+package kr.suhsaechan.mapsy.ai.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import kr.suhsaechan.mapsy.ai.dto.PlaceExtractionBatchResponse;
+import kr.suhsaechan.mapsy.ai.dto.PlaceExtractionRequest;
+import kr.suhsaechan.mapsy.ai.dto.PlaceExtractionResponse;
+import kr.suhsaechan.mapsy.common.exception.CustomException;
+import kr.suhsaechan.mapsy.common.properties.AiServerClientProperties;
+import kr.suhsaechan.mapsy.common.properties.AiServerProperties;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 로컬 스텁 AI 서버로 장소 추출 일괄 요청 전송/재시도/과부하 처리 검증
+ */
+class AiServerServiceTest {
+
+  private static final int BATCH_SIZE = 32;
+
+  private StubAiServer stubAiServer;
+  private AiServerService aiServerService;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    stubAiServer = new StubAiServer();
+
+    AiServerProperties aiServerProperties = new AiServerProperties();
+    aiServerProperties.setBaseUrl(stubAiServer.baseUrl());
+    aiServerProperties.setApiKey("test-api-key");
+    aiServerProperties.setExtractPlacesBatchUri(StubAiServer.BATCH_URI);
+
+    AiServerClientProperties clientProperties = new AiServerClientProperties();
+    clientProperties.setMaxAttempts(3);
+    clientProperties.setRetryBaseDelayMs(10);
+    clientProperties.setRetryMaxDelayMs(2000);
+
+    aiServerService = new AiServerService(new OkHttpClient(), new ObjectMapper(), aiServerProperties,
+        clientProperties, new SimpleMeterRegistry());
+    aiServerService.init();
+  }
+
+  @AfterEach
+  void tearDown() {
+    aiServerService.shutdown();
+    stubAiServer.close();
+  }
+
+  @Test
+  void 일괄_요청은_한_번의_HTTP_요청으로_전송된다() throws Exception {
+    List<PlaceExtractionRequest> items = createItems(BATCH_SIZE);
+
+    PlaceExtractionBatchResponse response =
+        aiServerService.sendPlaceExtractionBatchRequest(items).get(5, TimeUnit.SECONDS);
+
+    assertThat(stubAiServer.getReceivedRequests()).hasSize(1);
+    assertThat(stubAiServer.getReceivedRequests().get(0).getItems()).hasSize(BATCH_SIZE);
+    assertThat(response.getResults())
+        .extracting(PlaceExtractionResponse::getContentId)
+        .containsExactlyElementsOf(items.stream().map(PlaceExtractionRequest::getContentId).toList());
+  }
+
+  @Test
+  void 과부하_응답은_Retry_After_이후_재시도한다() throws Exception {
+    stubAiServer.enqueueResponse(503, Map.of("Retry-After", "1"));
+
+    PlaceExtractionBatchResponse response =
+        aiServerService.sendPlaceExtractionBatchRequest(createItems(2)).get(5, TimeUnit.SECONDS);
+
+    assertThat(response.getResults()).hasSize(2);
+    assertThat(stubAiServer.getReceivedRequests()).hasSize(2);
+    List<Long> receivedAt = stubAiServer.getReceivedAtMillis();
+    assertThat(receivedAt.get(1) - receivedAt.get(0)).isGreaterThanOrEqualTo(900);
+  }
+
+  @Test
+  void 서버_오류가_계속되면_최대_시도_후_실패한다() {
+    IntStream.range(0, 3).forEach(i -> stubAiServer.enqueueResponse(500, Map.of()));
+
+    assertThatThrownBy(() -> aiServerService.sendPlaceExtractionBatchRequest(createItems(1)).get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(CustomException.class);
+    assertThat(stubAiServer.getReceivedRequests()).hasSize(3);
+  }
+
+  @Test
+  void 재시도_불가_응답은_재시도하지_않는다() {
+    stubAiServer.enqueueResponse(400, Map.of());
+
+    assertThatThrownBy(() -> aiServerService.sendPlaceExtractionBatchRequest(createItems(1)).get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(CustomException.class);
+    assertThat(stubAiServer.getReceivedRequests()).hasSize(1);
+  }
+
+  private List<PlaceExtractionRequest> createItems(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> PlaceExtractionRequest.builder()
+            .contentId(UUID.randomUUID())
+            .snsUrl("https://www.instagram.com/p/POST" + i + "/")
+            .build())
+        .toList();
+  }
+}
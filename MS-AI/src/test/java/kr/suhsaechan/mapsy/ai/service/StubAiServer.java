@@ -0,0 +1,104 @@
+package kr.suhsaechan.mapsy.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import kr.suhsaechan.mapsy.ai.dto.PlaceExtractionBatchRequest;
+import kr.suhsaechan.mapsy.ai.dto.PlaceExtractionBatchResponse;
+import kr.suhsaechan.mapsy.ai.dto.PlaceExtractionResponse;
+
+/**
+ * 테스트용 로컬 AI 서버 (JDK HttpServer)
+ * - POST /api/extract-places/batch 요청을 기록하고 예약된 응답을 순서대로 반환
+ * - 예약된 응답이 없으면 모든 항목을 접수(202)한 것으로 응답
+ */
+class StubAiServer implements AutoCloseable {
+
+  static final String BATCH_URI = "/api/extract-places/batch";
+
+  private final HttpServer server;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final ConcurrentLinkedQueue<StubResponse> scriptedResponses = new ConcurrentLinkedQueue<>();
+  private final List<PlaceExtractionBatchRequest> receivedRequests = new CopyOnWriteArrayList<>();
+  private final List<Long> receivedAtMillis = new CopyOnWriteArrayList<>();
+
+  StubAiServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext(BATCH_URI, this::handle);
+    server.start();
+  }
+
+  String baseUrl() {
+    return "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+  /**
+   * 다음 요청에 반환할 응답 예약 (본문 없이 상태 코드와 헤더만)
+   */
+  void enqueueResponse(int status, Map<String, String> headers) {
+    scriptedResponses.add(new StubResponse(status, headers));
+  }
+
+  List<PlaceExtractionBatchRequest> getReceivedRequests() {
+    return receivedRequests;
+  }
+
+  List<Long> getReceivedAtMillis() {
+    return receivedAtMillis;
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    PlaceExtractionBatchRequest request =
+        objectMapper.readValue(exchange.getRequestBody(), PlaceExtractionBatchRequest.class);
+    receivedRequests.add(request);
+    receivedAtMillis.add(System.currentTimeMillis());
+
+    StubResponse scripted = scriptedResponses.poll();
+    if (scripted != null) {
+      scripted.headers.forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+      exchange.sendResponseHeaders(scripted.status, -1);
+      exchange.close();
+      return;
+    }
+
+    PlaceExtractionBatchResponse response = PlaceExtractionBatchResponse.builder()
+        .results(request.getItems().stream()
+            .map(item -> PlaceExtractionResponse.builder()
+                .contentId(item.getContentId())
+                .received(true)
+                .status("ACCEPTED")
+                .build())
+            .toList())
+        .build();
+    byte[] body = objectMapper.writeValueAsBytes(response);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(202, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+  }
+
+  private static final class StubResponse {
+
+    private final int status;
+    private final Map<String, String> headers;
+
+    private StubResponse(int status, Map<String, String> headers) {
+      this.status = status;
+      this.headers = headers;
+    }
+  }
+}
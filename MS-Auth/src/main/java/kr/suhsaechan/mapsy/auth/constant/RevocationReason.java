@@ -0,0 +1,10 @@
+package kr.suhsaechan.mapsy.auth.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum RevocationReason {
+  WITHDRAWN     // 회원 탈퇴
+}
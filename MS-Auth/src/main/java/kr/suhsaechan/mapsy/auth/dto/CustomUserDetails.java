@@ -21,6 +21,22 @@ public class CustomUserDetails implements UserDetails, Principal {
     this.member = member;
   }
 
+  /**
+   * 검증된 JWT 클레임으로 CustomUserDetails 생성 (DB 조회 없음)
+   * - Member에는 id, email, memberRole만 채워지며 영속 상태가 아님
+   *
+   * @param memberId 회원 ID (member_id 클레임)
+   * @param email    이메일 (username 클레임)
+   * @param role     권한 (role 클레임)
+   */
+  public static CustomUserDetails fromClaims(UUID memberId, String email, MemberRole role) {
+    return new CustomUserDetails(Member.builder()
+        .id(memberId)
+        .email(email)
+        .memberRole(role != null ? role : MemberRole.ROLE_USER)
+        .build());
+  }
+
   @Override
   public Collection<? extends GrantedAuthority> getAuthorities() {
     MemberRole role = member.getMemberRole();
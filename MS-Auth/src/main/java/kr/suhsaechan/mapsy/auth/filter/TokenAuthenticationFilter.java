@@ -9,6 +9,7 @@ import kr.suhsaechan.mapsy.common.exception.CustomException;
 import kr.suhsaechan.mapsy.common.exception.ErrorResponse;
 import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
 import kr.suhsaechan.mapsy.member.entity.Member;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -70,11 +71,12 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         }
       }
 
-      // 토큰 검증: 토큰이 유효하면 인증 설정
-      if (token != null && jwtUtil.validateToken(token)) {
-        Authentication authentication = jwtUtil.getAuthentication(token);
+      // 토큰 검증: 토큰이 유효하면 인증 설정 (요청당 1회만 파싱하고 Claims를 재사용)
+      Claims claims = token != null ? jwtUtil.validateAndGetClaims(token) : null;
+      if (claims != null) {
+        Authentication authentication = jwtUtil.getAuthentication(claims);
 
-        // 탈퇴한 회원 체크
+        // 탈퇴한 회원 체크 (database 모드, stateless 모드는 getAuthentication에서 폐기 목록으로 확인)
         if (authentication.getPrincipal() instanceof CustomUserDetails) {
           CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
           Member member = userDetails.getMember();
@@ -115,8 +117,8 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
     } catch (CustomException e) {
       log.error("토큰 검증 실패: {}", e.getMessage());
       if (isApiRequest) {
-        // 블랙리스트 등 커스텀 에러 상황을 명확히 전달
-        sendErrorResponse(response, ErrorCode.TOKEN_BLACKLISTED);
+        // 블랙리스트, 탈퇴 회원 등 커스텀 에러 상황을 명확히 전달
+        sendErrorResponse(response, e.getErrorCode() != null ? e.getErrorCode() : ErrorCode.TOKEN_BLACKLISTED);
       }
       return;
     }
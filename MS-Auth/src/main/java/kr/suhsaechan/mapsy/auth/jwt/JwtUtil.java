@@ -2,16 +2,21 @@ package kr.suhsaechan.mapsy.auth.jwt;
 
 import kr.suhsaechan.mapsy.auth.dto.CustomUserDetails;
 import kr.suhsaechan.mapsy.auth.service.CustomUserDetailsService;
+import kr.suhsaechan.mapsy.auth.service.MemberRevocationService;
+import kr.suhsaechan.mapsy.auth.service.TokenBlacklistService;
 import kr.suhsaechan.mapsy.common.exception.CustomException;
 import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
+import kr.suhsaechan.mapsy.member.constant.MemberRole;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -24,7 +29,6 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
-import java.util.concurrent.TimeUnit;
 
 @Component
 @Slf4j
@@ -32,6 +36,8 @@ import java.util.concurrent.TimeUnit;
 public class JwtUtil {
 
   private final CustomUserDetailsService customUserDetailsService;
+  private final MemberRevocationService memberRevocationService;
+  private final TokenBlacklistService tokenBlacklistService;
   private final RedisTemplate<String, Object> redisTemplate;
 
   @Value("${jwt.secret-key}")
@@ -46,19 +52,29 @@ public class JwtUtil {
   @Value("${jwt.issuer}")
   private String issuer; // JWT 발급자
 
+  @Value("${jwt.stateless-auth:true}")
+  private boolean statelessAuth; // true: 클레임으로 인증 정보 생성, false: 매 요청 회원 DB 조회
+
   private static final String ACCESS_CATEGORY = "access";
   private static final String REFRESH_CATEGORY = "refresh";
-  private static final String BLACKLIST_PREFIX = "BL:";
-  private static final String BLACKLIST_VALUE = "blacklisted";
   public static final String REFRESH_KEY_PREFIX = "RT:";
 
+  // 서명 키와 파서는 불변이므로 기동 시 1회 생성 후 재사용 (thread-safe)
+  private SecretKey signKey;
+  private JwtParser jwtParser;
+
+  @PostConstruct
+  void init() {
+    signKey = createSignKey();
+    jwtParser = Jwts.parser()
+        .verifyWith(signKey)
+        .build();
+  }
+
   // 토큰에서 memberId 파싱
   public UUID getMemberId(String token) {
     // JWT 토큰에서 member_id를 String으로 추출
-    String memberIdString = Jwts.parser()
-        .verifyWith(getSignKey())
-        .build()
-        .parseSignedClaims(token)
+    String memberIdString = jwtParser.parseSignedClaims(token)
         .getPayload()
         .get("member_id", String.class);  // member_id를 String으로 추출
 
@@ -68,30 +84,21 @@ public class JwtUtil {
 
   // 토큰에서 username 파싱
   public String getUsername(String token) {
-    return Jwts.parser()
-        .verifyWith(getSignKey())
-        .build()
-        .parseSignedClaims(token)
+    return jwtParser.parseSignedClaims(token)
         .getPayload()
         .get("username", String.class);
   }
 
   // 토큰에서 role 파싱
   public String getRole(String token) {
-    return Jwts.parser()
-        .verifyWith(getSignKey())
-        .build()
-        .parseSignedClaims(token)
+    return jwtParser.parseSignedClaims(token)
         .getPayload()
         .get("role", String.class);
   }
 
   // 토큰 만료 여부 확인
   public Boolean isExpired(String token) {
-    return Jwts.parser()
-        .verifyWith(getSignKey())
-        .build()
-        .parseSignedClaims(token)
+    return jwtParser.parseSignedClaims(token)
         .getPayload()
         .getExpiration()
         .before(new Date());
@@ -99,10 +106,7 @@ public class JwtUtil {
 
   // Access/Refresh 토큰 여부
   public String getCategory(String token) {
-    return Jwts.parser()
-        .verifyWith(getSignKey())
-        .build()
-        .parseSignedClaims(token)
+    return jwtParser.parseSignedClaims(token)
         .getPayload()
         .get("category", String.class);
   }
@@ -136,7 +140,7 @@ public class JwtUtil {
         .issuer(issuer)
         .issuedAt(new Date(System.currentTimeMillis()))
         .expiration(new Date(System.currentTimeMillis() + expiredAt))
-        .signWith(getSignKey())
+        .signWith(signKey)
         .compact();
   }
 
@@ -144,17 +148,25 @@ public class JwtUtil {
    * JWT 토큰 유효성 검사
    */
   public boolean validateToken(String token) throws ExpiredJwtException {
+    return validateAndGetClaims(token) != null;
+  }
+
+  /**
+   * JWT 토큰 서명/형식 검증 및 블랙리스트 확인 후 Claims 반환 (요청당 1회 파싱)
+   *
+   * @return 유효한 토큰이면 Claims, 유효하지 않으면 null
+   * @throws ExpiredJwtException 만료된 토큰
+   * @throws CustomException     블랙리스트에 등록된 토큰
+   */
+  public Claims validateAndGetClaims(String token) throws ExpiredJwtException {
     try {
-      Jwts.parser()
-          .verifyWith(getSignKey())
-          .build()
-          .parseSignedClaims(token);
+      Claims claims = jwtParser.parseSignedClaims(token).getPayload();
       if (isTokenBlacklisted(token)) {
         log.error("액세스 토큰이 블랙리스트에 등록되어있습니다. 요청된 토큰: {}", token);
         throw new CustomException(ErrorCode.TOKEN_BLACKLISTED);
       }
       log.debug("JWT 토큰이 유효합니다.");
-      return true;
+      return claims;
     } catch (ExpiredJwtException e) {
       log.warn("JWT 토큰이 만료되었습니다: {}", e.getMessage());
       throw e; // 만료된 토큰 예외를 호출한 쪽으로 전달
@@ -167,13 +179,13 @@ public class JwtUtil {
     } catch (IllegalArgumentException e) {
       log.warn("JWT 토큰이 비어있거나 null입니다: {}", e.getMessage());
     }
-    return false;
+    return null;
   }
 
   /**
    * JWT 서명에 사용할 키 생성
    */
-  private SecretKey getSignKey() {
+  private SecretKey createSignKey() {
     try {
       // Base64 문자열로부터 SecretKey를 생성
       byte[] keyBytes = Decoders.BASE64.decode(secretKey);
@@ -188,10 +200,7 @@ public class JwtUtil {
    * JWT 토큰에서 클레임 (Claims) 추출
    */
   public Claims getClaims(String token) {
-    return Jwts.parser()
-        .verifyWith(getSignKey())
-        .build()
-        .parseSignedClaims(token)
+    return jwtParser.parseSignedClaims(token)
         .getPayload();
   }
 
@@ -215,15 +224,48 @@ public class JwtUtil {
 
   /**
    * JWT 토큰에서 Authentication 객체 생성
+   * - stateless 모드: 클레임(member_id, username, role)으로 생성하고 폐기 목록(near-cache)만 확인
+   * - database 모드: 회원 DB 조회
    */
   public Authentication getAuthentication(String token) {
-    Claims claims = getClaims(token);
+    return getAuthentication(getClaims(token));
+  }
+
+  /**
+   * 이미 검증된 Claims로 Authentication 객체 생성 (재파싱 없음)
+   */
+  public Authentication getAuthentication(Claims claims) {
     String memberEmail = claims.getSubject();
     log.debug("JWT에서 인증정보 파싱: memberEmail={}", memberEmail);
-    CustomUserDetails userDetails = customUserDetailsService.loadUserByUsername(memberEmail);
+
+    CustomUserDetails userDetails;
+    if (statelessAuth) {
+      UUID memberId = UUID.fromString(claims.get("member_id", String.class));
+      checkRevocation(memberId, claims);
+      String role = claims.get("role", String.class);
+      userDetails = CustomUserDetails.fromClaims(
+          memberId,
+          claims.get("username", String.class),
+          role != null ? MemberRole.valueOf(role) : null);
+    } else {
+      userDetails = customUserDetailsService.loadUserByUsername(memberEmail);
+    }
     return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
   }
 
+  /**
+   * 회원 단위 폐기 여부 확인 (AccessToken만 대상, RefreshToken은 재발급 시 DB로 검증)
+   */
+  private void checkRevocation(UUID memberId, Claims claims) {
+    if (!ACCESS_CATEGORY.equals(claims.get("category", String.class))) {
+      return;
+    }
+    memberRevocationService.findRevocation(memberId).ifPresent(reason -> {
+      log.error("폐기된 회원 토큰의 API 접근 시도 - memberId={}, reason={}", memberId, reason);
+      throw new CustomException(ErrorCode.MEMBER_ALREADY_WITHDRAWN);
+    });
+  }
+
   /**
    * "Authorization" 헤더에서 순수한 accessToken을 파싱 후 반환합니다.
    */
@@ -253,20 +295,14 @@ public class JwtUtil {
     deleteRefreshToken(refreshTokenKey);
   }
 
-  // accessToken을 블랙리스트에 등록합니다
+  // accessToken을 블랙리스트에 등록합니다 (남은 유효기간만큼 유지)
   private void blacklistAccessToken(String accessToken) {
-    String key = BLACKLIST_PREFIX + accessToken;
-    redisTemplate.opsForValue().set(
-        key,
-        BLACKLIST_VALUE,
-        getRemainingValidationMilliSecond(accessToken),
-        TimeUnit.MILLISECONDS);
+    tokenBlacklistService.blacklist(accessToken, getRemainingValidationMilliSecond(accessToken));
   }
 
-  // 해당 토큰이 블랙리스트 존재 확인
-  private Boolean isTokenBlacklisted(String accessToken) {
-    String key = BLACKLIST_PREFIX + accessToken;
-    return redisTemplate.hasKey(key);
+  // 해당 토큰이 블랙리스트 존재 확인 (로컬 Bloom Filter 적중 시에만 Redis 조회)
+  private boolean isTokenBlacklisted(String accessToken) {
+    return tokenBlacklistService.isBlacklisted(accessToken);
   }
 
   // redis에 저장된 리프레시 토큰을 삭제
@@ -0,0 +1,64 @@
+package kr.suhsaechan.mapsy.auth.jwt;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 토큰 블랙리스트용 Bloom Filter
+ * - 입력은 토큰의 SHA-256 digest(32바이트)이며, 앞 16바이트를 두 개의 long으로 나눠 double hashing
+ * - false positive는 발생할 수 있으나 false negative는 없음
+ * - put/mightContain 모두 lock 없이 thread-safe
+ */
+public class TokenBloomFilter {
+
+  private final AtomicLongArray bits;
+  private final long bitSize;
+  private final int hashCount;
+
+  /**
+   * @param expectedInsertions 예상 등록 건수
+   * @param falsePositiveRate  허용 오탐률 (예: 0.01)
+   */
+  public TokenBloomFilter(int expectedInsertions, double falsePositiveRate) {
+    int n = Math.max(1, expectedInsertions);
+    long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    this.bitSize = Math.max(64, m);
+    this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+  }
+
+  /**
+   * digest 등록
+   *
+   * @param digest 토큰 SHA-256 digest
+   */
+  public void put(byte[] digest) {
+    ByteBuffer buffer = ByteBuffer.wrap(digest);
+    long hash1 = buffer.getLong(0);
+    long hash2 = buffer.getLong(8);
+    for (int i = 0; i < hashCount; i++) {
+      long index = Math.floorMod(hash1 + i * hash2, bitSize);
+      long mask = 1L << (index & 63);
+      bits.getAndAccumulate((int) (index >>> 6), mask, (current, bit) -> current | bit);
+    }
+  }
+
+  /**
+   * digest 등록 가능성 확인
+   *
+   * @param digest 토큰 SHA-256 digest
+   * @return false면 확실히 미등록, true면 등록되었을 가능성 있음
+   */
+  public boolean mightContain(byte[] digest) {
+    ByteBuffer buffer = ByteBuffer.wrap(digest);
+    long hash1 = buffer.getLong(0);
+    long hash2 = buffer.getLong(8);
+    for (int i = 0; i < hashCount; i++) {
+      long index = Math.floorMod(hash1 + i * hash2, bitSize);
+      if ((bits.get((int) (index >>> 6)) & (1L << (index & 63))) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -1,6 +1,7 @@
 package kr.suhsaechan.mapsy.auth.service;
 
 import com.google.firebase.auth.FirebaseToken;
+import kr.suhsaechan.mapsy.auth.constant.RevocationReason;
 import kr.suhsaechan.mapsy.auth.dto.AuthRequest;
 import kr.suhsaechan.mapsy.auth.dto.AuthResponse;
 import kr.suhsaechan.mapsy.auth.dto.CustomUserDetails;
@@ -12,6 +13,7 @@ import kr.suhsaechan.mapsy.auth.dto.SignInResponse;
 import kr.suhsaechan.mapsy.auth.jwt.JwtUtil;
 import kr.suhsaechan.mapsy.common.exception.CustomException;
 import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
+import kr.suhsaechan.mapsy.common.util.TransactionUtil;
 import kr.suhsaechan.mapsy.member.constant.MemberOnboardingStatus;
 import kr.suhsaechan.mapsy.member.constant.OnboardingStep;
 import kr.suhsaechan.mapsy.member.entity.FcmToken;
@@ -21,6 +23,7 @@ import kr.suhsaechan.mapsy.member.repository.MemberRepository;
 import kr.suhsaechan.mapsy.member.service.MemberService;
 import kr.suhsaechan.mapsy.member.service.NicknameService;
 import kr.suhsaechan.mapsy.place.service.FolderService;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -48,6 +51,7 @@ public class AuthService {
   private final FirebaseTokenService firebaseTokenService;
   private final NicknameService nicknameService;
   private final FolderService folderService;
+  private final MemberRevocationService memberRevocationService;
 
   /**
    * Firebase OAuth 로그인 로직
@@ -155,9 +159,11 @@ public class AuthService {
       throw new CustomException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
     }
 
-    // 리프레시 토큰 유효성 검사 및 만료 여부 확인
+    // 리프레시 토큰 유효성 검사 및 만료 여부 확인 (1회 파싱한 Claims 재사용)
+    Claims refreshClaims;
     try {
-      if (!jwtUtil.validateToken(refreshToken)) {
+      refreshClaims = jwtUtil.validateAndGetClaims(refreshToken);
+      if (refreshClaims == null) {
         log.error("유효하지 않은 refreshToken 입니다.");
         throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
       }
@@ -167,7 +173,7 @@ public class AuthService {
     }
 
     // 새로운 accessToken 생성
-    CustomUserDetails customUserDetails = (CustomUserDetails) jwtUtil.getAuthentication(refreshToken).getPrincipal();
+    CustomUserDetails customUserDetails = (CustomUserDetails) jwtUtil.getAuthentication(refreshClaims).getPrincipal();
 
     // Redis에 저장된 refreshToken과 일치 여부 확인
     String refreshKey = REFRESH_KEY_PREFIX + customUserDetails.getMemberId();
@@ -183,10 +189,8 @@ public class AuthService {
       throw new CustomException(ErrorCode.REFRESH_TOKEN_MISMATCH);
     }
 
-    String newAccessToken = jwtUtil.createAccessToken(customUserDetails);
-
     // 회원 존재 여부 및 탈퇴 여부 검증
-    Member memberForValidation = memberRepository.findByEmail(jwtUtil.getUsername(newAccessToken))
+    Member memberForValidation = memberRepository.findById(customUserDetails.getMemberId())
         .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
 
     // 탈퇴한 회원은 토큰 재발급 불가
@@ -195,6 +199,9 @@ public class AuthService {
       throw new CustomException(ErrorCode.MEMBER_ALREADY_WITHDRAWN);
     }
 
+    // 최신 회원 정보(권한 등)로 accessToken 생성 (RefreshToken 클레임은 발급 당시 정보)
+    String newAccessToken = jwtUtil.createAccessToken(new CustomUserDetails(memberForValidation));
+
     return ReissueResponse.builder()
         .accessToken(newAccessToken)
         .refreshToken(refreshToken)
@@ -250,17 +257,23 @@ public class AuthService {
 
     memberRepository.save(member);
 
-    // 토큰 무효화 처리 (로그아웃과 동일한 보안 처리)
-    if (accessToken != null) {
-      try {
-        String refreshTokenKey = REFRESH_KEY_PREFIX + memberId;
-        jwtUtil.deactivateToken(accessToken, refreshTokenKey);
-        log.info("[Auth] 토큰 무효화 완료 - memberId={}", memberId);
-      } catch (Exception e) {
-        log.warn("[Auth] 토큰 무효화 중 오류 발생 (탈퇴는 정상 처리됨) - memberId={}, error={}", memberId, e.getMessage());
-        // 토큰 무효화 실패해도 탈퇴는 진행 (이미 만료된 토큰일 수 있음)
+    // 토큰 폐기/무효화는 커밋 후 수행 (탈퇴가 롤백되면 정상 회원이 AccessToken 만료 시까지 차단되지 않도록)
+    TransactionUtil.afterCommit(() -> {
+      // 발급된 AccessToken 전체 폐기 (stateless 인증은 DB를 조회하지 않으므로 폐기 목록으로 차단)
+      memberRevocationService.revoke(memberId, RevocationReason.WITHDRAWN);
+
+      // 토큰 무효화 처리 (로그아웃과 동일한 보안 처리)
+      if (accessToken != null) {
+        try {
+          String refreshTokenKey = REFRESH_KEY_PREFIX + memberId;
+          jwtUtil.deactivateToken(accessToken, refreshTokenKey);
+          log.info("[Auth] 토큰 무효화 완료 - memberId={}", memberId);
+        } catch (Exception e) {
+          log.warn("[Auth] 토큰 무효화 중 오류 발생 (탈퇴는 정상 처리됨) - memberId={}, error={}", memberId, e.getMessage());
+          // 토큰 무효화 실패해도 탈퇴는 진행 (이미 만료된 토큰일 수 있음)
+        }
       }
-    }
+    });
 
     log.info("[Auth] 회원 탈퇴 완료 - memberId={}, timestamp={}", memberId, timestamp);
   }
@@ -0,0 +1,124 @@
+package kr.suhsaechan.mapsy.auth.service;
+
+import jakarta.annotation.PostConstruct;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import kr.suhsaechan.mapsy.auth.constant.RevocationReason;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 회원 단위 토큰 폐기(Revocation) 관리 서비스
+ * - 탈퇴 시 Redis Hash에 "사유:폐기시각"을 기록
+ * - 폐기된 회원의 AccessToken은 발급 시각과 무관하게 인증 거부 (탈퇴 회원 ID로는 토큰이 다시 발급되지 않음)
+ * - 매 요청마다 Redis를 조회하지 않도록 전체 목록을 로컬 near-cache로 주기 동기화
+ * - 항목은 AccessToken 만료 시간이 지나면 의미가 없으므로 동기화 시 정리
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MemberRevocationService {
+
+  private static final String REVOKED_MEMBERS_KEY = "AUTH:REVOKED_MEMBERS";
+  private static final String VALUE_DELIMITER = ":";
+
+  private final RedisTemplate<String, Object> redisTemplate;
+
+  @Value("${jwt.access-exp-time}")
+  private Long accessTokenExpTime;
+
+  // memberId → 폐기 정보 (동기화 시 통째로 교체)
+  private volatile Map<UUID, MemberRevocation> nearCache = Map.of();
+
+  @PostConstruct
+  void init() {
+    try {
+      syncNearCache();
+    } catch (Exception e) {
+      log.warn("토큰 폐기 목록 초기 동기화 실패: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 회원의 기존 토큰을 폐기
+   * - 현재 인스턴스의 near-cache에는 즉시 반영, 다른 인스턴스는 다음 동기화 주기에 반영
+   *
+   * @param memberId 회원 ID
+   * @param reason   폐기 사유
+   */
+  public void revoke(UUID memberId, RevocationReason reason) {
+    long revokedAt = System.currentTimeMillis();
+    redisTemplate.opsForHash().put(REVOKED_MEMBERS_KEY, memberId.toString(), reason.name() + VALUE_DELIMITER + revokedAt);
+
+    Map<UUID, MemberRevocation> updated = new HashMap<>(nearCache);
+    updated.put(memberId, new MemberRevocation(reason, revokedAt));
+    nearCache = updated;
+
+    log.info("회원 토큰 폐기: memberId={}, reason={}", memberId, reason);
+  }
+
+  /**
+   * 토큰 폐기 여부 확인 (near-cache만 조회)
+   *
+   * @param memberId 회원 ID
+   * @return 폐기된 경우 사유
+   */
+  public Optional<RevocationReason> findRevocation(UUID memberId) {
+    return Optional.ofNullable(nearCache.get(memberId)).map(MemberRevocation::getReason);
+  }
+
+  /**
+   * Redis의 폐기 목록을 near-cache로 동기화하고 만료된 항목 정리
+   */
+  @Scheduled(fixedDelayString = "${jwt.revocation-sync-interval-ms:5000}")
+  public void syncNearCache() {
+    Map<Object, Object> entries = redisTemplate.opsForHash().entries(REVOKED_MEMBERS_KEY);
+    long expiredBefore = System.currentTimeMillis() - accessTokenExpTime;
+
+    Map<UUID, MemberRevocation> synced = new HashMap<>();
+    for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+      String memberId = String.valueOf(entry.getKey());
+      MemberRevocation revocation = parse(String.valueOf(entry.getValue()));
+
+      // 폐기 이전 발급 토큰이 모두 만료된 항목은 삭제
+      if (revocation == null || revocation.getRevokedAt() < expiredBefore) {
+        redisTemplate.opsForHash().delete(REVOKED_MEMBERS_KEY, memberId);
+        continue;
+      }
+      synced.put(UUID.fromString(memberId), revocation);
+    }
+
+    nearCache = synced;
+  }
+
+  private MemberRevocation parse(String value) {
+    int delimiterIndex = value.lastIndexOf(VALUE_DELIMITER);
+    if (delimiterIndex < 0) {
+      return null;
+    }
+    try {
+      return new MemberRevocation(
+          RevocationReason.valueOf(value.substring(0, delimiterIndex)),
+          Long.parseLong(value.substring(delimiterIndex + 1)));
+    } catch (IllegalArgumentException e) {
+      log.warn("잘못된 토큰 폐기 항목: {}", value);
+      return null;
+    }
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static class MemberRevocation {
+
+    private final RevocationReason reason;
+    private final long revokedAt;
+  }
+}
@@ -0,0 +1,203 @@
+package kr.suhsaechan.mapsy.auth.service;
+
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import kr.suhsaechan.mapsy.auth.jwt.TokenBloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * AccessToken 블랙리스트 서비스
+ * - Redis 키는 토큰 원문 대신 SHA-256(hex) 사용: "BL:{sha256}"
+ * - 요청마다 Redis를 조회하지 않도록 로컬 Bloom Filter를 앞단에 두고, Filter 적중 시에만 Redis 확인
+ * - 블랙리스트 등록 시 Redis pub/sub으로 다른 인스턴스의 Filter에 즉시 반영
+ * - pub/sub 유실 및 만료 항목 정리를 위해 Redis 키 전체로 Filter를 주기적으로 재구성
+ *   - 재구성 중 등록된 토큰은 기존 Filter와 재구성 중인 Filter 모두에 기록 (교체 후에도 누락 없음)
+ *   - 인스턴스마다 BL:* 전체를 SCAN하므로 주기는 길게 유지 (즉시 반영은 pub/sub이 담당)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenBlacklistService implements MessageListener {
+
+  private static final String BLACKLIST_PREFIX = "BL:";
+  private static final String BLACKLIST_VALUE = "blacklisted";
+  private static final String BLACKLIST_CHANNEL = "auth:blacklist";
+  private static final int SHA256_HEX_LENGTH = 64;
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+  @Value("${jwt.blacklist.expected-insertions:100000}")
+  private int expectedInsertions;
+
+  @Value("${jwt.blacklist.false-positive-rate:0.01}")
+  private double falsePositiveRate;
+
+  private volatile TokenBloomFilter bloomFilter;
+
+  // 재구성 중인 Filter (재구성 중이 아니면 null), filterLock으로 보호
+  private final Object filterLock = new Object();
+  private TokenBloomFilter rebuildingFilter;
+
+  @PostConstruct
+  void init() {
+    bloomFilter = new TokenBloomFilter(expectedInsertions, falsePositiveRate);
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(BLACKLIST_CHANNEL));
+    try {
+      rebuildFilter();
+    } catch (Exception e) {
+      log.warn("블랙리스트 Bloom Filter 초기 구성 실패: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 토큰을 블랙리스트에 등록하고 다른 인스턴스에 전파
+   *
+   * @param token   AccessToken
+   * @param ttlMillis 토큰 남은 유효기간 (ms)
+   */
+  public void blacklist(String token, long ttlMillis) {
+    byte[] digest = sha256(token);
+    String tokenHash = HexFormat.of().formatHex(digest);
+
+    if (ttlMillis > 0) {
+      redisTemplate.opsForValue().set(BLACKLIST_PREFIX + tokenHash, BLACKLIST_VALUE, ttlMillis, TimeUnit.MILLISECONDS);
+    }
+    putToFilters(digest);
+    redisTemplate.convertAndSend(BLACKLIST_CHANNEL, tokenHash);
+  }
+
+  /**
+   * 토큰 블랙리스트 등록 여부 확인
+   * - Bloom Filter 미적중 시 Redis 조회 없이 false
+   *
+   * @param token AccessToken
+   * @return 블랙리스트 등록 여부
+   */
+  public boolean isBlacklisted(String token) {
+    byte[] digest = sha256(token);
+    if (!bloomFilter.mightContain(digest)) {
+      return false;
+    }
+    return Boolean.TRUE.equals(redisTemplate.hasKey(BLACKLIST_PREFIX + HexFormat.of().formatHex(digest)));
+  }
+
+  /**
+   * 다른 인스턴스에서 등록한 블랙리스트 토큰 해시 수신
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    Object tokenHash = redisTemplate.getValueSerializer().deserialize(message.getBody());
+    if (tokenHash instanceof String hash && hash.length() == SHA256_HEX_LENGTH) {
+      putToFilters(HexFormat.of().parseHex(hash));
+    }
+  }
+
+  /**
+   * Redis의 블랙리스트 키 전체로 Bloom Filter 재구성 (만료된 항목 제거 효과)
+   * - 토큰 원문을 키로 쓰던 기존 항목은 해시 키로 옮김
+   * - SCAN은 진행 중 추가된 키를 반환하지 않을 수 있으므로, 재구성 중 등록분은 putToFilters가 새 Filter에도 기록
+   */
+  @Scheduled(fixedDelayString = "${jwt.blacklist.rebuild-interval-ms:600000}")
+  public void rebuildFilter() {
+    TokenBloomFilter rebuilt = new TokenBloomFilter(expectedInsertions, falsePositiveRate);
+    int count = 0;
+
+    synchronized (filterLock) {
+      rebuildingFilter = rebuilt;
+    }
+    try {
+      count = scanInto(rebuilt);
+      // 교체는 등록과 같은 lock에서 수행 → 기존 Filter에만 기록되고 새 Filter에 누락되는 등록 없음
+      synchronized (filterLock) {
+        bloomFilter = rebuilt;
+      }
+    } finally {
+      synchronized (filterLock) {
+        rebuildingFilter = null;
+      }
+    }
+    log.debug("블랙리스트 Bloom Filter 재구성 완료: {}건", count);
+  }
+
+  /**
+   * 등록된 digest를 현재 Filter와 재구성 중인 Filter에 기록
+   */
+  private void putToFilters(byte[] digest) {
+    synchronized (filterLock) {
+      bloomFilter.put(digest);
+      if (rebuildingFilter != null) {
+        rebuildingFilter.put(digest);
+      }
+    }
+  }
+
+  /**
+   * BL:* 키를 SCAN하여 Filter에 등록
+   *
+   * @return 등록 건수
+   */
+  private int scanInto(TokenBloomFilter rebuilt) {
+    int count = 0;
+
+    ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_PREFIX + "*").count(1000).build();
+    try (Cursor<String> cursor = redisTemplate.scan(options)) {
+      while (cursor.hasNext()) {
+        String key = cursor.next();
+        String suffix = key.substring(BLACKLIST_PREFIX.length());
+
+        byte[] digest;
+        if (suffix.length() == SHA256_HEX_LENGTH) {
+          digest = HexFormat.of().parseHex(suffix);
+        } else {
+          digest = migrateLegacyKey(key, suffix);
+          if (digest == null) {
+            continue;
+          }
+        }
+        rebuilt.put(digest);
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * "BL:{토큰 원문}" 형식의 기존 키를 "BL:{sha256}"으로 이전
+   */
+  private byte[] migrateLegacyKey(String legacyKey, String token) {
+    Long ttlMillis = redisTemplate.getExpire(legacyKey, TimeUnit.MILLISECONDS);
+    redisTemplate.delete(legacyKey);
+    if (ttlMillis == null || ttlMillis <= 0) {
+      return null;
+    }
+
+    byte[] digest = sha256(token);
+    redisTemplate.opsForValue().set(
+        BLACKLIST_PREFIX + HexFormat.of().formatHex(digest), BLACKLIST_VALUE, ttlMillis, TimeUnit.MILLISECONDS);
+    return digest;
+  }
+
+  private byte[] sha256(String token) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 algorithm not available", e);
+    }
+  }
+}
@@ -98,6 +98,8 @@ public enum ErrorCode {
 
   CAPTION_TOO_LONG(HttpStatus.BAD_REQUEST, "캡션이 허용된 최대 길이를 초과했습니다."),
 
+  CONTENT_STREAM_LIMIT_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "콘텐츠 상태 구독 연결이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
   MEMBER_TERMS_REQUIRED_NOT_AGREED(HttpStatus.BAD_REQUEST, "필수 약관에 동의하지 않았습니다."),
 
   // Place
@@ -107,6 +109,12 @@ public enum ErrorCode {
 
   GOOGLE_PLACE_API_ERROR(HttpStatus.BAD_GATEWAY, "Google Places API 호출 중 오류가 발생했습니다."),
 
+  INVALID_GEO_RANGE(HttpStatus.BAD_REQUEST, "유효하지 않은 검색 영역입니다."),
+
+  INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다."),
+
+  INVALID_KEYWORD_QUERY(HttpStatus.BAD_REQUEST, "포함할 키워드(all 또는 any)를 하나 이상 입력해야 합니다."),
+
   // MemberPlace
   MEMBER_PLACE_NOT_FOUND(HttpStatus.NOT_FOUND, "회원의 장소 정보를 찾을 수 없습니다."),
 
@@ -0,0 +1,37 @@
+package kr.suhsaechan.mapsy.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI Callback 수신함(Inbox) 처리 설정 정보
+ * application.yml의 ai.callback.inbox 설정을 매핑합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "ai.callback.inbox")
+@Getter
+@Setter
+public class AiCallbackInboxProperties {
+
+  /**
+   * 동시에 Callback을 처리할 워커 수
+   */
+  private int workerCount = 4;
+
+  /**
+   * Inbox 폴링 주기 (ms)
+   */
+  private long pollIntervalMs = 1000;
+
+  /**
+   * 처리 실패 시 최대 시도 횟수 (초과 시 FAILED)
+   */
+  private int maxAttempts = 5;
+
+  /**
+   * PROCESSING 상태로 이 시간(분) 이상 머문 항목은 워커 비정상 종료로 보고 PENDING으로 되돌림
+   */
+  private long processingTimeoutMinutes = 10;
+}
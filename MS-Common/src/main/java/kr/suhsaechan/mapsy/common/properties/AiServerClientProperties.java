@@ -0,0 +1,67 @@
+package kr.suhsaechan.mapsy.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 서버 요청 클라이언트 설정 정보
+ * application.yml의 ai.server.client 설정을 매핑합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "ai.server.client")
+@Getter
+@Setter
+public class AiServerClientProperties {
+
+  /**
+   * 연결 타임아웃 (ms)
+   */
+  private long connectTimeoutMs = 3000;
+
+  /**
+   * 요청 1회 전체 타임아웃 (ms) - AI 서버는 접수 후 202를 즉시 반환
+   */
+  private long callTimeoutMs = 10000;
+
+  /**
+   * AI 서버 동시 요청 수 상한 (초과 요청은 OkHttp Dispatcher 큐에서 대기)
+   */
+  private int maxConcurrentRequests = 32;
+
+  /**
+   * 유지할 유휴 연결 수
+   */
+  private int maxIdleConnections = 16;
+
+  /**
+   * 유휴 연결 유지 시간 (초)
+   */
+  private long keepAliveSeconds = 300;
+
+  /**
+   * 요청당 최대 시도 횟수 (최초 요청 포함)
+   */
+  private int maxAttempts = 3;
+
+  /**
+   * 재시도 기본 대기 시간 (ms, 시도마다 2배 증가 후 0 ~ 해당 값 사이 무작위 지연)
+   */
+  private long retryBaseDelayMs = 500;
+
+  /**
+   * 재시도 최대 대기 시간 (ms)
+   */
+  private long retryMaxDelayMs = 10000;
+
+  /**
+   * 연속 실패 횟수가 이 값에 도달하면 Circuit Breaker OPEN (요청 즉시 실패)
+   */
+  private int circuitFailureThreshold = 5;
+
+  /**
+   * Circuit Breaker OPEN 유지 시간 (ms, 이후 요청 1건으로 복구 여부 확인)
+   */
+  private long circuitOpenMs = 30000;
+}
@@ -38,4 +38,10 @@ public class AiServerProperties {
    * 기본값: /api/extract-places
    */
   private String extractPlacesUri = "/api/extract-places";
+
+  /**
+   * 장소 추출 일괄 요청 엔드포인트
+   * 기본값: /api/extract-places/batch
+   */
+  private String extractPlacesBatchUri = "/api/extract-places/batch";
 }
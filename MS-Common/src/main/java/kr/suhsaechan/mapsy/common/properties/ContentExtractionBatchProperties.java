@@ -0,0 +1,43 @@
+package kr.suhsaechan.mapsy.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 장소 추출 일괄 요청 디스패처 설정 정보
+ * application.yml의 content.extraction.batch 설정을 매핑합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "content.extraction.batch")
+@Getter
+@Setter
+public class ContentExtractionBatchProperties {
+
+  /**
+   * 일괄 요청 1건에 담을 최대 Content 수
+   */
+  private int maxSize = 32;
+
+  /**
+   * 첫 요청 적재 후 일괄 요청 전송까지 최대 대기 시간 (ms)
+   */
+  private long maxWaitMs = 50;
+
+  /**
+   * 전송 대기열 최대 크기 (초과 시 요청을 FAILED 처리)
+   */
+  private int queueCapacity = 2000;
+
+  /**
+   * 응답 대기 중인 일괄 요청 최대 수 (초과 시 대기열에서 대기)
+   */
+  private int maxInFlightBatches = 4;
+
+  /**
+   * AI 서버 접수 후 Callback 대기 중인 Content의 중복 요청 합치기 유지 시간 (분)
+   * - Callback이 오지 않아도 이 시간이 지나면 다시 요청 가능
+   */
+  private long inFlightTtlMinutes = 10;
+}
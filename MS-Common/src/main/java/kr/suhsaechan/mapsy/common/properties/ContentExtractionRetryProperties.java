@@ -0,0 +1,47 @@
+package kr.suhsaechan.mapsy.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 장소 추출 재시도 스위퍼 설정 정보
+ * application.yml의 content.extraction.retry 설정을 매핑합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "content.extraction.retry")
+@Getter
+@Setter
+public class ContentExtractionRetryProperties {
+
+  /**
+   * 스위프 주기 (ms)
+   */
+  private long sweepIntervalMs = 60000;
+
+  /**
+   * 1회 스위프 시 재요청할 최대 Content 수
+   */
+  private int batchSize = 100;
+
+  /**
+   * AI 서버 요청 후 이 시간(분) 동안 Callback이 없으면 PENDING을 멈춘 것으로 판단
+   */
+  private long pendingTimeoutMinutes = 10;
+
+  /**
+   * 최대 요청 횟수 (최초 요청 포함, 초과 시 FAILED로 두고 재요청하지 않음)
+   */
+  private int maxAttempts = 5;
+
+  /**
+   * 재요청 기본 지연 (ms) - n번째 재요청은 기본 지연 * 2^(n-1)
+   */
+  private long baseDelayMs = 60000;
+
+  /**
+   * 재요청 최대 지연 (ms)
+   */
+  private long maxDelayMs = 3600000;
+}
@@ -0,0 +1,32 @@
+package kr.suhsaechan.mapsy.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Content 상태 SSE 구독 설정 정보
+ * application.yml의 content.status-stream 설정을 매핑합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "content.status-stream")
+@Getter
+@Setter
+public class ContentStatusStreamProperties {
+
+  /**
+   * SSE 연결 유지 시간 (ms) - 만료 시 클라이언트가 재연결
+   */
+  private long timeoutMs = 300000;
+
+  /**
+   * 연결 유지용 heartbeat 전송 주기 (ms) - 프록시 유휴 연결 종료 방지
+   */
+  private long heartbeatIntervalMs = 25000;
+
+  /**
+   * 인스턴스당 최대 동시 구독 수 (초과 시 CONTENT_STREAM_LIMIT_EXCEEDED)
+   */
+  private int maxSubscribers = 10000;
+}
@@ -0,0 +1,32 @@
+package kr.suhsaechan.mapsy.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 키워드 트렌드 점수 계산 설정 정보
+ * application.yml의 keyword.trend 설정을 매핑합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "keyword.trend")
+@Getter
+@Setter
+public class KeywordTrendProperties {
+
+  /**
+   * 사용량 버킷 집계 및 점수 반영 주기 (ms)
+   */
+  private long tickIntervalMs = 300_000;
+
+  /**
+   * 트렌드 점수 반감기 (시간) - 이 시간이 지나면 과거 사용량의 가중치가 절반으로 감소
+   */
+  private double halfLifeHours = 24;
+
+  /**
+   * 메모리에 유지할 상위 트렌드 키워드 개수
+   */
+  private int topK = 100;
+}
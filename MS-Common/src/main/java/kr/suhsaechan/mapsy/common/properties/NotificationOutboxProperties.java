@@ -0,0 +1,37 @@
+package kr.suhsaechan.mapsy.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 Outbox 디스패처 설정 정보
+ * application.yml의 notification.outbox 설정을 매핑합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "notification.outbox")
+@Getter
+@Setter
+public class NotificationOutboxProperties {
+
+  /**
+   * 1회 폴링 시 처리할 최대 Outbox 건수
+   */
+  private int batchSize = 20;
+
+  /**
+   * Outbox 폴링 주기 (ms)
+   */
+  private long pollIntervalMs = 1000;
+
+  /**
+   * 전송 실패 시 최대 시도 횟수 (초과 시 FAILED)
+   */
+  private int maxAttempts = 5;
+
+  /**
+   * PROCESSING 상태로 이 시간(분) 이상 머문 항목은 PENDING으로 되돌림
+   */
+  private long processingTimeoutMinutes = 10;
+}
@@ -0,0 +1,57 @@
+package kr.suhsaechan.mapsy.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import kr.suhsaechan.mapsy.common.exception.CustomException;
+import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
+
+/**
+ * 커서 페이지네이션 유틸리티
+ * - 정렬 키 값들을 URL-safe Base64 문자열(불투명 커서)로 인코딩/디코딩
+ */
+public final class CursorUtil {
+
+  private CursorUtil() {
+    throw new AssertionError();
+  }
+
+  private static final String DELIMITER = "_";
+
+  /**
+   * 정렬 키 값들을 커서로 인코딩
+   *
+   * @param values 정렬 키 값 (마지막 값 외에는 '_'를 포함하지 않아야 함)
+   * @return 커서 문자열
+   */
+  public static String encode(Object... values) {
+    StringBuilder raw = new StringBuilder();
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        raw.append(DELIMITER);
+      }
+      raw.append(values[i]);
+    }
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 커서를 정렬 키 값들로 디코딩
+   *
+   * @param cursor     커서 문자열
+   * @param valueCount 정렬 키 개수
+   * @return 정렬 키 문자열 배열
+   * @throws CustomException INVALID_CURSOR - 형식이 올바르지 않은 경우
+   */
+  public static String[] decode(String cursor, int valueCount) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] values = raw.split(DELIMITER, valueCount);
+      if (values.length != valueCount) {
+        throw new CustomException(ErrorCode.INVALID_CURSOR);
+      }
+      return values;
+    } catch (IllegalArgumentException e) {
+      throw new CustomException(ErrorCode.INVALID_CURSOR);
+    }
+  }
+}
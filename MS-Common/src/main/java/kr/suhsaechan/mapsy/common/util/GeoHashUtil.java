@@ -0,0 +1,163 @@
+package kr.suhsaechan.mapsy.common.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Geohash 유틸리티
+ * - 위경도를 base32 문자열로 인코딩하여 B-tree 인덱스로 공간 범위 조회 가능하도록 함
+ * - 같은 접두사를 가진 geohash는 같은 격자 셀 안에 위치
+ */
+public final class GeoHashUtil {
+
+  private GeoHashUtil() {
+    throw new AssertionError();
+  }
+
+  private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+  /**
+   * 저장용 geohash 길이 (약 4.8m x 4.8m)
+   */
+  public static final int STORAGE_PRECISION = 9;
+
+  private static final double EARTH_RADIUS_METERS = 6_371_000d;
+  private static final double METERS_PER_DEGREE_LAT = 111_320d;
+
+  /**
+   * 위경도를 geohash로 인코딩
+   *
+   * @param latitude  위도
+   * @param longitude 경도
+   * @param precision geohash 길이 (1~12)
+   * @return geohash 문자열
+   */
+  public static String encode(double latitude, double longitude, int precision) {
+    double minLat = -90, maxLat = 90;
+    double minLng = -180, maxLng = 180;
+    StringBuilder geohash = new StringBuilder(precision);
+    boolean evenBit = true;
+    int bit = 0;
+    int ch = 0;
+
+    while (geohash.length() < precision) {
+      if (evenBit) {
+        double mid = (minLng + maxLng) / 2;
+        if (longitude >= mid) {
+          ch = (ch << 1) | 1;
+          minLng = mid;
+        } else {
+          ch = ch << 1;
+          maxLng = mid;
+        }
+      } else {
+        double mid = (minLat + maxLat) / 2;
+        if (latitude >= mid) {
+          ch = (ch << 1) | 1;
+          minLat = mid;
+        } else {
+          ch = ch << 1;
+          maxLat = mid;
+        }
+      }
+      evenBit = !evenBit;
+
+      if (++bit == 5) {
+        geohash.append(BASE32[ch]);
+        bit = 0;
+        ch = 0;
+      }
+    }
+    return geohash.toString();
+  }
+
+  /**
+   * 사각 영역을 덮는 geohash 셀 목록 계산
+   * - 셀 개수가 maxCells 이하가 되는 가장 긴(세밀한) geohash 길이를 선택
+   * - 반환된 셀은 영역보다 넓을 수 있으므로 조회 시 위경도 조건으로 한 번 더 거를 것
+   *
+   * @param minLat   남쪽 위도
+   * @param minLng   서쪽 경도
+   * @param maxLat   북쪽 위도
+   * @param maxLng   동쪽 경도
+   * @param maxCells 최대 셀 개수
+   * @return geohash 셀(접두사) 목록
+   */
+  public static List<String> coveringCells(double minLat, double minLng, double maxLat, double maxLng, int maxCells) {
+    for (int precision = STORAGE_PRECISION; precision > 1; precision--) {
+      List<String> cells = cellsAt(minLat, minLng, maxLat, maxLng, precision, maxCells);
+      if (cells != null) {
+        return cells;
+      }
+    }
+    return cellsAt(minLat, minLng, maxLat, maxLng, 1, Integer.MAX_VALUE);
+  }
+
+  /**
+   * 지정한 geohash 길이로 사각 영역을 덮는 셀 목록 계산
+   *
+   * @return 셀 목록, 셀 개수가 maxCells를 넘으면 null
+   */
+  public static List<String> cellsAt(double minLat, double minLng, double maxLat, double maxLng,
+      int precision, int maxCells) {
+    int lngBits = (5 * precision + 1) / 2;
+    int latBits = (5 * precision) / 2;
+    double cellWidth = 360d / (1L << lngBits);
+    double cellHeight = 180d / (1L << latBits);
+
+    long colStart = cellIndex(minLng + 180, cellWidth, lngBits);
+    long colEnd = cellIndex(maxLng + 180, cellWidth, lngBits);
+    long rowStart = cellIndex(minLat + 90, cellHeight, latBits);
+    long rowEnd = cellIndex(maxLat + 90, cellHeight, latBits);
+
+    if ((colEnd - colStart + 1) * (rowEnd - rowStart + 1) > maxCells) {
+      return null;
+    }
+
+    Set<String> cells = new LinkedHashSet<>();
+    for (long row = rowStart; row <= rowEnd; row++) {
+      for (long col = colStart; col <= colEnd; col++) {
+        double centerLat = -90 + (row + 0.5) * cellHeight;
+        double centerLng = -180 + (col + 0.5) * cellWidth;
+        cells.add(encode(centerLat, centerLng, precision));
+      }
+    }
+    return new ArrayList<>(cells);
+  }
+
+  /**
+   * 두 좌표 간 거리 (Haversine, meter)
+   */
+  public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+    double dLat = Math.toRadians(lat2 - lat1);
+    double dLng = Math.toRadians(lng2 - lng1);
+    double a = Math.pow(Math.sin(dLat / 2), 2)
+        + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.pow(Math.sin(dLng / 2), 2);
+    return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+
+  /**
+   * 반경(meter)에 해당하는 위도 차이
+   */
+  public static double latitudeDelta(double radiusMeters) {
+    return radiusMeters / METERS_PER_DEGREE_LAT;
+  }
+
+  /**
+   * 반경(meter)에 해당하는 경도 차이 (기준 위도에서)
+   */
+  public static double longitudeDelta(double latitude, double radiusMeters) {
+    double cos = Math.cos(Math.toRadians(latitude));
+    if (cos < 1e-6) {
+      return 180;
+    }
+    return Math.min(180, radiusMeters / (METERS_PER_DEGREE_LAT * cos));
+  }
+
+  private static long cellIndex(double offset, double cellSize, int bits) {
+    long index = (long) Math.floor(offset / cellSize);
+    return Math.max(0, Math.min((1L << bits) - 1, index));
+  }
+}
@@ -0,0 +1,110 @@
+package kr.suhsaechan.mapsy.common.util;
+
+/**
+ * 한글 자모 유틸리티
+ * - 완성형 음절을 호환용 자모(ㄱ, ㅏ 등)로 분해 (겹모음/겹받침은 입력 순서대로 기본 자모로 분리)
+ * - 초성 추출 및 초성 검색어 판별
+ * - 한글 음절이 아닌 문자는 그대로 유지
+ */
+public final class HangulUtil {
+
+  private static final char SYLLABLE_BEGIN = '가';
+  private static final char SYLLABLE_END = '힣';
+  private static final int JUNGSEONG_COUNT = 21;
+  private static final int JONGSEONG_COUNT = 28;
+
+  private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+  private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+  private static final String JONGSEONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+  // 겹모음/겹받침 → 기본 자모 (두벌식 입력 순서, 예: ㅘ → ㅗㅏ, ㄺ → ㄹㄱ)
+  private static final String COMPOUND_JAMO = "ㅘㅙㅚㅝㅞㅟㅢㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄ";
+  private static final String[] COMPOUND_JAMO_SPLIT = {
+      "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ",
+      "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ"
+  };
+
+  private HangulUtil() {
+    throw new AssertionError();
+  }
+
+  /**
+   * 자모 분해
+   * - 예: "강남" → "ㄱㅏㅇㄴㅏㅁ", "닭" → "ㄷㅏㄹㄱ", "과" → "ㄱㅗㅏ"
+   * - 입력 중인 음절("강나", "달", "고")도 완성된 단어("강남", "닭갈비", "과자")의 접두사가 되도록 비교할 때 사용
+   *
+   * @param text 원본 문자열
+   * @return 자모 분해 문자열
+   */
+  public static String decompose(String text) {
+    StringBuilder sb = new StringBuilder(text.length() * 3);
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (!isSyllable(c)) {
+        appendJamo(sb, c);
+        continue;
+      }
+      int offset = c - SYLLABLE_BEGIN;
+      int jongseong = offset % JONGSEONG_COUNT;
+      sb.append(CHOSEONG.charAt(offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)));
+      appendJamo(sb, JUNGSEONG.charAt(offset / JONGSEONG_COUNT % JUNGSEONG_COUNT));
+      if (jongseong > 0) {
+        appendJamo(sb, JONGSEONG.charAt(jongseong));
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * 초성 추출
+   * - 예: "강남카페" → "ㄱㄴㅋㅍ"
+   *
+   * @param text 원본 문자열
+   * @return 초성 문자열
+   */
+  public static String choseong(String text) {
+    StringBuilder sb = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      sb.append(isSyllable(c)
+          ? CHOSEONG.charAt((c - SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT))
+          : c);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * 초성으로만 이루어진 검색어인지 확인
+   * - 예: "ㄱㄴ" → true, "강ㄴ" → false
+   *
+   * @param text 검색어
+   * @return 초성 검색 여부
+   */
+  public static boolean isChoseongOnly(String text) {
+    if (text == null || text.isEmpty()) {
+      return false;
+    }
+    for (int i = 0; i < text.length(); i++) {
+      if (CHOSEONG.indexOf(text.charAt(i)) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 자모 추가 (겹모음/겹받침은 기본 자모로 분리)
+   */
+  private static void appendJamo(StringBuilder sb, char jamo) {
+    int compoundIndex = COMPOUND_JAMO.indexOf(jamo);
+    if (compoundIndex >= 0) {
+      sb.append(COMPOUND_JAMO_SPLIT[compoundIndex]);
+    } else {
+      sb.append(jamo);
+    }
+  }
+
+  private static boolean isSyllable(char c) {
+    return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+  }
+}
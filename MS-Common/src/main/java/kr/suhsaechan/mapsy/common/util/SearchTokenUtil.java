@@ -0,0 +1,92 @@
+package kr.suhsaechan.mapsy.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 검색 토큰 유틸리티 (한글 bi-gram)
+ * - 한글은 형태소 분석 없이 연속된 두 음절 단위(bi-gram)로 색인 ("스타벅스" → 스타 타벅 벅스)
+ * - 영문/숫자는 단어 단위로 색인
+ * - 그 외 문자(공백, 기호 등)는 구분자로 처리
+ * - PostgreSQL to_tsvector('simple', ...) / to_tsquery('simple', ...) 입력으로 사용
+ * - V0.3.9 마이그레이션의 mapsy_search_tokens 함수와 동일한 규칙 (변경 시 기존 데이터 재색인 필요)
+ */
+public final class SearchTokenUtil {
+
+  private static final Pattern RUN = Pattern.compile("[0-9a-z]+|[가-힣]+");
+
+  private SearchTokenUtil() {
+    throw new AssertionError();
+  }
+
+  /**
+   * 색인용 토큰 문자열 생성
+   *
+   * @param fields 색인할 필드 값 (null 허용)
+   * @return 공백으로 구분된 토큰 문자열
+   */
+  public static String toIndexText(String... fields) {
+    List<String> tokens = new ArrayList<>();
+    for (String field : fields) {
+      if (field == null) {
+        continue;
+      }
+      for (String run : runs(field)) {
+        if (isHangul(run) && run.length() > 1) {
+          for (int i = 0; i < run.length() - 1; i++) {
+            tokens.add(run.substring(i, i + 2));
+          }
+        } else {
+          tokens.add(run);
+        }
+      }
+    }
+    return String.join(" ", tokens);
+  }
+
+  /**
+   * 검색어 → tsquery 문자열 생성 (모든 토큰 AND)
+   * - 한 음절 한글, 마지막 영문/숫자 단어는 접두사 검색 (입력 중인 단어)
+   *
+   * @param query 검색어
+   * @return tsquery 문자열, 검색 가능한 토큰이 없으면 null
+   */
+  public static String toTsQuery(String query) {
+    if (query == null) {
+      return null;
+    }
+    List<String> runs = runs(query);
+    List<String> terms = new ArrayList<>();
+    for (int r = 0; r < runs.size(); r++) {
+      String run = runs.get(r);
+      boolean last = r == runs.size() - 1;
+      if (isHangul(run) && run.length() > 1) {
+        for (int i = 0; i < run.length() - 1; i++) {
+          terms.add(run.substring(i, i + 2));
+        }
+      } else if (run.length() == 1 || (last && !isHangul(run))) {
+        terms.add(run + ":*");
+      } else {
+        terms.add(run);
+      }
+    }
+    return terms.isEmpty() ? null : String.join(" & ", terms);
+  }
+
+  private static List<String> runs(String text) {
+    List<String> runs = new ArrayList<>();
+    Matcher matcher = RUN.matcher(text.toLowerCase(Locale.ROOT));
+    while (matcher.find()) {
+      runs.add(matcher.group());
+    }
+    return runs;
+  }
+
+  private static boolean isHangul(String run) {
+    char c = run.charAt(0);
+    return c >= '가' && c <= '힣';
+  }
+}
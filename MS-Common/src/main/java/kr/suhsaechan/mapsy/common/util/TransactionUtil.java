@@ -0,0 +1,41 @@
+package kr.suhsaechan.mapsy.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 유틸리티
+ */
+@Slf4j
+public final class TransactionUtil {
+
+  private TransactionUtil() {
+    throw new AssertionError();
+  }
+
+  /**
+   * 현재 트랜잭션 커밋 후 실행
+   * - 트랜잭션이 없으면 즉시 실행
+   * - 롤백되면 실행하지 않음
+   * - 커밋 후 실행 중 발생한 예외는 로그만 남김 (이미 커밋된 트랜잭션에 영향 없음)
+   *
+   * @param action 실행할 작업
+   */
+  public static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        try {
+          action.run();
+        } catch (Exception e) {
+          log.warn("After-commit action failed: {}", e.getMessage());
+        }
+      }
+    });
+  }
+}
@@ -0,0 +1,19 @@
+package kr.suhsaechan.mapsy;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.persistence.autoconfigure.EntityScan;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * 모듈 단위 Repository 테스트(@DataJpaTest)용 설정
+ * - 각 모듈은 애플리케이션 클래스가 없으므로 테스트 패키지 상위에서 찾을 설정을 제공
+ * - 엔티티/Repository 스캔 범위와 Auditing은 MS-Web JpaConfig와 동일
+ */
+@SpringBootConfiguration
+@EnableJpaAuditing
+@EnableJpaRepositories(basePackages = "kr.suhsaechan.mapsy")
+@EntityScan(basePackages = "kr.suhsaechan.mapsy")
+public class RepositoryTestApplication {
+
+}
@@ -0,0 +1,29 @@
+package kr.suhsaechan.mapsy.common.test;
+
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * PostgreSQL Repository 테스트 기반 클래스
+ * - 네이티브 쿼리(FOR UPDATE SKIP LOCKED, DISTINCT ON, UNNEST 등)를 실제 PostgreSQL에서 검증
+ * - 컨테이너는 테스트 클래스 간 공유 (JVM당 1회 기동)
+ * - 스키마는 엔티티 기준으로 생성, 엔티티가 없는 테이블은 각 테스트에서 생성
+ * - SQL 문장 수 검증용 Hibernate Statistics 활성화
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public abstract class PostgresRepositoryTest {
+
+  @ServiceConnection
+  protected static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:16-alpine");
+
+  static {
+    POSTGRES.start();
+  }
+}
@@ -5,6 +5,7 @@ import kr.suhsaechan.mapsy.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,6 +20,8 @@ public interface FcmTokenRepository extends JpaRepository<FcmToken, UUID> {
 
   List<FcmToken> findByMemberId(UUID memberId);
 
+  List<FcmToken> findAllByMemberIdIn(Collection<UUID> memberIds);
+
   Optional<FcmToken> findByFcmToken(String fcmToken);
 
   List<FcmToken> findByLastUsedAtBefore(LocalDateTime dateTime);
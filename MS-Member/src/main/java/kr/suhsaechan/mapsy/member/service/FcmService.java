@@ -1,5 +1,6 @@
 package kr.suhsaechan.mapsy.member.service;
 
+import com.google.api.core.ApiFuture;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.messaging.*;
 import kr.suhsaechan.mapsy.common.exception.CustomException;
@@ -13,9 +14,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -26,6 +33,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class FcmService {
 
+  // FCM 멀티캐스트 1회 요청당 최대 토큰 수
+  private static final int MULTICAST_MAX_TOKENS = 500;
+
   private final FcmTokenRepository fcmTokenRepository;
 
   /**
@@ -100,7 +110,7 @@ public class FcmService {
    * @param data     추가 데이터
    * @param imageUrl 이미지 URL (선택)
    */
-  @Transactional(readOnly = true)
+  @Transactional
   public void sendNotificationToMember(UUID memberId, String title, String body, Map<String, String> data, String imageUrl) {
     // 회원의 모든 FCM 토큰 조회
     List<FcmToken> tokens = fcmTokenRepository.findByMemberId(memberId);
@@ -125,7 +135,7 @@ public class FcmService {
    * @param data     추가 데이터
    * @param imageUrl 이미지 URL (선택)
    */
-  @Transactional(readOnly = true)
+  @Transactional
   public void sendNotificationToAllDevices(Member member, String title, String body, Map<String, String> data, String imageUrl) {
     // 회원의 모든 FCM 토큰 조회
     List<FcmToken> tokens = fcmTokenRepository.findByMember(member);
@@ -141,6 +151,106 @@ public class FcmService {
     sendNotificationToMultipleDevices(tokens, title, body, data, imageUrl);
   }
 
+  /**
+   * 여러 회원에게 동일한 푸시 알림 전송
+   * - 모든 회원의 FCM 토큰을 IN 쿼리 1회로 조회
+   * - 토큰을 최대 500개 단위로 묶어 sendEachForMulticastAsync로 동시 전송
+   *   - 한 회원의 토큰은 같은 묶음에 담음 → 실패한 묶음의 회원만 재시도 대상이 되고, 다른 묶음으로 이미 받은 기기에 중복 전송되지 않음
+   * - 유효하지 않은 토큰은 전체 묶음의 결과를 모아 한 번에 삭제
+   *
+   * @param memberIds 수신 회원 ID 목록
+   * @param title     알림 제목
+   * @param body      알림 본문
+   * @param data      추가 데이터
+   * @param imageUrl  이미지 URL (선택)
+   * @return 전송 처리된 회원 ID 목록 (토큰이 없는 회원 포함, 전송 요청이 실패한 묶음의 회원 제외)
+   */
+  public Set<UUID> sendNotificationToMembers(Collection<UUID> memberIds, String title, String body, Map<String, String> data, String imageUrl) {
+    Set<UUID> handledMemberIds = new HashSet<>(memberIds);
+    if (memberIds.isEmpty()) {
+      return handledMemberIds;
+    }
+
+    List<FcmToken> tokens = fcmTokenRepository.findAllByMemberIdIn(memberIds);
+    if (tokens.isEmpty()) {
+      log.warn("회원 {}명에게 등록된 FCM 토큰이 없습니다.", memberIds.size());
+      return handledMemberIds;
+    }
+
+    // Firebase App이 초기화되어 있는지 확인
+    if (FirebaseApp.getApps().isEmpty()) {
+      log.error("Firebase App이 초기화되지 않았습니다. FCM 알림을 전송할 수 없습니다.");
+      throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+
+    List<List<FcmToken>> chunks = chunkByMember(tokens);
+    log.info("FCM 멀티캐스트 전송 시작: 회원 {}명, 토큰 {}개, 요청 {}건", memberIds.size(), tokens.size(), chunks.size());
+
+    // 모든 묶음을 먼저 비동기로 요청한 뒤 결과 수집
+    FirebaseMessaging firebaseMessaging = FirebaseMessaging.getInstance();
+    List<ApiFuture<BatchResponse>> futures = chunks.stream()
+        .map(chunk -> firebaseMessaging.sendEachForMulticastAsync(buildMulticastMessage(chunk, title, body, data, imageUrl)))
+        .toList();
+
+    int successCount = 0;
+    int failureCount = 0;
+    List<FcmToken> invalidTokens = new ArrayList<>();
+    for (int i = 0; i < chunks.size(); i++) {
+      List<FcmToken> chunk = chunks.get(i);
+      try {
+        BatchResponse response = futures.get(i).get();
+        successCount += response.getSuccessCount();
+        failureCount += response.getFailureCount();
+        invalidTokens.addAll(collectInvalidTokens(chunk, response));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        log.error("FCM 멀티캐스트 묶음 전송 대기 중 인터럽트: 토큰 {}개", chunk.size());
+        chunk.forEach(token -> handledMemberIds.remove(token.getMember().getId()));
+      } catch (ExecutionException e) {
+        log.error("FCM 멀티캐스트 묶음 전송 실패: 토큰 {}개. {}", chunk.size(), e.getCause().getMessage());
+        chunk.forEach(token -> handledMemberIds.remove(token.getMember().getId()));
+      }
+    }
+
+    log.info("FCM 멀티캐스트 전송 완료: 성공 {}, 실패 {}, 유효하지 않은 토큰 {}", successCount, failureCount, invalidTokens.size());
+    deleteInvalidTokens(invalidTokens);
+
+    return handledMemberIds;
+  }
+
+  /**
+   * 토큰을 회원 단위로 최대 500개씩 묶음
+   * - 한 회원의 토큰이 여러 묶음에 나뉘지 않도록 회원 단위로 채움
+   * - 토큰이 500개를 넘는 회원만 예외적으로 여러 묶음에 나뉨
+   *
+   * @param tokens FCM 토큰 리스트
+   * @return 묶음 리스트
+   */
+  private List<List<FcmToken>> chunkByMember(List<FcmToken> tokens) {
+    Map<UUID, List<FcmToken>> tokensByMember = tokens.stream()
+        .collect(Collectors.groupingBy(token -> token.getMember().getId(), LinkedHashMap::new, Collectors.toList()));
+
+    List<List<FcmToken>> chunks = new ArrayList<>();
+    List<FcmToken> current = new ArrayList<>();
+    for (List<FcmToken> memberTokens : tokensByMember.values()) {
+      if (!current.isEmpty() && current.size() + memberTokens.size() > MULTICAST_MAX_TOKENS) {
+        chunks.add(current);
+        current = new ArrayList<>();
+      }
+      for (FcmToken token : memberTokens) {
+        if (current.size() == MULTICAST_MAX_TOKENS) {
+          chunks.add(current);
+          current = new ArrayList<>();
+        }
+        current.add(token);
+      }
+    }
+    if (!current.isEmpty()) {
+      chunks.add(current);
+    }
+    return chunks;
+  }
+
   /**
    * 여러 기기에 푸시 알림 전송 (멀티캐스트)
    *
@@ -158,34 +268,7 @@ public class FcmService {
         throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
       }
 
-      // FCM 토큰 문자열 리스트 추출
-      List<String> fcmTokens = tokens.stream()
-          .map(FcmToken::getFcmToken)
-          .collect(Collectors.toList());
-
-      // 알림 메시지 빌더 생성
-      Notification.Builder notificationBuilder = Notification.builder()
-          .setTitle(title)
-          .setBody(body);
-
-      // 이미지 URL이 있으면 추가
-      if (imageUrl != null && !imageUrl.isBlank()) {
-        notificationBuilder.setImage(imageUrl);
-      }
-
-      Notification notification = notificationBuilder.build();
-
-      // 멀티캐스트 메시지 빌더 생성
-      MulticastMessage.Builder messageBuilder = MulticastMessage.builder()
-          .addAllTokens(fcmTokens)
-          .setNotification(notification);
-
-      // 추가 데이터가 있으면 추가
-      if (data != null && !data.isEmpty()) {
-        messageBuilder.putAllData(data);
-      }
-
-      MulticastMessage message = messageBuilder.build();
+      MulticastMessage message = buildMulticastMessage(tokens, title, body, data, imageUrl);
 
       // 메시지 전송 (최대 500개까지 한 번에 전송 가능)
       BatchResponse response = FirebaseMessaging.getInstance().sendEachForMulticast(message);
@@ -194,7 +277,7 @@ public class FcmService {
 
       // 실패한 토큰 처리
       if (response.getFailureCount() > 0) {
-        handleFailedTokens(tokens, response);
+        deleteInvalidTokens(collectInvalidTokens(tokens, response));
       }
 
     } catch (FirebaseMessagingException e) {
@@ -204,15 +287,58 @@ public class FcmService {
   }
 
   /**
-   * 전송 실패한 토큰 처리
+   * 멀티캐스트 메시지 생성
    *
-   * @param tokens   FCM 토큰 엔티티 리스트
+   * @param tokens   FCM 토큰 리스트 (최대 500개)
+   * @param title    알림 제목
+   * @param body     알림 본문
+   * @param data     추가 데이터
+   * @param imageUrl 이미지 URL (선택)
+   * @return 멀티캐스트 메시지
+   */
+  private MulticastMessage buildMulticastMessage(List<FcmToken> tokens, String title, String body, Map<String, String> data, String imageUrl) {
+    // FCM 토큰 문자열 리스트 추출
+    List<String> fcmTokens = tokens.stream()
+        .map(FcmToken::getFcmToken)
+        .collect(Collectors.toList());
+
+    // 알림 메시지 빌더 생성
+    Notification.Builder notificationBuilder = Notification.builder()
+        .setTitle(title)
+        .setBody(body);
+
+    // 이미지 URL이 있으면 추가
+    if (imageUrl != null && !imageUrl.isBlank()) {
+      notificationBuilder.setImage(imageUrl);
+    }
+
+    // 멀티캐스트 메시지 빌더 생성
+    MulticastMessage.Builder messageBuilder = MulticastMessage.builder()
+        .addAllTokens(fcmTokens)
+        .setNotification(notificationBuilder.build());
+
+    // 추가 데이터가 있으면 추가
+    if (data != null && !data.isEmpty()) {
+      messageBuilder.putAllData(data);
+    }
+
+    return messageBuilder.build();
+  }
+
+  /**
+   * 전송 실패한 토큰 중 유효하지 않은 토큰 수집
+   *
+   * @param tokens   FCM 토큰 엔티티 리스트 (response와 같은 순서)
    * @param response 배치 응답
+   * @return 유효하지 않은 토큰 리스트
    */
-  @Transactional
-  protected void handleFailedTokens(List<FcmToken> tokens, BatchResponse response) {
-    List<SendResponse> responses = response.getResponses();
+  private List<FcmToken> collectInvalidTokens(List<FcmToken> tokens, BatchResponse response) {
+    List<FcmToken> invalidTokens = new ArrayList<>();
+    if (response.getFailureCount() == 0) {
+      return invalidTokens;
+    }
 
+    List<SendResponse> responses = response.getResponses();
     for (int i = 0; i < responses.size(); i++) {
       SendResponse sendResponse = responses.get(i);
 
@@ -221,13 +347,26 @@ public class FcmService {
         FirebaseMessagingException exception = sendResponse.getException();
 
         if (exception != null && isInvalidTokenError(exception)) {
-          // 유효하지 않은 토큰인 경우 DB에서 삭제
           FcmToken token = tokens.get(i);
-          log.warn("유효하지 않은 FCM 토큰 삭제: memberId={}, deviceId={}", token.getMember().getId(), token.getDeviceId());
-          fcmTokenRepository.delete(token);
+          log.warn("유효하지 않은 FCM 토큰: memberId={}, deviceId={}", token.getMember().getId(), token.getDeviceId());
+          invalidTokens.add(token);
         }
       }
     }
+    return invalidTokens;
+  }
+
+  /**
+   * 유효하지 않은 FCM 토큰 일괄 삭제 (DELETE ... WHERE id IN 1회)
+   *
+   * @param invalidTokens 삭제할 토큰 리스트
+   */
+  private void deleteInvalidTokens(List<FcmToken> invalidTokens) {
+    if (invalidTokens.isEmpty()) {
+      return;
+    }
+    fcmTokenRepository.deleteAllByIdInBatch(invalidTokens.stream().map(FcmToken::getId).toList());
+    log.info("유효하지 않은 FCM 토큰 {}개 삭제", invalidTokens.size());
   }
 
   /**
@@ -0,0 +1,24 @@
+package kr.suhsaechan.mapsy.place.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "최신 장소 피드 응답 (커서 페이지네이션)")
+public class GetLatestPlacesResponse {
+  @Schema(description = "장소 목록 (최신순)")
+  private List<PlaceDto> places;
+
+  @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+  private String nextCursor;
+
+  @Schema(description = "다음 페이지 존재 여부", example = "true")
+  private boolean hasNext;
+}
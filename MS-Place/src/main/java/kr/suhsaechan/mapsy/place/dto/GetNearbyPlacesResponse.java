@@ -0,0 +1,24 @@
+package kr.suhsaechan.mapsy.place.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "주변 장소 검색 응답")
+public class GetNearbyPlacesResponse {
+  @Schema(description = "장소 목록 (거리 오름차순)")
+  private List<NearbyPlaceDto> places;
+
+  @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+  private String nextCursor;
+
+  @Schema(description = "다음 페이지 존재 여부", example = "true")
+  private boolean hasNext;
+}
@@ -0,0 +1,27 @@
+package kr.suhsaechan.mapsy.place.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "지도 영역 장소 클러스터 응답")
+public class GetPlaceClustersResponse {
+  @Schema(description = "클러스터링에 사용한 geohash 길이", example = "6")
+  private int precision;
+
+  @Schema(description = "개별 핀 단계 여부 (true면 각 셀이 사실상 개별 장소)", example = "false")
+  private boolean pinLevel;
+
+  @Schema(description = "클러스터 수 상한 초과 여부 (true면 개수 상위 클러스터만 포함, 확대 시 전체 표시)", example = "false")
+  private boolean truncated;
+
+  @Schema(description = "클러스터 목록")
+  private List<PlaceClusterDto> clusters;
+}
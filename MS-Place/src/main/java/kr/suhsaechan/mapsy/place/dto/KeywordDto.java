@@ -1,7 +1,6 @@
 package kr.suhsaechan.mapsy.place.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
-import java.math.BigDecimal;
 import java.util.UUID;
 import kr.suhsaechan.mapsy.place.entity.Keyword;
 import lombok.AllArgsConstructor;
@@ -26,7 +25,7 @@ public class KeywordDto {
   private Integer count;
 
   @Schema(description = "트렌드 점수", example = "15.50")
-  private BigDecimal trendScore;
+  private Double trendScore;
 
   public static KeywordDto from(Keyword keyword) {
     if (keyword == null) {
@@ -0,0 +1,24 @@
+package kr.suhsaechan.mapsy.place.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "키워드 자동완성 DTO")
+public class KeywordSuggestionDto {
+  @Schema(description = "키워드 ID", example = "550e8400-e29b-41d4-a716-446655440000")
+  private UUID id;
+
+  @Schema(description = "키워드 문자열", example = "강남카페")
+  private String keyword;
+
+  @Schema(description = "사용 횟수", example = "42")
+  private int count;
+}
@@ -0,0 +1,55 @@
+package kr.suhsaechan.mapsy.place.dto;
+
+import kr.suhsaechan.mapsy.place.entity.Place;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "주변 장소 DTO")
+public class NearbyPlaceDto {
+  @Schema(description = "장소 ID", example = "550e8400-e29b-41d4-a716-446655440000")
+  private UUID placeId;
+
+  @Schema(description = "장소명", example = "스타벅스 서울역점")
+  private String name;
+
+  @Schema(description = "주소", example = "서울특별시 중구 명동길 29")
+  private String address;
+
+  @Schema(description = "위도", example = "37.5546788")
+  private BigDecimal latitude;
+
+  @Schema(description = "경도", example = "126.9706069")
+  private BigDecimal longitude;
+
+  @Schema(description = "별점 (0.0 ~ 5.0)", example = "4.5")
+  private BigDecimal rating;
+
+  @Schema(description = "사진 URL 배열 (최대 10개)")
+  private List<String> photoUrls;
+
+  @Schema(description = "검색 중심점과의 거리 (m)", example = "350")
+  private Long distanceMeters;
+
+  public static NearbyPlaceDto of(Place place, double distance) {
+    return NearbyPlaceDto.builder()
+        .placeId(place.getId())
+        .name(place.getName())
+        .address(place.getAddress())
+        .latitude(place.getLatitude())
+        .longitude(place.getLongitude())
+        .rating(place.getRating())
+        .photoUrls(place.getPhotoUrls())
+        .distanceMeters(Math.round(distance))
+        .build();
+  }
+}
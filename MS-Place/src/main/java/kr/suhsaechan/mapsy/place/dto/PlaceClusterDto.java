@@ -0,0 +1,30 @@
+package kr.suhsaechan.mapsy.place.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "장소 클러스터 DTO")
+public class PlaceClusterDto {
+  @Schema(description = "geohash 셀 (클러스터 식별자)", example = "wydm9")
+  private String cell;
+
+  @Schema(description = "셀 내 장소 수", example = "12")
+  private long count;
+
+  @Schema(description = "셀 내 장소 평균 위도 (마커 표시 위치)", example = "37.5546788")
+  private double latitude;
+
+  @Schema(description = "셀 내 장소 평균 경도 (마커 표시 위치)", example = "126.9706069")
+  private double longitude;
+
+  @Schema(description = "장소 ID (셀에 장소가 하나뿐인 경우에만, 개별 핀)", example = "550e8400-e29b-41d4-a716-446655440000")
+  private UUID placeId;
+}
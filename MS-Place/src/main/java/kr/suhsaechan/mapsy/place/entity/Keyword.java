@@ -8,7 +8,6 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -47,7 +46,7 @@ public class Keyword extends BaseEntity {
 
   /**
    * 키워드 사용 횟수
-   * - 장소에 연결될 때마다 증가
+   * - 장소에 연결될 때마다 증가 (KeywordCountService가 주기적으로 일괄 가산)
    * - 트렌드 점수 계산에 사용
    */
   @Column(nullable = false)
@@ -59,10 +58,11 @@ public class Keyword extends BaseEntity {
    * - 급상승률 기반 계산: (현재 count - 이전 count) / 이전 count
    * - 배치 작업으로 주기적 업데이트 (예: 매시간)
    * - 높을수록 최근 급상승 중인 키워드
+   * - double precision 저장 (감쇠 결과를 소수 둘째 자리로 반올림하면 작은 점수가 감쇠되지 않고 남음)
    */
-  @Column(precision = 10, scale = 2)
+  @Column(nullable = false)
   @Builder.Default
-  private BigDecimal trendScore = BigDecimal.ZERO;
+  private Double trendScore = 0d;
 
   /**
    * 이 키워드가 연결된 장소 목록
@@ -72,21 +72,13 @@ public class Keyword extends BaseEntity {
   @Builder.Default
   private List<PlaceKeyword> placeKeywords = new ArrayList<>();
 
-  /**
-   * 키워드 사용 횟수 증가
-   * - 장소에 키워드 연결 시 호출
-   */
-  public void incrementCount() {
-    this.count++;
-  }
-
   /**
    * 트렌드 점수 업데이트
    * - 배치 작업에서 호출
    *
    * @param newTrendScore 새로운 트렌드 점수
    */
-  public void updateTrendScore(BigDecimal newTrendScore) {
+  public void updateTrendScore(Double newTrendScore) {
     this.trendScore = newTrendScore;
   }
 }
@@ -1,13 +1,19 @@
 package kr.suhsaechan.mapsy.place.entity;
 
 import kr.suhsaechan.mapsy.common.entity.SoftDeletableBaseEntity;
+import kr.suhsaechan.mapsy.common.util.GeoHashUtil;
+import kr.suhsaechan.mapsy.common.util.SearchTokenUtil;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import lombok.AccessLevel;
@@ -28,6 +34,7 @@ import org.hibernate.type.SqlTypes;
 
 @Check(constraints = "latitude BETWEEN -90 AND 90 AND longitude BETWEEN -180 AND 180")
 @Entity
+@Table(indexes = @Index(name = "idx_place_geohash", columnList = "geohash"))
 @Builder
 @Getter
 @Setter
@@ -60,6 +67,9 @@ public class Place extends SoftDeletableBaseEntity {
   @DecimalMax("180.0")
   private BigDecimal longitude;     // 경도
 
+  @Column(length = 12, columnDefinition = "varchar(12) COLLATE \"C\"")
+  private String geohash;           // 공간 검색용 geohash (위경도로부터 자동 계산)
+
   @Column(length = 100)
   private String businessType;      // 업종 (category 매핑)
 
@@ -146,6 +156,9 @@ public class Place extends SoftDeletableBaseEntity {
   @Column(length = 500)
   private String imageUrl;              // 대표 이미지 URL
 
+  @Column(columnDefinition = "TEXT")
+  private String searchTokens;          // 전문 검색용 토큰 (이름/주소/업종/메뉴로부터 자동 계산)
+
   /**
    * 이 장소와 연결된 키워드 목록
    * - PlaceKeyword 중간 테이블을 통한 다대다 관계
@@ -175,4 +188,21 @@ public class Place extends SoftDeletableBaseEntity {
     this.placeKeywords.removeIf(pk -> pk.getKeyword().equals(keyword));
     keyword.getPlaceKeywords().removeIf(pk -> pk.getPlace().equals(this));
   }
+
+  /**
+   * 저장 전 파생 컬럼 재계산
+   * - 위경도 → geohash
+   * - 이름/주소/도로명 주소/업종/메뉴 → 검색 토큰
+   */
+  @PrePersist
+  @PreUpdate
+  void updateDerivedColumns() {
+    if (latitude != null && longitude != null) {
+      this.geohash = GeoHashUtil.encode(
+          latitude.doubleValue(), longitude.doubleValue(), GeoHashUtil.STORAGE_PRECISION);
+    }
+    this.searchTokens = SearchTokenUtil.toIndexText(
+        name, address, roadAddress, businessType,
+        menuInfo != null ? String.join(" ", menuInfo) : null);
+  }
 }
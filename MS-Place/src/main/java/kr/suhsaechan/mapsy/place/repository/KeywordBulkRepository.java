@@ -0,0 +1,111 @@
+package kr.suhsaechan.mapsy.place.repository;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import kr.suhsaechan.mapsy.place.entity.PlaceKeyword.PlaceKeywordId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Keyword / PlaceKeyword 대량 처리용 JDBC Repository
+ * - JPA 엔티티 단위 조회/저장 대신 PostgreSQL ON CONFLICT로 한 번에 처리
+ * - 호출하는 JPA 트랜잭션과 같은 커넥션을 사용하므로 호출 전에 영속성 컨텍스트를 flush 할 것
+ */
+@Repository
+@RequiredArgsConstructor
+public class KeywordBulkRepository {
+
+  private static final String INSERT_KEYWORDS_SQL = """
+      INSERT INTO keywords (id, keyword, count, trend_score, created_at, updated_at)
+      SELECT gen_random_uuid(), t.keyword, t.usage, 0, now(), now()
+      FROM UNNEST(?, ?) AS t(keyword, usage)
+      ON CONFLICT (keyword) DO NOTHING
+      RETURNING id, keyword
+      """;
+
+  private static final String SELECT_KEYWORD_IDS_SQL = """
+      SELECT id, keyword
+      FROM keywords
+      WHERE keyword = ANY(?)
+      """;
+
+  private static final String INSERT_PLACE_KEYWORD_SQL = """
+      INSERT INTO place_keywords (place_id, keyword_id)
+      VALUES (?, ?)
+      ON CONFLICT DO NOTHING
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 없는 키워드만 일괄 생성 (단일 INSERT ... ON CONFLICT DO NOTHING)
+   * - 신규 키워드는 count = 사용 횟수로 생성
+   * - 이미 있는 키워드는 행을 건드리지 않음 (사용 횟수는 KeywordCountService가 가산)
+   *
+   * @param usageCounts 키워드별 사용 횟수 (키워드는 중복 없이 정규화된 상태여야 함)
+   * @return 새로 생성된 키워드 문자열 → 키워드 ID
+   */
+  public Map<String, UUID> insertKeywords(Map<String, Integer> usageCounts) {
+    Map<String, UUID> keywordIds = new HashMap<>();
+    if (usageCounts.isEmpty()) {
+      return keywordIds;
+    }
+
+    String[] keywords = usageCounts.keySet().toArray(String[]::new);
+    Integer[] usages = usageCounts.values().toArray(Integer[]::new);
+
+    jdbcTemplate.query(connection -> {
+      PreparedStatement ps = connection.prepareStatement(INSERT_KEYWORDS_SQL);
+      ps.setArray(1, connection.createArrayOf("text", keywords));
+      ps.setArray(2, connection.createArrayOf("integer", usages));
+      return ps;
+    }, rs -> {
+      keywordIds.put(rs.getString("keyword"), rs.getObject("id", UUID.class));
+    });
+    return keywordIds;
+  }
+
+  /**
+   * 키워드 ID 일괄 조회
+   * - INSERT와 별도 문장으로 조회하여 동시에 다른 트랜잭션이 생성/커밋한 키워드도 조회됨
+   *
+   * @param keywords 키워드 문자열 목록
+   * @return 키워드 문자열 → 키워드 ID
+   */
+  public Map<String, UUID> findKeywordIds(Collection<String> keywords) {
+    Map<String, UUID> keywordIds = new HashMap<>();
+    if (keywords.isEmpty()) {
+      return keywordIds;
+    }
+
+    String[] values = keywords.toArray(String[]::new);
+    jdbcTemplate.query(connection -> {
+      PreparedStatement ps = connection.prepareStatement(SELECT_KEYWORD_IDS_SQL);
+      ps.setArray(1, connection.createArrayOf("text", values));
+      return ps;
+    }, rs -> {
+      keywordIds.put(rs.getString("keyword"), rs.getObject("id", UUID.class));
+    });
+    return keywordIds;
+  }
+
+  /**
+   * 장소-키워드 연결 일괄 저장 (JDBC batch, 이미 연결된 쌍은 무시)
+   *
+   * @param links 장소 ID, 키워드 ID 쌍 목록
+   */
+  public void insertPlaceKeywords(List<PlaceKeywordId> links) {
+    if (links.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(INSERT_PLACE_KEYWORD_SQL, links, links.size(), (ps, link) -> {
+      ps.setObject(1, link.getPlaceId());
+      ps.setObject(2, link.getKeywordId());
+    });
+  }
+}
@@ -1,16 +1,22 @@
 package kr.suhsaechan.mapsy.place.repository;
 
+import jakarta.persistence.QueryHint;
 import kr.suhsaechan.mapsy.place.entity.Keyword;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Keyword 엔티티에 대한 Repository
@@ -76,6 +82,7 @@ public interface KeywordRepository extends JpaRepository<Keyword, UUID> {
    * @param pageable 페이징 정보
    * @return List<Keyword>
    */
+  @Transactional(readOnly = true)
   @Query("""
     SELECT k FROM Keyword k
     WHERE k.keyword LIKE %:term%
@@ -86,6 +93,21 @@ public interface KeywordRepository extends JpaRepository<Keyword, UUID> {
       Pageable pageable
   );
 
+  /**
+   * 자동완성 색인용 전체 키워드 조회
+   * - 사용 횟수 내림차순 (색인 구성 시 상위 키워드부터 적재)
+   * - fetch size 지정으로 커서 단위로 읽음 (PostgreSQL 드라이버가 전체 결과를 메모리에 적재하지 않음)
+   *
+   * @return 키워드 스트림 (트랜잭션 내에서 소비)
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  @Query("""
+    SELECT k.id AS id, k.keyword AS keyword, k.count AS count
+    FROM Keyword k
+    ORDER BY k.count DESC, k.keyword
+    """)
+  Stream<KeywordSuggestion> streamKeywordSuggestions();
+
   /**
    * 특정 키워드 목록 조회 (배치 조회)
    *
@@ -93,4 +115,80 @@ public interface KeywordRepository extends JpaRepository<Keyword, UUID> {
    * @return List<Keyword>
    */
   List<Keyword> findByKeywordIn(List<String> keywords);
+
+  /**
+   * 전체 트렌드 점수 감쇠 (마지막 감쇠 이후 경과 시간 기준)
+   * - factor = 0.5^(경과 초 / 반감기 초), 마지막 감쇠 시각(keyword_trend_state) 갱신과 같은 문장에서 수행
+   *   → 실패 시 둘 다 롤백되어 다음 감쇠에서 경과분 전체 반영, 누락 tick/다운타임도 따라잡음
+   * - 마지막 감쇠 시각 행을 잠그므로 여러 인스턴스가 동시에 실행해도 경과분이 중복 감쇠되지 않음
+   *
+   * @param halfLifeSeconds 반감기 (초)
+   * @return 갱신된 행 수
+   */
+  @Modifying
+  @Transactional
+  @Query(value = """
+      WITH state AS (
+        SELECT decayed_at FROM keyword_trend_state WHERE id = 1 FOR UPDATE
+      ), advanced AS (
+        UPDATE keyword_trend_state s
+        SET decayed_at = now()
+        FROM state
+        WHERE s.id = 1 AND state.decayed_at < now()
+        RETURNING EXTRACT(EPOCH FROM (now() - state.decayed_at)) AS elapsed_seconds
+      )
+      UPDATE keywords k
+      SET trend_score = k.trend_score * power(0.5, a.elapsed_seconds / :halfLifeSeconds)
+      FROM advanced a
+      WHERE k.trend_score > 0
+      """, nativeQuery = true)
+  int decayTrendScores(@Param("halfLifeSeconds") double halfLifeSeconds);
+
+  /**
+   * 키워드별 트렌드 점수 일괄 가산 (단일 UPDATE)
+   * - keywords[i]의 점수에 deltas[i]를 더함
+   *
+   * @param keywords 키워드 문자열 배열
+   * @param deltas   가산할 점수 배열
+   * @return 갱신된 행 수
+   */
+  @Modifying
+  @Transactional
+  @Query(value = """
+      UPDATE keywords k
+      SET trend_score = k.trend_score + v.delta
+      FROM UNNEST(CAST(:keywords AS TEXT[]), CAST(:deltas AS DOUBLE PRECISION[])) AS v(keyword, delta)
+      WHERE k.keyword = v.keyword
+      """, nativeQuery = true)
+  int addTrendScores(@Param("keywords") String[] keywords, @Param("deltas") Double[] deltas);
+
+  /**
+   * 키워드별 사용 횟수 일괄 가산 (단일 UPDATE)
+   * - keywords[i]의 count에 deltas[i]를 더함
+   *
+   * @param keywords 키워드 문자열 배열
+   * @param deltas   가산할 사용 횟수 배열
+   * @return 갱신된 행 수
+   */
+  @Modifying
+  @Transactional
+  @Query(value = """
+      UPDATE keywords k
+      SET count = k.count + v.delta
+      FROM UNNEST(CAST(:keywords AS TEXT[]), CAST(:deltas AS INTEGER[])) AS v(keyword, delta)
+      WHERE k.keyword = v.keyword
+      """, nativeQuery = true)
+  int addCounts(@Param("keywords") String[] keywords, @Param("deltas") Long[] deltas);
+
+  /**
+   * 자동완성 색인용 키워드 정보
+   */
+  interface KeywordSuggestion {
+
+    UUID getId();
+
+    String getKeyword();
+
+    Integer getCount();
+  }
 }
@@ -133,4 +133,60 @@ public interface MemberPlaceRepository extends JpaRepository<MemberPlace, UUID>
       @Param("savedStatus") PlaceSavedStatus savedStatus,
       Pageable pageable
   );
+
+  /**
+   * 지도 영역 내 회원 장소를 geohash 접두사 단위로 집계 (클러스터링)
+   * - cells: 영역을 덮는 geohash 접두사 배열 (예: "{wydm,wydq}"), place.geohash 인덱스 범위 스캔
+   * - precision 길이의 geohash 접두사로 GROUP BY 하여 셀별 개수와 평균 좌표만 반환
+   * - 셀에 장소가 하나뿐이면 placeId 포함 (개별 핀 표시용)
+   *
+   * @param savedStatus 저장 상태 (null이면 전체)
+   * @return 셀별 집계 결과 (개수 내림차순)
+   */
+  @Query(value = """
+      SELECT LEFT(p.geohash, :precision) AS cell,
+             COUNT(*) AS count,
+             AVG(CAST(p.latitude AS DOUBLE PRECISION)) AS latitude,
+             AVG(CAST(p.longitude AS DOUBLE PRECISION)) AS longitude,
+             CASE WHEN COUNT(*) = 1 THEN MIN(CAST(p.id AS TEXT)) END AS placeId
+      FROM UNNEST(CAST(:cells AS TEXT[])) AS c(cell)
+      JOIN place p ON p.geohash >= c.cell AND p.geohash < c.cell || '~'
+      JOIN member_place mp ON mp.place_id = p.id
+      WHERE mp.member_id = :memberId
+        AND mp.is_deleted = false
+        AND (CAST(:savedStatus AS VARCHAR) IS NULL OR mp.saved_status = CAST(:savedStatus AS VARCHAR))
+        AND p.is_deleted = false
+        AND p.latitude BETWEEN :minLat AND :maxLat
+        AND p.longitude BETWEEN :minLng AND :maxLng
+      GROUP BY LEFT(p.geohash, :precision)
+      ORDER BY count DESC
+      LIMIT :limit
+      """, nativeQuery = true)
+  List<PlaceCluster> findPlaceClusters(
+      @Param("memberId") UUID memberId,
+      @Param("savedStatus") String savedStatus,
+      @Param("cells") String cells,
+      @Param("minLat") double minLat,
+      @Param("minLng") double minLng,
+      @Param("maxLat") double maxLat,
+      @Param("maxLng") double maxLng,
+      @Param("precision") int precision,
+      @Param("limit") int limit
+  );
+
+  /**
+   * 장소 클러스터 집계 결과
+   */
+  interface PlaceCluster {
+
+    String getCell();
+
+    Long getCount();
+
+    Double getLatitude();
+
+    Double getLongitude();
+
+    String getPlaceId();
+  }
 }
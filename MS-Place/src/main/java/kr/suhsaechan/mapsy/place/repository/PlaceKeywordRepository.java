@@ -1,15 +1,21 @@
 package kr.suhsaechan.mapsy.place.repository;
 
+import jakarta.persistence.QueryHint;
 import kr.suhsaechan.mapsy.place.entity.Keyword;
 import kr.suhsaechan.mapsy.place.entity.Place;
 import kr.suhsaechan.mapsy.place.entity.PlaceKeyword;
 import kr.suhsaechan.mapsy.place.entity.PlaceKeyword.PlaceKeywordId;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * PlaceKeyword 엔티티에 대한 Repository
@@ -81,6 +87,24 @@ public interface PlaceKeywordRepository extends JpaRepository<PlaceKeyword, Plac
     """)
   List<Place> findPlacesByKeywords(@Param("keywords") List<Keyword> keywords);
 
+  /**
+   * 키워드 포스팅 리스트 색인용 (장소 ID, 키워드) 전체 조회
+   * - 삭제되지 않은 장소만, 장소 생성순 (색인 서수 순서)
+   * - fetch size 지정으로 커서 단위로 읽음 (PostgreSQL 드라이버가 전체 결과를 메모리에 적재하지 않음)
+   *
+   * @return (장소 ID, 키워드) 스트림 (트랜잭션 내에서 소비)
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  @Query("""
+    SELECT p.id AS placeId, p.createdAt AS createdAt, k.keyword AS keyword
+    FROM PlaceKeyword pk
+    JOIN pk.place p
+    JOIN pk.keyword k
+    WHERE p.isDeleted = false
+    ORDER BY p.createdAt, p.id
+    """)
+  Stream<PlaceKeywordPosting> streamPlaceKeywordPostings();
+
   /**
    * 특정 장소의 키워드 모두 삭제
    * - 장소 삭제 시 자동 호출됨 (CascadeType.ALL)
@@ -96,4 +120,16 @@ public interface PlaceKeywordRepository extends JpaRepository<PlaceKeyword, Plac
    * @param keyword 키워드
    */
   void deleteByKeyword(Keyword keyword);
+
+  /**
+   * 장소-키워드 포스팅
+   */
+  interface PlaceKeywordPosting {
+
+    UUID getPlaceId();
+
+    LocalDateTime getCreatedAt();
+
+    String getKeyword();
+  }
 }
@@ -4,8 +4,11 @@ import kr.suhsaechan.mapsy.place.constant.PlacePlatform;
 import kr.suhsaechan.mapsy.place.entity.Place;
 import kr.suhsaechan.mapsy.place.entity.PlacePlatformReference;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -45,4 +48,31 @@ public interface PlacePlatformReferenceRepository extends JpaRepository<PlacePla
       PlacePlatform placePlatform,
       String placePlatformId
   );
+
+  /**
+   * 플랫폼과 플랫폼 ID 목록으로 PlacePlatformReference 일괄 조회 (Place Fetch Join)
+   * - AI 콜백 일괄 처리 시 네이버 placeId 중복 체크를 한 번의 IN 쿼리로 수행
+   *
+   * @param placePlatform    플랫폼 (NAVER, GOOGLE, KAKAO)
+   * @param placePlatformIds 플랫폼별 장소 ID 목록
+   * @return PlacePlatformReference 리스트 (Place 포함)
+   */
+  @Query("SELECT ppr FROM PlacePlatformReference ppr " +
+      "JOIN FETCH ppr.place " +
+      "WHERE ppr.placePlatform = :placePlatform " +
+      "AND ppr.placePlatformId IN :placePlatformIds")
+  List<PlacePlatformReference> findAllByPlacePlatformAndPlacePlatformIdIn(
+      @Param("placePlatform") PlacePlatform placePlatform,
+      @Param("placePlatformIds") Collection<String> placePlatformIds
+  );
+
+  /**
+   * 장소 목록과 플랫폼으로 PlacePlatformReference 일괄 조회
+   * - name + 좌표로 찾은 기존 장소들의 참조 존재 여부를 한 번에 확인
+   *
+   * @param places        장소 목록
+   * @param placePlatform 플랫폼 (GOOGLE, KAKAO, NAVER)
+   * @return PlacePlatformReference 리스트
+   */
+  List<PlacePlatformReference> findAllByPlaceInAndPlacePlatform(Collection<Place> places, PlacePlatform placePlatform);
 }
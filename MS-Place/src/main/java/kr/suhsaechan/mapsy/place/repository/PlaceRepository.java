@@ -10,8 +10,12 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Place 엔티티에 대한 Repository
@@ -29,6 +33,16 @@ public interface PlaceRepository extends JpaRepository<Place, UUID> {
    */
   Optional<Place> findByNameAndLatitudeAndLongitude(String name, BigDecimal latitude, BigDecimal longitude);
 
+  /**
+   * 이름 목록으로 장소 일괄 조회 (중복 방지용)
+   * - AI 콜백 일괄 처리 시 name + 좌표 fallback 후보를 한 번의 IN 쿼리로 조회
+   * - 좌표 일치 여부는 호출 측에서 비교
+   *
+   * @param names 장소명 목록
+   * @return List<Place>
+   */
+  List<Place> findAllByNameIn(Collection<String> names);
+
   /**
    * 이름과 주소로 Place 검색 (DB 캐싱용, Google API 호출 최소화)
    * <p>
@@ -59,6 +73,41 @@ public interface PlaceRepository extends JpaRepository<Place, UUID> {
    */
   Page<Place> findAllByOrderByCreatedAtDesc(Pageable pageable);
 
+  /**
+   * 최신 장소 피드 첫 페이지 조회 (키셋 페이지네이션)
+   * - (createdAt DESC, id DESC) 정렬, 전체 개수 조회 없음
+   *
+   * @param pageable 조회 개수 (page는 항상 0)
+   * @return List<Place>
+   */
+  @Query("""
+      SELECT p FROM Place p
+      WHERE p.isDeleted = false
+      ORDER BY p.createdAt DESC, p.id DESC
+      """)
+  List<Place> findLatestPlaces(Pageable pageable);
+
+  /**
+   * 최신 장소 피드 다음 페이지 조회 (키셋 페이지네이션)
+   * - 커서 (createdAt, id) 이후의 장소만 조회하므로 OFFSET 없이 인덱스 범위 스캔
+   *
+   * @param createdAt 이전 페이지 마지막 장소의 생성일시
+   * @param id        이전 페이지 마지막 장소의 ID
+   * @param pageable  조회 개수 (page는 항상 0)
+   * @return List<Place>
+   */
+  @Query("""
+      SELECT p FROM Place p
+      WHERE p.isDeleted = false
+        AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))
+      ORDER BY p.createdAt DESC, p.id DESC
+      """)
+  List<Place> findLatestPlacesAfter(
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") UUID id,
+      Pageable pageable
+  );
+
   /**
    * 인기 장소 피드 조회
    * - MemberPlace에 저장된 횟수 기준 내림차순 정렬
@@ -78,4 +127,169 @@ public interface PlaceRepository extends JpaRepository<Place, UUID> {
       @Param("savedStatus") PlaceSavedStatus savedStatus,
       Pageable pageable
   );
+
+  /**
+   * 인기 장소 집계 스트림 (인기 장소 저장소 재구성용)
+   * - 삭제되지 않은 모든 장소의 저장(SAVED) 횟수
+   *
+   * @param savedStatus 저장 상태 (SAVED)
+   * @return 장소별 저장 횟수 스트림 (트랜잭션 내에서 소비)
+   */
+  @Query("""
+      SELECT p.id AS placeId, COUNT(mp) AS saveCount, p.createdAt AS createdAt
+      FROM Place p
+      LEFT JOIN MemberPlace mp ON mp.place = p
+        AND mp.savedStatus = :savedStatus
+        AND mp.deletedAt IS NULL
+      WHERE p.isDeleted = false
+      GROUP BY p.id, p.createdAt
+      """)
+  Stream<PlacePopularity> streamPlacePopularity(@Param("savedStatus") PlaceSavedStatus savedStatus);
+
+  /**
+   * 주변 장소 검색 (geohash 인덱스 기반)
+   * - cells: 검색 영역을 덮는 geohash 접두사 배열 (예: "{wydm9,wydmc}"), 접두사별 인덱스 범위 스캔
+   * - 위경도 사각 영역으로 후보를 거른 뒤 중심점과의 Haversine 거리(m)로 정렬
+   * - radius가 null이면 사각 영역 전체, memberId가 null이면 전체 장소 대상
+   * - (distance, id) 기준 커서 페이지네이션
+   *
+   * @return 장소 ID와 거리 목록 (거리 오름차순)
+   */
+  @Query(value = """
+      WITH candidates AS (
+          SELECT p.id AS id,
+                 2 * 6371000 * ASIN(LEAST(1, SQRT(
+                     POWER(SIN(RADIANS(CAST(p.latitude AS DOUBLE PRECISION) - :centerLat) / 2), 2)
+                     + COS(RADIANS(:centerLat)) * COS(RADIANS(CAST(p.latitude AS DOUBLE PRECISION)))
+                     * POWER(SIN(RADIANS(CAST(p.longitude AS DOUBLE PRECISION) - :centerLng) / 2), 2)))) AS distance
+          FROM UNNEST(CAST(:cells AS TEXT[])) AS c(cell)
+          JOIN place p ON p.geohash >= c.cell AND p.geohash < c.cell || '~'
+          WHERE p.is_deleted = false
+            AND p.latitude BETWEEN :minLat AND :maxLat
+            AND p.longitude BETWEEN :minLng AND :maxLng
+            AND (CAST(:memberId AS UUID) IS NULL OR EXISTS (
+                SELECT 1 FROM member_place mp
+                WHERE mp.place_id = p.id
+                  AND mp.member_id = CAST(:memberId AS UUID)
+                  AND mp.is_deleted = false))
+      )
+      SELECT id, distance FROM candidates
+      WHERE (CAST(:radius AS DOUBLE PRECISION) IS NULL OR distance <= CAST(:radius AS DOUBLE PRECISION))
+        AND (CAST(:cursorDistance AS DOUBLE PRECISION) IS NULL
+             OR distance > CAST(:cursorDistance AS DOUBLE PRECISION)
+             OR (distance = CAST(:cursorDistance AS DOUBLE PRECISION) AND id > CAST(:cursorId AS UUID)))
+      ORDER BY distance, id
+      LIMIT :limit
+      """, nativeQuery = true)
+  List<PlaceDistance> findNearbyPlaceIds(
+      @Param("cells") String cells,
+      @Param("minLat") double minLat,
+      @Param("minLng") double minLng,
+      @Param("maxLat") double maxLat,
+      @Param("maxLng") double maxLng,
+      @Param("centerLat") double centerLat,
+      @Param("centerLng") double centerLng,
+      @Param("radius") Double radius,
+      @Param("memberId") UUID memberId,
+      @Param("cursorDistance") Double cursorDistance,
+      @Param("cursorId") UUID cursorId,
+      @Param("limit") int limit
+  );
+
+  /**
+   * 장소 전문 검색 (search_tokens GIN 인덱스 + 키워드 정확 일치)
+   * - 후보: to_tsvector('simple', search_tokens) @@ tsquery 이거나, 연결된 키워드가 검색어와 일치하는 장소
+   * - 점수: ts_rank_cd + 이름 포함 가산(1.0) + 키워드 일치 가산(0.5)
+   * - latitude/longitude가 null이 아니면 중심점 반경(radius m) 내 장소로 제한
+   * - (score DESC, id) 기준 커서 페이지네이션
+   *
+   * @return 장소 ID와 검색 점수 목록 (점수 내림차순)
+   */
+  @Query(value = """
+      WITH keyword_hits AS (
+          SELECT DISTINCT pk.place_id
+          FROM keywords k
+          JOIN place_keywords pk ON pk.keyword_id = k.id
+          WHERE k.keyword = ANY(CAST(:keywords AS TEXT[]))
+      ),
+      candidates AS (
+          SELECT p.id
+          FROM place p
+          WHERE to_tsvector('simple', COALESCE(p.search_tokens, '')) @@ to_tsquery('simple', :tsquery)
+          UNION
+          SELECT place_id FROM keyword_hits
+      ),
+      scored AS (
+          SELECT p.id AS id,
+                 CAST(ts_rank_cd(to_tsvector('simple', COALESCE(p.search_tokens, '')),
+                                 to_tsquery('simple', :tsquery)) AS DOUBLE PRECISION)
+                 + CASE WHEN LOWER(p.name) LIKE :namePattern ESCAPE '\\' THEN 1.0 ELSE 0 END
+                 + CASE WHEN EXISTS (SELECT 1 FROM keyword_hits kh WHERE kh.place_id = p.id) THEN 0.5 ELSE 0 END
+                     AS score
+          FROM candidates c
+          JOIN place p ON p.id = c.id
+          WHERE p.is_deleted = false
+            AND (CAST(:latitude AS DOUBLE PRECISION) IS NULL OR (
+                p.latitude BETWEEN CAST(:minLat AS DOUBLE PRECISION) AND CAST(:maxLat AS DOUBLE PRECISION)
+                AND p.longitude BETWEEN CAST(:minLng AS DOUBLE PRECISION) AND CAST(:maxLng AS DOUBLE PRECISION)
+                AND 2 * 6371000 * ASIN(LEAST(1, SQRT(
+                    POWER(SIN(RADIANS(CAST(p.latitude AS DOUBLE PRECISION) - CAST(:latitude AS DOUBLE PRECISION)) / 2), 2)
+                    + COS(RADIANS(CAST(:latitude AS DOUBLE PRECISION))) * COS(RADIANS(CAST(p.latitude AS DOUBLE PRECISION)))
+                    * POWER(SIN(RADIANS(CAST(p.longitude AS DOUBLE PRECISION) - CAST(:longitude AS DOUBLE PRECISION)) / 2), 2))))
+                    <= CAST(:radius AS DOUBLE PRECISION)))
+      )
+      SELECT id, score FROM scored
+      WHERE CAST(:cursorScore AS DOUBLE PRECISION) IS NULL
+         OR score < CAST(:cursorScore AS DOUBLE PRECISION)
+         OR (score = CAST(:cursorScore AS DOUBLE PRECISION) AND id > CAST(:cursorId AS UUID))
+      ORDER BY score DESC, id
+      LIMIT :limit
+      """, nativeQuery = true)
+  List<PlaceSearchHit> searchPlaceIds(
+      @Param("tsquery") String tsquery,
+      @Param("keywords") String[] keywords,
+      @Param("namePattern") String namePattern,
+      @Param("latitude") Double latitude,
+      @Param("longitude") Double longitude,
+      @Param("radius") Double radius,
+      @Param("minLat") Double minLat,
+      @Param("minLng") Double minLng,
+      @Param("maxLat") Double maxLat,
+      @Param("maxLng") Double maxLng,
+      @Param("cursorScore") Double cursorScore,
+      @Param("cursorId") UUID cursorId,
+      @Param("limit") int limit
+  );
+
+  /**
+   * 장소 검색 결과 (장소 ID, 검색 점수)
+   */
+  interface PlaceSearchHit {
+
+    UUID getId();
+
+    Double getScore();
+  }
+
+  /**
+   * 장소별 저장 횟수 집계 결과
+   */
+  interface PlacePopularity {
+
+    UUID getPlaceId();
+
+    Long getSaveCount();
+
+    LocalDateTime getCreatedAt();
+  }
+
+  /**
+   * 주변 장소 검색 결과 (장소 ID, 중심점과의 거리)
+   */
+  interface PlaceDistance {
+
+    UUID getId();
+
+    Double getDistance();
+  }
 }
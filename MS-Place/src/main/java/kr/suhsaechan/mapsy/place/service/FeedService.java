@@ -1,17 +1,25 @@
 package kr.suhsaechan.mapsy.place.service;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import kr.suhsaechan.mapsy.common.exception.CustomException;
+import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
+import kr.suhsaechan.mapsy.common.util.CursorUtil;
 import kr.suhsaechan.mapsy.place.constant.PlaceSavedStatus;
+import kr.suhsaechan.mapsy.place.dto.GetLatestPlacesResponse;
 import kr.suhsaechan.mapsy.place.dto.KeywordDto;
 import kr.suhsaechan.mapsy.place.dto.PlaceDto;
-import kr.suhsaechan.mapsy.place.entity.Keyword;
 import kr.suhsaechan.mapsy.place.entity.Place;
 import kr.suhsaechan.mapsy.place.repository.PlaceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -28,10 +36,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class FeedService {
 
   private static final int DEFAULT_TOP_PLACES_LIMIT = 10;
+  private static final int MAX_PAGE_SIZE = 100;
 
   private final PlaceRepository placeRepository;
   private final MemberPlaceService memberPlaceService;
-  private final KeywordService keywordService;
+  private final KeywordTrendService keywordTrendService;
+  private final PlacePopularityService placePopularityService;
 
   /**
    * 최신 장소 피드 조회
@@ -52,9 +62,58 @@ public class FeedService {
     return places.map(PlaceDto::from);
   }
 
+  /**
+   * 최신 장소 피드 조회 (키셋 페이지네이션)
+   * - (createdAt, id) 커서 이후의 장소를 size + 1개 조회하여 다음 페이지 여부 판단
+   * - OFFSET, COUNT 쿼리 없음
+   *
+   * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+   * @param size   페이지 크기
+   * @return GetLatestPlacesResponse
+   */
+  public GetLatestPlacesResponse getLatestPlaces(String cursor, int size) {
+    int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    Pageable limit = PageRequest.of(0, pageSize + 1);
+
+    List<Place> places;
+    if (cursor == null || cursor.isBlank()) {
+      places = placeRepository.findLatestPlaces(limit);
+    } else {
+      String[] decoded = CursorUtil.decode(cursor, 2);
+      LocalDateTime cursorCreatedAt;
+      UUID cursorId;
+      try {
+        cursorCreatedAt = LocalDateTime.parse(decoded[0]);
+        cursorId = UUID.fromString(decoded[1]);
+      } catch (DateTimeParseException | IllegalArgumentException e) {
+        throw new CustomException(ErrorCode.INVALID_CURSOR);
+      }
+      places = placeRepository.findLatestPlacesAfter(cursorCreatedAt, cursorId, limit);
+    }
+
+    boolean hasNext = places.size() > pageSize;
+    List<Place> page = hasNext ? places.subList(0, pageSize) : places;
+
+    String nextCursor = null;
+    if (hasNext) {
+      Place last = page.get(page.size() - 1);
+      nextCursor = CursorUtil.encode(last.getCreatedAt(), last.getId());
+    }
+
+    log.info("Found {} latest places by cursor (hasNext: {})", page.size(), hasNext);
+
+    return GetLatestPlacesResponse.builder()
+        .places(page.stream().map(PlaceDto::from).toList())
+        .nextCursor(nextCursor)
+        .hasNext(hasNext)
+        .build();
+  }
+
   /**
    * 인기 장소 피드 조회
    * - 저장 횟수 기준 내림차순 정렬
+   * - 인기 장소 저장소(Redis Sorted Set)에서 해당 페이지 ID만 읽고 장소는 ID로 일괄 조회
+   * - 저장소가 아직 구성되지 않은 경우 DB 집계 쿼리로 대체
    *
    * @param pageable 페이지 정보
    * @return Page<PlaceDto>
@@ -63,12 +122,25 @@ public class FeedService {
     log.info("Fetching popular places: page={}, size={}",
         pageable.getPageNumber(), pageable.getPageSize());
 
-    Page<Place> places = placeRepository.findPopularPlaces(PlaceSavedStatus.SAVED, pageable);
+    Page<UUID> placeIds = placePopularityService.getPopularPlaceIds(pageable);
+    if (placeIds == null) {
+      log.warn("Place popularity store is empty. Falling back to aggregate query");
+      Page<Place> places = placeRepository.findPopularPlaces(PlaceSavedStatus.SAVED, pageable);
+      return places.map(PlaceDto::from);
+    }
 
-    log.info("Found {} popular places (total: {})",
-        places.getNumberOfElements(), places.getTotalElements());
+    Map<UUID, Place> placeMap = placeRepository.findAllById(placeIds.getContent()).stream()
+        .collect(Collectors.toMap(Place::getId, Function.identity()));
 
-    return places.map(PlaceDto::from);
+    List<PlaceDto> places = placeIds.getContent().stream()
+        .map(placeMap::get)
+        .filter(place -> place != null && place.isActive())
+        .map(PlaceDto::from)
+        .toList();
+
+    log.info("Found {} popular places (total: {})", places.size(), placeIds.getTotalElements());
+
+    return new PageImpl<>(places, pageable, placeIds.getTotalElements());
   }
 
   /**
@@ -87,7 +159,8 @@ public class FeedService {
 
   /**
    * 트렌드 키워드 조회
-   * - 트렌드 점수 기준 내림차순 정렬
+   * - 트렌드 점수(지수 감쇠) 기준 내림차순 정렬
+   * - KeywordTrendService가 주기적으로 갱신하는 메모리 상위 목록 사용
    *
    * @param size 조회 개수
    * @return List<KeywordDto>
@@ -95,12 +168,10 @@ public class FeedService {
   public List<KeywordDto> getTrendingKeywords(int size) {
     log.info("Fetching trending keywords: size={}", size);
 
-    Page<Keyword> keywords = keywordService.getTrendingKeywords(PageRequest.of(0, size));
+    List<KeywordDto> keywords = keywordTrendService.getTopKeywords(size);
 
-    log.info("Found {} trending keywords", keywords.getNumberOfElements());
+    log.info("Found {} trending keywords", keywords.size());
 
-    return keywords.getContent().stream()
-        .map(KeywordDto::from)
-        .collect(Collectors.toList());
+    return keywords;
   }
 }
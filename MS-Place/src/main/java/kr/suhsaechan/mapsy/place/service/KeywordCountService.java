@@ -0,0 +1,78 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import kr.suhsaechan.mapsy.common.util.TransactionUtil;
+import kr.suhsaechan.mapsy.place.repository.KeywordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 키워드 사용 횟수(keywords.count) 집계 서비스
+ * - 키워드 연결 시 행을 직접 갱신하지 않고 메모리 카운터(LongAdder)에 기록
+ *   → 인기 키워드에 동시 콜백이 몰려도 행 잠금 경합/갱신 유실 없음
+ * - 주기적으로 누적분을 단일 UPDATE로 가산 (가산식이므로 여러 인스턴스가 동시에 반영해도 안전)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KeywordCountService {
+
+  private final KeywordRepository keywordRepository;
+
+  private final KeywordUsageBuffer buffer = new KeywordUsageBuffer();
+
+  /**
+   * 키워드 사용 횟수 1씩 증가 (트랜잭션 커밋 후 기록)
+   *
+   * @param keywords 정규화된 키워드 목록
+   */
+  public void increment(Collection<String> keywords) {
+    if (keywords == null || keywords.isEmpty()) {
+      return;
+    }
+    List<String> snapshot = List.copyOf(keywords);
+    TransactionUtil.afterCommit(() -> buffer.add(snapshot));
+  }
+
+  /**
+   * 누적된 사용 횟수 DB 반영
+   * - 실패 시 누적분을 버퍼에 되돌려 다음 주기에 재시도
+   */
+  @Scheduled(fixedDelayString = "${keyword.count.flush-interval-ms:10000}")
+  public void flush() {
+    Map<String, Long> usage = buffer.drain();
+    if (usage.isEmpty()) {
+      return;
+    }
+
+    String[] keywords = new String[usage.size()];
+    Long[] deltas = new Long[usage.size()];
+    int i = 0;
+    for (Map.Entry<String, Long> entry : usage.entrySet()) {
+      keywords[i] = entry.getKey();
+      deltas[i] = entry.getValue();
+      i++;
+    }
+
+    try {
+      int updated = keywordRepository.addCounts(keywords, deltas);
+      log.debug("Keyword counts flushed: {} keywords ({} rows)", keywords.length, updated);
+    } catch (Exception e) {
+      buffer.restore(usage);
+      log.error("Keyword count flush failed: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 종료 시 남은 누적분 반영
+   */
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+}
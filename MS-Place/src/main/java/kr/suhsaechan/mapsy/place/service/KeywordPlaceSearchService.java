@@ -0,0 +1,338 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import kr.suhsaechan.mapsy.common.exception.CustomException;
+import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
+import kr.suhsaechan.mapsy.common.util.CursorUtil;
+import kr.suhsaechan.mapsy.common.util.TransactionUtil;
+import kr.suhsaechan.mapsy.place.dto.GetKeywordPlacesResponse;
+import kr.suhsaechan.mapsy.place.dto.PlaceDto;
+import kr.suhsaechan.mapsy.place.entity.Place;
+import kr.suhsaechan.mapsy.place.repository.PlaceKeywordRepository;
+import kr.suhsaechan.mapsy.place.repository.PlaceKeywordRepository.PlaceKeywordPosting;
+import kr.suhsaechan.mapsy.place.repository.PlaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 키워드 조건(AND/OR/NOT) 장소 검색 서비스
+ * - 장소마다 생성순 서수(0, 1, 2, ...)를 부여하고 키워드별로 정렬된 서수 포스팅 리스트를 메모리에 유지
+ * - 조건은 포스팅 리스트 교집합/합집합/차집합으로 계산하고, 요청 페이지의 장소만 ID로 조회
+ * - 결과는 최신순 (서수 내림차순), (생성일시, 장소 ID) 커서 페이지네이션
+ *   → 서수는 인스턴스마다 다르므로 커서에 서수를 담지 않음 (다른 인스턴스에서 받은 커서도 이어서 조회)
+ * - 키워드 연결 시 커밋 후 색인에 추가, 삭제된 장소 제거 등은 주기적 재구성으로 보정
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KeywordPlaceSearchService {
+
+  private static final int MAX_PAGE_SIZE = 100;
+  private static final int MAX_TERMS = 20;
+
+  private final PlaceRepository placeRepository;
+  private final PlaceKeywordRepository placeKeywordRepository;
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private PostingIndex index = new PostingIndex();
+  // 재구성 중 addPostings로 반영된 변경 (재구성 중이 아니면 null, lock 쓰기 잠금으로 보호)
+  private List<Consumer<PostingIndex>> pendingPostings;
+
+  /**
+   * 키워드 조건으로 장소 검색
+   * - (all 전체 교집합) ∩ (any 합집합) - (none 합집합)
+   * - all, any 중 하나만 지정하면 해당 조건만 적용
+   *
+   * @param all    모두 포함해야 하는 키워드 (정규화된 값)
+   * @param any    하나 이상 포함해야 하는 키워드 (정규화된 값)
+   * @param none   포함하면 안 되는 키워드 (정규화된 값)
+   * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+   * @param size   페이지 크기
+   * @return GetKeywordPlacesResponse
+   */
+  @Transactional(readOnly = true)
+  public GetKeywordPlacesResponse search(Collection<String> all, Collection<String> any, Collection<String> none,
+      String cursor, int size) {
+    if (all.isEmpty() && any.isEmpty()) {
+      throw new CustomException(ErrorCode.INVALID_KEYWORD_QUERY);
+    }
+    if (all.size() + any.size() + none.size() > MAX_TERMS) {
+      throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+    int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+    LocalDateTime cursorCreatedAt = null;
+    UUID cursorId = null;
+    if (cursor != null && !cursor.isBlank()) {
+      String[] decoded = CursorUtil.decode(cursor, 2);
+      try {
+        cursorCreatedAt = LocalDateTime.parse(decoded[0]);
+        cursorId = UUID.fromString(decoded[1]);
+      } catch (DateTimeParseException | IllegalArgumentException e) {
+        throw new CustomException(ErrorCode.INVALID_CURSOR);
+      }
+    }
+
+    // 다음 페이지 존재 여부 확인을 위해 1건 더 선택
+    List<UUID> pageIds = new ArrayList<>(pageSize + 1);
+    LocalDateTime lastCreatedAt = null;
+    int matched;
+    lock.readLock().lock();
+    try {
+      int[] result = all.isEmpty() ? null : PostingList.intersect(index.lists(all));
+      if (!any.isEmpty()) {
+        int[] union = PostingList.union(index.lists(any));
+        result = result == null ? union : PostingList.intersect(List.of(result, union));
+      }
+      if (!none.isEmpty()) {
+        result = PostingList.difference(result, PostingList.union(index.lists(none)));
+      }
+      matched = result.length;
+
+      // 재구성 시 부여한 서수는 정렬 키 순서, 이후 추가된 서수는 순서가 보장되지 않으므로 정렬 키로 정렬
+      int split = index.baseLength(result);
+      int[] added = index.sortByKey(Arrays.copyOfRange(result, split, result.length));
+
+      // 최신순: 두 목록에서 커서보다 이전에 생성된 장소부터 정렬 키 내림차순으로 병합
+      int i = (cursorId != null ? index.lowerBound(result, split, cursorCreatedAt, cursorId) : split) - 1;
+      int j = (cursorId != null ? index.lowerBound(added, added.length, cursorCreatedAt, cursorId) : added.length) - 1;
+      while (pageIds.size() <= pageSize && (i >= 0 || j >= 0)) {
+        int ordinal = j < 0 || (i >= 0 && index.compare(result[i], added[j]) > 0) ? result[i--] : added[j--];
+        pageIds.add(index.placeIds.get(ordinal));
+        if (pageIds.size() == pageSize) {
+          lastCreatedAt = index.createdAts.get(ordinal);
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    boolean hasNext = pageIds.size() > pageSize;
+    List<UUID> page = hasNext ? pageIds.subList(0, pageSize) : pageIds;
+
+    Map<UUID, Place> placeMap = placeRepository.findAllById(page).stream()
+        .collect(Collectors.toMap(Place::getId, Function.identity()));
+
+    List<PlaceDto> places = page.stream()
+        .map(placeMap::get)
+        .filter(place -> place != null && place.isActive())
+        .map(PlaceDto::from)
+        .toList();
+
+    String nextCursor = null;
+    if (hasNext) {
+      UUID lastId = page.get(page.size() - 1);
+      nextCursor = CursorUtil.encode(lastCreatedAt, lastId);
+    }
+
+    log.debug("Keyword place search: all={}, any={}, none={}, matched={}, page={}",
+        all, any, none, matched, places.size());
+
+    return GetKeywordPlacesResponse.builder()
+        .places(places)
+        .nextCursor(nextCursor)
+        .hasNext(hasNext)
+        .build();
+  }
+
+  /**
+   * 장소-키워드 연결 색인 추가 (트랜잭션 커밋 후 반영)
+   * - 처음 보는 장소는 다음 서수를 부여 (최신 장소)
+   * - 재구성 중이면 변경을 보관했다가 새 색인 교체 직전에 재적용
+   *
+   * @param placeKeywords 장소 → 정규화된 키워드 목록
+   */
+  public void addPostings(Map<Place, ? extends Collection<String>> placeKeywords) {
+    if (placeKeywords.isEmpty()) {
+      return;
+    }
+    Map<UUID, LocalDateTime> createdAts = new HashMap<>();
+    Map<UUID, Set<String>> snapshot = new HashMap<>();
+    placeKeywords.forEach((place, keywords) -> {
+      createdAts.put(place.getId(), place.getCreatedAt());
+      snapshot.put(place.getId(), Set.copyOf(keywords));
+    });
+    Consumer<PostingIndex> change = target -> snapshot.forEach((placeId, keywords) ->
+        target.add(placeId, createdAts.get(placeId), keywords));
+
+    TransactionUtil.afterCommit(() -> {
+      lock.writeLock().lock();
+      try {
+        change.accept(index);
+        if (pendingPostings != null) {
+          pendingPostings.add(change);
+        }
+      } finally {
+        lock.writeLock().unlock();
+      }
+    });
+  }
+
+  /**
+   * DB 기준으로 포스팅 리스트 전체 재구성
+   * - 삭제되지 않은 장소를 생성순으로 읽으며 서수 부여 (포스팅 리스트는 오름차순으로 append)
+   * - 새 색인 구성 후 잠금 구간에서 교체 (구성 중에도 기존 색인으로 조회)
+   * - 구성 중 addPostings로 추가된 연결은 교체 직전 새 색인에 재적용 (교체로 사라지지 않음)
+   */
+  @Scheduled(fixedDelayString = "${keyword.posting.rebuild-interval-ms:600000}")
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    PostingIndex newIndex = new PostingIndex();
+    lock.writeLock().lock();
+    try {
+      pendingPostings = new ArrayList<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    long count = 0;
+    try {
+      try (Stream<PlaceKeywordPosting> stream = placeKeywordRepository.streamPlaceKeywordPostings()) {
+        for (PlaceKeywordPosting posting : (Iterable<PlaceKeywordPosting>) stream::iterator) {
+          newIndex.append(posting.getPlaceId(), posting.getCreatedAt(), posting.getKeyword());
+          count++;
+        }
+      }
+      newIndex.postings.values().forEach(PostingList::freeze);
+      newIndex.sealBase();
+
+      lock.writeLock().lock();
+      try {
+        pendingPostings.forEach(change -> change.accept(newIndex));
+        index = newIndex;
+      } finally {
+        lock.writeLock().unlock();
+      }
+    } finally {
+      lock.writeLock().lock();
+      try {
+        pendingPostings = null;
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+    log.info("Keyword posting index rebuilt: {} places, {} keywords, {} postings",
+        newIndex.placeIds.size(), newIndex.postings.size(), count);
+  }
+
+  /**
+   * 서수 ↔ 장소 매핑과 키워드별 포스팅 리스트 (lock으로 보호)
+   * - 재구성 시 부여한 서수(baseSize 미만)는 (생성일시, 장소 ID) 오름차순
+   * - 재구성 이후 처음 보는 장소는 뒤에 덧붙이므로 생성 순서와 어긋날 수 있음
+   *   (커밋 순서가 생성 순서와 다른 장소, 재구성 시점에 키워드가 없던 기존 장소) → 조회 시 정렬 키로 정렬
+   */
+  private static final class PostingIndex {
+
+    private final List<UUID> placeIds = new ArrayList<>();
+    private final List<LocalDateTime> createdAts = new ArrayList<>();
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private int baseSize;
+
+    /**
+     * 재구성 중 포스팅 추가 ((생성일시, 장소 ID) 오름차순으로만 호출)
+     */
+    void append(UUID placeId, LocalDateTime createdAt, String keyword) {
+      postings.computeIfAbsent(keyword, k -> new PostingList()).append(ordinal(placeId, createdAt));
+    }
+
+    /**
+     * 재구성 완료 (이후 부여하는 서수는 정렬 키 순서가 보장되지 않음)
+     */
+    void sealBase() {
+      baseSize = placeIds.size();
+    }
+
+    /**
+     * 확정된 색인에 장소-키워드 연결 추가
+     */
+    void add(UUID placeId, LocalDateTime createdAt, Set<String> keywords) {
+      int ordinal = ordinal(placeId, createdAt);
+      keywords.forEach(keyword -> postings.computeIfAbsent(keyword, k -> new PostingList()).add(ordinal));
+    }
+
+    List<int[]> lists(Collection<String> keywords) {
+      return keywords.stream()
+          .map(keyword -> {
+            PostingList list = postings.get(keyword);
+            return list != null ? list.ordinals() : PostingList.EMPTY;
+          })
+          .toList();
+    }
+
+    /**
+     * 결과 서수 목록(오름차순)에서 재구성 시 부여한 서수의 개수
+     */
+    int baseLength(int[] result) {
+      int index = Arrays.binarySearch(result, baseSize);
+      return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * 서수 목록을 정렬 키 오름차순으로 정렬 (재구성 이후 추가된 서수만 대상이므로 소량)
+     */
+    int[] sortByKey(int[] ordinalsToSort) {
+      return Arrays.stream(ordinalsToSort)
+          .boxed()
+          .sorted(this::compare)
+          .mapToInt(Integer::intValue)
+          .toArray();
+    }
+
+    /**
+     * 정렬 키 순서인 서수 목록의 앞 length개에서 커서 (생성일시, 장소 ID) 이상인 첫 위치
+     * - 서수 대신 정렬 키로 비교하므로 커서 장소가 이 인스턴스 색인에 없어도 위치를 찾음
+     */
+    int lowerBound(int[] sorted, int length, LocalDateTime createdAt, UUID placeId) {
+      int low = 0;
+      int high = length;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (compare(sorted[mid], createdAt, placeId) < 0) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      return low;
+    }
+
+    private int ordinal(UUID placeId, LocalDateTime createdAt) {
+      return ordinals.computeIfAbsent(placeId, id -> {
+        placeIds.add(id);
+        createdAts.add(createdAt);
+        return placeIds.size() - 1;
+      });
+    }
+
+    int compare(int ordinal, int other) {
+      return compare(ordinal, createdAts.get(other), placeIds.get(other));
+    }
+
+    // DB 정렬과 동일하게 UUID는 부호 없는 바이트 순서(소문자 16진 문자열 순서)로 비교
+    private int compare(int ordinal, LocalDateTime createdAt, UUID placeId) {
+      int byCreatedAt = createdAts.get(ordinal).compareTo(createdAt);
+      if (byCreatedAt != 0) {
+        return byCreatedAt;
+      }
+      return placeIds.get(ordinal).toString().compareTo(placeId.toString());
+    }
+  }
+}
@@ -1,8 +1,12 @@
 package kr.suhsaechan.mapsy.place.service;
 
+import kr.suhsaechan.mapsy.place.dto.GetKeywordPlacesResponse;
+import kr.suhsaechan.mapsy.place.dto.KeywordSuggestionDto;
 import kr.suhsaechan.mapsy.place.entity.Keyword;
 import kr.suhsaechan.mapsy.place.entity.Place;
 import kr.suhsaechan.mapsy.place.entity.PlaceKeyword;
+import kr.suhsaechan.mapsy.place.entity.PlaceKeyword.PlaceKeywordId;
+import kr.suhsaechan.mapsy.place.repository.KeywordBulkRepository;
 import kr.suhsaechan.mapsy.place.repository.KeywordRepository;
 import kr.suhsaechan.mapsy.place.repository.PlaceKeywordRepository;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +17,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * Keyword 비즈니스 로직 서비스
@@ -23,12 +33,19 @@ import java.util.List;
 @Slf4j
 public class KeywordService {
 
+  private static final int MAX_KEYWORD_LENGTH = 100;
+
   private final KeywordRepository keywordRepository;
   private final PlaceKeywordRepository placeKeywordRepository;
+  private final KeywordBulkRepository keywordBulkRepository;
+  private final KeywordCountService keywordCountService;
+  private final KeywordSuggestService keywordSuggestService;
+  private final KeywordTrendService keywordTrendService;
+  private final KeywordPlaceSearchService keywordPlaceSearchService;
 
   /**
    * 키워드 생성 또는 조회
-   * - 이미 존재하는 키워드면 조회 후 사용 횟수 증가
+   * - 이미 존재하는 키워드면 조회 후 사용 횟수 증가 (KeywordCountService 카운터)
    * - 존재하지 않으면 새로 생성
    *
    * @param keywordText 키워드 문자열
@@ -42,9 +59,8 @@ public class KeywordService {
     return keywordRepository.findByKeyword(keywordText)
         .map(existingKeyword -> {
           // 기존 키워드 사용 횟수 증가
-          existingKeyword.incrementCount();
-          log.info("Incremented count for keyword: {}, new count: {}",
-              keywordText, existingKeyword.getCount());
+          keywordCountService.increment(List.of(keywordText));
+          log.info("Incremented count for keyword: {}", keywordText);
           return existingKeyword;
         })
         .orElseGet(() -> {
@@ -62,41 +78,81 @@ public class KeywordService {
    * 장소에 키워드 목록 연결
    * - 기존 연결된 키워드는 건너뛰기
    * - 새 키워드는 생성 후 연결
+   * - linkKeywordsToPlaces 단건 위임
    *
    * @param place    장소
    * @param keywords 키워드 문자열 목록
    */
   @Transactional
   public void linkKeywordsToPlace(Place place, List<String> keywords) {
-    if (keywords == null || keywords.isEmpty()) {
-      log.warn("No keywords to link to place: placeId={}", place.getId());
-      return;
-    }
-
-    log.info("Linking {} keywords to place: placeId={}, placeName={}",
-        keywords.size(), place.getId(), place.getName());
-
-    for (String keywordText : keywords) {
-      // 해시태그 정규화 (# 제거, 소문자 변환)
-      String normalized = normalizeKeyword(keywordText);
-
-      // 키워드 생성 또는 조회
-      Keyword keyword = createOrGet(normalized);
-
-      // 이미 연결되어 있는지 확인
-      boolean alreadyLinked = placeKeywordRepository.existsByPlaceAndKeyword(place, keyword);
+    linkKeywordsToPlaces(Map.of(place, keywords == null ? List.of() : keywords));
+  }
 
-      if (!alreadyLinked) {
-        // PlaceKeyword 생성 및 연결
-        PlaceKeyword placeKeyword = PlaceKeyword.of(place, keyword);
-        placeKeywordRepository.save(placeKeyword);
-        log.info("Linked keyword '{}' to place '{}'", normalized, place.getName());
-      } else {
-        log.debug("Keyword '{}' already linked to place '{}'", normalized, place.getName());
+  /**
+   * 여러 장소에 키워드 일괄 연결
+   * - 전체 키워드를 정규화 후 장소별 중복 제거
+   * - 없는 키워드는 INSERT ... ON CONFLICT DO NOTHING 한 번으로 생성
+   * - 기존 키워드의 사용 횟수는 행을 직접 갱신하지 않고 KeywordCountService 카운터에 기록
+   * - 장소-키워드 연결은 ON CONFLICT DO NOTHING JDBC batch로 저장 (이미 연결된 쌍은 무시)
+   *
+   * @param placeKeywords 장소별 키워드 문자열 목록
+   */
+  @Transactional
+  public void linkKeywordsToPlaces(Map<Place, List<String>> placeKeywords) {
+    Map<Place, Set<String>> normalizedByPlace = new LinkedHashMap<>();
+    Map<String, Integer> usageCounts = new LinkedHashMap<>();
+
+    placeKeywords.forEach((place, keywords) -> {
+      Set<String> normalized = new LinkedHashSet<>();
+      for (String keywordText : keywords) {
+        // 해시태그 정규화 (# 제거, 소문자 변환)
+        String keyword = normalizeKeyword(keywordText);
+        if (keyword.isEmpty() || keyword.length() > MAX_KEYWORD_LENGTH) {
+          log.debug("Skipping invalid keyword '{}' for place: placeId={}", keywordText, place.getId());
+          continue;
+        }
+        normalized.add(keyword);
       }
+      if (!normalized.isEmpty()) {
+        normalizedByPlace.put(place, normalized);
+        normalized.forEach(keyword -> usageCounts.merge(keyword, 1, Integer::sum));
+      }
+    });
+
+    if (usageCounts.isEmpty()) {
+      log.warn("No keywords to link to {} places", placeKeywords.size());
+      return;
     }
 
-    log.info("Successfully linked all keywords to place: placeId={}", place.getId());
+    // JDBC 일괄 처리 전에 아직 INSERT 되지 않은 Place 반영 (FK)
+    placeKeywordRepository.flush();
+
+    // 신규 키워드는 사용 횟수와 함께 생성, 기존 키워드는 ID만 조회 (행 갱신 없음)
+    Map<String, UUID> insertedIds = keywordBulkRepository.insertKeywords(usageCounts);
+    Map<String, UUID> keywordIds = new HashMap<>(insertedIds);
+    List<String> existingKeywords = usageCounts.keySet().stream()
+        .filter(keyword -> !insertedIds.containsKey(keyword))
+        .toList();
+    keywordIds.putAll(keywordBulkRepository.findKeywordIds(existingKeywords));
+    keywordSuggestService.addKeywords(insertedIds, usageCounts);
+
+    List<PlaceKeywordId> links = new ArrayList<>();
+    normalizedByPlace.forEach((place, keywords) -> keywords.forEach(keyword ->
+        links.add(new PlaceKeywordId(place.getId(), keywordIds.get(keyword)))));
+    keywordBulkRepository.insertPlaceKeywords(links);
+
+    keywordPlaceSearchService.addPostings(normalizedByPlace);
+
+    // 기존 키워드 사용 횟수는 메모리 카운터로 가산, 트렌드 점수 집계용 사용 이벤트 기록
+    List<String> usedKeywords = new ArrayList<>();
+    normalizedByPlace.values().forEach(usedKeywords::addAll);
+    keywordCountService.increment(usedKeywords.stream()
+        .filter(keyword -> !insertedIds.containsKey(keyword))
+        .toList());
+    keywordTrendService.recordUsage(usedKeywords);
+
+    log.info("Linked keywords to places: places={}, keywords={}, links={}",
+        normalizedByPlace.size(), usageCounts.size(), links.size());
   }
 
   /**
@@ -117,6 +173,17 @@ public class KeywordService {
     return keyword.replace("#", "").trim().toLowerCase();
   }
 
+  private Set<String> normalizeKeywords(List<String> keywords) {
+    Set<String> normalized = new LinkedHashSet<>();
+    if (keywords != null) {
+      keywords.stream()
+          .map(this::normalizeKeyword)
+          .filter(keyword -> !keyword.isEmpty())
+          .forEach(normalized::add);
+    }
+    return normalized;
+  }
+
   /**
    * 트렌드 키워드 조회
    * - 트렌드 점수 기준 내림차순 정렬
@@ -164,6 +231,42 @@ public class KeywordService {
     return keywordRepository.findByKeywordStartingWithOrderByCountDesc(normalized, pageable);
   }
 
+  /**
+   * 키워드 자동완성 (추천 검색어)
+   * - 접두사, 입력 중인 음절, 초성 검색 지원 (메모리 색인)
+   * - 접두사 결과가 부족하면 포함 검색으로 보충
+   *
+   * @param query 검색어
+   * @param size  조회 개수
+   * @return List<KeywordSuggestionDto>
+   */
+  public List<KeywordSuggestionDto> suggestKeywords(String query, int size) {
+    String normalized = normalizeKeyword(query);
+
+    List<KeywordSuggestionDto> suggestions = keywordSuggestService.suggest(normalized, size);
+    log.debug("Keyword suggestions: query={}, found={}", normalized, suggestions.size());
+
+    return suggestions;
+  }
+
+  /**
+   * 키워드 조건으로 장소 검색 (AND/OR/NOT)
+   * - all: 모두 포함, any: 하나 이상 포함, none: 포함하지 않음
+   * - 최신순, 커서 페이지네이션
+   *
+   * @param all    모두 포함해야 하는 키워드 목록 (nullable)
+   * @param any    하나 이상 포함해야 하는 키워드 목록 (nullable)
+   * @param none   제외할 키워드 목록 (nullable)
+   * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+   * @param size   페이지 크기
+   * @return GetKeywordPlacesResponse
+   */
+  public GetKeywordPlacesResponse searchPlacesByKeywords(List<String> all, List<String> any, List<String> none,
+      String cursor, int size) {
+    return keywordPlaceSearchService.search(
+        normalizeKeywords(all), normalizeKeywords(any), normalizeKeywords(none), cursor, size);
+  }
+
   /**
    * 키워드로 장소 검색
    * - 특정 키워드가 연결된 모든 장소 조회
@@ -0,0 +1,157 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+import kr.suhsaechan.mapsy.common.util.HangulUtil;
+import kr.suhsaechan.mapsy.common.util.TransactionUtil;
+import kr.suhsaechan.mapsy.place.dto.KeywordSuggestionDto;
+import kr.suhsaechan.mapsy.place.repository.KeywordRepository;
+import kr.suhsaechan.mapsy.place.repository.KeywordRepository.KeywordSuggestion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 키워드 자동완성 서비스
+ * - 전체 키워드를 메모리 순위 트라이 2개로 색인
+ *   - 자모 분해 트라이: 일반 접두사 + 입력 중인 음절 ("강나" → 강남카페)
+ *   - 초성 트라이: 초성 검색 ("ㄱㄴㅋ" → 강남카페)
+ * - 새 키워드는 생성 트랜잭션 커밋 후 즉시 색인에 추가, 사용 횟수 순위는 주기적 재구성으로 보정
+ * - 트라이 결과가 부족하면 pg_trgm GIN 인덱스를 사용하는 포함(infix) 검색으로 보충
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KeywordSuggestService {
+
+  public static final int MAX_SUGGESTIONS = 20;
+  private static final int MAX_INDEXED_KEYWORDS = 200_000;
+
+  private final KeywordRepository keywordRepository;
+
+  private volatile KeywordTrie jamoTrie = new KeywordTrie(MAX_SUGGESTIONS);
+  private volatile KeywordTrie choseongTrie = new KeywordTrie(MAX_SUGGESTIONS);
+
+  // 재구성 중 추가된 키워드 (재구성 중이 아니면 null), indexLock으로 보호
+  private final Object indexLock = new Object();
+  private List<KeywordSuggestionDto> pendingAdds;
+
+  /**
+   * 키워드 자동완성
+   * - 트라이 조회는 트랜잭션 없이 수행, 보충 검색만 저장소 메서드의 읽기 전용 트랜잭션에서 DB 조회
+   *
+   * @param query 정규화된 검색어
+   * @param size  조회 개수 (최대 MAX_SUGGESTIONS)
+   * @return 사용 횟수 내림차순 키워드 목록
+   */
+  public List<KeywordSuggestionDto> suggest(String query, int size) {
+    if (query == null || query.isEmpty()) {
+      return List.of();
+    }
+    int limit = Math.max(1, Math.min(size, MAX_SUGGESTIONS));
+
+    if (HangulUtil.isChoseongOnly(query)) {
+      return choseongTrie.find(query, limit);
+    }
+
+    List<KeywordSuggestionDto> prefixMatches = jamoTrie.find(HangulUtil.decompose(query), limit);
+    if (prefixMatches.size() >= limit) {
+      return prefixMatches;
+    }
+
+    // 접두사 결과가 부족하면 포함 검색으로 보충 (pg_trgm GIN 인덱스)
+    Map<String, KeywordSuggestionDto> merged = new LinkedHashMap<>();
+    prefixMatches.forEach(entry -> merged.put(entry.getKeyword(), entry));
+    keywordRepository.findByKeywordContainingOrderByCountDesc(query, PageRequest.of(0, limit)).stream()
+        .map(keyword -> toSuggestion(keyword.getId(), keyword.getKeyword(), keyword.getCount()))
+        .forEach(entry -> merged.putIfAbsent(entry.getKeyword(), entry));
+
+    return merged.values().stream().limit(limit).toList();
+  }
+
+  /**
+   * 새로 생성된 키워드 색인 추가 (트랜잭션 커밋 후 반영)
+   *
+   * @param keywordIds  키워드 문자열 → 키워드 ID
+   * @param usageCounts 키워드별 사용 횟수
+   */
+  public void addKeywords(Map<String, UUID> keywordIds, Map<String, Integer> usageCounts) {
+    if (keywordIds.isEmpty()) {
+      return;
+    }
+    Map<String, UUID> snapshot = Map.copyOf(keywordIds);
+    TransactionUtil.afterCommit(() -> {
+      synchronized (indexLock) {
+        snapshot.forEach((keyword, id) -> {
+          KeywordSuggestionDto entry = toSuggestion(id, keyword, usageCounts.getOrDefault(keyword, 1));
+          index(jamoTrie, choseongTrie, entry);
+          // 재구성 중이면 교체될 새 색인에도 반영되도록 보관
+          if (pendingAdds != null) {
+            pendingAdds.add(entry);
+          }
+        });
+      }
+    });
+  }
+
+  /**
+   * DB 기준으로 자동완성 색인 전체 재구성
+   * - 새 트라이를 구성한 뒤 교체 (구성 중에도 기존 색인으로 조회)
+   * - 구성 중 addKeywords로 추가된 키워드는 교체 직전 새 트라이에 재적용 (교체로 사라지지 않음)
+   * - 사용 횟수 상위 MAX_INDEXED_KEYWORDS개까지만 색인 (fetch size 단위로 읽어 상한까지만 적재)
+   */
+  @Scheduled(fixedDelayString = "${keyword.suggest.rebuild-interval-ms:600000}")
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    KeywordTrie newJamoTrie = new KeywordTrie(MAX_SUGGESTIONS);
+    KeywordTrie newChoseongTrie = new KeywordTrie(MAX_SUGGESTIONS);
+
+    synchronized (indexLock) {
+      pendingAdds = new ArrayList<>();
+    }
+
+    long count = 0;
+    try {
+      try (Stream<KeywordSuggestion> stream = keywordRepository.streamKeywordSuggestions()) {
+        for (KeywordSuggestion keyword : (Iterable<KeywordSuggestion>) stream::iterator) {
+          if (count >= MAX_INDEXED_KEYWORDS) {
+            break;
+          }
+          index(newJamoTrie, newChoseongTrie, toSuggestion(keyword.getId(), keyword.getKeyword(), keyword.getCount()));
+          count++;
+        }
+      }
+
+      synchronized (indexLock) {
+        pendingAdds.forEach(entry -> index(newJamoTrie, newChoseongTrie, entry));
+        jamoTrie = newJamoTrie;
+        choseongTrie = newChoseongTrie;
+      }
+    } finally {
+      synchronized (indexLock) {
+        pendingAdds = null;
+      }
+    }
+    log.info("Keyword suggest index rebuilt: {} keywords", count);
+  }
+
+  private static void index(KeywordTrie jamo, KeywordTrie choseong, KeywordSuggestionDto entry) {
+    jamo.put(HangulUtil.decompose(entry.getKeyword()), entry);
+    choseong.put(HangulUtil.choseong(entry.getKeyword()), entry);
+  }
+
+  private static KeywordSuggestionDto toSuggestion(UUID id, String keyword, Integer count) {
+    return KeywordSuggestionDto.builder()
+        .id(id)
+        .keyword(keyword)
+        .count(count != null ? count : 0)
+        .build();
+  }
+}
@@ -0,0 +1,118 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import kr.suhsaechan.mapsy.common.properties.KeywordTrendProperties;
+import kr.suhsaechan.mapsy.common.util.TransactionUtil;
+import kr.suhsaechan.mapsy.place.dto.KeywordDto;
+import kr.suhsaechan.mapsy.place.repository.KeywordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 키워드 트렌드 점수 엔진 (지수 감쇠)
+ * - 키워드 연결 시 사용 이벤트를 현재 버킷(메모리 카운터)에 기록
+ * - 주기(tick)마다: 전체 점수 감쇠(마지막 감쇠 이후 경과 시간만큼) → 버킷 사용량을 단일 UPDATE로 가산 → 상위 K개 메모리 갱신
+ * - score(t) = Σ 사용량 × 2^(-(t - 사용시각) / 반감기)
+ * - 트렌드 키워드 조회는 메모리의 상위 K개만 사용 (요청 시 DB 조회 없음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KeywordTrendService {
+
+  private final KeywordRepository keywordRepository;
+  private final KeywordTrendProperties keywordTrendProperties;
+
+  private final KeywordUsageBuffer bucket = new KeywordUsageBuffer();
+
+  private volatile List<KeywordDto> topKeywords = List.of();
+
+  /**
+   * 키워드 사용 이벤트 기록 (트랜잭션 커밋 후 반영)
+   * - 롤백/재시도된 Callback이 중복 집계되지 않도록 커밋 이후 버킷에 기록
+   *
+   * @param keywords 정규화된 키워드 목록
+   */
+  public void recordUsage(Collection<String> keywords) {
+    if (keywords == null || keywords.isEmpty()) {
+      return;
+    }
+    List<String> snapshot = List.copyOf(keywords);
+    TransactionUtil.afterCommit(() -> bucket.add(snapshot));
+  }
+
+  /**
+   * 트렌드 점수 갱신 (버킷 마감)
+   */
+  @Scheduled(
+      fixedRateString = "${keyword.trend.tick-interval-ms:300000}",
+      initialDelayString = "${keyword.trend.tick-interval-ms:300000}")
+  public void tick() {
+    Map<String, Long> usage = bucket.drain();
+
+    try {
+      decay();
+
+      if (!usage.isEmpty()) {
+        String[] keywords = new String[usage.size()];
+        Double[] deltas = new Double[usage.size()];
+        int i = 0;
+        for (Map.Entry<String, Long> entry : usage.entrySet()) {
+          keywords[i] = entry.getKey();
+          deltas[i] = (double) entry.getValue();
+          i++;
+        }
+        int updated = keywordRepository.addTrendScores(keywords, deltas);
+        log.debug("Keyword trend usage flushed: {} keywords ({} rows)", keywords.length, updated);
+      }
+    } catch (Exception e) {
+      // 반영 실패한 사용량은 다음 버킷에 합산하여 재시도
+      bucket.restore(usage);
+      log.error("Keyword trend tick failed: {}", e.getMessage());
+    }
+
+    refreshTopKeywords();
+  }
+
+  /**
+   * 트렌드 키워드 상위 목록 조회 (메모리)
+   *
+   * @param size 조회 개수 (최대 topK)
+   * @return List<KeywordDto>
+   */
+  public List<KeywordDto> getTopKeywords(int size) {
+    List<KeywordDto> snapshot = topKeywords;
+    if (snapshot.isEmpty()) {
+      refreshTopKeywords();
+      snapshot = topKeywords;
+    }
+    return snapshot.subList(0, Math.max(0, Math.min(size, snapshot.size())));
+  }
+
+  /**
+   * 전체 점수 지수 감쇠
+   * - 마지막 감쇠 시각(DB) 이후 경과 시간만큼 감쇠하므로 tick 지연/누락, 실패, 다운타임과 무관하게 정확
+   * - 여러 인스턴스가 실행해도 마지막 감쇠 시각 행 잠금으로 경과분은 1번만 반영
+   */
+  private void decay() {
+    double halfLifeSeconds = keywordTrendProperties.getHalfLifeHours() * 3_600d;
+    int decayed = keywordRepository.decayTrendScores(halfLifeSeconds);
+    log.debug("Keyword trend scores decayed: halfLifeSeconds={}, rows={}", halfLifeSeconds, decayed);
+  }
+
+  private void refreshTopKeywords() {
+    try {
+      topKeywords = keywordRepository.findTopByTrendScore(PageRequest.of(0, keywordTrendProperties.getTopK()))
+          .getContent().stream()
+          .map(KeywordDto::from)
+          .toList();
+    } catch (Exception e) {
+      log.error("Failed to refresh top trending keywords: {}", e.getMessage());
+    }
+  }
+}
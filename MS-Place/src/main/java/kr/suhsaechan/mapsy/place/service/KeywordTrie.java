@@ -0,0 +1,91 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import kr.suhsaechan.mapsy.place.dto.KeywordSuggestionDto;
+
+/**
+ * 순위 트라이 (자동완성 색인)
+ * - 각 노드가 해당 접두사로 시작하는 키워드 중 사용 횟수 상위 limit개를 미리 보관
+ * - 조회는 접두사 길이만큼 노드를 따라간 뒤 보관된 목록을 반환 (하위 트리 탐색 없음)
+ * - 추가는 단일 스레드(synchronized), 조회는 잠금 없이 동시 수행
+ */
+final class KeywordTrie {
+
+  private final Node root = new Node();
+  private final int limit;
+
+  KeywordTrie(int limit) {
+    this.limit = limit;
+  }
+
+  /**
+   * 키워드 추가
+   * - 같은 키워드가 이미 있으면 새 사용 횟수로 순위 갱신
+   *
+   * @param key   색인 키 (자모 분해 / 초성 문자열)
+   * @param entry 키워드 정보
+   */
+  synchronized void put(String key, KeywordSuggestionDto entry) {
+    Node node = root;
+    for (int i = 0; i < key.length(); i++) {
+      node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+      node.offer(entry, limit);
+    }
+  }
+
+  /**
+   * 접두사로 시작하는 상위 키워드 조회
+   *
+   * @param prefix 색인 키 접두사
+   * @param size   조회 개수
+   * @return 사용 횟수 내림차순 키워드 목록
+   */
+  List<KeywordSuggestionDto> find(String prefix, int size) {
+    Node node = root;
+    for (int i = 0; i < prefix.length() && node != null; i++) {
+      node = node.children.get(prefix.charAt(i));
+    }
+    if (node == null || node == root) {
+      return List.of();
+    }
+    List<KeywordSuggestionDto> top = node.top;
+    return top.subList(0, Math.min(size, top.size()));
+  }
+
+  private static final class Node {
+
+    private final Map<Character, Node> children = new ConcurrentHashMap<>();
+    private volatile List<KeywordSuggestionDto> top = List.of();
+
+    /**
+     * 상위 목록에 키워드 반영 (copy-on-write)
+     */
+    private void offer(KeywordSuggestionDto entry, int limit) {
+      List<KeywordSuggestionDto> current = top;
+      if (current.size() >= limit && entry.getCount() <= current.get(current.size() - 1).getCount()
+          && current.stream().noneMatch(e -> e.getKeyword().equals(entry.getKeyword()))) {
+        return;
+      }
+
+      List<KeywordSuggestionDto> updated = new ArrayList<>(current.size() + 1);
+      boolean inserted = false;
+      for (KeywordSuggestionDto e : current) {
+        if (e.getKeyword().equals(entry.getKeyword())) {
+          continue;
+        }
+        if (!inserted && entry.getCount() > e.getCount()) {
+          updated.add(entry);
+          inserted = true;
+        }
+        updated.add(e);
+      }
+      if (!inserted) {
+        updated.add(entry);
+      }
+      top = List.copyOf(updated.size() > limit ? updated.subList(0, limit) : updated);
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 키워드 사용량 메모리 버퍼
+ * - 키워드별 LongAdder(스트라이프 카운터)에 누적하여 같은 키워드 동시 기록 시 경합 없음
+ * - drain 시 세대를 교체하고, 닫힌 세대에 기록 중인 스레드가 모두 끝난 뒤 회수 (기록 유실 없음)
+ * - drain 된 사용량 반영 실패 시 restore로 현재 세대에 되돌려 다음 주기에 재시도
+ */
+final class KeywordUsageBuffer {
+
+  private volatile Generation current = new Generation();
+
+  /**
+   * 키워드 사용 1회씩 기록
+   *
+   * @param keywords 정규화된 키워드 목록
+   */
+  void add(Collection<String> keywords) {
+    record(counts -> keywords.forEach(keyword -> counter(counts, keyword).increment()));
+  }
+
+  /**
+   * 누적된 사용량 회수
+   * - 현재 세대를 닫고 새 세대로 교체한 뒤, 닫힌 세대의 진행 중 기록이 끝나면 전체 회수
+   *
+   * @return 키워드별 사용량 (사용량 0인 키워드 제외)
+   */
+  synchronized Map<String, Long> drain() {
+    Generation closed = current;
+    current = new Generation();
+    closed.awaitQuiescence();
+
+    Map<String, Long> usage = new HashMap<>();
+    closed.counts.forEach((keyword, counter) -> {
+      long sum = counter.sum();
+      if (sum > 0) {
+        usage.put(keyword, sum);
+      }
+    });
+    return usage;
+  }
+
+  /**
+   * 반영 실패한 사용량 되돌리기
+   *
+   * @param usage drain 으로 회수한 사용량
+   */
+  void restore(Map<String, Long> usage) {
+    record(counts -> usage.forEach((keyword, amount) -> counter(counts, keyword).add(amount)));
+  }
+
+  /**
+   * 현재 세대에 기록
+   * - 진입 표시 후 세대가 교체되었으면 새 세대로 다시 기록
+   */
+  private void record(Consumer<Map<String, LongAdder>> action) {
+    while (true) {
+      Generation generation = current;
+      generation.entered.increment();
+      try {
+        if (generation == current) {
+          action.accept(generation.counts);
+          return;
+        }
+      } finally {
+        generation.exited.increment();
+      }
+    }
+  }
+
+  private static LongAdder counter(Map<String, LongAdder> counts, String keyword) {
+    return counts.computeIfAbsent(keyword, k -> new LongAdder());
+  }
+
+  private static final class Generation {
+
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+    private final LongAdder entered = new LongAdder();
+    private final LongAdder exited = new LongAdder();
+
+    /**
+     * 이 세대에 기록 중인 스레드가 없을 때까지 대기
+     * - exited를 먼저 읽어야 두 합계가 같을 때 진행 중인 기록이 없음이 보장됨 (두 카운터 모두 증가만 함)
+     */
+    private void awaitQuiescence() {
+      while (true) {
+        long exits = exited.sum();
+        if (entered.sum() == exits) {
+          return;
+        }
+        Thread.onSpinWait();
+      }
+    }
+  }
+}
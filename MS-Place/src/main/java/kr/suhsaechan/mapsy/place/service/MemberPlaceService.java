@@ -39,6 +39,7 @@ public class MemberPlaceService {
   private final PlaceRepository placeRepository;
   private final MemberRepository memberRepository;
   private final FolderService folderService;
+  private final PlacePopularityService placePopularityService;
 
   /**
    * 회원의 임시 저장 장소 목록 조회
@@ -119,8 +120,9 @@ public class MemberPlaceService {
           return new CustomException(ErrorCode.MEMBER_PLACE_NOT_FOUND);
         });
 
-    // 3. 상태 변경 (TEMPORARY → SAVED)
+    // 3. 상태 변경 (TEMPORARY → SAVED) 및 인기 장소 저장 횟수 반영 (커밋 후)
     memberPlace.markAsSaved();
+    placePopularityService.increment(placeId);
 
     // 4. 기본 폴더에 자동 배치
     folderService.addPlaceToDefaultFolder(member, place);
@@ -0,0 +1,301 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import kr.suhsaechan.mapsy.common.util.TransactionUtil;
+import kr.suhsaechan.mapsy.place.dto.PlaceDetailDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+/**
+ * 장소 상세 정보 2단 캐시 (read-through)
+ * - 1단: 인스턴스 로컬 near-cache (Caffeine, 최대 크기 + 쓰기 후 TTL)
+ * - 2단: Redis "PLACE:DETAIL:{placeId}" (PlaceDetailDto JSON, TTL)
+ * - 둘 다 미적중이면 loader로 DB 조회 후 두 단계에 적재
+ * - 같은 장소의 동시 미적중은 하나의 조회만 수행하고 나머지는 결과를 공유 (single-flight)
+ * - 장소 변경 시 커밋 후 버전 키 증가 + Redis 키 삭제, pub/sub으로 모든 인스턴스의 로컬 항목 제거
+ * - Redis 적재는 조회 시작 시점의 버전이 그대로일 때만 수행 (다른 인스턴스의 무효화 이후 변경 전 데이터 재적재 방지)
+ * - 로컬 적재는 조회 중 이 인스턴스에 무효화가 도착하지 않았을 때만 수행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceDetailCacheService implements MessageListener {
+
+  private static final String CACHE_KEY_PREFIX = "PLACE:DETAIL:";
+  private static final String VERSION_KEY_PREFIX = "PLACE:DETAIL:VERSION:";
+  private static final String INVALIDATE_CHANNEL = "place:detail:invalidate";
+
+  // KEYS[1]=버전 키 → 현재 버전 (없으면 0)
+  private static final RedisScript<Long> VERSION_SCRIPT = new DefaultRedisScript<>(
+      "return tonumber(redis.call('GET', KEYS[1]) or '0')",
+      Long.class);
+
+  // KEYS[1]=버전 키, KEYS[2]=캐시 키, ARGV[1]=조회 시작 시점 버전, ARGV[2]=값, ARGV[3]=TTL(초)
+  // 그 사이 무효화로 버전이 바뀌었으면 적재하지 않음
+  private static final RedisScript<Long> PUT_IF_VERSION_SCRIPT = new DefaultRedisScript<>(
+      "if tonumber(redis.call('GET', KEYS[1]) or '0') ~= tonumber(ARGV[1]) then return 0 end "
+          + "redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[3]) "
+          + "return 1",
+      Long.class);
+
+  // KEYS[1]=버전 키, KEYS[2]=캐시 키, ARGV[1]=버전 키 TTL(초)
+  private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>(
+      "redis.call('INCR', KEYS[1]) "
+          + "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+          + "redis.call('DEL', KEYS[2]) "
+          + "return 1",
+      Long.class);
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${place.detail-cache.local-max-size:10000}")
+  private int localMaxSize;
+
+  @Value("${place.detail-cache.local-ttl-seconds:300}")
+  private long localTtlSeconds;
+
+  @Value("${place.detail-cache.redis-ttl-seconds:3600}")
+  private long redisTtlSeconds;
+
+  private final Map<UUID, CompletableFuture<PlaceDetailDto>> inFlight = new ConcurrentHashMap<>();
+  private final AtomicLong invalidations = new AtomicLong();
+  private Cache<UUID, PlaceDetailDto> localCache;
+
+  private Counter localHitCounter;
+  private Counter redisHitCounter;
+  private Counter missCounter;
+  private Counter sizeEvictionCounter;
+  private Counter expiredEvictionCounter;
+  private Counter invalidationCounter;
+
+  @PostConstruct
+  void init() {
+    registerMetrics();
+    localCache = Caffeine.newBuilder()
+        .maximumSize(localMaxSize)
+        .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+        .removalListener((UUID placeId, PlaceDetailDto value, RemovalCause cause) -> recordRemoval(cause))
+        .build();
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+  }
+
+  private void registerMetrics() {
+    localHitCounter = Counter.builder("place.detail.cache.hit")
+        .tag("tier", "local")
+        .description("로컬 near-cache 적중 수")
+        .register(meterRegistry);
+    redisHitCounter = Counter.builder("place.detail.cache.hit")
+        .tag("tier", "redis")
+        .description("Redis 캐시 적중 수")
+        .register(meterRegistry);
+    missCounter = Counter.builder("place.detail.cache.miss")
+        .description("두 캐시 모두 미적중하여 DB를 조회한 수")
+        .register(meterRegistry);
+    sizeEvictionCounter = Counter.builder("place.detail.cache.eviction")
+        .tag("cause", "size")
+        .description("크기 제한으로 제거된 로컬 캐시 항목 수")
+        .register(meterRegistry);
+    expiredEvictionCounter = Counter.builder("place.detail.cache.eviction")
+        .tag("cause", "expired")
+        .description("TTL 만료로 제거된 로컬 캐시 항목 수")
+        .register(meterRegistry);
+    invalidationCounter = Counter.builder("place.detail.cache.eviction")
+        .tag("cause", "invalidated")
+        .description("장소 변경으로 무효화된 로컬 캐시 항목 수")
+        .register(meterRegistry);
+    Gauge.builder("place.detail.cache.size", this, PlaceDetailCacheService::localSize)
+        .description("로컬 near-cache 항목 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 장소 상세 정보 조회 (로컬 → Redis → loader)
+   * - loader 예외(PLACE_NOT_FOUND 등)는 그대로 전파되며 캐시하지 않음
+   *
+   * @param placeId 장소 ID
+   * @param loader  DB 조회 함수
+   * @return 장소 상세 정보 DTO
+   */
+  public PlaceDetailDto get(UUID placeId, Function<UUID, PlaceDetailDto> loader) {
+    PlaceDetailDto cached = getLocal(placeId);
+    if (cached != null) {
+      localHitCounter.increment();
+      return cached;
+    }
+
+    CompletableFuture<PlaceDetailDto> future = new CompletableFuture<>();
+    CompletableFuture<PlaceDetailDto> existing = inFlight.putIfAbsent(placeId, future);
+    if (existing != null) {
+      return join(existing);
+    }
+
+    try {
+      future.complete(load(placeId, loader));
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+    } finally {
+      inFlight.remove(placeId, future);
+    }
+    return join(future);
+  }
+
+  /**
+   * 장소 캐시 무효화 (트랜잭션 커밋 후 반영)
+   * - 버전 증가 + Redis 키 삭제 후 모든 인스턴스에 로컬 항목 제거 요청 전파
+   *
+   * @param placeId 장소 ID
+   */
+  public void evict(UUID placeId) {
+    TransactionUtil.afterCommit(() -> {
+      evictLocal(placeId);
+      try {
+        redisTemplate.execute(INVALIDATE_SCRIPT, List.of(VERSION_KEY_PREFIX + placeId, CACHE_KEY_PREFIX + placeId),
+            redisTtlSeconds);
+        redisTemplate.convertAndSend(INVALIDATE_CHANNEL, placeId.toString());
+      } catch (Exception e) {
+        log.warn("Place detail cache invalidation failed: placeId={}, error={}", placeId, e.getMessage());
+      }
+    });
+  }
+
+  /**
+   * 다른 인스턴스에서 변경된 장소 ID 수신
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    Object placeId = redisTemplate.getValueSerializer().deserialize(message.getBody());
+    if (placeId instanceof String id) {
+      try {
+        evictLocal(UUID.fromString(id));
+      } catch (IllegalArgumentException e) {
+        log.warn("Invalid place detail invalidation message: {}", id);
+      }
+    }
+  }
+
+  private PlaceDetailDto load(UUID placeId, Function<UUID, PlaceDetailDto> loader) {
+    // 조회 시작 시점의 무효화 횟수 (조회 중 무효화되면 결과를 캐시하지 않음)
+    long invalidationsBefore = invalidations.get();
+
+    PlaceDetailDto cached = getRedis(placeId);
+    if (cached != null) {
+      redisHitCounter.increment();
+      putLocal(placeId, cached, invalidationsBefore);
+      return cached;
+    }
+
+    missCounter.increment();
+    Long versionBefore = getVersion(placeId);
+    PlaceDetailDto loaded = loader.apply(placeId);
+    if (loaded != null && invalidations.get() == invalidationsBefore) {
+      if (versionBefore != null) {
+        putRedis(placeId, loaded, versionBefore);
+      }
+      putLocal(placeId, loaded, invalidationsBefore);
+    }
+    return loaded;
+  }
+
+  private PlaceDetailDto getLocal(UUID placeId) {
+    return localCache.getIfPresent(placeId);
+  }
+
+  /**
+   * 로컬 적재
+   * - 무효화 횟수 확인과 적재를 같은 키의 compute 안에서 수행
+   * - evictLocal은 횟수 증가 후 같은 키를 제거하므로, 확인 이후 도착한 무효화도 적재 항목을 지움
+   */
+  private void putLocal(UUID placeId, PlaceDetailDto value, long invalidationsBefore) {
+    localCache.asMap().compute(placeId,
+        (id, current) -> invalidations.get() == invalidationsBefore ? value : current);
+  }
+
+  private void evictLocal(UUID placeId) {
+    invalidations.incrementAndGet();
+    localCache.invalidate(placeId);
+  }
+
+  private void recordRemoval(RemovalCause cause) {
+    switch (cause) {
+      case SIZE -> sizeEvictionCounter.increment();
+      case EXPIRED -> expiredEvictionCounter.increment();
+      case EXPLICIT -> invalidationCounter.increment();
+      default -> {
+      }
+    }
+  }
+
+  private double localSize() {
+    return localCache == null ? 0 : localCache.estimatedSize();
+  }
+
+  private PlaceDetailDto getRedis(UUID placeId) {
+    try {
+      Object json = redisTemplate.opsForValue().get(CACHE_KEY_PREFIX + placeId);
+      return json instanceof String value ? objectMapper.readValue(value, PlaceDetailDto.class) : null;
+    } catch (Exception e) {
+      // Redis 장애/역직렬화 실패 시 DB 조회로 대체
+      log.warn("Place detail cache read failed: placeId={}, error={}", placeId, e.getMessage());
+      return null;
+    }
+  }
+
+  private Long getVersion(UUID placeId) {
+    try {
+      return redisTemplate.execute(VERSION_SCRIPT, List.of(VERSION_KEY_PREFIX + placeId));
+    } catch (RuntimeException e) {
+      // 버전을 모르면 Redis에는 적재하지 않음
+      log.warn("Place detail cache version read failed: placeId={}, error={}", placeId, e.getMessage());
+      return null;
+    }
+  }
+
+  private void putRedis(UUID placeId, PlaceDetailDto value, long versionBefore) {
+    try {
+      redisTemplate.execute(PUT_IF_VERSION_SCRIPT, List.of(VERSION_KEY_PREFIX + placeId, CACHE_KEY_PREFIX + placeId),
+          versionBefore, objectMapper.writeValueAsString(value), redisTtlSeconds);
+    } catch (JsonProcessingException | RuntimeException e) {
+      log.warn("Place detail cache write failed: placeId={}, error={}", placeId, e.getMessage());
+    }
+  }
+
+  private static PlaceDetailDto join(CompletableFuture<PlaceDetailDto> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,235 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import kr.suhsaechan.mapsy.common.exception.CustomException;
+import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
+import kr.suhsaechan.mapsy.common.util.CursorUtil;
+import kr.suhsaechan.mapsy.common.util.GeoHashUtil;
+import kr.suhsaechan.mapsy.place.constant.PlaceSavedStatus;
+import kr.suhsaechan.mapsy.place.dto.GetNearbyPlacesResponse;
+import kr.suhsaechan.mapsy.place.dto.GetPlaceClustersResponse;
+import kr.suhsaechan.mapsy.place.dto.NearbyPlaceDto;
+import kr.suhsaechan.mapsy.place.dto.PlaceClusterDto;
+import kr.suhsaechan.mapsy.place.entity.Place;
+import kr.suhsaechan.mapsy.place.repository.MemberPlaceRepository;
+import kr.suhsaechan.mapsy.place.repository.MemberPlaceRepository.PlaceCluster;
+import kr.suhsaechan.mapsy.place.repository.PlaceRepository;
+import kr.suhsaechan.mapsy.place.repository.PlaceRepository.PlaceDistance;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 장소 공간 검색 서비스
+ * - place.geohash 접두사 범위(B-tree 인덱스)로 후보를 좁힌 뒤 위경도/거리 조건으로 필터링
+ * - 거리 오름차순 + 커서 페이지네이션
+ * - 지도 화면용 회원 장소 클러스터링 (geohash 접두사 단위 DB 집계)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceGeoService {
+
+  private static final double MAX_RADIUS_METERS = 50_000;
+  private static final double MAX_BOUNDS_SPAN_DEGREES = 1.0;
+  private static final int MAX_COVERING_CELLS = 16;
+  private static final int MAX_PAGE_SIZE = 100;
+
+  private static final int MIN_CLUSTER_PRECISION = 2;
+  private static final int MAX_CLUSTER_PRECISION = 8;
+  private static final int PIN_ZOOM_LEVEL = 17;
+  static final int MAX_CLUSTERS = 1000;
+
+  private final PlaceRepository placeRepository;
+  private final MemberPlaceRepository memberPlaceRepository;
+
+  /**
+   * 반경 검색
+   *
+   * @param latitude     중심 위도
+   * @param longitude    중심 경도
+   * @param radiusMeters 반경 (m)
+   * @param memberId     null이 아니면 해당 회원의 MemberPlace로 범위 제한
+   * @param cursor       이전 페이지의 nextCursor (첫 페이지면 null)
+   * @param size         페이지 크기
+   */
+  @Transactional(readOnly = true)
+  public GetNearbyPlacesResponse searchWithinRadius(double latitude, double longitude, double radiusMeters,
+      UUID memberId, String cursor, int size) {
+    validateCoordinate(latitude, longitude);
+    if (radiusMeters <= 0 || radiusMeters > MAX_RADIUS_METERS) {
+      throw new CustomException(ErrorCode.INVALID_GEO_RANGE);
+    }
+
+    double latDelta = GeoHashUtil.latitudeDelta(radiusMeters);
+    double lngDelta = GeoHashUtil.longitudeDelta(latitude, radiusMeters);
+
+    return search(
+        Math.max(-90, latitude - latDelta), Math.max(-180, longitude - lngDelta),
+        Math.min(90, latitude + latDelta), Math.min(180, longitude + lngDelta),
+        latitude, longitude, radiusMeters, memberId, cursor, size);
+  }
+
+  /**
+   * 사각 영역(지도 화면) 검색
+   * - 영역 중심점과의 거리순 정렬
+   *
+   * @param minLat   남쪽 위도
+   * @param minLng   서쪽 경도
+   * @param maxLat   북쪽 위도
+   * @param maxLng   동쪽 경도
+   * @param memberId null이 아니면 해당 회원의 MemberPlace로 범위 제한
+   * @param cursor   이전 페이지의 nextCursor (첫 페이지면 null)
+   * @param size     페이지 크기
+   */
+  @Transactional(readOnly = true)
+  public GetNearbyPlacesResponse searchWithinBounds(double minLat, double minLng, double maxLat, double maxLng,
+      UUID memberId, String cursor, int size) {
+    validateBounds(minLat, minLng, maxLat, maxLng);
+
+    return search(minLat, minLng, maxLat, maxLng,
+        (minLat + maxLat) / 2, (minLng + maxLng) / 2, null, memberId, cursor, size);
+  }
+
+  /**
+   * 지도 영역 내 회원 장소 클러스터 조회
+   * - 줌 레벨에 맞는 geohash 길이로 DB에서 GROUP BY 집계 (MemberPlace 전체를 불러오지 않음)
+   * - PIN_ZOOM_LEVEL 이상에서는 저장용 geohash(약 5m) 단위로 집계하여 사실상 개별 핀 반환
+   * - 셀이 MAX_CLUSTERS개를 넘으면 개수 상위 MAX_CLUSTERS개만 반환하고 truncated=true (클라이언트가 확대 유도)
+   *
+   * @param memberId    회원 ID
+   * @param minLat      남쪽 위도
+   * @param minLng      서쪽 경도
+   * @param maxLat      북쪽 위도
+   * @param maxLng      동쪽 경도
+   * @param zoom        지도 줌 레벨 (0~21)
+   * @param savedStatus 저장 상태 필터 (null이면 전체)
+   */
+  @Transactional(readOnly = true)
+  public GetPlaceClustersResponse getMemberPlaceClusters(UUID memberId, double minLat, double minLng,
+      double maxLat, double maxLng, int zoom, PlaceSavedStatus savedStatus) {
+    validateCoordinate(minLat, minLng);
+    validateCoordinate(maxLat, maxLng);
+    if (minLat > maxLat || minLng > maxLng || zoom < 0) {
+      throw new CustomException(ErrorCode.INVALID_GEO_RANGE);
+    }
+
+    boolean pinLevel = zoom >= PIN_ZOOM_LEVEL;
+    int precision = pinLevel ? GeoHashUtil.STORAGE_PRECISION : clusterPrecision(zoom);
+    List<String> cells = GeoHashUtil.coveringCells(minLat, minLng, maxLat, maxLng, MAX_COVERING_CELLS);
+
+    // 잘림 여부 확인을 위해 1건 더 조회
+    List<PlaceCluster> rows = memberPlaceRepository.findPlaceClusters(
+        memberId,
+        savedStatus != null ? savedStatus.name() : null,
+        "{" + String.join(",", cells) + "}",
+        minLat, minLng, maxLat, maxLng,
+        precision, MAX_CLUSTERS + 1);
+    boolean truncated = rows.size() > MAX_CLUSTERS;
+
+    List<PlaceClusterDto> clusters = (truncated ? rows.subList(0, MAX_CLUSTERS) : rows).stream()
+        .map(cluster -> PlaceClusterDto.builder()
+            .cell(cluster.getCell())
+            .count(cluster.getCount())
+            .latitude(cluster.getLatitude())
+            .longitude(cluster.getLongitude())
+            .placeId(cluster.getPlaceId() != null ? UUID.fromString(cluster.getPlaceId()) : null)
+            .build())
+        .toList();
+
+    log.debug("Place clusters: memberId={}, zoom={}, precision={}, clusters={}, truncated={}",
+        memberId, zoom, precision, clusters.size(), truncated);
+
+    return GetPlaceClustersResponse.builder()
+        .precision(precision)
+        .pinLevel(pinLevel)
+        .truncated(truncated)
+        .clusters(clusters)
+        .build();
+  }
+
+  /**
+   * 사각 영역 유효성 검증
+   * - 날짜 변경선을 가로지르는 영역(minLng > maxLng)은 지원하지 않음
+   */
+  static void validateBounds(double minLat, double minLng, double maxLat, double maxLng) {
+    validateCoordinate(minLat, minLng);
+    validateCoordinate(maxLat, maxLng);
+    if (minLat > maxLat || minLng > maxLng
+        || maxLat - minLat > MAX_BOUNDS_SPAN_DEGREES || maxLng - minLng > MAX_BOUNDS_SPAN_DEGREES) {
+      throw new CustomException(ErrorCode.INVALID_GEO_RANGE);
+    }
+  }
+
+  /**
+   * 줌 레벨 -> 클러스터 geohash 길이
+   * - 줌 z의 타일 폭(360/2^z도)에 셀이 가로 약 8개 들어가도록 경도 비트 수를 z+3으로 맞춤
+   * - geohash 길이 p의 경도 비트 수는 ceil(5p/2)
+   */
+  static int clusterPrecision(int zoom) {
+    int precision = (int) Math.round(2.0 * (zoom + 3) / 5);
+    return Math.max(MIN_CLUSTER_PRECISION, Math.min(MAX_CLUSTER_PRECISION, precision));
+  }
+
+  private GetNearbyPlacesResponse search(double minLat, double minLng, double maxLat, double maxLng,
+      double centerLat, double centerLng, Double radius, UUID memberId, String cursor, int size) {
+    int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    List<String> cells = GeoHashUtil.coveringCells(minLat, minLng, maxLat, maxLng, MAX_COVERING_CELLS);
+
+    Double cursorDistance = null;
+    UUID cursorId = null;
+    if (cursor != null && !cursor.isBlank()) {
+      String[] decoded = CursorUtil.decode(cursor, 2);
+      try {
+        cursorDistance = Double.valueOf(decoded[0]);
+        cursorId = UUID.fromString(decoded[1]);
+      } catch (IllegalArgumentException e) {
+        throw new CustomException(ErrorCode.INVALID_CURSOR);
+      }
+    }
+
+    // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+    List<PlaceDistance> rows = placeRepository.findNearbyPlaceIds(
+        "{" + String.join(",", cells) + "}",
+        minLat, minLng, maxLat, maxLng,
+        centerLat, centerLng, radius, memberId,
+        cursorDistance, cursorId, pageSize + 1);
+
+    boolean hasNext = rows.size() > pageSize;
+    List<PlaceDistance> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+    Map<UUID, Place> placeMap = placeRepository.findAllById(page.stream().map(PlaceDistance::getId).toList())
+        .stream()
+        .collect(Collectors.toMap(Place::getId, Function.identity()));
+
+    List<NearbyPlaceDto> places = page.stream()
+        .filter(row -> placeMap.containsKey(row.getId()))
+        .map(row -> NearbyPlaceDto.of(placeMap.get(row.getId()), row.getDistance()))
+        .toList();
+
+    String nextCursor = null;
+    if (hasNext) {
+      PlaceDistance last = page.get(page.size() - 1);
+      nextCursor = CursorUtil.encode(last.getDistance(), last.getId());
+    }
+
+    log.debug("Nearby search: cells={}, found={}, hasNext={}", cells.size(), places.size(), hasNext);
+
+    return GetNearbyPlacesResponse.builder()
+        .places(places)
+        .nextCursor(nextCursor)
+        .hasNext(hasNext)
+        .build();
+  }
+
+  private static void validateCoordinate(double latitude, double longitude) {
+    if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+      throw new CustomException(ErrorCode.INVALID_GEO_RANGE);
+    }
+  }
+}
@@ -0,0 +1,206 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import kr.suhsaechan.mapsy.common.util.TransactionUtil;
+import kr.suhsaechan.mapsy.place.constant.PlaceSavedStatus;
+import kr.suhsaechan.mapsy.place.repository.PlaceRepository;
+import kr.suhsaechan.mapsy.place.repository.PlaceRepository.PlacePopularity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 인기 장소 저장소 (Redis Sorted Set)
+ * - score = 저장 횟수 * SAVE_WEIGHT + 장소 생성일시(epoch seconds)
+ *   → 저장 횟수 내림차순, 동률이면 최신 장소 우선 (기존 인기 피드 정렬과 동일)
+ * - 장소 저장(TEMPORARY → SAVED) 시 트랜잭션 커밋 후 증분 반영
+ * - 주기적으로 DB 집계로 전체 재구성하여 누락/불일치 보정 (증분 반영 실패분 포함)
+ *   - 재구성 구간별 Redis 키 선점으로 1개 인스턴스만 실행, 실행마다 고유한 임시 키 사용
+ *   - 재구성 중 증분은 별도 Hash에도 기록했다가 교체 직전 임시 키에 재적용 (교체로 증분이 사라지지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlacePopularityService {
+
+  private static final String POPULARITY_KEY = "PLACE:POPULARITY";
+  private static final String POPULARITY_REBUILD_KEY_PREFIX = "PLACE:POPULARITY:REBUILD:";
+  private static final String POPULARITY_REBUILD_LOCK_PREFIX = "PLACE:POPULARITY:REBUILD_LOCK:";
+  private static final String POPULARITY_REBUILDING_KEY = "PLACE:POPULARITY:REBUILDING";
+  private static final String POPULARITY_DELTA_KEY = "PLACE:POPULARITY:DELTA";
+  private static final double SAVE_WEIGHT = 1e10;
+  private static final int REBUILD_BATCH_SIZE = 1000;
+
+  /**
+   * 저장 횟수 증분 반영, 재구성 중이면 증분 Hash에도 기록
+   * - KEYS: 인기 저장소, 재구성 중 표시, 증분 Hash / ARGV: 장소 ID, 가중치
+   */
+  private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+      "redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1]) "
+          + "if redis.call('EXISTS', KEYS[2]) == 1 then redis.call('HINCRBY', KEYS[3], ARGV[1], 1) end "
+          + "return 1",
+      Long.class);
+
+  /**
+   * 재구성 중 증분을 임시 키에 재적용 후 인기 저장소와 교체
+   * - 재구성 중 표시가 이 실행의 것이 아니면(TTL 만료 후 다른 실행이 시작) 교체하지 않음
+   * - KEYS: 임시 키, 인기 저장소, 재구성 중 표시, 증분 Hash / ARGV: 실행 ID, 가중치
+   */
+  private static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('GET', KEYS[3]) ~= ARGV[1] then return 0 end "
+          + "local weight = tonumber(ARGV[2]) "
+          + "local deltas = redis.call('HGETALL', KEYS[4]) "
+          + "for i = 1, #deltas, 2 do "
+          + "  redis.call('ZINCRBY', KEYS[1], tonumber(deltas[i + 1]) * weight, deltas[i]) "
+          + "end "
+          + "if redis.call('EXISTS', KEYS[1]) == 1 then redis.call('RENAME', KEYS[1], KEYS[2]) "
+          + "else redis.call('DEL', KEYS[2]) end "
+          + "redis.call('DEL', KEYS[3], KEYS[4]) "
+          + "return 1",
+      Long.class);
+
+  private final PlaceRepository placeRepository;
+  private final RedisTemplate<String, Object> redisTemplate;
+
+  @Value("${place.popularity.rebuild-interval-ms:600000}")
+  private long rebuildIntervalMs;
+
+  /**
+   * 장소 저장 횟수 1 증가 (트랜잭션 커밋 후 반영)
+   *
+   * @param placeId 장소 ID
+   */
+  public void increment(UUID placeId) {
+    TransactionUtil.afterCommit(() -> redisTemplate.execute(INCREMENT_SCRIPT,
+        List.of(POPULARITY_KEY, POPULARITY_REBUILDING_KEY, POPULARITY_DELTA_KEY), placeId.toString(), SAVE_WEIGHT));
+  }
+
+  /**
+   * 인기 장소 ID 페이지 조회
+   *
+   * @param pageable 페이지 정보
+   * @return 인기순 장소 ID 페이지, 저장소가 비어 있거나(재구성 전) Redis 장애 시 null (호출 측 DB 조회로 대체)
+   */
+  public Page<UUID> getPopularPlaceIds(Pageable pageable) {
+    Long total;
+    Set<Object> members;
+    try {
+      total = redisTemplate.opsForZSet().zCard(POPULARITY_KEY);
+      if (total == null || total == 0) {
+        return null;
+      }
+
+      long start = pageable.getOffset();
+      members = redisTemplate.opsForZSet()
+          .reverseRange(POPULARITY_KEY, start, start + pageable.getPageSize() - 1);
+    } catch (DataAccessException e) {
+      log.warn("Place popularity read failed, falling back to DB: {}", e.getMessage());
+      return null;
+    }
+
+    List<UUID> placeIds = members == null ? List.of() : members.stream()
+        .map(member -> UUID.fromString(member.toString()))
+        .toList();
+
+    return new PageImpl<>(placeIds, pageable, total);
+  }
+
+  /**
+   * DB 집계로 인기 장소 저장소 전체 재구성
+   * - 재구성 구간별 Redis 키 선점 (구간 내 1개 인스턴스만 실행)
+   * - 실행별 임시 키에 적재 후 증분 재적용 + RENAME을 Lua로 원자적 교체 (조회 중 빈 결과 없음)
+   * - 재구성 중 표시는 DB 집계 전에 설정 → 집계 이후 증분은 누락되지 않음
+   *   (집계 직전 커밋된 증분은 중복 반영될 수 있으나 다음 재구성에서 보정)
+   */
+  @Scheduled(fixedDelayString = "${place.popularity.rebuild-interval-ms:600000}")
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    if (!acquireRebuildLock()) {
+      return;
+    }
+
+    String runId = UUID.randomUUID().toString();
+    String rebuildKey = POPULARITY_REBUILD_KEY_PREFIX + runId;
+    Duration ttl = Duration.ofMillis(rebuildIntervalMs * 2);
+
+    // 재구성 중 표시 (이후 증분은 증분 Hash에도 기록)
+    redisTemplate.delete(POPULARITY_DELTA_KEY);
+    redisTemplate.opsForValue().set(POPULARITY_REBUILDING_KEY, runId, ttl);
+
+    long count = 0;
+    Set<TypedTuple<Object>> batch = new HashSet<>();
+    try (Stream<PlacePopularity> stream = placeRepository.streamPlacePopularity(PlaceSavedStatus.SAVED)) {
+      for (PlacePopularity popularity : (Iterable<PlacePopularity>) stream::iterator) {
+        batch.add(new DefaultTypedTuple<>(popularity.getPlaceId().toString(), score(popularity)));
+        if (batch.size() >= REBUILD_BATCH_SIZE) {
+          count += addBatch(rebuildKey, batch, count == 0, ttl);
+          batch = new HashSet<>();
+        }
+      }
+    }
+    if (!batch.isEmpty()) {
+      count += addBatch(rebuildKey, batch, count == 0, ttl);
+    }
+
+    Long swapped = redisTemplate.execute(SWAP_SCRIPT,
+        List.of(rebuildKey, POPULARITY_KEY, POPULARITY_REBUILDING_KEY, POPULARITY_DELTA_KEY), runId, SAVE_WEIGHT);
+    if (!Long.valueOf(1).equals(swapped)) {
+      redisTemplate.delete(rebuildKey);
+      log.warn("Place popularity rebuild superseded by another run. Discarded: runId={}", runId);
+      return;
+    }
+    log.info("Place popularity store rebuilt: {} places", count);
+  }
+
+  /**
+   * 임시 키에 적재 (첫 적재 시 만료 시간 설정 → 중단된 실행의 임시 키 자동 정리)
+   */
+  private int addBatch(String rebuildKey, Set<TypedTuple<Object>> batch, boolean first, Duration ttl) {
+    redisTemplate.opsForZSet().add(rebuildKey, batch);
+    if (first) {
+      redisTemplate.expire(rebuildKey, ttl);
+    }
+    return batch.size();
+  }
+
+  /**
+   * 재구성 구간별 Redis 키 선점 (구간 내 1개 인스턴스만 실행)
+   * - Redis 장애 시 재구성 건너뜀
+   */
+  private boolean acquireRebuildLock() {
+    long slot = System.currentTimeMillis() / rebuildIntervalMs;
+    try {
+      Boolean acquired = redisTemplate.opsForValue()
+          .setIfAbsent(POPULARITY_REBUILD_LOCK_PREFIX + slot, "1", Duration.ofMillis(rebuildIntervalMs * 2));
+      return Boolean.TRUE.equals(acquired);
+    } catch (Exception e) {
+      log.warn("Failed to acquire place popularity rebuild lock: {}", e.getMessage());
+      return false;
+    }
+  }
+
+  private double score(PlacePopularity popularity) {
+    long createdAt = popularity.getCreatedAt() != null
+        ? popularity.getCreatedAt().atZone(ZoneId.systemDefault()).toEpochSecond()
+        : 0;
+    return popularity.getSaveCount() * SAVE_WEIGHT + createdAt;
+  }
+}
@@ -0,0 +1,159 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import kr.suhsaechan.mapsy.common.exception.CustomException;
+import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
+import kr.suhsaechan.mapsy.common.util.CursorUtil;
+import kr.suhsaechan.mapsy.common.util.GeoHashUtil;
+import kr.suhsaechan.mapsy.common.util.SearchTokenUtil;
+import kr.suhsaechan.mapsy.place.dto.GetPlaceSearchResponse;
+import kr.suhsaechan.mapsy.place.dto.PlaceDto;
+import kr.suhsaechan.mapsy.place.entity.Place;
+import kr.suhsaechan.mapsy.place.repository.PlaceRepository;
+import kr.suhsaechan.mapsy.place.repository.PlaceRepository.PlaceSearchHit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 장소 전문 검색 서비스
+ * - 이름, 주소, 도로명 주소, 업종, 메뉴를 한글 bi-gram 토큰(place.search_tokens)으로 검색
+ * - 연결된 키워드가 검색어(또는 검색어의 단어)와 일치하는 장소도 포함
+ * - 관련도 점수순 정렬, 중심점 반경 필터, 커서 페이지네이션
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceSearchService {
+
+  private static final int MAX_QUERY_LENGTH = 100;
+  private static final double MAX_RADIUS_METERS = 50_000;
+  private static final int MAX_PAGE_SIZE = 100;
+
+  private final PlaceRepository placeRepository;
+
+  /**
+   * 장소 검색
+   *
+   * @param query        검색어
+   * @param latitude     중심 위도 (null이면 위치 제한 없음)
+   * @param longitude    중심 경도 (latitude와 함께 지정)
+   * @param radiusMeters 반경 (m)
+   * @param cursor       이전 페이지의 nextCursor (첫 페이지면 null)
+   * @param size         페이지 크기
+   * @return GetPlaceSearchResponse
+   */
+  @Transactional(readOnly = true)
+  public GetPlaceSearchResponse search(String query, Double latitude, Double longitude, double radiusMeters,
+      String cursor, int size) {
+    int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    String normalized = normalizeQuery(query);
+    String tsquery = SearchTokenUtil.toTsQuery(normalized);
+    if (tsquery == null) {
+      return GetPlaceSearchResponse.builder().places(List.of()).hasNext(false).build();
+    }
+
+    Double minLat = null;
+    Double minLng = null;
+    Double maxLat = null;
+    Double maxLng = null;
+    if (latitude != null || longitude != null) {
+      if (latitude == null || longitude == null
+          || latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180
+          || radiusMeters <= 0 || radiusMeters > MAX_RADIUS_METERS) {
+        throw new CustomException(ErrorCode.INVALID_GEO_RANGE);
+      }
+      double latDelta = GeoHashUtil.latitudeDelta(radiusMeters);
+      double lngDelta = GeoHashUtil.longitudeDelta(latitude, radiusMeters);
+      minLat = latitude - latDelta;
+      maxLat = latitude + latDelta;
+      minLng = longitude - lngDelta;
+      maxLng = longitude + lngDelta;
+    }
+
+    Double cursorScore = null;
+    UUID cursorId = null;
+    if (cursor != null && !cursor.isBlank()) {
+      String[] decoded = CursorUtil.decode(cursor, 2);
+      try {
+        cursorScore = Double.valueOf(decoded[0]);
+        cursorId = UUID.fromString(decoded[1]);
+      } catch (IllegalArgumentException e) {
+        throw new CustomException(ErrorCode.INVALID_CURSOR);
+      }
+    }
+
+    // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+    List<PlaceSearchHit> hits = placeRepository.searchPlaceIds(
+        tsquery,
+        keywordCandidates(normalized),
+        "%" + escapeLike(normalized) + "%",
+        latitude, longitude, latitude != null ? radiusMeters : null,
+        minLat, minLng, maxLat, maxLng,
+        cursorScore, cursorId, pageSize + 1);
+
+    boolean hasNext = hits.size() > pageSize;
+    List<PlaceSearchHit> page = hasNext ? hits.subList(0, pageSize) : hits;
+
+    Map<UUID, Place> placeMap = placeRepository.findAllById(page.stream().map(PlaceSearchHit::getId).toList())
+        .stream()
+        .collect(Collectors.toMap(Place::getId, Function.identity()));
+
+    List<PlaceDto> places = page.stream()
+        .map(hit -> placeMap.get(hit.getId()))
+        .filter(place -> place != null)
+        .map(PlaceDto::from)
+        .toList();
+
+    String nextCursor = null;
+    if (hasNext) {
+      PlaceSearchHit last = page.get(page.size() - 1);
+      nextCursor = CursorUtil.encode(last.getScore(), last.getId());
+    }
+
+    log.debug("Place search: query={}, tsquery={}, found={}, hasNext={}", normalized, tsquery, places.size(), hasNext);
+
+    return GetPlaceSearchResponse.builder()
+        .places(places)
+        .nextCursor(nextCursor)
+        .hasNext(hasNext)
+        .build();
+  }
+
+  /**
+   * 검색어 정규화 (# 제거, 소문자 변환, 연속 공백 축소)
+   */
+  private static String normalizeQuery(String query) {
+    if (query == null) {
+      return "";
+    }
+    String normalized = query.replace("#", "").trim().toLowerCase().replaceAll("\\s+", " ");
+    return normalized.length() > MAX_QUERY_LENGTH ? normalized.substring(0, MAX_QUERY_LENGTH) : normalized;
+  }
+
+  /**
+   * 키워드 정확 일치 후보 (검색어 전체, 공백 제거한 검색어, 단어별)
+   */
+  private static String[] keywordCandidates(String normalized) {
+    Set<String> candidates = new LinkedHashSet<>();
+    candidates.add(normalized);
+    candidates.add(normalized.replace(" ", ""));
+    for (String word : normalized.split(" ")) {
+      if (!word.isEmpty()) {
+        candidates.add(word);
+      }
+    }
+    return candidates.toArray(String[]::new);
+  }
+
+  private static String escapeLike(String value) {
+    return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+}
@@ -27,6 +27,7 @@ public class PlaceService {
   private final PlacePlatformReferenceRepository placePlatformReferenceRepository;
   private final PlaceBusinessHourRepository placeBusinessHourRepository;
   private final PlaceMediaRepository placeMediaRepository;
+  private final PlaceDetailCacheService placeDetailCacheService;
 
   /**
    * 장소 상세 정보 조회
@@ -34,12 +35,20 @@ public class PlaceService {
    * - 플랫폼별 참조 정보 (Google Place ID 등)
    * - 영업시간
    * - 추가 미디어
+   * - 로컬/Redis 2단 캐시 우선 조회, 미적중 시에만 DB 조회 (PlaceDetailCacheService)
    *
    * @param placeId 조회할 장소 ID
    * @return 장소 상세 정보 DTO
    */
   @Transactional(readOnly = true)
   public PlaceDetailDto getPlaceDetail(UUID placeId) {
+    return placeDetailCacheService.get(placeId, this::loadPlaceDetail);
+  }
+
+  /**
+   * 장소 상세 정보 DB 조회 (캐시 미적중 시)
+   */
+  private PlaceDetailDto loadPlaceDetail(UUID placeId) {
     // 1. Place 조회
     Place place = placeRepository.findById(placeId)
         .orElseThrow(() -> {
@@ -0,0 +1,180 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 정렬된 int 포스팅 리스트 (장소 서수 목록)
+ * - 오름차순, 중복 없음
+ * - 색인 구성 중에는 append로 뒤에 붙이고 freeze로 확정, 이후 추가는 copy-on-write
+ *   → ordinals()로 얻은 배열은 이후 변경되지 않으므로 잠금 밖에서도 안전하게 사용
+ * - 교집합/합집합/차집합은 정렬 병합으로 계산 (크기 차이가 크면 작은 쪽 기준 이진 탐색)
+ */
+final class PostingList {
+
+  static final int[] EMPTY = new int[0];
+  private static final int GALLOP_RATIO = 32;
+
+  private int[] ordinals = EMPTY;
+  private int size;
+
+  /**
+   * 색인 구성 중 서수 추가 (오름차순으로만 호출)
+   */
+  void append(int ordinal) {
+    if (size > 0 && ordinals[size - 1] == ordinal) {
+      return;
+    }
+    if (size == ordinals.length) {
+      ordinals = Arrays.copyOf(ordinals, Math.max(4, size * 2));
+    }
+    ordinals[size++] = ordinal;
+  }
+
+  /**
+   * 색인 구성 완료 (배열 크기를 원소 수에 맞춤)
+   */
+  void freeze() {
+    if (ordinals.length != size) {
+      ordinals = Arrays.copyOf(ordinals, size);
+    }
+  }
+
+  /**
+   * 확정된 목록에 서수 추가 (copy-on-write, 이미 있으면 무시)
+   */
+  void add(int ordinal) {
+    int index = Arrays.binarySearch(ordinals, ordinal);
+    if (index >= 0) {
+      return;
+    }
+    int insertAt = -index - 1;
+    int[] updated = new int[ordinals.length + 1];
+    System.arraycopy(ordinals, 0, updated, 0, insertAt);
+    updated[insertAt] = ordinal;
+    System.arraycopy(ordinals, insertAt, updated, insertAt + 1, ordinals.length - insertAt);
+    ordinals = updated;
+    size = updated.length;
+  }
+
+  /**
+   * 확정된 서수 배열 (변경 금지)
+   */
+  int[] ordinals() {
+    return ordinals;
+  }
+
+  /**
+   * 교집합 (작은 목록부터)
+   */
+  static int[] intersect(List<int[]> lists) {
+    if (lists.isEmpty()) {
+      return EMPTY;
+    }
+    List<int[]> sorted = lists.stream().sorted((a, b) -> Integer.compare(a.length, b.length)).toList();
+    int[] result = sorted.get(0);
+    for (int i = 1; i < sorted.size() && result.length > 0; i++) {
+      result = intersect(result, sorted.get(i));
+    }
+    return result;
+  }
+
+  /**
+   * 합집합
+   */
+  static int[] union(List<int[]> lists) {
+    int[] result = EMPTY;
+    for (int[] list : lists) {
+      result = union(result, list);
+    }
+    return result;
+  }
+
+  /**
+   * 차집합 (a - b)
+   */
+  static int[] difference(int[] a, int[] b) {
+    if (a.length == 0 || b.length == 0) {
+      return a;
+    }
+    int[] result = new int[a.length];
+    int n = 0;
+    int j = 0;
+    for (int value : a) {
+      while (j < b.length && b[j] < value) {
+        j++;
+      }
+      if (j >= b.length || b[j] != value) {
+        result[n++] = value;
+      }
+    }
+    return Arrays.copyOf(result, n);
+  }
+
+  private static int[] intersect(int[] small, int[] large) {
+    int[] result = new int[Math.min(small.length, large.length)];
+    int n = 0;
+    if ((long) small.length * GALLOP_RATIO < large.length) {
+      // 작은 목록의 각 값을 큰 목록에서 이진 탐색 (탐색 시작 위치는 계속 전진)
+      int from = 0;
+      for (int value : small) {
+        int index = Arrays.binarySearch(large, from, large.length, value);
+        if (index >= 0) {
+          result[n++] = value;
+          from = index + 1;
+        } else {
+          from = -index - 1;
+        }
+        if (from >= large.length) {
+          break;
+        }
+      }
+    } else {
+      int i = 0;
+      int j = 0;
+      while (i < small.length && j < large.length) {
+        if (small[i] < large[j]) {
+          i++;
+        } else if (small[i] > large[j]) {
+          j++;
+        } else {
+          result[n++] = small[i];
+          i++;
+          j++;
+        }
+      }
+    }
+    return Arrays.copyOf(result, n);
+  }
+
+  private static int[] union(int[] a, int[] b) {
+    if (a.length == 0) {
+      return b;
+    }
+    if (b.length == 0) {
+      return a;
+    }
+    int[] result = new int[a.length + b.length];
+    int n = 0;
+    int i = 0;
+    int j = 0;
+    while (i < a.length && j < b.length) {
+      if (a[i] < b[j]) {
+        result[n++] = a[i++];
+      } else if (a[i] > b[j]) {
+        result[n++] = b[j++];
+      } else {
+        result[n++] = a[i];
+        i++;
+        j++;
+      }
+    }
+    while (i < a.length) {
+      result[n++] = a[i++];
+    }
+    while (j < b.length) {
+      result[n++] = b[j++];
+    }
+    return Arrays.copyOf(result, n);
+  }
+}
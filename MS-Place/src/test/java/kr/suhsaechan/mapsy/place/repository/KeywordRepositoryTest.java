@@ -0,0 +1,78 @@
+package kr.suhsaechan.mapsy.place.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import kr.suhsaechan.mapsy.common.test.PostgresRepositoryTest;
+import kr.suhsaechan.mapsy.place.entity.Keyword;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 트렌드 점수 감쇠 쿼리 검증
+ * - 5분 tick마다 감쇠해도 작은 점수가 반올림으로 멈추지 않고 경과 시간만큼 감쇠되는지 확인
+ */
+class KeywordRepositoryTest extends PostgresRepositoryTest {
+
+  private static final double HALF_LIFE_SECONDS = 24 * 3_600d;
+  private static final int TICK_SECONDS = 300;
+
+  @Autowired
+  private KeywordRepository keywordRepository;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setUp() {
+    // keyword_trend_state는 엔티티가 없으므로 V0.3.12와 같은 구조로 생성
+    jdbcTemplate.execute("""
+        CREATE TABLE IF NOT EXISTS keyword_trend_state (
+          id INTEGER PRIMARY KEY CHECK (id = 1),
+          decayed_at TIMESTAMP NOT NULL
+        )
+        """);
+    jdbcTemplate.update("DELETE FROM keyword_trend_state");
+    jdbcTemplate.update("INSERT INTO keyword_trend_state (id, decayed_at) VALUES (1, now())");
+  }
+
+  @Test
+  void 작은_트렌드_점수도_tick마다_누적_감쇠된다() {
+    keywordRepository.saveAndFlush(Keyword.builder().keyword("소소한카페").trendScore(1.0).build());
+
+    // 반감기(24시간) 동안 5분 tick 288회
+    int ticks = (int) (HALF_LIFE_SECONDS / TICK_SECONDS);
+    for (int i = 0; i < ticks; i++) {
+      passTick();
+      keywordRepository.decayTrendScores(HALF_LIFE_SECONDS);
+    }
+
+    assertThat(trendScore("소소한카페")).isCloseTo(0.5, within(1e-6));
+  }
+
+  @Test
+  void 마지막_감쇠_이후_경과_시간이_없으면_다시_감쇠하지_않는다() {
+    keywordRepository.saveAndFlush(Keyword.builder().keyword("중복감쇠").trendScore(1.0).build());
+
+    passTick();
+    keywordRepository.decayTrendScores(HALF_LIFE_SECONDS);
+    double decayedOnce = trendScore("중복감쇠");
+    keywordRepository.decayTrendScores(HALF_LIFE_SECONDS);
+
+    assertThat(decayedOnce).isLessThan(1.0);
+    assertThat(trendScore("중복감쇠")).isEqualTo(decayedOnce);
+  }
+
+  /**
+   * 마지막 감쇠 시각을 tick 간격만큼 과거로 이동 (테스트 트랜잭션 안에서는 now()가 고정)
+   */
+  private void passTick() {
+    jdbcTemplate.update("UPDATE keyword_trend_state SET decayed_at = now() - make_interval(secs => ?) WHERE id = 1",
+        TICK_SECONDS);
+  }
+
+  private double trendScore(String keyword) {
+    return jdbcTemplate.queryForObject("SELECT trend_score FROM keywords WHERE keyword = ?", Double.class, keyword);
+  }
+}
@@ -0,0 +1,129 @@
+package kr.suhsaechan.mapsy.place.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import kr.suhsaechan.mapsy.common.test.PostgresRepositoryTest;
+import kr.suhsaechan.mapsy.common.util.GeoHashUtil;
+import kr.suhsaechan.mapsy.member.entity.Member;
+import kr.suhsaechan.mapsy.place.constant.PlaceSavedStatus;
+import kr.suhsaechan.mapsy.place.entity.MemberPlace;
+import kr.suhsaechan.mapsy.place.entity.Place;
+import kr.suhsaechan.mapsy.place.repository.MemberPlaceRepository.PlaceCluster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 회원 장소 클러스터 집계 쿼리 검증
+ * - geohash 접두사 단위 GROUP BY로 셀별 개수/평균 좌표, 단일 장소 셀은 장소 ID 반환
+ * - 다른 회원/저장 상태/영역 밖 장소는 집계에서 제외
+ */
+class MemberPlaceRepositoryTest extends PostgresRepositoryTest {
+
+  private static final int PRECISION = 6;
+  private static final double MIN_LAT = 37.49;
+  private static final double MIN_LNG = 126.97;
+  private static final double MAX_LAT = 37.57;
+  private static final double MAX_LNG = 127.04;
+
+  @Autowired
+  private MemberPlaceRepository memberPlaceRepository;
+  @Autowired
+  private EntityManager entityManager;
+
+  private Member member;
+  private Member otherMember;
+
+  @BeforeEach
+  void setUp() {
+    member = persistMember();
+    otherMember = persistMember();
+  }
+
+  @Test
+  void geohash_접두사_셀별로_개수와_평균_좌표를_집계한다() {
+    // 강남역 주변 3곳 (같은 6자리 셀), 시청 1곳
+    save(member, place(37.4979, 127.0276), PlaceSavedStatus.SAVED);
+    save(member, place(37.4980, 127.0277), PlaceSavedStatus.SAVED);
+    save(member, place(37.4978, 127.0275), PlaceSavedStatus.TEMPORARY);
+    Place cityHall = place(37.5665, 126.9780);
+    save(member, cityHall, PlaceSavedStatus.SAVED);
+    flushAndClear();
+
+    List<PlaceCluster> clusters = findClusters(null);
+
+    assertThat(clusters).hasSize(2);
+    PlaceCluster gangnam = clusters.get(0);
+    assertThat(gangnam.getCell()).isEqualTo(GeoHashUtil.encode(37.4979, 127.0276, PRECISION));
+    assertThat(gangnam.getCount()).isEqualTo(3L);
+    assertThat(gangnam.getLatitude()).isCloseTo(37.4979, within(1e-6));
+    assertThat(gangnam.getLongitude()).isCloseTo(127.0276, within(1e-6));
+    assertThat(gangnam.getPlaceId()).isNull();
+
+    PlaceCluster single = clusters.get(1);
+    assertThat(single.getCount()).isEqualTo(1L);
+    assertThat(single.getPlaceId()).isEqualTo(cityHall.getId().toString());
+  }
+
+  @Test
+  void 다른_회원_저장_상태_영역_밖_장소는_집계하지_않는다() {
+    save(member, place(37.4979, 127.0276), PlaceSavedStatus.SAVED);
+    save(member, place(37.4980, 127.0277), PlaceSavedStatus.TEMPORARY);
+    save(otherMember, place(37.4978, 127.0275), PlaceSavedStatus.SAVED);
+    // 영역 밖 (부산)
+    save(member, place(35.1796, 129.0756), PlaceSavedStatus.SAVED);
+    flushAndClear();
+
+    List<PlaceCluster> clusters = findClusters(PlaceSavedStatus.SAVED);
+
+    assertThat(clusters).singleElement()
+        .satisfies(cluster -> assertThat(cluster.getCount()).isEqualTo(1L));
+  }
+
+  private List<PlaceCluster> findClusters(PlaceSavedStatus savedStatus) {
+    List<String> cells = GeoHashUtil.coveringCells(MIN_LAT, MIN_LNG, MAX_LAT, MAX_LNG, 16);
+    return memberPlaceRepository.findPlaceClusters(
+        member.getId(),
+        savedStatus != null ? savedStatus.name() : null,
+        "{" + String.join(",", cells) + "}",
+        MIN_LAT, MIN_LNG, MAX_LAT, MAX_LNG,
+        PRECISION, 100);
+  }
+
+  private Member persistMember() {
+    Member saved = Member.builder()
+        .email(UUID.randomUUID() + "@mapsy.test")
+        .name("테스트 회원")
+        .build();
+    entityManager.persist(saved);
+    return saved;
+  }
+
+  private Place place(double latitude, double longitude) {
+    Place place = Place.builder()
+        .name("테스트 장소")
+        .latitude(BigDecimal.valueOf(latitude))
+        .longitude(BigDecimal.valueOf(longitude))
+        .build();
+    entityManager.persist(place);
+    return place;
+  }
+
+  private void save(Member owner, Place place, PlaceSavedStatus savedStatus) {
+    entityManager.persist(MemberPlace.builder()
+        .member(owner)
+        .place(place)
+        .savedStatus(savedStatus)
+        .build());
+  }
+
+  private void flushAndClear() {
+    entityManager.flush();
+    entityManager.clear();
+  }
+}
@@ -0,0 +1,113 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import kr.suhsaechan.mapsy.place.repository.KeywordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * 같은 키워드에 동시 콜백이 몰려도 사용 횟수가 유실 없이 반영되는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class KeywordCountServiceTest {
+
+  private static final int THREADS = 16;
+  private static final int CALLBACKS_PER_THREAD = 5_000;
+
+  @Mock
+  private KeywordRepository keywordRepository;
+
+  @InjectMocks
+  private KeywordCountService keywordCountService;
+
+  private final Map<String, Long> persistedCounts = new ConcurrentHashMap<>();
+  private final AtomicInteger remainingFailures = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+    when(keywordRepository.addCounts(any(), any())).thenAnswer(invocation -> {
+      if (remainingFailures.getAndDecrement() > 0) {
+        throw new IllegalStateException("db down");
+      }
+      String[] keywords = invocation.getArgument(0);
+      Long[] deltas = invocation.getArgument(1);
+      for (int i = 0; i < keywords.length; i++) {
+        persistedCounts.merge(keywords[i], deltas[i], Long::sum);
+      }
+      return keywords.length;
+    });
+  }
+
+  @Test
+  void 동시_콜백과_주기_반영이_겹쳐도_사용횟수가_유실되지_않는다() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicBoolean running = new AtomicBoolean(true);
+
+    try {
+      // 콜백 처리와 동시에 반영 주기가 계속 돌도록 별도 스레드에서 flush 반복
+      Future<?> flusher = executor.submit(() -> {
+        while (running.get()) {
+          keywordCountService.flush();
+        }
+      });
+
+      List<Future<?>> callbacks = IntStream.range(0, THREADS)
+          .<Future<?>>mapToObj(t -> executor.submit(() -> {
+            start.await();
+            for (int i = 0; i < CALLBACKS_PER_THREAD; i++) {
+              keywordCountService.increment(List.of("카페", "맛집"));
+            }
+            return null;
+          }))
+          .toList();
+
+      start.countDown();
+      for (Future<?> callback : callbacks) {
+        callback.get(30, TimeUnit.SECONDS);
+      }
+      running.set(false);
+      flusher.get(30, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // 마지막 주기 반영
+    keywordCountService.flush();
+
+    long expected = (long) THREADS * CALLBACKS_PER_THREAD;
+    assertThat(persistedCounts).containsEntry("카페", expected).containsEntry("맛집", expected);
+  }
+
+  @Test
+  void 반영_실패한_사용횟수는_다음_주기에_재시도된다() {
+    remainingFailures.set(1);
+
+    keywordCountService.increment(List.of("카페", "카페", "맛집"));
+    keywordCountService.flush();
+    assertThat(persistedCounts).isEmpty();
+
+    keywordCountService.increment(List.of("카페"));
+    keywordCountService.flush();
+
+    assertThat(persistedCounts).containsEntry("카페", 3L).containsEntry("맛집", 1L);
+  }
+}
@@ -0,0 +1,139 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import kr.suhsaechan.mapsy.common.util.CursorUtil;
+import kr.suhsaechan.mapsy.place.dto.GetKeywordPlacesResponse;
+import kr.suhsaechan.mapsy.place.dto.PlaceDto;
+import kr.suhsaechan.mapsy.place.entity.Place;
+import kr.suhsaechan.mapsy.place.repository.PlaceKeywordRepository;
+import kr.suhsaechan.mapsy.place.repository.PlaceKeywordRepository.PlaceKeywordPosting;
+import kr.suhsaechan.mapsy.place.repository.PlaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+
+/**
+ * 재구성 이후 생성 순서와 다르게 추가된 장소가 있어도 커서 페이지가 누락/중복 없이 최신순으로 이어지는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class KeywordPlaceSearchServiceTest {
+
+  private static final String KEYWORD = "카페";
+  private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+  @Mock
+  private PlaceRepository placeRepository;
+  @Mock
+  private PlaceKeywordRepository placeKeywordRepository;
+
+  @InjectMocks
+  private KeywordPlaceSearchService keywordPlaceSearchService;
+
+  private final Map<UUID, Place> places = new HashMap<>();
+
+  @BeforeEach
+  void setUp() {
+    when(placeRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+      Iterable<UUID> ids = invocation.getArgument(0);
+      return StreamSupport.stream(ids.spliterator(), false).map(places::get).toList();
+    });
+  }
+
+  @Test
+  void 재구성_이후_추가된_이전_장소도_커서_페이지에서_생성순으로_조회된다() {
+    Place first = place(1);
+    Place second = place(2);
+    Place third = place(4);
+    Place fourth = place(5);
+    when(placeKeywordRepository.streamPlaceKeywordPostings())
+        .thenReturn(Stream.of(posting(first), posting(second), posting(third), posting(fourth)));
+    keywordPlaceSearchService.rebuild();
+
+    // 재구성 시점에는 키워드가 없던 기존 장소, 재구성 이후 생성된 장소 순서로 추가
+    Place latest = place(6);
+    Place older = place(3);
+    keywordPlaceSearchService.addPostings(Map.of(latest, List.of(KEYWORD)));
+    keywordPlaceSearchService.addPostings(Map.of(older, List.of(KEYWORD)));
+
+    assertThat(searchAllPages(2))
+        .containsExactly(latest.getId(), fourth.getId(), third.getId(), older.getId(), second.getId(), first.getId());
+  }
+
+  @Test
+  void 다른_인스턴스에서_받은_커서도_이어서_조회된다() {
+    Place first = place(1);
+    Place second = place(2);
+    Place third = place(3);
+    when(placeKeywordRepository.streamPlaceKeywordPostings())
+        .thenReturn(Stream.of(posting(first), posting(second), posting(third)));
+    keywordPlaceSearchService.rebuild();
+
+    // 이 인스턴스 색인에 없는 장소(다른 인스턴스에서 추가된 최신 장소)의 커서
+    Place unknown = place(4);
+    String cursor = CursorUtil.encode(unknown.getCreatedAt(), unknown.getId());
+
+    GetKeywordPlacesResponse response = keywordPlaceSearchService.search(Set.of(KEYWORD), Set.of(), Set.of(), cursor, 10);
+
+    assertThat(response.getPlaces()).extracting(PlaceDto::getPlaceId)
+        .containsExactly(third.getId(), second.getId(), first.getId());
+  }
+
+  private List<UUID> searchAllPages(int size) {
+    List<UUID> ids = new ArrayList<>();
+    String cursor = null;
+    do {
+      GetKeywordPlacesResponse response = keywordPlaceSearchService.search(Set.of(KEYWORD), Set.of(), Set.of(),
+          cursor, size);
+      response.getPlaces().forEach(place -> ids.add(place.getPlaceId()));
+      cursor = response.getNextCursor();
+    } while (cursor != null);
+    return ids;
+  }
+
+  private Place place(int minutes) {
+    Place place = mock(Place.class, withSettings().strictness(Strictness.LENIENT));
+    UUID id = UUID.randomUUID();
+    when(place.getId()).thenReturn(id);
+    when(place.getCreatedAt()).thenReturn(BASE_TIME.plusMinutes(minutes));
+    when(place.isActive()).thenReturn(true);
+    places.put(id, place);
+    return place;
+  }
+
+  private static PlaceKeywordPosting posting(Place place) {
+    return new PlaceKeywordPosting() {
+      @Override
+      public UUID getPlaceId() {
+        return place.getId();
+      }
+
+      @Override
+      public LocalDateTime getCreatedAt() {
+        return place.getCreatedAt();
+      }
+
+      @Override
+      public String getKeyword() {
+        return KEYWORD;
+      }
+    };
+  }
+}
@@ -0,0 +1,159 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import kr.suhsaechan.mapsy.common.util.GeoHashUtil;
+import kr.suhsaechan.mapsy.place.dto.GetPlaceClustersResponse;
+import kr.suhsaechan.mapsy.place.dto.PlaceClusterDto;
+import kr.suhsaechan.mapsy.place.repository.MemberPlaceRepository;
+import kr.suhsaechan.mapsy.place.repository.MemberPlaceRepository.PlaceCluster;
+import kr.suhsaechan.mapsy.place.repository.PlaceRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * 지도 장소 클러스터 조회 검증
+ * - 줌 레벨 → geohash 길이 변환 (최소/최대 길이 제한, 핀 단계)
+ * - 셀 수가 MAX_CLUSTERS를 넘으면 상위 MAX_CLUSTERS개만 반환하고 truncated 표시
+ */
+@ExtendWith(MockitoExtension.class)
+class PlaceGeoServiceTest {
+
+  private static final UUID MEMBER_ID = UUID.randomUUID();
+
+  @Mock
+  private PlaceRepository placeRepository;
+  @Mock
+  private MemberPlaceRepository memberPlaceRepository;
+
+  @InjectMocks
+  private PlaceGeoService placeGeoService;
+
+  @ParameterizedTest
+  @CsvSource({
+      "0, 2",
+      "3, 2",
+      "5, 3",
+      "8, 4",
+      "10, 5",
+      "12, 6",
+      "15, 7",
+      "16, 8",
+      "21, 8"
+  })
+  void 줌_레벨에_맞는_geohash_길이로_클러스터링한다(int zoom, int precision) {
+    assertThat(PlaceGeoService.clusterPrecision(zoom)).isEqualTo(precision);
+  }
+
+  @Test
+  void 핀_단계_줌에서는_저장용_geohash_길이로_집계한다() {
+    stubClusters(GeoHashUtil.STORAGE_PRECISION, List.of(cluster("wydm9qyc6", 1, UUID.randomUUID())));
+
+    GetPlaceClustersResponse response = getClusters(17);
+
+    assertThat(response.isPinLevel()).isTrue();
+    assertThat(response.getPrecision()).isEqualTo(GeoHashUtil.STORAGE_PRECISION);
+  }
+
+  @Test
+  void 셀별_집계_결과를_클러스터로_변환하고_단일_장소_셀은_장소_ID를_포함한다() {
+    UUID placeId = UUID.randomUUID();
+    stubClusters(6, List.of(cluster("wydm9q", 3, null), cluster("wydm9r", 1, placeId)));
+
+    GetPlaceClustersResponse response = getClusters(12);
+
+    assertThat(response.isPinLevel()).isFalse();
+    assertThat(response.isTruncated()).isFalse();
+    assertThat(response.getClusters())
+        .extracting(PlaceClusterDto::getCell, PlaceClusterDto::getCount, PlaceClusterDto::getPlaceId)
+        .containsExactly(
+            tuple("wydm9q", 3L, null),
+            tuple("wydm9r", 1L, placeId));
+  }
+
+  @Test
+  void 클러스터가_상한을_넘으면_상위_상한개만_반환하고_truncated로_표시한다() {
+    stubClusters(6, clusters(PlaceGeoService.MAX_CLUSTERS + 1));
+
+    GetPlaceClustersResponse response = getClusters(12);
+
+    assertThat(response.isTruncated()).isTrue();
+    assertThat(response.getClusters()).hasSize(PlaceGeoService.MAX_CLUSTERS);
+    assertThat(response.getClusters().get(0).getCell()).isEqualTo("c0");
+  }
+
+  @Test
+  void 클러스터가_상한과_같으면_잘리지_않은_결과다() {
+    stubClusters(6, clusters(PlaceGeoService.MAX_CLUSTERS));
+
+    GetPlaceClustersResponse response = getClusters(12);
+
+    assertThat(response.isTruncated()).isFalse();
+    assertThat(response.getClusters()).hasSize(PlaceGeoService.MAX_CLUSTERS);
+  }
+
+  private GetPlaceClustersResponse getClusters(int zoom) {
+    return placeGeoService.getMemberPlaceClusters(MEMBER_ID, 37.49, 127.02, 37.51, 127.04, zoom, null);
+  }
+
+  /**
+   * 잘림 여부 확인용으로 상한 + 1건을 요청하는지 함께 검증
+   */
+  private void stubClusters(int precision, List<PlaceCluster> rows) {
+    when(memberPlaceRepository.findPlaceClusters(eq(MEMBER_ID), isNull(), anyString(),
+        anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq(precision), eq(PlaceGeoService.MAX_CLUSTERS + 1)))
+        .thenReturn(rows);
+  }
+
+  /**
+   * 개수 내림차순 집계 결과 count건
+   */
+  private static List<PlaceCluster> clusters(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> cluster("c" + i, count - i, null))
+        .toList();
+  }
+
+  private static PlaceCluster cluster(String cell, long count, UUID placeId) {
+    return new PlaceCluster() {
+      @Override
+      public String getCell() {
+        return cell;
+      }
+
+      @Override
+      public Long getCount() {
+        return count;
+      }
+
+      @Override
+      public Double getLatitude() {
+        return 37.5;
+      }
+
+      @Override
+      public Double getLongitude() {
+        return 127.03;
+      }
+
+      @Override
+      public String getPlaceId() {
+        return placeId != null ? placeId.toString() : null;
+      }
+    };
+  }
+}
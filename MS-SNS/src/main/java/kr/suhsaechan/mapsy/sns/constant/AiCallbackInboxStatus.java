@@ -0,0 +1,13 @@
+package kr.suhsaechan.mapsy.sns.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum AiCallbackInboxStatus {
+  PENDING,     // 처리 대기 중
+  PROCESSING,  // 워커 처리 중
+  DONE,        // 처리 완료
+  FAILED       // 최대 시도 횟수 초과로 처리 실패
+}
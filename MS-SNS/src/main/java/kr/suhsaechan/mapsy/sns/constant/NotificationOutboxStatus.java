@@ -0,0 +1,13 @@
+package kr.suhsaechan.mapsy.sns.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum NotificationOutboxStatus {
+  PENDING,     // 전송 대기 중
+  PROCESSING,  // 디스패처 전송 중
+  SENT,        // 전송 완료
+  FAILED       // 최대 시도 횟수 초과로 전송 실패
+}
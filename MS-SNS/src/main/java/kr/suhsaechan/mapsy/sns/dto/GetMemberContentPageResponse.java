@@ -16,4 +16,10 @@ public class GetMemberContentPageResponse {
 
   @Schema(description = "콘텐츠 페이지 정보 (최신순)")
   private Page<ContentDto> contentPage;
+
+  @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+  private String nextCursor;
+
+  @Schema(description = "다음 페이지 존재 여부", example = "true")
+  private boolean hasNext;
 }
@@ -0,0 +1,74 @@
+package kr.suhsaechan.mapsy.sns.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import kr.suhsaechan.mapsy.common.entity.BaseEntity;
+import kr.suhsaechan.mapsy.sns.constant.AiCallbackInboxStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * AI 서버 Callback 수신함
+ * - Callback 요청 원문을 저장하고 워커가 비동기로 처리
+ * - (content_id, payload_hash) 유니크 제약으로 AI 서버 재전송 시 중복 처리 방지
+ */
+@Entity
+@Table(
+    name = "ai_callback_inbox",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_ai_callback_inbox_content_payload", columnNames = {"content_id", "payload_hash"})
+    },
+    indexes = {
+        @Index(name = "idx_ai_callback_inbox_status_created", columnList = "status, created_at")
+    }
+)
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AiCallbackInbox extends BaseEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.UUID)
+  @Column(updatable = false, nullable = false)
+  private UUID id;
+
+  @Column(name = "content_id", nullable = false)
+  private UUID contentId;
+
+  // Callback 원문 JSON의 SHA-256 (hex)
+  @Column(name = "payload_hash", nullable = false, length = 64)
+  private String payloadHash;
+
+  @Column(nullable = false, columnDefinition = "TEXT")
+  private String payload;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  @Builder.Default
+  private AiCallbackInboxStatus status = AiCallbackInboxStatus.PENDING;
+
+  @Column(nullable = false)
+  @Builder.Default
+  private int attemptCount = 0;
+
+  @Column(length = 1000)
+  private String lastError;
+
+  private LocalDateTime processedAt;
+}
@@ -3,6 +3,7 @@ package kr.suhsaechan.mapsy.sns.entity;
 import kr.suhsaechan.mapsy.common.entity.SoftDeletableBaseEntity;
 import kr.suhsaechan.mapsy.sns.constant.ContentPlatform;
 import kr.suhsaechan.mapsy.common.constant.ContentStatus;
+import kr.suhsaechan.mapsy.sns.util.ContentUrlUtil;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -10,6 +11,10 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -23,6 +28,12 @@ import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 @Entity
+@Table(
+    indexes = {
+        @Index(name = "idx_content_canonical_key", columnList = "canonical_key"),
+        @Index(name = "idx_content_status_last_checked_at", columnList = "status, last_checked_at")
+    }
+)
 @Builder
 @Getter
 @Setter
@@ -56,14 +67,24 @@ public class Content extends SoftDeletableBaseEntity {
   @Column(nullable = false, length = 2048, unique = true)
   private String originalUrl;
 
+  // 중복 판단용 정규화 키 (originalUrl로부터 계산, ContentUrlUtil 참고)
+  @Column(length = 2100)
+  private String canonicalKey;
+
   @Column(length = 500)
   private String title;
 
   @Column(columnDefinition = "TEXT")
   private String summary;
 
+  // 마지막 AI 서버 장소 추출 요청 시각 (멈춘 PENDING/FAILED 재요청 판단 기준)
   private LocalDateTime lastCheckedAt;
 
+  // 마지막 사용자 요청 이후 AI 서버 장소 추출 요청 횟수
+  @Column(nullable = false)
+  @Builder.Default
+  private Integer extractionAttempts = 0;
+
   // ========== 신규 필드 (AI 콜백 #16) ==========
 
   @Column(length = 50)
@@ -88,4 +109,22 @@ public class Content extends SoftDeletableBaseEntity {
 
   @Column(length = 500)
   private String authorProfileImageUrl;
+
+  /**
+   * AI 서버 장소 추출 요청 기록 (PENDING 전환, 요청 횟수 증가, 요청 시각 갱신)
+   */
+  public void markExtractionRequested(LocalDateTime requestedAt) {
+    this.status = ContentStatus.PENDING;
+    this.extractionAttempts = extractionAttempts == null ? 1 : extractionAttempts + 1;
+    this.lastCheckedAt = requestedAt;
+  }
+
+  /**
+   * originalUrl로부터 canonical key 계산
+   */
+  @PrePersist
+  @PreUpdate
+  void updateCanonicalKey() {
+    this.canonicalKey = ContentUrlUtil.canonicalKey(originalUrl);
+  }
 }
@@ -0,0 +1,66 @@
+package kr.suhsaechan.mapsy.sns.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import kr.suhsaechan.mapsy.common.entity.BaseEntity;
+import kr.suhsaechan.mapsy.sns.constant.NotificationOutboxStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Content 분석 완료 알림 Outbox
+ * - AI Callback 처리 트랜잭션 안에서 Content 갱신과 함께 저장
+ * - 실제 FCM 전송은 커밋 이후 디스패처가 별도로 수행
+ */
+@Entity
+@Table(
+    name = "content_notification_outbox",
+    indexes = {
+        @Index(name = "idx_content_notification_outbox_status_created", columnList = "status, created_at")
+    }
+)
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ContentNotificationOutbox extends BaseEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.UUID)
+  @Column(updatable = false, nullable = false)
+  private UUID id;
+
+  @Column(name = "content_id", nullable = false)
+  private UUID contentId;
+
+  @Column(nullable = false)
+  private int placeCount;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  @Builder.Default
+  private NotificationOutboxStatus status = NotificationOutboxStatus.PENDING;
+
+  @Column(nullable = false)
+  @Builder.Default
+  private int attemptCount = 0;
+
+  @Column(length = 1000)
+  private String lastError;
+
+  private LocalDateTime sentAt;
+}
@@ -0,0 +1,55 @@
+package kr.suhsaechan.mapsy.sns.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import kr.suhsaechan.mapsy.sns.constant.AiCallbackInboxStatus;
+import kr.suhsaechan.mapsy.sns.entity.AiCallbackInbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AiCallbackInboxRepository extends JpaRepository<AiCallbackInbox, UUID> {
+
+  /**
+   * 동일 Content + 동일 Payload 수신 여부 확인 (멱등성)
+   */
+  boolean existsByContentIdAndPayloadHash(UUID contentId, String payloadHash);
+
+  /**
+   * 상태별 건수 조회 (큐 적재량 메트릭)
+   */
+  long countByStatus(AiCallbackInboxStatus status);
+
+  /**
+   * 처리 대기 항목을 오래된 순으로 잠금 조회
+   * - Content별 가장 오래된 PENDING 1건만 조회하고, 이미 PROCESSING 항목이 있는 Content는 제외
+   *   (같은 Content의 Callback이 동시에 처리되어 ContentPlace 삭제/저장이 섞이지 않도록 직렬화)
+   * - FOR UPDATE SKIP LOCKED: 다중 인스턴스 환경에서 같은 항목을 중복으로 가져가지 않음
+   * - 선점 경합으로 같은 Content가 동시에 선점되더라도 처리 트랜잭션의 Content 행 잠금으로 직렬 처리
+   */
+  @Query(value = "SELECT * FROM ai_callback_inbox i " +
+      "WHERE i.status = 'PENDING' " +
+      "AND i.id IN (" +
+      "  SELECT DISTINCT ON (p.content_id) p.id FROM ai_callback_inbox p " +
+      "  WHERE p.status = 'PENDING' " +
+      "  AND NOT EXISTS (SELECT 1 FROM ai_callback_inbox r " +
+      "    WHERE r.content_id = p.content_id AND r.status = 'PROCESSING') " +
+      "  ORDER BY p.content_id, p.created_at ASC) " +
+      "ORDER BY i.created_at ASC " +
+      "LIMIT :limit " +
+      "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+  List<AiCallbackInbox> findPendingForUpdate(@Param("limit") int limit);
+
+  /**
+   * 워커 비정상 종료 등으로 PROCESSING에 머문 항목을 PENDING으로 복구
+   */
+  @Modifying
+  @Query("UPDATE AiCallbackInbox i SET i.status = kr.suhsaechan.mapsy.sns.constant.AiCallbackInboxStatus.PENDING " +
+      "WHERE i.status = kr.suhsaechan.mapsy.sns.constant.AiCallbackInboxStatus.PROCESSING " +
+      "AND i.updatedAt < :threshold")
+  int resetStaleProcessing(@Param("threshold") LocalDateTime threshold);
+}
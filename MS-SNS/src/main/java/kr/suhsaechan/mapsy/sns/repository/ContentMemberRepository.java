@@ -3,12 +3,17 @@ package kr.suhsaechan.mapsy.sns.repository;
 import kr.suhsaechan.mapsy.member.entity.Member;
 import kr.suhsaechan.mapsy.sns.entity.Content;
 import kr.suhsaechan.mapsy.sns.entity.ContentMember;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ContentMemberRepository extends JpaRepository<ContentMember, UUID> {
 
@@ -22,6 +27,20 @@ public interface ContentMemberRepository extends JpaRepository<ContentMember, UU
    */
   boolean existsByContentAndMember(Content content, Member member);
 
+  /**
+   * ContentMember 생성 (이미 있으면 무시)
+   * - 존재 여부 조회 없이 (content_id, member_id) 유니크 제약으로 중복 방지
+   *
+   * @return 생성된 행 수 (이미 있으면 0)
+   */
+  @Transactional
+  @Modifying
+  @Query(value = "INSERT INTO content_member (id, content_id, member_id, notified, created_at, updated_at) " +
+      "VALUES (gen_random_uuid(), :contentId, :memberId, :notified, now(), now()) " +
+      "ON CONFLICT (content_id, member_id) DO NOTHING", nativeQuery = true)
+  int insertIgnore(@Param("contentId") UUID contentId, @Param("memberId") UUID memberId,
+      @Param("notified") boolean notified);
+
   /**
    * Content ID로 모든 ContentMember 조회
    */
@@ -35,11 +54,59 @@ public interface ContentMemberRepository extends JpaRepository<ContentMember, UU
       "WHERE cm.content.id = :contentId AND cm.notified = false")
   List<ContentMember> findUnnotifiedMembersWithMember(@Param("contentId") UUID contentId);
 
+  /**
+   * Content의 지정 회원들을 알림 전송 완료로 일괄 변경
+   */
+  @Transactional
+  @Modifying
+  @Query("UPDATE ContentMember cm SET cm.notified = true " +
+      "WHERE cm.content.id = :contentId AND cm.member.id IN :memberIds")
+  int markNotified(@Param("contentId") UUID contentId, @Param("memberIds") Collection<UUID> memberIds);
+
   /**
    * Member ID로 ContentMember 조회 (페이징 등에 활용)
    */
   List<ContentMember> findByMemberId(UUID memberId);
 
+  /**
+   * 회원의 Content 최신순 조회 (첫 페이지)
+   * - ContentMember와 Content를 한 번에 조인하여 Content만 반환 (건별 Content 조회 없음)
+   * - 정렬/개수 제한은 DB에서 수행
+   *
+   * @param memberId 회원 ID
+   * @param pageable 조회 개수 (page는 항상 0)
+   * @return List<Content>
+   */
+  @Query("""
+      SELECT c FROM ContentMember cm
+      JOIN cm.content c
+      WHERE cm.member.id = :memberId
+      ORDER BY c.createdAt DESC, c.id DESC
+      """)
+  List<Content> findMemberContents(@Param("memberId") UUID memberId, Pageable pageable);
+
+  /**
+   * 회원의 Content 최신순 조회 (커서 이후)
+   *
+   * @param memberId  회원 ID
+   * @param createdAt 이전 페이지 마지막 Content의 생성일시
+   * @param id        이전 페이지 마지막 Content의 ID
+   * @param pageable  조회 개수 (page는 항상 0)
+   * @return List<Content>
+   */
+  @Query("""
+      SELECT c FROM ContentMember cm
+      JOIN cm.content c
+      WHERE cm.member.id = :memberId
+        AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id))
+      ORDER BY c.createdAt DESC, c.id DESC
+      """)
+  List<Content> findMemberContentsAfter(
+      @Param("memberId") UUID memberId,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") UUID id,
+      Pageable pageable);
+
   /**
    * Content로 모든 ContentMember 조회 (Member Fetch Join으로 N+1 방지)
    * - MemberPlace 생성 시 사용
@@ -0,0 +1,35 @@
+package kr.suhsaechan.mapsy.sns.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import kr.suhsaechan.mapsy.sns.entity.ContentNotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ContentNotificationOutboxRepository extends JpaRepository<ContentNotificationOutbox, UUID> {
+
+  /**
+   * 전송 대기 항목을 오래된 순으로 잠금 조회
+   * - FOR UPDATE SKIP LOCKED: 다중 인스턴스 환경에서 같은 항목을 중복으로 가져가지 않음
+   */
+  @Query(value = "SELECT * FROM content_notification_outbox " +
+      "WHERE status = 'PENDING' " +
+      "ORDER BY created_at ASC " +
+      "LIMIT :limit " +
+      "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+  List<ContentNotificationOutbox> findPendingForUpdate(@Param("limit") int limit);
+
+  /**
+   * 디스패처 비정상 종료 등으로 PROCESSING에 머문 항목을 PENDING으로 복구
+   */
+  @Modifying
+  @Query("UPDATE ContentNotificationOutbox o SET o.status = kr.suhsaechan.mapsy.sns.constant.NotificationOutboxStatus.PENDING " +
+      "WHERE o.status = kr.suhsaechan.mapsy.sns.constant.NotificationOutboxStatus.PROCESSING " +
+      "AND o.updatedAt < :threshold")
+  int resetStaleProcessing(@Param("threshold") LocalDateTime threshold);
+}
@@ -5,6 +5,7 @@ import kr.suhsaechan.mapsy.sns.entity.Content;
 import kr.suhsaechan.mapsy.sns.entity.ContentPlace;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -26,6 +27,12 @@ public interface ContentPlaceRepository extends JpaRepository<ContentPlace, UUID
   @Query("SELECT cp FROM ContentPlace cp JOIN FETCH cp.place WHERE cp.content.id = :contentId ORDER BY cp.position ASC")
   List<ContentPlace> findByContentIdWithPlace(@Param("contentId") UUID contentId);
 
+  // 회원이 요청한 모든 Content의 ContentPlace 최신순 조회 (Place Fetch Join, 정렬/개수 제한은 DB에서 1회 쿼리로 수행)
+  @Query("SELECT cp FROM ContentPlace cp JOIN FETCH cp.place " +
+      "WHERE cp.content.id IN (SELECT cm.content.id FROM ContentMember cm WHERE cm.member.id = :memberId) " +
+      "ORDER BY cp.createdAt DESC, cp.id DESC")
+  List<ContentPlace> findRecentByMemberIdWithPlace(@Param("memberId") UUID memberId, Pageable pageable);
+
   // Content와 Place 조합으로 중복 체크
   boolean existsByContentAndPlace(Content content, Place place);
 }
@@ -1,9 +1,18 @@
 package kr.suhsaechan.mapsy.sns.repository;
 
+import kr.suhsaechan.mapsy.common.constant.ContentStatus;
+import jakarta.persistence.LockModeType;
 import kr.suhsaechan.mapsy.sns.entity.Content;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,4 +22,68 @@ public interface ContentRepository extends JpaRepository<Content, UUID> {
   // SNS URL로 Content 조회
   Optional<Content> findByOriginalUrl(String originalUrl);
 
+  // 같은 게시물 Content 조회 (canonical key 일치 또는 canonical key 계산 전 기존 데이터의 URL 일치)
+  List<Content> findAllByCanonicalKeyOrOriginalUrl(String canonicalKey, String originalUrl);
+
+  // canonical key 미계산 Content 조회 (기존 데이터 일괄 계산용)
+  List<Content> findTop500ByCanonicalKeyIsNull();
+
+  /**
+   * Content 행 잠금 조회 (SELECT ... FOR UPDATE)
+   * - 같은 Content의 AI Callback이 여러 워커/인스턴스에서 동시에 처리되지 않도록 트랜잭션 종료까지 직렬화
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT c FROM Content c WHERE c.id = :contentId")
+  Optional<Content> findByIdForUpdate(@Param("contentId") UUID contentId);
+
+  /**
+   * 상태가 기대값일 때만 변경 (AI 요청 실패 처리 시 그 사이 도착한 Callback 결과를 덮어쓰지 않음)
+   *
+   * @return 변경된 행 수
+   */
+  @Transactional
+  @Modifying
+  @Query("UPDATE Content c SET c.status = :status WHERE c.id = :contentId AND c.status = :expected")
+  int updateStatusIfMatches(@Param("contentId") UUID contentId, @Param("expected") ContentStatus expected,
+      @Param("status") ContentStatus status);
+
+  /**
+   * 재요청 대상 Content 잠금 조회 ((status, last_checked_at) 인덱스 범위 조회)
+   * - FAILED: 마지막 요청 후 지수 백오프 지연(기본 지연 * 2^(요청 횟수-1), 최대 지연 제한)이 지난 Content
+   * - PENDING: 위 조건 + 마지막 요청 후 pendingStaleBefore 이전 (Callback 없이 멈춘 Content)
+   * - 최대 요청 횟수 미만만 조회, FOR UPDATE SKIP LOCKED로 처리 중인 Content 제외
+   */
+  @Query(value = "SELECT * FROM content " +
+      "WHERE status IN ('PENDING', 'FAILED') " +
+      "AND last_checked_at < :checkedBefore " +
+      "AND (status = 'FAILED' OR last_checked_at < :pendingStaleBefore) " +
+      "AND extraction_attempts < :maxAttempts " +
+      "AND is_deleted = false " +
+      "AND last_checked_at + LEAST(:maxDelayMs, :baseDelayMs * power(2, GREATEST(extraction_attempts - 1, 0))) " +
+      "* interval '1 millisecond' < :now " +
+      "ORDER BY last_checked_at ASC " +
+      "LIMIT :limit " +
+      "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+  List<Content> findRetryCandidatesForUpdate(@Param("now") LocalDateTime now,
+      @Param("checkedBefore") LocalDateTime checkedBefore,
+      @Param("pendingStaleBefore") LocalDateTime pendingStaleBefore,
+      @Param("maxAttempts") int maxAttempts,
+      @Param("baseDelayMs") long baseDelayMs,
+      @Param("maxDelayMs") long maxDelayMs,
+      @Param("limit") int limit);
+
+  /**
+   * 최대 요청 횟수에 도달한 채 멈춘 PENDING Content를 FAILED로 변경
+   * - UPDATE ... RETURNING으로 변경된 Content ID를 반환 (호출 측에서 상태 변경 발행)
+   *
+   * @return FAILED로 변경된 Content ID 목록
+   */
+  @Query(value = "UPDATE content SET status = 'FAILED' " +
+      "WHERE status = 'PENDING' " +
+      "AND extraction_attempts >= :maxAttempts " +
+      "AND last_checked_at < :pendingStaleBefore " +
+      "RETURNING id", nativeQuery = true)
+  List<UUID> failExhaustedPending(@Param("maxAttempts") int maxAttempts,
+      @Param("pendingStaleBefore") LocalDateTime pendingStaleBefore);
+
 }
@@ -0,0 +1,219 @@
+package kr.suhsaechan.mapsy.sns.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import kr.suhsaechan.mapsy.ai.dto.AiCallbackRequest;
+import kr.suhsaechan.mapsy.ai.dto.AiCallbackResponse;
+import kr.suhsaechan.mapsy.common.exception.CustomException;
+import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
+import kr.suhsaechan.mapsy.common.properties.AiCallbackInboxProperties;
+import kr.suhsaechan.mapsy.sns.constant.AiCallbackInboxStatus;
+import kr.suhsaechan.mapsy.sns.entity.AiCallbackInbox;
+import kr.suhsaechan.mapsy.sns.repository.AiCallbackInboxRepository;
+import kr.suhsaechan.mapsy.sns.repository.ContentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * AI 서버 Callback 수신함(Inbox) 서비스
+ * - Callback 수신 시 검증 후 Inbox에 저장만 하고 즉시 응답
+ * - 실제 처리(Place 저장, 키워드 연결, 알림)는 워커가 Inbox에서 꺼내 수행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AiCallbackInboxService {
+
+  private static final int MAX_ERROR_LENGTH = 1000;
+
+  private final AiCallbackInboxRepository aiCallbackInboxRepository;
+  private final ContentRepository contentRepository;
+  private final AiCallbackService aiCallbackService;
+  private final AiCallbackInboxProperties aiCallbackInboxProperties;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+
+  private final AtomicLong pendingDepth = new AtomicLong();
+
+  private Timer drainLatencyTimer;
+  private Counter duplicateCounter;
+
+  @PostConstruct
+  void registerMetrics() {
+    Gauge.builder("ai.callback.inbox.depth", pendingDepth, AtomicLong::get)
+        .description("처리 대기 중인 AI Callback 수")
+        .register(meterRegistry);
+    drainLatencyTimer = Timer.builder("ai.callback.inbox.drain.latency")
+        .description("AI Callback 수신부터 처리 완료까지 걸린 시간")
+        .publishPercentiles(0.5, 0.95, 0.99)
+        .register(meterRegistry);
+    duplicateCounter = Counter.builder("ai.callback.inbox.duplicate")
+        .description("중복 수신되어 무시된 AI Callback 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * AI Callback 요청을 검증 후 Inbox에 저장
+   * - 동일 contentId + 동일 payload가 이미 수신된 경우 저장하지 않음 (duplicate=true)
+   *
+   * @param request AI Callback 요청
+   * @return AI Callback 응답
+   */
+  public AiCallbackResponse enqueue(AiCallbackRequest request) {
+    UUID contentId = request.getContentId();
+
+    if (contentId == null) {
+      log.error("contentId is null in callback request. resultStatus={}", request.getResultStatus());
+      throw new CustomException(ErrorCode.INVALID_REQUEST);
+    }
+    if (!"SUCCESS".equals(request.getResultStatus()) && !"FAILED".equals(request.getResultStatus())) {
+      log.error("Unknown resultStatus: {}", request.getResultStatus());
+      throw new CustomException(ErrorCode.INVALID_REQUEST);
+    }
+    if (!contentRepository.existsById(contentId)) {
+      throw new CustomException(ErrorCode.CONTENT_NOT_FOUND);
+    }
+
+    String payload = serialize(request);
+    String payloadHash = sha256(payload);
+
+    if (aiCallbackInboxRepository.existsByContentIdAndPayloadHash(contentId, payloadHash)) {
+      return duplicateResponse(contentId, payloadHash);
+    }
+
+    try {
+      aiCallbackInboxRepository.saveAndFlush(AiCallbackInbox.builder()
+          .contentId(contentId)
+          .payloadHash(payloadHash)
+          .payload(payload)
+          .build());
+    } catch (DataIntegrityViolationException e) {
+      // 동시에 들어온 재전송 요청이 먼저 저장된 경우
+      return duplicateResponse(contentId, payloadHash);
+    }
+
+    pendingDepth.incrementAndGet();
+    log.info("AI callback enqueued: contentId={}, resultStatus={}", contentId, request.getResultStatus());
+
+    return AiCallbackResponse.builder()
+        .received(true)
+        .contentId(contentId)
+        .duplicate(false)
+        .build();
+  }
+
+  /**
+   * 처리 대기 항목을 PROCESSING으로 선점
+   *
+   * @param limit 최대 선점 개수
+   * @return 선점한 Inbox ID 목록
+   */
+  @Transactional
+  public List<UUID> claimPending(int limit) {
+    List<AiCallbackInbox> inboxes = aiCallbackInboxRepository.findPendingForUpdate(limit);
+    inboxes.forEach(inbox -> inbox.setStatus(AiCallbackInboxStatus.PROCESSING));
+    pendingDepth.updateAndGet(depth -> Math.max(0, depth - inboxes.size()));
+    return inboxes.stream().map(AiCallbackInbox::getId).toList();
+  }
+
+  /**
+   * 선점한 Inbox 항목 처리
+   * - Callback 처리는 AiCallbackService의 트랜잭션에서 수행되고, 결과 상태는 별도로 기록
+   * - CustomException(Content 없음, 잘못된 요청 등)은 재시도해도 동일하므로 즉시 FAILED 처리
+   *
+   * @param inboxId Inbox ID
+   */
+  public void process(UUID inboxId) {
+    AiCallbackInbox inbox = aiCallbackInboxRepository.findById(inboxId).orElse(null);
+    if (inbox == null || inbox.getStatus() != AiCallbackInboxStatus.PROCESSING) {
+      return;
+    }
+
+    try {
+      AiCallbackRequest request = objectMapper.readValue(inbox.getPayload(), AiCallbackRequest.class);
+      aiCallbackService.processAiServerCallback(request);
+
+      inbox.setStatus(AiCallbackInboxStatus.DONE);
+      inbox.setProcessedAt(LocalDateTime.now());
+      inbox.setLastError(null);
+      drainLatencyTimer.record(Duration.between(inbox.getCreatedAt(), inbox.getProcessedAt()));
+    } catch (Exception e) {
+      int attemptCount = inbox.getAttemptCount() + 1;
+      boolean retryable = !(e instanceof CustomException) && attemptCount < aiCallbackInboxProperties.getMaxAttempts();
+
+      inbox.setAttemptCount(attemptCount);
+      inbox.setLastError(truncate(e.getMessage()));
+      inbox.setStatus(retryable ? AiCallbackInboxStatus.PENDING : AiCallbackInboxStatus.FAILED);
+      log.error("AI callback processing failed: inboxId={}, contentId={}, attempt={}, retry={}. Error: {}",
+          inbox.getId(), inbox.getContentId(), attemptCount, retryable, e.getMessage(), e);
+    }
+
+    aiCallbackInboxRepository.save(inbox);
+  }
+
+  /**
+   * 워커 비정상 종료로 PROCESSING에 머문 항목을 PENDING으로 복구하고 대기 건수 갱신
+   */
+  @Transactional
+  public void recoverAndRefreshDepth() {
+    LocalDateTime threshold = LocalDateTime.now()
+        .minusMinutes(aiCallbackInboxProperties.getProcessingTimeoutMinutes());
+    int recovered = aiCallbackInboxRepository.resetStaleProcessing(threshold);
+    if (recovered > 0) {
+      log.warn("Recovered {} stale PROCESSING AI callbacks", recovered);
+    }
+    pendingDepth.set(aiCallbackInboxRepository.countByStatus(AiCallbackInboxStatus.PENDING));
+  }
+
+  private AiCallbackResponse duplicateResponse(UUID contentId, String payloadHash) {
+    duplicateCounter.increment();
+    log.info("Duplicate AI callback ignored: contentId={}, payloadHash={}", contentId, payloadHash);
+    return AiCallbackResponse.builder()
+        .received(true)
+        .contentId(contentId)
+        .duplicate(true)
+        .build();
+  }
+
+  private String serialize(AiCallbackRequest request) {
+    try {
+      return objectMapper.writeValueAsString(request);
+    } catch (JsonProcessingException e) {
+      log.error("Failed to serialize AI callback: contentId={}", request.getContentId(), e);
+      throw new CustomException(ErrorCode.INVALID_REQUEST);
+    }
+  }
+
+  private String sha256(String payload) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(payload.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 algorithm not available", e);
+    }
+  }
+
+  private String truncate(String message) {
+    if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+      return message;
+    }
+    return message.substring(0, MAX_ERROR_LENGTH);
+  }
+}
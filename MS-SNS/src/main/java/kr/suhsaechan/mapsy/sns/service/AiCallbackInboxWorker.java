@@ -0,0 +1,82 @@
+package kr.suhsaechan.mapsy.sns.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import kr.suhsaechan.mapsy.common.properties.AiCallbackInboxProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI Callback Inbox 워커
+ * - 주기적으로 Inbox를 폴링하여 고정 크기 스레드 풀에서 처리
+ * - 빈 워커 수만큼만 선점하므로 처리 대기열이 메모리에 쌓이지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AiCallbackInboxWorker {
+
+  private final AiCallbackInboxService aiCallbackInboxService;
+  private final AiCallbackInboxProperties aiCallbackInboxProperties;
+
+  private ExecutorService executor;
+  private Semaphore availableWorkers;
+
+  @PostConstruct
+  void start() {
+    int workerCount = aiCallbackInboxProperties.getWorkerCount();
+    AtomicInteger threadIndex = new AtomicInteger();
+    executor = Executors.newFixedThreadPool(workerCount,
+        runnable -> new Thread(runnable, "ai-callback-worker-" + threadIndex.incrementAndGet()));
+    availableWorkers = new Semaphore(workerCount);
+  }
+
+  @PreDestroy
+  void stop() throws InterruptedException {
+    executor.shutdown();
+    if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+      log.warn("AI callback workers did not terminate in time. Remaining items will be recovered on restart.");
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * 빈 워커 수만큼 Inbox 항목을 선점하여 처리
+   */
+  @Scheduled(fixedDelayString = "${ai.callback.inbox.poll-interval-ms:1000}")
+  public void poll() {
+    int available = availableWorkers.availablePermits();
+    if (available == 0) {
+      return;
+    }
+
+    List<UUID> inboxIds = aiCallbackInboxService.claimPending(available);
+    for (UUID inboxId : inboxIds) {
+      availableWorkers.acquireUninterruptibly();
+      executor.execute(() -> {
+        try {
+          aiCallbackInboxService.process(inboxId);
+        } finally {
+          availableWorkers.release();
+        }
+      });
+    }
+  }
+
+  /**
+   * 멈춘 항목 복구 및 대기 건수 메트릭 갱신
+   */
+  @Scheduled(fixedDelay = 30_000)
+  public void recover() {
+    aiCallbackInboxService.recoverAndRefreshDepth();
+  }
+}
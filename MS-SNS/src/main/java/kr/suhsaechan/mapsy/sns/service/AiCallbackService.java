@@ -17,28 +17,35 @@ import kr.suhsaechan.mapsy.place.repository.MemberPlaceRepository;
 import kr.suhsaechan.mapsy.place.repository.PlacePlatformReferenceRepository;
 import kr.suhsaechan.mapsy.place.repository.PlaceRepository;
 import kr.suhsaechan.mapsy.place.service.KeywordService;
+import kr.suhsaechan.mapsy.place.service.PlaceDetailCacheService;
 import kr.suhsaechan.mapsy.sns.entity.Content;
 import kr.suhsaechan.mapsy.sns.entity.ContentMember;
 import kr.suhsaechan.mapsy.sns.entity.ContentPlace;
 import kr.suhsaechan.mapsy.sns.repository.ContentMemberRepository;
 import kr.suhsaechan.mapsy.sns.repository.ContentPlaceRepository;
 import kr.suhsaechan.mapsy.sns.repository.ContentRepository;
+import kr.suhsaechan.mapsy.sns.util.ContentUrlUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import kr.suhsaechan.mapsy.member.service.FcmService;
+import java.util.stream.Collectors;
 
 /**
  * AI 서버 Webhook Callback 처리
@@ -50,14 +57,20 @@ import kr.suhsaechan.mapsy.member.service.FcmService;
 @Slf4j
 public class AiCallbackService {
 
+  private static final int COORDINATE_SCALE = 7;
+
   private final ContentRepository contentRepository;
   private final ContentMemberRepository contentMemberRepository;
   private final PlaceRepository placeRepository;
   private final ContentPlaceRepository contentPlaceRepository;
   private final PlacePlatformReferenceRepository placePlatformReferenceRepository;
   private final MemberPlaceRepository memberPlaceRepository;
-  private final FcmService fcmService;
+  private final ContentNotificationService contentNotificationService;
   private final KeywordService keywordService;
+  private final PlaceDetailCacheService placeDetailCacheService;
+  private final ContentUrlCacheService contentUrlCacheService;
+  private final ContentExtractionDispatcher contentExtractionDispatcher;
+  private final ContentStatusPublisher contentStatusPublisher;
 
   /**
    * AI 서버로부터 받은 Callback 처리
@@ -77,10 +90,13 @@ public class AiCallbackService {
     log.info("Processing AI callback: contentId={}, resultStatus={}",
         contentId, request.getResultStatus());
 
-    // Content 조회
-    Content content = contentRepository.findById(contentId)
+    // Content 잠금 조회 (같은 Content의 Callback은 커밋까지 직렬 처리 → ContentPlace 삭제/저장이 섞이지 않음)
+    Content content = contentRepository.findByIdForUpdate(contentId)
         .orElseThrow(() -> new CustomException(ErrorCode.CONTENT_NOT_FOUND));
 
+    // 성공 Callback은 originalUrl을 AI가 확인한 URL로 바꿀 수 있으므로 요청 URL을 미리 보관 (합치기 키는 요청 URL 기준)
+    String requestedUrl = content.getOriginalUrl();
+
     // 결과 상태에 따라 분기 처리
     if ("SUCCESS".equals(request.getResultStatus())) {
       processSuccessCallback(content, request);
@@ -91,6 +107,12 @@ public class AiCallbackService {
       throw new CustomException(ErrorCode.INVALID_REQUEST);
     }
 
+    // 분석이 끝났으므로 같은 게시물 재요청 시 다시 AI 서버로 전송 가능
+    contentExtractionDispatcher.release(requestedUrl);
+
+    // 상태 구독 중인 클라이언트에 결과 전송 (커밋 후)
+    contentStatusPublisher.publish(contentId);
+
     log.info("AI callback processed successfully: contentId={}", contentId);
 
     return AiCallbackResponse.builder()
@@ -120,11 +142,19 @@ public class AiCallbackService {
     // Content 상태를 COMPLETED로 변경
     content.setStatus(ContentStatus.COMPLETED);
 
-    // SnsInfo로 Content 메타데이터 업데이트
+    // SnsInfo로 Content 메타데이터 업데이트 (originalUrl이 바뀔 수 있으므로 요청 URL 키를 먼저 계산)
+    String requestedKey = ContentUrlUtil.canonicalKey(content.getOriginalUrl());
     updateContentWithSnsInfo(content, request.getSnsInfo());
 
     contentRepository.save(content);
 
+    // 같은 URL 재요청은 Content 조회 없이 처리되도록 URL 캐시 적재 (요청 URL, 변경된 URL 모두, 커밋 후 반영)
+    contentUrlCacheService.put(requestedKey, content.getId(), content.getStatus());
+    String resolvedKey = ContentUrlUtil.canonicalKey(content.getOriginalUrl());
+    if (resolvedKey != null && !resolvedKey.equals(requestedKey)) {
+      contentUrlCacheService.put(resolvedKey, content.getId(), content.getStatus());
+    }
+
     // Place 생성 및 Content 연결
     int placeCount = 0;
     if (request.getPlaceDetails() != null && !request.getPlaceDetails().isEmpty()) {
@@ -132,26 +162,23 @@ public class AiCallbackService {
       log.info("Received {} places for contentId={} (update mode: {}). Starting Place creation.",
           placeDetails.size(), content.getId(), isContentAlreadyCompleted);
 
-      List<Place> savedPlaces = new ArrayList<>();
-      int position = 0;
-      for (PlaceDetailCallback placeDetail : placeDetails) {
-        try {
-          // Place 생성 또는 조회
-          Place place = createOrGetPlaceFromPlaceDetail(placeDetail);
-          savedPlaces.add(place);
-
-          // ContentPlace 연결 (순서 포함)
-          createContentPlace(content, place, position++);
+      // Place 일괄 생성/조회 후 ContentPlace 일괄 연결 (순서 포함)
+      List<Place> savedPlaces = upsertPlacesFromPlaceDetails(placeDetails);
+      createContentPlaces(content, savedPlaces);
 
-          // 키워드 연결
-          if (placeDetail.getKeywords() != null && !placeDetail.getKeywords().isEmpty()) {
-            keywordService.linkKeywordsToPlace(place, placeDetail.getKeywords());
-            log.debug("Linked {} keywords to place: {}", placeDetail.getKeywords().size(), place.getName());
-          }
-
-          log.debug("Successfully processed place: {} (id={})", place.getName(), place.getId());
+      // 키워드 연결 (같은 장소가 여러 번 등장하면 키워드 병합 후 한 번에 처리)
+      Map<Place, List<String>> placeKeywords = new LinkedHashMap<>();
+      for (int i = 0; i < placeDetails.size(); i++) {
+        List<String> keywords = placeDetails.get(i).getKeywords();
+        if (keywords != null && !keywords.isEmpty()) {
+          placeKeywords.computeIfAbsent(savedPlaces.get(i), place -> new ArrayList<>()).addAll(keywords);
+        }
+      }
+      if (!placeKeywords.isEmpty()) {
+        try {
+          keywordService.linkKeywordsToPlaces(placeKeywords);
         } catch (Exception e) {
-          log.error("Failed to process place: {}. Error: {}", placeDetail.getName(), e.getMessage(), e);
+          log.error("Failed to link keywords for contentId={}. Error: {}", content.getId(), e.getMessage(), e);
         }
       }
 
@@ -162,8 +189,8 @@ public class AiCallbackService {
       log.warn("No places found in callback for contentId={}", content.getId());
     }
 
-    // 알림 전송
-    sendContentCompleteNotification(content, placeCount);
+    // 알림 전송은 Outbox에 저장만 하고 커밋 이후 디스패처가 수행
+    contentNotificationService.enqueueContentComplete(content.getId(), placeCount);
   }
 
   /**
@@ -213,8 +240,12 @@ public class AiCallbackService {
     if (snsInfo.getUrl() != null) {
       String newUrl = snsInfo.getUrl();
       if (!newUrl.equals(content.getOriginalUrl())) {
-        Optional<Content> existingContent = contentRepository.findByOriginalUrl(newUrl);
-        if (existingContent.isPresent() && !existingContent.get().getId().equals(content.getId())) {
+        // 같은 게시물(canonical key) 또는 같은 URL의 다른 Content가 있으면 변경하지 않음
+        Optional<Content> existingContent = contentRepository
+            .findAllByCanonicalKeyOrOriginalUrl(ContentUrlUtil.canonicalKey(newUrl), newUrl).stream()
+            .filter(other -> !other.getId().equals(content.getId()))
+            .findFirst();
+        if (existingContent.isPresent()) {
           log.warn("Cannot update originalUrl: URL already exists in another Content. " +
                   "currentContentId={}, existingContentId={}, url={}",
               content.getId(), existingContent.get().getId(), newUrl);
@@ -290,63 +321,149 @@ public class AiCallbackService {
 
     content.setStatus(ContentStatus.FAILED);
     contentRepository.save(content);
+    contentUrlCacheService.evict(ContentUrlUtil.canonicalKey(content.getOriginalUrl()));
   }
 
   /**
-   * PlaceDetail로부터 Place 생성 또는 조회
+   * PlaceDetail 목록으로부터 Place 일괄 생성 또는 조회
    *
-   * 중복 체크 순서:
-   * 1. naverPlaceId로 PlacePlatformReference 검색
-   * 2. name + 좌표로 기존 Place 검색
-   * 3. 없으면 신규 생성 + PlacePlatformReference 생성
+   * 중복 체크 순서 (장소별 건건이 조회하지 않고 목록 단위로 조회):
+   * 1. naverPlaceId 목록으로 PlacePlatformReference 일괄 검색 (IN 쿼리 1회)
+   * 2. 남은 항목의 name 목록으로 후보 Place 일괄 검색 후 좌표 비교 (IN 쿼리 1회)
+   * 3. 없으면 신규 생성 + PlacePlatformReference 생성 (saveAll, JDBC batch insert)
+   *
+   * @param placeDetails AI 서버가 전달한 장소 상세 목록
+   * @return placeDetails와 같은 순서의 Place 목록
    */
-  private Place createOrGetPlaceFromPlaceDetail(PlaceDetailCallback placeDetail) {
-    // 1. naverPlaceId로 중복 체크
-    if (placeDetail.getPlaceId() != null) {
-      Optional<PlacePlatformReference> existingRef = placePlatformReferenceRepository
-          .findByPlacePlatformAndPlacePlatformId(PlacePlatform.NAVER, placeDetail.getPlaceId());
-
-      if (existingRef.isPresent()) {
-        Place existingPlace = existingRef.get().getPlace();
-        updatePlaceFromPlaceDetail(existingPlace, placeDetail);
-        log.debug("Found existing place by naverPlaceId: id={}, name={}", existingPlace.getId(), existingPlace.getName());
-        return placeRepository.save(existingPlace);
+  private List<Place> upsertPlacesFromPlaceDetails(List<PlaceDetailCallback> placeDetails) {
+    // 1. naverPlaceId로 기존 Place 일괄 조회
+    Set<String> naverPlaceIds = placeDetails.stream()
+        .map(PlaceDetailCallback::getPlaceId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+
+    Map<String, Place> placeByNaverPlaceId = new HashMap<>();
+    if (!naverPlaceIds.isEmpty()) {
+      placePlatformReferenceRepository
+          .findAllByPlacePlatformAndPlacePlatformIdIn(PlacePlatform.NAVER, naverPlaceIds)
+          .forEach(ref -> placeByNaverPlaceId.put(ref.getPlacePlatformId(), ref.getPlace()));
+    }
+
+    // 2. name + 좌표로 기존 Place 일괄 조회 (fallback)
+    Set<String> fallbackNames = placeDetails.stream()
+        .filter(placeDetail -> placeDetail.getPlaceId() == null
+            || !placeByNaverPlaceId.containsKey(placeDetail.getPlaceId()))
+        .filter(placeDetail -> placeDetail.getName() != null
+            && placeDetail.getLatitude() != null
+            && placeDetail.getLongitude() != null)
+        .map(PlaceDetailCallback::getName)
+        .collect(Collectors.toSet());
+
+    Map<String, Place> placeByNameAndCoords = new HashMap<>();
+    if (!fallbackNames.isEmpty()) {
+      placeRepository.findAllByNameIn(fallbackNames)
+          .forEach(place -> placeByNameAndCoords.putIfAbsent(
+              toNameAndCoordsKey(place.getName(), place.getLatitude(), place.getLongitude()), place));
+    }
+
+    // 3. 요청 순서대로 Place 결정 (기존 Place 업데이트 또는 신규 생성)
+    List<Place> resolvedPlaces = new ArrayList<>(placeDetails.size());
+    List<Place> newPlaces = new ArrayList<>();
+    List<PlacePlatformReference> newReferences = new ArrayList<>();
+    Map<Place, String> matchedByNameAndCoords = new LinkedHashMap<>();
+
+    for (PlaceDetailCallback placeDetail : placeDetails) {
+      String naverPlaceId = placeDetail.getPlaceId();
+
+      Place existingByNaverPlaceId = naverPlaceId != null ? placeByNaverPlaceId.get(naverPlaceId) : null;
+      if (existingByNaverPlaceId != null) {
+        updatePlaceFromPlaceDetail(existingByNaverPlaceId, placeDetail);
+        resolvedPlaces.add(existingByNaverPlaceId);
+        log.debug("Found existing place by naverPlaceId: id={}, name={}",
+            existingByNaverPlaceId.getId(), existingByNaverPlaceId.getName());
+        continue;
       }
-    }
 
-    // 2. name + 좌표로 중복 체크 (fallback)
-    if (placeDetail.getLatitude() != null && placeDetail.getLongitude() != null) {
-      BigDecimal latitude = BigDecimal.valueOf(placeDetail.getLatitude());
-      BigDecimal longitude = BigDecimal.valueOf(placeDetail.getLongitude());
-
-      Optional<Place> existing = placeRepository.findByNameAndLatitudeAndLongitude(
-          placeDetail.getName(),
-          latitude,
-          longitude
-      );
+      String nameAndCoordsKey = (placeDetail.getLatitude() != null && placeDetail.getLongitude() != null)
+          ? toNameAndCoordsKey(placeDetail.getName(),
+              BigDecimal.valueOf(placeDetail.getLatitude()),
+              BigDecimal.valueOf(placeDetail.getLongitude()))
+          : null;
+
+      Place existingByNameAndCoords = nameAndCoordsKey != null ? placeByNameAndCoords.get(nameAndCoordsKey) : null;
+      if (existingByNameAndCoords != null) {
+        updatePlaceFromPlaceDetail(existingByNameAndCoords, placeDetail);
+        resolvedPlaces.add(existingByNameAndCoords);
+
+        // PlacePlatformReference 존재 여부는 아래에서 일괄 확인
+        if (naverPlaceId != null) {
+          matchedByNameAndCoords.putIfAbsent(existingByNameAndCoords, naverPlaceId);
+          placeByNaverPlaceId.put(naverPlaceId, existingByNameAndCoords);
+        }
+        log.debug("Found existing place by name+coords: id={}, name={}",
+            existingByNameAndCoords.getId(), existingByNameAndCoords.getName());
+        continue;
+      }
 
-      if (existing.isPresent()) {
-        Place existingPlace = existing.get();
-        updatePlaceFromPlaceDetail(existingPlace, placeDetail);
+      // 신규 Place 생성 (같은 요청 내 중복 항목은 동일 Place 재사용)
+      Place newPlace = createNewPlace(placeDetail);
+      newPlaces.add(newPlace);
+      resolvedPlaces.add(newPlace);
+
+      if (naverPlaceId != null) {
+        placeByNaverPlaceId.put(naverPlaceId, newPlace);
+        newReferences.add(PlacePlatformReference.builder()
+            .place(newPlace)
+            .placePlatform(PlacePlatform.NAVER)
+            .placePlatformId(naverPlaceId)
+            .build());
+      }
+      if (nameAndCoordsKey != null) {
+        placeByNameAndCoords.put(nameAndCoordsKey, newPlace);
+      }
+    }
 
-        // PlacePlatformReference가 없으면 생성
-        createPlacePlatformReferenceIfNotExists(existingPlace, placeDetail.getPlaceId());
+    // 4. name + 좌표로 찾은 Place 중 PlacePlatformReference가 없는 경우 생성 (조회 1회)
+    if (!matchedByNameAndCoords.isEmpty()) {
+      Set<UUID> placeIdsWithReference = placePlatformReferenceRepository
+          .findAllByPlaceInAndPlacePlatform(matchedByNameAndCoords.keySet(), PlacePlatform.NAVER)
+          .stream()
+          .map(ref -> ref.getPlace().getId())
+          .collect(Collectors.toSet());
+
+      matchedByNameAndCoords.forEach((place, naverPlaceId) -> {
+        if (!placeIdsWithReference.contains(place.getId())) {
+          newReferences.add(PlacePlatformReference.builder()
+              .place(place)
+              .placePlatform(PlacePlatform.NAVER)
+              .placePlatformId(naverPlaceId)
+              .build());
+        }
+      });
+    }
 
-        log.debug("Found existing place by name+coords: id={}, name={}", existingPlace.getId(), existingPlace.getName());
-        return placeRepository.save(existingPlace);
-      }
+    // 5. 신규 Place, PlacePlatformReference 일괄 저장 (hibernate.jdbc.batch_size 단위 batch insert)
+    if (!newPlaces.isEmpty()) {
+      placeRepository.saveAll(newPlaces);
+    }
+    if (!newReferences.isEmpty()) {
+      placePlatformReferenceRepository.saveAll(newReferences);
     }
 
-    // 3. 신규 Place 생성
-    Place newPlace = createNewPlace(placeDetail);
-    Place savedPlace = placeRepository.save(newPlace);
+    log.debug("Upserted places in bulk: requested={}, created={}, createdReferences={}",
+        placeDetails.size(), newPlaces.size(), newReferences.size());
 
-    // PlacePlatformReference 생성
-    createPlacePlatformReferenceIfNotExists(savedPlace, placeDetail.getPlaceId());
+    return resolvedPlaces;
+  }
 
-    log.debug("Created new place: id={}, name={}, naverPlaceId={}",
-        savedPlace.getId(), savedPlace.getName(), placeDetail.getPlaceId());
-    return savedPlace;
+  /**
+   * name + 좌표 비교용 키 생성
+   * - DB 컬럼(NUMERIC(10,7))과 동일한 스케일로 맞춰 비교
+   */
+  private String toNameAndCoordsKey(String name, BigDecimal latitude, BigDecimal longitude) {
+    return name + "|"
+        + latitude.setScale(COORDINATE_SCALE, RoundingMode.HALF_UP).toPlainString() + "|"
+        + longitude.setScale(COORDINATE_SCALE, RoundingMode.HALF_UP).toPlainString();
   }
 
   /**
@@ -456,125 +573,38 @@ public class AiCallbackService {
     if (placeDetail.getImageUrls() != null) {
       place.setPhotoUrls(placeDetail.getImageUrls());
     }
-  }
-
-  /**
-   * PlacePlatformReference 생성 (없으면)
-   */
-  private void createPlacePlatformReferenceIfNotExists(Place place, String naverPlaceId) {
-    if (naverPlaceId == null) {
-      return;
-    }
-
-    // 이미 존재하는지 확인
-    Optional<PlacePlatformReference> existing = placePlatformReferenceRepository
-        .findByPlaceAndPlacePlatform(place, PlacePlatform.NAVER);
-
-    if (existing.isEmpty()) {
-      PlacePlatformReference reference = PlacePlatformReference.builder()
-          .place(place)
-          .placePlatform(PlacePlatform.NAVER)
-          .placePlatformId(naverPlaceId)
-          .build();
-      placePlatformReferenceRepository.save(reference);
-      log.debug("Created PlacePlatformReference: placeId={}, naverPlaceId={}", place.getId(), naverPlaceId);
-    }
-  }
 
-  /**
-   * ContentPlace 연결 생성 (순서 포함)
-   */
-  private void createContentPlace(Content content, Place place, int position) {
-    // 중복 체크
-    boolean exists = contentPlaceRepository.existsByContentAndPlace(content, place);
-    if (exists) {
-      log.debug("ContentPlace already exists: contentId={}, placeId={}", content.getId(), place.getId());
-      return;
+    // 기존 장소면 상세 정보 캐시 무효화 (커밋 후 반영, 신규 장소는 ID 할당 전)
+    if (place.getId() != null) {
+      placeDetailCacheService.evict(place.getId());
     }
-
-    ContentPlace contentPlace = ContentPlace.builder()
-        .content(content)
-        .place(place)
-        .position(position)
-        .build();
-
-    contentPlaceRepository.save(contentPlace);
-    log.debug("Created ContentPlace: contentId={}, placeId={}, position={}", content.getId(), place.getId(), position);
   }
 
   /**
-   * Content 분석 완료 알림 전송
+   * ContentPlace 일괄 연결 생성 (순서 포함)
+   * - 같은 요청 내 중복 Place는 한 번만 연결
+   * - 기존 ContentPlace는 COMPLETED 재처리 시 먼저 삭제되므로 건별 존재 확인 생략
    */
-  private void sendContentCompleteNotification(Content content, int placeCount) {
-    log.info("Sending content complete notifications for contentId={}, placeCount={}", content.getId(), placeCount);
-
-    List<ContentMember> unnotifiedMembers = contentMemberRepository.findUnnotifiedMembersWithMember(content.getId());
-
-    if (unnotifiedMembers.isEmpty()) {
-      log.info("No unnotified members found for contentId={}", content.getId());
-      return;
-    }
-
-    log.info("Found {} unnotified members for contentId={}", unnotifiedMembers.size(), content.getId());
-
-    // 알림 데이터 구성
-    Map<String, String> notificationData = new HashMap<>();
-    notificationData.put("type", "CONTENT_COMPLETE");
-    notificationData.put("contentId", content.getId().toString());
-    notificationData.put("placeCount", String.valueOf(placeCount));
-
-    if (content.getTitle() != null) {
-      notificationData.put("title", content.getTitle());
-    }
-    if (content.getThumbnailUrl() != null) {
-      notificationData.put("thumbnailUrl", content.getThumbnailUrl());
-    }
-
-    // 알림 메시지 구성
-    String notificationTitle = "콘텐츠 분석 완료";
-    String notificationBody;
-    if (placeCount > 0) {
-      notificationBody = String.format("%d개의 장소가 발견되었습니다.", placeCount);
-      if (content.getTitle() != null) {
-        notificationBody = content.getTitle() + " - " + notificationBody;
+  private void createContentPlaces(Content content, List<Place> places) {
+    Set<UUID> linkedPlaceIds = new HashSet<>();
+    List<ContentPlace> contentPlaces = new ArrayList<>();
+    int position = 0;
+
+    for (Place place : places) {
+      if (!linkedPlaceIds.add(place.getId())) {
+        log.debug("ContentPlace already exists: contentId={}, placeId={}", content.getId(), place.getId());
+        continue;
       }
-    } else {
-      notificationBody = content.getTitle() != null
-          ? content.getTitle() + " 분석이 완료되었습니다."
-          : "콘텐츠 분석이 완료되었습니다.";
-    }
 
-    // 각 회원에게 알림 전송
-    int successCount = 0;
-    List<ContentMember> succeededMembers = new ArrayList<>();
-    for (ContentMember contentMember : unnotifiedMembers) {
-      try {
-        fcmService.sendNotificationToMember(
-            contentMember.getMember().getId(),
-            notificationTitle,
-            notificationBody,
-            notificationData,
-            content.getThumbnailUrl()
-        );
-
-        contentMember.setNotified(true);
-        succeededMembers.add(contentMember);
-        successCount++;
-
-        log.info("Notification sent successfully to memberId={} for contentId={}",
-            contentMember.getMember().getId(), content.getId());
-      } catch (Exception e) {
-        log.error("Failed to send notification to memberId={} for contentId={}: {}",
-            contentMember.getMember().getId(), content.getId(), e.getMessage());
-      }
-    }
-
-    if (!succeededMembers.isEmpty()) {
-      contentMemberRepository.saveAll(succeededMembers);
+      contentPlaces.add(ContentPlace.builder()
+          .content(content)
+          .place(place)
+          .position(position++)
+          .build());
     }
 
-    log.info("Content complete notifications sent: {}/{} succeeded for contentId={}",
-        successCount, unnotifiedMembers.size(), content.getId());
+    contentPlaceRepository.saveAll(contentPlaces);
+    log.debug("Created {} ContentPlaces: contentId={}", contentPlaces.size(), content.getId());
   }
 
   /**
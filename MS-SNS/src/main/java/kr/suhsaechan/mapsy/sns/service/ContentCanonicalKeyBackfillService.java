@@ -0,0 +1,77 @@
+package kr.suhsaechan.mapsy.sns.service;
+
+import java.time.Duration;
+import java.util.List;
+import kr.suhsaechan.mapsy.sns.entity.Content;
+import kr.suhsaechan.mapsy.sns.repository.ContentRepository;
+import kr.suhsaechan.mapsy.sns.util.ContentUrlUtil;
+import kr.suhsaechan.mapsy.sns.util.ContentUrlUtil.CanonicalUrl;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 기존 Content canonical key 일괄 계산
+ * - canonical_key 컬럼 추가 전 생성된 Content는 값이 비어 있으므로 주기적으로 500건씩 계산
+ * - 플랫폼이 비어 있으면 URL에서 감지한 플랫폼도 함께 채움
+ * - 모두 채워진 뒤에는 canonical_key IS NULL 인덱스 조회 1회로 종료
+ * - 주기 구간별 Redis 키 선점으로 구간 내 1개 인스턴스만 실행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ContentCanonicalKeyBackfillService {
+
+  private static final String BACKFILL_LOCK_PREFIX = "CONTENT:CANONICAL_KEY:BACKFILL:";
+
+  private final ContentRepository contentRepository;
+  private final RedisTemplate<String, Object> redisTemplate;
+
+  @Value("${content.canonical-key.backfill-interval-ms:60000}")
+  private long backfillIntervalMs;
+
+  @Scheduled(fixedDelayString = "${content.canonical-key.backfill-interval-ms:60000}")
+  @Transactional
+  public void backfill() {
+    if (!acquireBackfillLock()) {
+      return;
+    }
+
+    List<Content> contents = contentRepository.findTop500ByCanonicalKeyIsNull();
+    if (contents.isEmpty()) {
+      return;
+    }
+
+    for (Content content : contents) {
+      CanonicalUrl canonicalUrl = ContentUrlUtil.canonicalize(content.getOriginalUrl());
+      if (canonicalUrl == null) {
+        continue;
+      }
+      content.setCanonicalKey(canonicalUrl.getKey());
+      if (content.getPlatform() == null) {
+        content.setPlatform(canonicalUrl.getPlatform());
+      }
+    }
+    log.info("Backfilled canonical keys for {} contents", contents.size());
+  }
+
+  /**
+   * 일괄 계산 구간별 Redis 키 선점 (구간 내 1개 인스턴스만 실행)
+   * - Redis 장애 시 이번 구간은 건너뜀
+   */
+  private boolean acquireBackfillLock() {
+    long slot = System.currentTimeMillis() / backfillIntervalMs;
+    try {
+      Boolean acquired = redisTemplate.opsForValue()
+          .setIfAbsent(BACKFILL_LOCK_PREFIX + slot, "1", Duration.ofMillis(backfillIntervalMs * 2));
+      return Boolean.TRUE.equals(acquired);
+    } catch (Exception e) {
+      log.warn("Failed to acquire canonical key backfill lock: {}", e.getMessage());
+      return false;
+    }
+  }
+}
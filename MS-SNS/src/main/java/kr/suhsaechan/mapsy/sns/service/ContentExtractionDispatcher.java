@@ -0,0 +1,312 @@
+package kr.suhsaechan.mapsy.sns.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import kr.suhsaechan.mapsy.ai.dto.PlaceExtractionBatchResponse;
+import kr.suhsaechan.mapsy.ai.dto.PlaceExtractionRequest;
+import kr.suhsaechan.mapsy.ai.dto.PlaceExtractionResponse;
+import kr.suhsaechan.mapsy.ai.service.AiServerService;
+import kr.suhsaechan.mapsy.common.constant.ContentStatus;
+import kr.suhsaechan.mapsy.common.properties.ContentExtractionBatchProperties;
+import kr.suhsaechan.mapsy.common.util.TransactionUtil;
+import kr.suhsaechan.mapsy.sns.repository.ContentRepository;
+import kr.suhsaechan.mapsy.sns.util.ContentUrlUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Content 장소 추출 요청 디스패처 (일괄 전송)
+ * - 트랜잭션 커밋 후 대기열에 적재, 전송 스레드가 최대 maxWaitMs 동안 최대 maxSize건을 모아 한 번에 전송
+ * - 같은 게시물(canonical key) 요청이 대기/처리 중이면 합침 (AI 서버 중복 분석 방지)
+ *   - AI 서버 접수 후에는 Callback 수신(release) 또는 inFlightTtlMinutes 경과 시까지 유지
+ * - back-pressure
+ *   - 응답 대기 중인 일괄 요청이 maxInFlightBatches에 도달하면 전송 대기
+ *   - AI 서버 과부하 신호(429/503 Retry-After) 동안 전송 중지
+ *   - 대기열이 가득 차면 새 요청은 FAILED 처리 (재요청 가능)
+ * - 전송 대기/재시도 중에는 Content가 PENDING 유지, 최종 실패 시 PENDING인 경우에만 FAILED로 변경
+ *   - 커밋 후 콜백(대기열 가득 참)에서도 호출되므로 FAILED 변경은 항상 새 트랜잭션에서 커밋 후 상태 발행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ContentExtractionDispatcher {
+
+  private final AiServerService aiServerService;
+  private final ContentRepository contentRepository;
+  private final ContentExtractionBatchProperties contentExtractionBatchProperties;
+  private final MeterRegistry meterRegistry;
+  private final ContentStatusPublisher contentStatusPublisher;
+  private final PlatformTransactionManager transactionManager;
+
+  // canonical key → 대기/처리 중 요청
+  private final Map<String, InFlightExtraction> inFlight = new ConcurrentHashMap<>();
+  private BlockingQueue<PendingExtraction> queue;
+  private Semaphore batchPermits;
+  private TransactionTemplate requiresNewTransaction;
+  private Thread senderThread;
+  private volatile boolean running;
+
+  @PostConstruct
+  void start() {
+    queue = new LinkedBlockingQueue<>(contentExtractionBatchProperties.getQueueCapacity());
+    batchPermits = new Semaphore(contentExtractionBatchProperties.getMaxInFlightBatches());
+    requiresNewTransaction = new TransactionTemplate(transactionManager);
+    requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    running = true;
+    senderThread = new Thread(this::runSender, "content-extraction-batcher");
+    senderThread.setDaemon(true);
+    senderThread.start();
+
+    Gauge.builder("content.extraction.queue.size", queue, BlockingQueue::size)
+        .description("AI 서버 전송 대기 중인 장소 추출 요청 수")
+        .register(meterRegistry);
+    Gauge.builder("content.extraction.in-flight", inFlight, Map::size)
+        .description("대기/처리 중인 장소 추출 요청 수 (중복 요청 합치기 대상)")
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  void stop() {
+    running = false;
+    senderThread.interrupt();
+  }
+
+  /**
+   * 장소 추출 요청 예약 (트랜잭션 커밋 후 대기열 적재)
+   *
+   * @param contentId Content ID
+   * @param snsUrl    분석할 SNS URL
+   */
+  public void dispatch(UUID contentId, String snsUrl) {
+    TransactionUtil.afterCommit(() -> enqueue(contentId, snsUrl));
+  }
+
+  /**
+   * 장소 추출 재요청 예약 (트랜잭션 커밋 후 대기열 적재)
+   * - Callback 없이 멈춘 요청이 합치기 항목으로 남아 있어도 다시 전송
+   *
+   * @param contentId Content ID
+   * @param snsUrl    분석할 SNS URL
+   */
+  public void redispatch(UUID contentId, String snsUrl) {
+    TransactionUtil.afterCommit(() -> {
+      String key = ContentUrlUtil.canonicalKey(snsUrl);
+      if (key != null) {
+        inFlight.remove(key);
+      }
+      enqueue(contentId, snsUrl);
+    });
+  }
+
+  /**
+   * AI Callback 수신 후 중복 요청 합치기 해제 (트랜잭션 커밋 후 반영)
+   * - 이후 같은 게시물 요청은 다시 AI 서버로 전송 가능
+   *
+   * @param snsUrl Content SNS URL
+   */
+  public void release(String snsUrl) {
+    String key = ContentUrlUtil.canonicalKey(snsUrl);
+    if (key != null) {
+      TransactionUtil.afterCommit(() -> inFlight.remove(key));
+    }
+  }
+
+  /**
+   * Callback 없이 오래 유지된 합치기 항목 정리
+   */
+  @Scheduled(fixedDelay = 60_000)
+  public void purgeExpired() {
+    long now = System.currentTimeMillis();
+    inFlight.values().removeIf(extraction -> extraction.isExpired(now, inFlightTtlMillis()));
+  }
+
+  private void enqueue(UUID contentId, String snsUrl) {
+    String key = ContentUrlUtil.canonicalKey(snsUrl);
+    long now = System.currentTimeMillis();
+    InFlightExtraction extraction = new InFlightExtraction(contentId, now);
+
+    InFlightExtraction existing = inFlight.putIfAbsent(key, extraction);
+    if (existing != null) {
+      if (!existing.isExpired(now, inFlightTtlMillis())) {
+        log.info("Place extraction already in flight. Coalesced: contentId={}, inFlightContentId={}",
+            contentId, existing.contentId);
+        return;
+      }
+      inFlight.put(key, extraction);
+    }
+
+    if (!queue.offer(new PendingExtraction(key, contentId, snsUrl))) {
+      inFlight.remove(key, extraction);
+      log.warn("Place extraction queue full. Rejecting: contentId={}", contentId);
+      markFailed(contentId);
+    }
+  }
+
+  /**
+   * 전송 스레드: 첫 요청 도착 후 maxWaitMs 또는 maxSize건까지 모아 전송
+   */
+  private void runSender() {
+    while (running) {
+      try {
+        PendingExtraction first = queue.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+          continue;
+        }
+        List<PendingExtraction> batch = new ArrayList<>();
+        batch.add(first);
+        collectBatch(batch);
+
+        // AI 서버 과부하 신호 동안 전송 중지 (그동안 대기열에 적재)
+        long overloadBackoff = aiServerService.getOverloadBackoffMillis();
+        if (overloadBackoff > 0) {
+          Thread.sleep(overloadBackoff);
+        }
+        batchPermits.acquire();
+        send(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception e) {
+        log.error("Place extraction batch sender error", e);
+      }
+    }
+  }
+
+  private void collectBatch(List<PendingExtraction> batch) throws InterruptedException {
+    int maxSize = contentExtractionBatchProperties.getMaxSize();
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(contentExtractionBatchProperties.getMaxWaitMs());
+    while (batch.size() < maxSize) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        queue.drainTo(batch, maxSize - batch.size());
+        return;
+      }
+      PendingExtraction next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+      if (next == null) {
+        return;
+      }
+      batch.add(next);
+    }
+  }
+
+  private void send(List<PendingExtraction> batch) {
+    List<PlaceExtractionRequest> items = batch.stream()
+        .map(pending -> PlaceExtractionRequest.builder()
+            .contentId(pending.contentId)
+            .snsUrl(pending.snsUrl)
+            .build())
+        .toList();
+
+    aiServerService.sendPlaceExtractionBatchRequest(items)
+        .whenComplete((response, throwable) -> {
+          try {
+            handleResult(batch, response, throwable);
+          } finally {
+            batchPermits.release();
+          }
+        });
+  }
+
+  private void handleResult(List<PendingExtraction> batch, PlaceExtractionBatchResponse response, Throwable throwable) {
+    if (throwable != null) {
+      Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+      log.error("Place extraction batch request failed: size={}, error={}", batch.size(), cause.getMessage());
+      batch.forEach(this::fail);
+      return;
+    }
+
+    // AI 서버는 Content별 {"contentId": "...", "received": true} 형식으로 응답
+    Set<UUID> acceptedIds = response == null || response.getResults() == null
+        ? Set.of()
+        : response.getResults().stream()
+            .filter(result -> Boolean.TRUE.equals(result.getReceived()) && result.getContentId() != null)
+            .map(PlaceExtractionResponse::getContentId)
+            .collect(Collectors.toSet());
+
+    for (PendingExtraction pending : batch) {
+      if (acceptedIds.contains(pending.contentId)) {
+        log.debug("AI server accepted place extraction request: contentId={}", pending.contentId);
+      } else {
+        log.error("AI server did not accept the request: contentId={}", pending.contentId);
+        fail(pending);
+      }
+    }
+    log.info("Place extraction batch accepted: size={}, accepted={}", batch.size(), acceptedIds.size());
+  }
+
+  private void fail(PendingExtraction pending) {
+    inFlight.computeIfPresent(pending.key,
+        (key, extraction) -> extraction.contentId.equals(pending.contentId) ? null : extraction);
+    markFailed(pending.contentId);
+  }
+
+  /**
+   * PENDING인 Content를 FAILED로 변경 후 상태 발행
+   * - 이미 커밋된 트랜잭션의 afterCommit에서 호출되면 기존 트랜잭션에 참여한 변경은 커밋되지 않고
+   *   새로 등록한 발행 콜백도 실행되지 않으므로 REQUIRES_NEW 트랜잭션에서 수행
+   */
+  private void markFailed(UUID contentId) {
+    try {
+      requiresNewTransaction.executeWithoutResult(status -> {
+        int updated = contentRepository.updateStatusIfMatches(contentId, ContentStatus.PENDING, ContentStatus.FAILED);
+        if (updated > 0) {
+          log.info("Content marked as FAILED: contentId={}", contentId);
+          contentStatusPublisher.publish(contentId);
+        }
+      });
+    } catch (Exception e) {
+      log.error("Failed to mark content as FAILED: contentId={}", contentId, e);
+    }
+  }
+
+  private long inFlightTtlMillis() {
+    return TimeUnit.MINUTES.toMillis(contentExtractionBatchProperties.getInFlightTtlMinutes());
+  }
+
+  private static final class PendingExtraction {
+
+    private final String key;
+    private final UUID contentId;
+    private final String snsUrl;
+
+    private PendingExtraction(String key, UUID contentId, String snsUrl) {
+      this.key = key;
+      this.contentId = contentId;
+      this.snsUrl = snsUrl;
+    }
+  }
+
+  private static final class InFlightExtraction {
+
+    private final UUID contentId;
+    private final long since;
+
+    private InFlightExtraction(UUID contentId, long since) {
+      this.contentId = contentId;
+      this.since = since;
+    }
+
+    private boolean isExpired(long now, long ttlMillis) {
+      return now - since > ttlMillis;
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package kr.suhsaechan.mapsy.sns.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import kr.suhsaechan.mapsy.common.properties.ContentExtractionRetryProperties;
+import kr.suhsaechan.mapsy.sns.entity.Content;
+import kr.suhsaechan.mapsy.sns.repository.ContentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 멈춘 장소 추출 요청 재시도 스위퍼
+ * - AI 서버가 접수 후 Callback하지 않은 PENDING, 실패한 FAILED Content를 주기적으로 다시 요청
+ * - 대상 조회는 (status, last_checked_at) 인덱스 범위 조회 (last_checked_at = 마지막 AI 서버 요청 시각)
+ * - 재요청 간격은 요청 횟수에 따라 지수적으로 증가, 최대 요청 횟수에 도달하면 FAILED로 두고 중단
+ * - 여러 인스턴스 중 스위프 구간별 Redis 키를 선점한 인스턴스만 실행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ContentExtractionRetryService {
+
+  private static final String SWEEP_LOCK_PREFIX = "CONTENT:EXTRACTION:SWEEP:";
+
+  private final ContentRepository contentRepository;
+  private final ContentExtractionDispatcher contentExtractionDispatcher;
+  private final ContentExtractionRetryProperties contentExtractionRetryProperties;
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final MeterRegistry meterRegistry;
+  private final ContentStatusPublisher contentStatusPublisher;
+
+  private Counter retriedCounter;
+  private Counter exhaustedCounter;
+
+  @PostConstruct
+  void registerMetrics() {
+    retriedCounter = Counter.builder("content.extraction.retry")
+        .description("스위퍼가 AI 서버로 다시 요청한 Content 수")
+        .register(meterRegistry);
+    exhaustedCounter = Counter.builder("content.extraction.retry.exhausted")
+        .description("최대 요청 횟수에 도달하여 FAILED 처리된 PENDING Content 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 멈춘 PENDING / 재요청 시점이 된 FAILED Content 재요청
+   */
+  @Scheduled(fixedDelayString = "${content.extraction.retry.sweep-interval-ms:60000}")
+  @Transactional
+  public void sweep() {
+    if (!acquireSweepLock()) {
+      return;
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime pendingStaleBefore = now.minusMinutes(contentExtractionRetryProperties.getPendingTimeoutMinutes());
+    int maxAttempts = contentExtractionRetryProperties.getMaxAttempts();
+
+    List<UUID> exhausted = contentRepository.failExhaustedPending(maxAttempts, pendingStaleBefore);
+    if (!exhausted.isEmpty()) {
+      exhausted.forEach(contentStatusPublisher::publish);
+      exhaustedCounter.increment(exhausted.size());
+      log.warn("Marked {} stale PENDING contents as FAILED (max attempts reached)", exhausted.size());
+    }
+
+    List<Content> candidates = contentRepository.findRetryCandidatesForUpdate(
+        now,
+        now.minus(Duration.ofMillis(contentExtractionRetryProperties.getBaseDelayMs())),
+        pendingStaleBefore,
+        maxAttempts,
+        contentExtractionRetryProperties.getBaseDelayMs(),
+        contentExtractionRetryProperties.getMaxDelayMs(),
+        contentExtractionRetryProperties.getBatchSize());
+    if (candidates.isEmpty()) {
+      return;
+    }
+
+    for (Content content : candidates) {
+      log.info("Retrying place extraction: contentId={}, status={}, attempt={}",
+          content.getId(), content.getStatus(), content.getExtractionAttempts() + 1);
+      content.markExtractionRequested(now);
+      contentExtractionDispatcher.redispatch(content.getId(), content.getOriginalUrl());
+      contentStatusPublisher.publish(content.getId());
+    }
+    retriedCounter.increment(candidates.size());
+    log.info("Place extraction retry sweep: retried={}", candidates.size());
+  }
+
+  /**
+   * 스위프 구간별 Redis 키 선점 (구간 내 1개 인스턴스만 실행)
+   * - Redis 장애 시 스위프 건너뜀 (FOR UPDATE SKIP LOCKED로 중복 실행되어도 같은 Content를 중복 요청하지 않음)
+   */
+  private boolean acquireSweepLock() {
+    long interval = contentExtractionRetryProperties.getSweepIntervalMs();
+    long slot = System.currentTimeMillis() / interval;
+    try {
+      Boolean acquired = redisTemplate.opsForValue()
+          .setIfAbsent(SWEEP_LOCK_PREFIX + slot, "1", Duration.ofMillis(interval * 2));
+      return Boolean.TRUE.equals(acquired);
+    } catch (Exception e) {
+      log.warn("Failed to acquire extraction sweep lock: {}", e.getMessage());
+      return false;
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package kr.suhsaechan.mapsy.sns.service;
+
+import java.util.List;
+import java.util.UUID;
+import kr.suhsaechan.mapsy.common.properties.NotificationOutboxProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Content 분석 완료 알림 Outbox 디스패처
+ * - 주기적으로 Outbox를 폴링하여 FCM 전송 (AI Callback 트랜잭션과 분리)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ContentNotificationDispatcher {
+
+  private final ContentNotificationService contentNotificationService;
+  private final NotificationOutboxProperties notificationOutboxProperties;
+
+  /**
+   * 전송 대기 중인 Outbox 항목 전송
+   */
+  @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:1000}")
+  public void dispatch() {
+    List<UUID> outboxIds = contentNotificationService.claimPending(notificationOutboxProperties.getBatchSize());
+    for (UUID outboxId : outboxIds) {
+      contentNotificationService.dispatch(outboxId);
+    }
+  }
+
+  /**
+   * 멈춘 항목 복구
+   */
+  @Scheduled(fixedDelay = 60_000)
+  public void recover() {
+    contentNotificationService.recoverStaleProcessing();
+  }
+}
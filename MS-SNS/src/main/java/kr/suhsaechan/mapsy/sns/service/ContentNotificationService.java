@@ -0,0 +1,195 @@
+package kr.suhsaechan.mapsy.sns.service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import kr.suhsaechan.mapsy.common.exception.CustomException;
+import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
+import kr.suhsaechan.mapsy.common.properties.NotificationOutboxProperties;
+import kr.suhsaechan.mapsy.member.service.FcmService;
+import kr.suhsaechan.mapsy.sns.constant.NotificationOutboxStatus;
+import kr.suhsaechan.mapsy.sns.entity.Content;
+import kr.suhsaechan.mapsy.sns.entity.ContentMember;
+import kr.suhsaechan.mapsy.sns.entity.ContentNotificationOutbox;
+import kr.suhsaechan.mapsy.sns.repository.ContentMemberRepository;
+import kr.suhsaechan.mapsy.sns.repository.ContentNotificationOutboxRepository;
+import kr.suhsaechan.mapsy.sns.repository.ContentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Content 분석 완료 알림 서비스 (Transactional Outbox)
+ * - Callback 트랜잭션에서는 Outbox 저장만 수행
+ * - 디스패처가 커밋된 Outbox를 꺼내 FCM 전송 후 ContentMember.notified 일괄 갱신
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ContentNotificationService {
+
+  private static final int MAX_ERROR_LENGTH = 1000;
+
+  private final ContentNotificationOutboxRepository contentNotificationOutboxRepository;
+  private final ContentRepository contentRepository;
+  private final ContentMemberRepository contentMemberRepository;
+  private final FcmService fcmService;
+  private final NotificationOutboxProperties notificationOutboxProperties;
+
+  /**
+   * Content 분석 완료 알림을 Outbox에 저장
+   * - 호출한 트랜잭션(AI Callback 처리)에 참여하므로 Content 갱신과 함께 커밋/롤백됨
+   *
+   * @param contentId  Content ID
+   * @param placeCount 발견된 장소 수
+   */
+  @Transactional
+  public void enqueueContentComplete(UUID contentId, int placeCount) {
+    contentNotificationOutboxRepository.save(ContentNotificationOutbox.builder()
+        .contentId(contentId)
+        .placeCount(placeCount)
+        .build());
+    log.debug("Content complete notification enqueued: contentId={}, placeCount={}", contentId, placeCount);
+  }
+
+  /**
+   * 전송 대기 항목을 PROCESSING으로 선점
+   *
+   * @param limit 최대 선점 개수
+   * @return 선점한 Outbox ID 목록
+   */
+  @Transactional
+  public List<UUID> claimPending(int limit) {
+    List<ContentNotificationOutbox> outboxes = contentNotificationOutboxRepository.findPendingForUpdate(limit);
+    outboxes.forEach(outbox -> outbox.setStatus(NotificationOutboxStatus.PROCESSING));
+    return outboxes.stream().map(ContentNotificationOutbox::getId).toList();
+  }
+
+  /**
+   * 선점한 Outbox 항목 전송
+   * - 알림 미전송 회원 전체를 한 번에 FcmService로 전달 (토큰 500개 단위 비동기 멀티캐스트)
+   * - 전송 처리된 회원만 notified=true로 일괄 변경, 일부 실패 시 PENDING으로 되돌려 미전송 회원만 재시도
+   *
+   * @param outboxId Outbox ID
+   */
+  public void dispatch(UUID outboxId) {
+    ContentNotificationOutbox outbox = contentNotificationOutboxRepository.findById(outboxId).orElse(null);
+    if (outbox == null || outbox.getStatus() != NotificationOutboxStatus.PROCESSING) {
+      return;
+    }
+
+    try {
+      int failedCount = sendContentCompleteNotification(outbox.getContentId(), outbox.getPlaceCount());
+      if (failedCount > 0) {
+        throw new IllegalStateException(failedCount + " members were not notified");
+      }
+      outbox.setStatus(NotificationOutboxStatus.SENT);
+      outbox.setSentAt(LocalDateTime.now());
+      outbox.setLastError(null);
+    } catch (Exception e) {
+      int attemptCount = outbox.getAttemptCount() + 1;
+      boolean retryable = !(e instanceof CustomException) && attemptCount < notificationOutboxProperties.getMaxAttempts();
+
+      outbox.setAttemptCount(attemptCount);
+      outbox.setLastError(truncate(e.getMessage()));
+      outbox.setStatus(retryable ? NotificationOutboxStatus.PENDING : NotificationOutboxStatus.FAILED);
+      log.error("Content complete notification failed: outboxId={}, contentId={}, attempt={}, retry={}. Error: {}",
+          outbox.getId(), outbox.getContentId(), attemptCount, retryable, e.getMessage());
+    }
+
+    contentNotificationOutboxRepository.save(outbox);
+  }
+
+  /**
+   * 디스패처 비정상 종료로 PROCESSING에 머문 항목을 PENDING으로 복구
+   */
+  @Transactional
+  public void recoverStaleProcessing() {
+    LocalDateTime threshold = LocalDateTime.now()
+        .minusMinutes(notificationOutboxProperties.getProcessingTimeoutMinutes());
+    int recovered = contentNotificationOutboxRepository.resetStaleProcessing(threshold);
+    if (recovered > 0) {
+      log.warn("Recovered {} stale PROCESSING content notifications", recovered);
+    }
+  }
+
+  /**
+   * Content 분석 완료 알림 전송
+   *
+   * @return 전송 처리되지 않은 회원 수
+   */
+  private int sendContentCompleteNotification(UUID contentId, int placeCount) {
+    Content content = contentRepository.findById(contentId)
+        .orElseThrow(() -> new CustomException(ErrorCode.CONTENT_NOT_FOUND));
+
+    log.info("Sending content complete notifications for contentId={}, placeCount={}", contentId, placeCount);
+
+    List<ContentMember> unnotifiedMembers = contentMemberRepository.findUnnotifiedMembersWithMember(contentId);
+
+    if (unnotifiedMembers.isEmpty()) {
+      log.info("No unnotified members found for contentId={}", contentId);
+      return 0;
+    }
+
+    log.info("Found {} unnotified members for contentId={}", unnotifiedMembers.size(), contentId);
+
+    // 알림 데이터 구성
+    Map<String, String> notificationData = new HashMap<>();
+    notificationData.put("type", "CONTENT_COMPLETE");
+    notificationData.put("contentId", contentId.toString());
+    notificationData.put("placeCount", String.valueOf(placeCount));
+
+    if (content.getTitle() != null) {
+      notificationData.put("title", content.getTitle());
+    }
+    if (content.getThumbnailUrl() != null) {
+      notificationData.put("thumbnailUrl", content.getThumbnailUrl());
+    }
+
+    // 알림 메시지 구성
+    String notificationTitle = "콘텐츠 분석 완료";
+    String notificationBody;
+    if (placeCount > 0) {
+      notificationBody = String.format("%d개의 장소가 발견되었습니다.", placeCount);
+      if (content.getTitle() != null) {
+        notificationBody = content.getTitle() + " - " + notificationBody;
+      }
+    } else {
+      notificationBody = content.getTitle() != null
+          ? content.getTitle() + " 분석이 완료되었습니다."
+          : "콘텐츠 분석이 완료되었습니다.";
+    }
+
+    List<UUID> memberIds = unnotifiedMembers.stream()
+        .map(contentMember -> contentMember.getMember().getId())
+        .toList();
+
+    Set<UUID> notifiedMemberIds = fcmService.sendNotificationToMembers(
+        memberIds,
+        notificationTitle,
+        notificationBody,
+        notificationData,
+        content.getThumbnailUrl()
+    );
+
+    if (!notifiedMemberIds.isEmpty()) {
+      contentMemberRepository.markNotified(contentId, notifiedMemberIds);
+    }
+
+    log.info("Content complete notifications sent: {}/{} succeeded for contentId={}",
+        notifiedMemberIds.size(), memberIds.size(), contentId);
+
+    return memberIds.size() - notifiedMemberIds.size();
+  }
+
+  private String truncate(String message) {
+    if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+      return message;
+    }
+    return message.substring(0, MAX_ERROR_LENGTH);
+  }
+}
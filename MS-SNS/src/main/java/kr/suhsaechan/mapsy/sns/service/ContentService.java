@@ -1,23 +1,24 @@
 package kr.suhsaechan.mapsy.sns.service;
 
-import kr.suhsaechan.mapsy.ai.dto.PlaceExtractionResponse;
 import kr.suhsaechan.mapsy.place.entity.Place;
 import kr.suhsaechan.mapsy.sns.dto.*;
-import kr.suhsaechan.mapsy.ai.service.AiServerService;
 import kr.suhsaechan.mapsy.common.exception.CustomException;
 import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
 import kr.suhsaechan.mapsy.common.constant.ContentStatus;
 import kr.suhsaechan.mapsy.common.util.CommonUtil;
-import kr.suhsaechan.mapsy.member.entity.Member;
+import kr.suhsaechan.mapsy.common.util.CursorUtil;
 import kr.suhsaechan.mapsy.member.repository.MemberRepository;
 import kr.suhsaechan.mapsy.place.dto.PlaceDto;
 import kr.suhsaechan.mapsy.sns.dto.ContentDto;
 import kr.suhsaechan.mapsy.sns.entity.Content;
-import kr.suhsaechan.mapsy.sns.entity.ContentMember;
 import kr.suhsaechan.mapsy.sns.entity.ContentPlace;
 import kr.suhsaechan.mapsy.sns.repository.ContentMemberRepository;
 import kr.suhsaechan.mapsy.sns.repository.ContentPlaceRepository;
 import kr.suhsaechan.mapsy.sns.repository.ContentRepository;
+import kr.suhsaechan.mapsy.sns.service.ContentUrlCacheService.CachedContent;
+import kr.suhsaechan.mapsy.sns.util.ContentUrlUtil;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -25,12 +26,12 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -40,126 +41,62 @@ public class ContentService {
 
   private static final int MAX_URL_LENGTH = 2048;
   private static final int MAX_PHOTO_URLS_PER_PLACE = 10;
+  private static final int MAX_PAGE_SIZE = 100;
+  private static final int RECENT_LIMIT = 10;
 
   private final ContentRepository contentRepository;
   private final ContentMemberRepository contentMemberRepository;
   private final ContentPlaceRepository contentPlaceRepository;
   private final MemberRepository memberRepository;
-  private final AiServerService aiServerService;
   private final CommonUtil commonUtil;
+  private final ContentSubmissionService contentSubmissionService;
+  private final ContentUrlCacheService contentUrlCacheService;
 
   /**
    * 클라이언트로부터 장소 추출 요청 처리
-   * - 같은 URL로 COMPLETED된 Content 있으면 ContentMember 추가 후 즉시 반환 (AI 비용 절감)
-   * - 없거나 PENDING/FAILED 상태면 AI 서버로 요청하고 ContentMember 생성
+   * - URL은 canonical key(ContentUrlUtil)로 중복 판단 (추적 파라미터, www, /p·/reel 차이 등 무시)
+   * - 분석 완료(COMPLETED) URL 캐시 적중 시 ContentMember만 멱등 INSERT 후 즉시 반환 (빠른 경로)
+   *   → Member/Content 조회 및 SERIALIZABLE 트랜잭션 없음
+   * - 미적중이면 ContentSubmissionService의 SERIALIZABLE 트랜잭션으로 Content 생성/재사용 및 AI 요청
    *
    * @param request  장소 추출 요청
    * @param memberId 회원 ID
    * @return 장소 추출 요청 결과
    */
-  @Transactional(isolation = Isolation.SERIALIZABLE)
   public RequestPlaceExtractionResponse createContentAndRequestPlaceExtraction(
       RequestPlaceExtractionRequest request,
       UUID memberId) {
-    String snsUrl = request.getSnsUrl();
-
     // URL 길이 검증
-    commonUtil.validateUrlLength(snsUrl, MAX_URL_LENGTH);
-
-    // Member 조회
-    Member member = memberRepository.findById(memberId)
-        .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
-
-    // 기존 Content 조회 (한 번만 수행)
-    Optional<Content> optionalContent = contentRepository.findByOriginalUrl(snsUrl);
-
-    // 이미 COMPLETED면 ContentMember 추가 후 즉시 반환
-    if (optionalContent.isPresent() && optionalContent.get().getStatus() == ContentStatus.COMPLETED) {
-      Content content = optionalContent.get();
-      log.info("Content already exists and completed. Adding ContentMember: contentId={}, memberId={}", content.getId(), memberId);
-
-      // ContentMember가 없으면 생성 (중복 방지)
-      if (!contentMemberRepository.existsByContentAndMember(content, member)) {
-        ContentMember contentMember = ContentMember.builder()
-            .content(content)
-            .member(member)
-            .notified(true)  // 이미 완료된 Content이므로 알림 불필요
-            .build();
-        contentMemberRepository.save(contentMember);
-        log.info("Created ContentMember for existing completed Content: contentId={}, memberId={}", content.getId(), memberId);
-      }
+    commonUtil.validateUrlLength(request.getSnsUrl(), MAX_URL_LENGTH);
 
-      return RequestPlaceExtractionResponse.builder()
-          .contentId(content.getId())
-          .status(content.getStatus())
-          .build();
+    String snsUrl = request.getSnsUrl().trim();
+    if (snsUrl.isEmpty()) {
+      throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
     }
-
-    // 기존이 있으면 PENDING으로 재사용, 없으면 신규 생성
-    Content content = optionalContent
-        .map(existingContent -> {
-          existingContent.setStatus(ContentStatus.PENDING);
-          log.info("Reusing existing Content: contentId={}", existingContent.getId());
-          return existingContent;
-        })
-        .orElseGet(() -> Content.builder()
-            .originalUrl(snsUrl)
-            .status(ContentStatus.PENDING)
-            .build());
-
-    // Content 저장
-    Content savedContent = contentRepository.save(content);
-
-    // ContentMember 생성 (중복 방지)
-    if (!contentMemberRepository.existsByContentAndMember(savedContent, member)) {
-      ContentMember contentMember = ContentMember.builder()
-          .content(savedContent)
-          .member(member)
-          .notified(false)  // 분석 완료시 알림 전송 필요
-          .build();
-      contentMemberRepository.save(contentMember);
-      log.info("Created ContentMember: contentId={}, memberId={}", savedContent.getId(), memberId);
-    } else {
-      log.info("ContentMember already exists: contentId={}, memberId={}", savedContent.getId(), memberId);
-    }
-
-    // AI 요청
-    try {
-      requestAIContentAnalyze(savedContent);
-    } catch (CustomException e) {
-      // 요청 실패시 FAIL 처리
-      savedContent.setStatus(ContentStatus.FAILED);
-      contentRepository.save(savedContent);
-      throw e;
-    }
-
-    return RequestPlaceExtractionResponse.builder()
-        .contentId(savedContent.getId())
-        .status(savedContent.getStatus())
-        .build();
-  }
-
-  /**
-   * ContentId와 함께 AI 서버 요청
-   */
-  private void requestAIContentAnalyze(Content content) {
-    UUID contentId = content.getId();
-    String snsUrl = content.getOriginalUrl();
-
-    // AI 서버로 장소 추출 요청
-    PlaceExtractionResponse response
-        = aiServerService.sendPlaceExtractionRequest(contentId, snsUrl);
-
-    // AI 서버 응답 검증
-    // AI 서버는 {"received": true, "contentId": "..."} 형식으로 응답
-    if (response == null || !Boolean.TRUE.equals(response.getReceived())) {
-      log.error("AI server did not accept the request: contentId={}, received={}, status={}",
-          contentId, response != null ? response.getReceived() : null,
-          response != null ? response.getStatus() : null);
-      throw new CustomException(ErrorCode.AI_SERVER_ERROR);
+    String canonicalKey = ContentUrlUtil.canonicalKey(snsUrl);
+
+    Optional<CachedContent> cached = contentUrlCacheService.find(canonicalKey)
+        .filter(entry -> entry.getStatus() == ContentStatus.COMPLETED);
+    if (cached.isPresent()) {
+      UUID contentId = cached.get().getContentId();
+      try {
+        // 이미 완료된 Content이므로 알림 불필요 (notified=true)
+        int inserted = contentMemberRepository.insertIgnore(contentId, memberId, true);
+        log.info("Completed content URL cache hit: contentId={}, memberId={}, createdContentMember={}",
+            contentId, memberId, inserted > 0);
+
+        return RequestPlaceExtractionResponse.builder()
+            .contentId(contentId)
+            .status(ContentStatus.COMPLETED)
+            .build();
+      } catch (DataIntegrityViolationException e) {
+        // 캐시된 Content가 없어졌거나 회원이 없는 경우 → DB 경로에서 다시 판단
+        log.warn("Completed content URL cache entry rejected: contentId={}, memberId={}", contentId, memberId);
+        contentUrlCacheService.evict(canonicalKey);
+      }
     }
 
-    log.info("AI server successfully accepted place extraction request: contentId={}", contentId);
+    return contentSubmissionService.submit(snsUrl, memberId);
   }
 
   /**
@@ -196,59 +133,77 @@ public class ContentService {
   }
 
   /**
-   * Member가 소유한 Content 목록 조회 (최신순)
-   * - ContentMember를 통해 Member ID로 Content 페이지를 조회합니다.
-   * - createdAt 기준 내림차순 정렬 (최신순)
+   * Member가 소유한 Content 목록 조회 (최신순, 키셋 페이지네이션)
+   * - ContentMember와 Content를 조인하여 createdAt 기준 내림차순으로 DB에서 size + 1개만 조회
+   * - (createdAt, id) 커서 이후 조회, 조회 이력 수와 무관하게 쿼리 1회
    * - Place 정보는 제외하고 Content 정보만 반환
    *
    * @param memberId 회원 ID
-   * @param pageSize 페이지 크기
-   * @return Content 페이지 (ContentDto)
+   * @param pageSize 페이지 크기 (최대 100)
+   * @param cursor   이전 페이지의 nextCursor (첫 페이지면 null)
+   * @return Content 페이지 (ContentDto) 및 다음 페이지 커서
    */
   @Transactional(readOnly = true)
-  public Page<ContentDto> getMemberContentPage(UUID memberId, int pageSize) {
-    // Pageable 생성 (0번 페이지, createdAt 내림차순)
-    Pageable pageable = PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
-
-    // ContentMember를 통해 Member ID로 Content 조회
-    List<ContentMember> contentMembers = contentMemberRepository.findByMemberId(memberId);
-
-    // ContentMember에서 Content 추출 및 DTO 변환
-    List<ContentDto> contentDtos = contentMembers.stream()
-        .map(ContentMember::getContent)
-        .sorted((c1, c2) -> c2.getCreatedAt().compareTo(c1.getCreatedAt()))  // 최신순 정렬
-        .limit(pageSize)
+  public GetMemberContentPageResponse getMemberContentPage(UUID memberId, int pageSize, String cursor) {
+    int size = Math.max(1, Math.min(pageSize, MAX_PAGE_SIZE));
+    Pageable limit = PageRequest.of(0, size + 1);
+
+    List<Content> contents;
+    if (cursor == null || cursor.isBlank()) {
+      contents = contentMemberRepository.findMemberContents(memberId, limit);
+    } else {
+      String[] decoded = CursorUtil.decode(cursor, 2);
+      LocalDateTime cursorCreatedAt;
+      UUID cursorId;
+      try {
+        cursorCreatedAt = LocalDateTime.parse(decoded[0]);
+        cursorId = UUID.fromString(decoded[1]);
+      } catch (DateTimeParseException | IllegalArgumentException e) {
+        throw new CustomException(ErrorCode.INVALID_CURSOR);
+      }
+      contents = contentMemberRepository.findMemberContentsAfter(memberId, cursorCreatedAt, cursorId, limit);
+    }
+
+    boolean hasNext = contents.size() > size;
+    List<Content> page = hasNext ? contents.subList(0, size) : contents;
+
+    String nextCursor = null;
+    if (hasNext) {
+      Content last = page.get(page.size() - 1);
+      nextCursor = CursorUtil.encode(last.getCreatedAt(), last.getId());
+    }
+
+    List<ContentDto> contentDtos = page.stream()
         .map(ContentDto::from)
-        .collect(Collectors.toList());
+        .toList();
 
-    log.info("Found {} contents for memberId={}, pageSize={}",
-        contentDtos.size(), memberId, pageSize);
+    log.info("Found {} contents for memberId={}, pageSize={}, hasNext={}",
+        contentDtos.size(), memberId, size, hasNext);
 
-    // PageImpl로 변환하여 반환
-    return new org.springframework.data.domain.PageImpl<>(contentDtos, pageable, contentDtos.size());
+    Pageable pageable = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+    return GetMemberContentPageResponse.builder()
+        .contentPage(new PageImpl<>(contentDtos, pageable, contentDtos.size()))
+        .nextCursor(nextCursor)
+        .hasNext(hasNext)
+        .build();
   }
 
   /**
    * 메인 화면 - 최근 SNS 콘텐츠 목록 조회
-   * - ContentMember를 통해 회원이 요청한 Content 조회
+   * - ContentMember를 통해 회원이 요청한 Content 중 최신 10개를 DB에서 조회 (쿼리 1회)
    */
   @Transactional(readOnly = true)
   public GetRecentContentResponse getRecentContents(UUID memberId) {
 
     // 회원 존재 여부 확인
-    memberRepository.findById(memberId)
-        .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+    if (!memberRepository.existsById(memberId)) {
+      throw new CustomException(ErrorCode.MEMBER_NOT_FOUND);
+    }
 
     log.info("[Content] 최근 SNS 콘텐츠 조회 - memberId={}", memberId);
 
     // ContentMember를 통해 최근 10개의 SNS 콘텐츠 조회
-    List<ContentMember> contentMembers = contentMemberRepository.findByMemberId(memberId);
-
-    List<Content> contents = contentMembers.stream()
-        .map(ContentMember::getContent)
-        .sorted((c1, c2) -> c2.getCreatedAt().compareTo(c1.getCreatedAt()))
-        .limit(10)
-        .collect(Collectors.toList());
+    List<Content> contents = contentMemberRepository.findMemberContents(memberId, PageRequest.of(0, RECENT_LIMIT));
 
     return GetRecentContentResponse.builder()
         .contents(contents.stream()
@@ -259,29 +214,20 @@ public class ContentService {
 
   /**
    * 사용자별 저장한 장소 목록 조회 (최신순 최대 10개)
-   * - ContentMember를 통해 회원의 Content를 조회하고, 연관된 Place 반환
+   * - 회원이 요청한 모든 Content의 ContentPlace를 Place와 함께 최신순으로 DB에서 10개만 조회 (쿼리 1회)
    */
   @Transactional(readOnly = true)
   public List<PlaceDto> getSavedPlaces(UUID memberId) {
     // 회원 존재 여부 확인
-    Member member = memberRepository.findById(memberId)
-        .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
-
-    log.info("[Place] 저장 장소 목록 조회 - memberId={}", member.getId());
-
-    // ContentMember를 통해 회원의 Content ID 목록 조회
-    List<ContentMember> contentMembers = contentMemberRepository.findByMemberId(memberId);
+    if (!memberRepository.existsById(memberId)) {
+      throw new CustomException(ErrorCode.MEMBER_NOT_FOUND);
+    }
 
-    List<UUID> contentIds = contentMembers.stream()
-        .map(cm -> cm.getContent().getId())
-        .collect(Collectors.toList());
+    log.info("[Place] 저장 장소 목록 조회 - memberId={}", memberId);
 
-    // Content ID 목록으로 ContentPlace 조회
-    List<ContentPlace> contentPlaces = contentIds.stream()
-        .flatMap(contentId -> contentPlaceRepository.findByContentIdWithPlace(contentId).stream())
-        .sorted((cp1, cp2) -> cp2.getCreatedAt().compareTo(cp1.getCreatedAt()))
-        .limit(10)
-        .collect(Collectors.toList());
+    // 회원 Content의 ContentPlace 최신순 조회 (Place Fetch Join)
+    List<ContentPlace> contentPlaces =
+        contentPlaceRepository.findRecentByMemberIdWithPlace(memberId, PageRequest.of(0, RECENT_LIMIT));
 
     // ContentPlace → Place 추출
     List<Place> places = contentPlaces.stream()
@@ -0,0 +1,38 @@
+package kr.suhsaechan.mapsy.sns.service;
+
+import java.util.UUID;
+import kr.suhsaechan.mapsy.common.util.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Content 상태 변경 알림 발행 (Redis pub/sub)
+ * - 트랜잭션 커밋 후 "content:status" 채널로 Content ID 발행
+ * - 구독 중인 클라이언트가 있는 인스턴스만 ContentStatusStreamService가 최신 상태를 조회하여 SSE로 전송
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ContentStatusPublisher {
+
+  static final String STATUS_CHANNEL = "content:status";
+
+  private final RedisTemplate<String, Object> redisTemplate;
+
+  /**
+   * Content 상태 변경 발행 (트랜잭션 커밋 후 반영)
+   *
+   * @param contentId 상태가 변경된 Content ID
+   */
+  public void publish(UUID contentId) {
+    TransactionUtil.afterCommit(() -> {
+      try {
+        redisTemplate.convertAndSend(STATUS_CHANNEL, contentId.toString());
+      } catch (Exception e) {
+        log.warn("Content status publish failed: contentId={}, error={}", contentId, e.getMessage());
+      }
+    });
+  }
+}
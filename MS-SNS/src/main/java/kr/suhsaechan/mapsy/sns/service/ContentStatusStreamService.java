@@ -0,0 +1,230 @@
+package kr.suhsaechan.mapsy.sns.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import kr.suhsaechan.mapsy.common.constant.ContentStatus;
+import kr.suhsaechan.mapsy.common.exception.CustomException;
+import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
+import kr.suhsaechan.mapsy.common.properties.ContentStatusStreamProperties;
+import kr.suhsaechan.mapsy.sns.dto.GetContentInfoResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Content 상태 실시간 구독 (Server-Sent Events)
+ * - 구독 시 현재 상태(Content + 장소 목록)를 즉시 전송, 이후 상태 변경 시마다 전송
+ * - COMPLETED/FAILED 전송 후 연결 종료 (클라이언트 폴링 불필요)
+ * - 상태 변경은 ContentStatusPublisher가 Redis pub/sub으로 전파 → 구독자가 있는 인스턴스만 1회 조회 후 전송
+ * - SseEmitter 비동기 응답이므로 요청 스레드를 점유하지 않으며, 조회/전송은 가상 스레드에서 수행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ContentStatusStreamService implements MessageListener {
+
+  private static final String STATUS_EVENT = "status";
+
+  private final ContentService contentService;
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final ContentStatusStreamProperties contentStatusStreamProperties;
+  private final MeterRegistry meterRegistry;
+
+  // contentId → 이 인스턴스의 구독 연결
+  private final Map<UUID, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+  private final AtomicInteger subscriberCount = new AtomicInteger();
+  private ExecutorService sendExecutor;
+
+  @PostConstruct
+  void init() {
+    sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(ContentStatusPublisher.STATUS_CHANNEL));
+    Gauge.builder("content.status.stream.subscribers", subscriberCount, AtomicInteger::get)
+        .description("Content 상태 SSE 구독 연결 수")
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    sendExecutor.shutdownNow();
+    subscriptions.values().forEach(set -> set.forEach(Subscription::complete));
+  }
+
+  /**
+   * Content 상태 구독
+   * - Content가 없으면 CONTENT_NOT_FOUND
+   * - 구독 수는 먼저 증가시켜 상한을 확인하고, 초과 또는 조회 실패 시 되돌림 (동시 구독 시에도 상한 유지)
+   *
+   * @param contentId 구독할 Content ID
+   * @return SSE 연결
+   */
+  public SseEmitter subscribe(UUID contentId) {
+    if (subscriberCount.incrementAndGet() > contentStatusStreamProperties.getMaxSubscribers()) {
+      subscriberCount.decrementAndGet();
+      throw new CustomException(ErrorCode.CONTENT_STREAM_LIMIT_EXCEEDED);
+    }
+
+    // 존재 확인 겸 현재 상태 조회 (등록 전 조회하여 없는 Content는 연결을 만들지 않음)
+    GetContentInfoResponse snapshot;
+    try {
+      snapshot = contentService.getContentInfo(contentId);
+    } catch (RuntimeException e) {
+      subscriberCount.decrementAndGet();
+      throw e;
+    }
+
+    SseEmitter emitter = createEmitter(contentStatusStreamProperties.getTimeoutMs());
+    Subscription subscription = new Subscription(contentId, emitter);
+    emitter.onCompletion(() -> unregister(subscription));
+    emitter.onTimeout(subscription::complete);
+    emitter.onError(throwable -> subscription.complete());
+    register(subscription);
+
+    // 등록 전후 사이의 변경을 놓치지 않도록 등록 후 최신 상태로 다시 조회하여 전송
+    if (!isTerminal(snapshot)) {
+      snapshot = contentService.getContentInfo(contentId);
+    }
+    subscription.send(snapshot);
+    return emitter;
+  }
+
+  /**
+   * 다른 인스턴스(또는 자신)에서 발행한 Content 상태 변경 수신
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+    if (!(body instanceof String id)) {
+      return;
+    }
+    UUID contentId;
+    try {
+      contentId = UUID.fromString(id);
+    } catch (IllegalArgumentException e) {
+      log.warn("Invalid content status message: {}", id);
+      return;
+    }
+
+    // 구독자가 없는 인스턴스는 조회하지 않음
+    if (!subscriptions.containsKey(contentId)) {
+      return;
+    }
+    sendExecutor.execute(() -> broadcast(contentId));
+  }
+
+  /**
+   * 프록시 유휴 연결 종료 방지용 heartbeat
+   */
+  @Scheduled(fixedDelayString = "${content.status-stream.heartbeat-interval-ms:25000}")
+  public void heartbeat() {
+    subscriptions.values().forEach(set -> set.forEach(Subscription::ping));
+  }
+
+  private void broadcast(UUID contentId) {
+    Set<Subscription> targets = subscriptions.get(contentId);
+    if (targets == null || targets.isEmpty()) {
+      return;
+    }
+    try {
+      GetContentInfoResponse response = contentService.getContentInfo(contentId);
+      List.copyOf(targets).forEach(subscription -> subscription.send(response));
+      log.debug("Content status pushed: contentId={}, status={}, subscribers={}",
+          contentId, response.getContent().getStatus(), targets.size());
+    } catch (Exception e) {
+      log.warn("Content status push failed: contentId={}, error={}", contentId, e.getMessage());
+    }
+  }
+
+  SseEmitter createEmitter(long timeoutMs) {
+    return new SseEmitter(timeoutMs);
+  }
+
+  /**
+   * 구독 등록 (구독 수는 subscribe에서 이미 증가)
+   */
+  private void register(Subscription subscription) {
+    subscriptions.computeIfAbsent(subscription.contentId, key -> ConcurrentHashMap.newKeySet()).add(subscription);
+  }
+
+  private void unregister(Subscription subscription) {
+    subscriptions.computeIfPresent(subscription.contentId, (key, set) -> {
+      if (set.remove(subscription)) {
+        subscriberCount.decrementAndGet();
+      }
+      return set.isEmpty() ? null : set;
+    });
+  }
+
+  private static boolean isTerminal(GetContentInfoResponse response) {
+    ContentStatus status = response.getContent().getStatus();
+    return status == ContentStatus.COMPLETED || status == ContentStatus.FAILED || status == ContentStatus.DELETED;
+  }
+
+  /**
+   * 구독 연결 1건
+   * - 전송은 연결 단위로 직렬화, 종료 상태 전송 후에는 이후 전송 무시 (늦게 도착한 이전 상태로 덮어쓰지 않음)
+   */
+  private static final class Subscription {
+
+    private final UUID contentId;
+    private final SseEmitter emitter;
+    private boolean completed;
+
+    private Subscription(UUID contentId, SseEmitter emitter) {
+      this.contentId = contentId;
+      this.emitter = emitter;
+    }
+
+    private synchronized void send(GetContentInfoResponse response) {
+      if (completed) {
+        return;
+      }
+      try {
+        emitter.send(SseEmitter.event().name(STATUS_EVENT).data(response));
+        if (isTerminal(response)) {
+          complete();
+        }
+      } catch (IOException | IllegalStateException e) {
+        complete();
+      }
+    }
+
+    private synchronized void ping() {
+      if (completed) {
+        return;
+      }
+      try {
+        emitter.send(SseEmitter.event().comment("ping"));
+      } catch (IOException | IllegalStateException e) {
+        complete();
+      }
+    }
+
+    private synchronized void complete() {
+      if (completed) {
+        return;
+      }
+      completed = true;
+      emitter.complete();
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package kr.suhsaechan.mapsy.sns.service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.UUID;
+import kr.suhsaechan.mapsy.common.constant.ContentStatus;
+import kr.suhsaechan.mapsy.common.exception.CustomException;
+import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
+import kr.suhsaechan.mapsy.common.properties.ContentExtractionRetryProperties;
+import kr.suhsaechan.mapsy.member.repository.MemberRepository;
+import kr.suhsaechan.mapsy.sns.dto.RequestPlaceExtractionResponse;
+import kr.suhsaechan.mapsy.sns.entity.Content;
+import kr.suhsaechan.mapsy.sns.repository.ContentMemberRepository;
+import kr.suhsaechan.mapsy.sns.repository.ContentRepository;
+import kr.suhsaechan.mapsy.sns.util.ContentUrlUtil;
+import kr.suhsaechan.mapsy.sns.util.ContentUrlUtil.CanonicalUrl;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 장소 추출 요청 Content 생성/재사용 (URL 캐시 미적중 경로)
+ * - 같은 URL 동시 요청 시 Content 중복 생성을 막기 위해 SERIALIZABLE 트랜잭션으로 처리
+ * - 같은 게시물 판단은 canonical key 기준 (canonical key 계산 전 기존 데이터는 URL 일치로 보완)
+ * - ContentMember는 INSERT ... ON CONFLICT DO NOTHING으로 생성 (존재 여부 조회 없음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ContentSubmissionService {
+
+  private final ContentRepository contentRepository;
+  private final ContentMemberRepository contentMemberRepository;
+  private final MemberRepository memberRepository;
+  private final ContentExtractionDispatcher contentExtractionDispatcher;
+  private final ContentUrlCacheService contentUrlCacheService;
+  private final ContentExtractionRetryProperties contentExtractionRetryProperties;
+  private final ContentStatusPublisher contentStatusPublisher;
+
+  /**
+   * Content 생성/재사용 후 AI 서버에 장소 추출 요청
+   * - 같은 URL로 COMPLETED된 Content 있으면 ContentMember 추가 후 즉시 반환 (AI 비용 절감, URL 캐시 적재)
+   * - AI 서버 요청 후 Callback 대기 중인 PENDING이면 ContentMember만 추가 (AI 재요청 없음)
+   * - 없거나 FAILED / 멈춘 PENDING 상태면 ContentMember 생성 후 PENDING으로 반환
+   * - AI 서버 요청은 커밋 후 비동기 전송 (실패 시 ContentExtractionDispatcher가 FAILED 처리)
+   *
+   * @param snsUrl   SNS URL (앞뒤 공백 제거)
+   * @param memberId 회원 ID
+   * @return 장소 추출 요청 결과
+   */
+  @Transactional(isolation = Isolation.SERIALIZABLE)
+  public RequestPlaceExtractionResponse submit(String snsUrl, UUID memberId) {
+    // Member 존재 확인
+    if (!memberRepository.existsById(memberId)) {
+      throw new CustomException(ErrorCode.MEMBER_NOT_FOUND);
+    }
+
+    // 같은 게시물의 기존 Content 조회 (한 번만 수행)
+    CanonicalUrl canonicalUrl = ContentUrlUtil.canonicalize(snsUrl);
+    Optional<Content> optionalContent = findSameContent(canonicalUrl.getKey(), snsUrl);
+
+    // 이미 COMPLETED면 ContentMember 추가 후 즉시 반환
+    if (optionalContent.isPresent() && optionalContent.get().getStatus() == ContentStatus.COMPLETED) {
+      Content content = optionalContent.get();
+      log.info("Content already exists and completed. Adding ContentMember: contentId={}, memberId={}", content.getId(), memberId);
+
+      // 이미 완료된 Content이므로 알림 불필요 (notified=true)
+      contentMemberRepository.insertIgnore(content.getId(), memberId, true);
+      contentUrlCacheService.put(canonicalUrl.getKey(), content.getId(), content.getStatus());
+
+      return RequestPlaceExtractionResponse.builder()
+          .contentId(content.getId())
+          .status(content.getStatus())
+          .build();
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+
+    // 이미 AI 서버에 요청되어 Callback 대기 중이면 ContentMember만 추가 (중복 AI 요청 방지, 분석 완료 시 함께 알림)
+    if (optionalContent.isPresent() && isExtractionInProgress(optionalContent.get(), now)) {
+      Content content = optionalContent.get();
+      int inserted = contentMemberRepository.insertIgnore(content.getId(), memberId, false);
+      log.info("Content extraction already in progress. ContentMember {}: contentId={}, memberId={}",
+          inserted > 0 ? "created" : "already exists", content.getId(), memberId);
+
+      return RequestPlaceExtractionResponse.builder()
+          .contentId(content.getId())
+          .status(content.getStatus())
+          .build();
+    }
+
+    // 기존이 있으면 재사용 (사용자 요청이므로 요청 횟수 초기화), 없으면 신규 생성
+    Content content = optionalContent
+        .map(existingContent -> {
+          existingContent.setExtractionAttempts(0);
+          log.info("Reusing existing Content: contentId={}", existingContent.getId());
+          return existingContent;
+        })
+        .orElseGet(() -> Content.builder()
+            .originalUrl(snsUrl)
+            .platform(canonicalUrl.getPlatform())
+            .build());
+    content.markExtractionRequested(now);
+
+    // Content 저장 (ContentMember native INSERT의 FK 대상이므로 즉시 반영)
+    Content savedContent = contentRepository.saveAndFlush(content);
+
+    // ContentMember 생성 (분석 완료시 알림 전송 필요, 이미 있으면 무시)
+    int inserted = contentMemberRepository.insertIgnore(savedContent.getId(), memberId, false);
+    log.info("ContentMember {}: contentId={}, memberId={}",
+        inserted > 0 ? "created" : "already exists", savedContent.getId(), memberId);
+
+    // AI 요청 (커밋 후 전송, 기존 Content는 멈춘 요청의 합치기 항목이 남아 있어도 다시 전송)
+    if (optionalContent.isPresent()) {
+      contentExtractionDispatcher.redispatch(savedContent.getId(), savedContent.getOriginalUrl());
+      contentStatusPublisher.publish(savedContent.getId());
+    } else {
+      contentExtractionDispatcher.dispatch(savedContent.getId(), savedContent.getOriginalUrl());
+    }
+
+    return RequestPlaceExtractionResponse.builder()
+        .contentId(savedContent.getId())
+        .status(savedContent.getStatus())
+        .build();
+  }
+
+  /**
+   * AI 서버 요청 후 Callback 대기 중인지 확인
+   * - PENDING이고 마지막 요청이 pendingTimeoutMinutes 이내면 진행 중 (그 이후는 멈춘 것으로 보고 다시 요청)
+   */
+  private boolean isExtractionInProgress(Content content, LocalDateTime now) {
+    return content.getStatus() == ContentStatus.PENDING
+        && content.getLastCheckedAt() != null
+        && content.getLastCheckedAt()
+        .isAfter(now.minusMinutes(contentExtractionRetryProperties.getPendingTimeoutMinutes()));
+  }
+
+  /**
+   * 같은 게시물 Content 조회
+   * - 여러 건이면 (canonical key 도입 전 URL 변형별로 생성된 기존 데이터) COMPLETED 우선, 그 다음 먼저 생성된 Content
+   * - canonical key가 없는 기존 데이터는 조회 시 계산하여 채움
+   */
+  private Optional<Content> findSameContent(String canonicalKey, String snsUrl) {
+    Optional<Content> sameContent = contentRepository.findAllByCanonicalKeyOrOriginalUrl(canonicalKey, snsUrl).stream()
+        .min(Comparator.comparing((Content content) -> content.getStatus() != ContentStatus.COMPLETED)
+            .thenComparing(Content::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder())));
+    sameContent
+        .filter(content -> content.getCanonicalKey() == null)
+        .ifPresent(content -> content.setCanonicalKey(ContentUrlUtil.canonicalKey(content.getOriginalUrl())));
+    return sameContent;
+  }
+}
@@ -0,0 +1,118 @@
+package kr.suhsaechan.mapsy.sns.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import kr.suhsaechan.mapsy.common.constant.ContentStatus;
+import kr.suhsaechan.mapsy.common.util.TransactionUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 분석 완료된 Content URL 캐시 (Redis)
+ * - 키: "CONTENT:URL:{sha256(canonical key)}", 값: "contentId:상태"
+ * - canonical key는 ContentUrlUtil로 계산 (같은 게시물의 URL 변형은 같은 키)
+ * - COMPLETED Content만 적재 → 같은 URL 재요청 시 Content 조회/SERIALIZABLE 트랜잭션 없이 처리
+ * - 적재/삭제는 트랜잭션 커밋 후 반영, Redis 장애 시 캐시 미적중으로 처리 (DB 경로로 대체)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ContentUrlCacheService {
+
+  private static final String CACHE_KEY_PREFIX = "CONTENT:URL:";
+  private static final String VALUE_DELIMITER = ":";
+
+  private final RedisTemplate<String, Object> redisTemplate;
+
+  @Value("${content.url-cache.ttl-hours:24}")
+  private long ttlHours;
+
+  /**
+   * URL의 분석 완료 Content 조회
+   *
+   * @param canonicalKey SNS URL canonical key
+   * @return 캐시된 Content 정보 (미적중 시 empty)
+   */
+  public Optional<CachedContent> find(String canonicalKey) {
+    try {
+      Object value = redisTemplate.opsForValue().get(cacheKey(canonicalKey));
+      return value == null ? Optional.empty() : Optional.ofNullable(parse(value.toString()));
+    } catch (Exception e) {
+      log.warn("Content URL cache read failed: key={}, error={}", canonicalKey, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * 분석 완료 Content 적재 (트랜잭션 커밋 후 반영)
+   *
+   * @param canonicalKey SNS URL canonical key
+   * @param contentId    Content ID
+   * @param status       Content 상태 (COMPLETED가 아니면 무시)
+   */
+  public void put(String canonicalKey, UUID contentId, ContentStatus status) {
+    if (canonicalKey == null || status != ContentStatus.COMPLETED) {
+      return;
+    }
+    TransactionUtil.afterCommit(() -> redisTemplate.opsForValue()
+        .set(cacheKey(canonicalKey), contentId + VALUE_DELIMITER + status.name(), ttlHours, TimeUnit.HOURS));
+  }
+
+  /**
+   * URL 캐시 삭제 (트랜잭션 커밋 후 반영)
+   * - Content가 COMPLETED가 아니게 된 경우 (재분석 실패 등)
+   *
+   * @param canonicalKey SNS URL canonical key
+   */
+  public void evict(String canonicalKey) {
+    if (canonicalKey == null) {
+      return;
+    }
+    TransactionUtil.afterCommit(() -> redisTemplate.delete(cacheKey(canonicalKey)));
+  }
+
+  /**
+   * 캐시 키 생성 (SHA-256 사용, 긴 URL 키도 고정 길이)
+   */
+  private String cacheKey(String canonicalKey) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonicalKey.getBytes(StandardCharsets.UTF_8));
+      return CACHE_KEY_PREFIX + HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 algorithm not available", e);
+    }
+  }
+
+  private CachedContent parse(String value) {
+    int delimiterIndex = value.lastIndexOf(VALUE_DELIMITER);
+    if (delimiterIndex < 0) {
+      return null;
+    }
+    try {
+      return new CachedContent(
+          UUID.fromString(value.substring(0, delimiterIndex)),
+          ContentStatus.valueOf(value.substring(delimiterIndex + 1)));
+    } catch (IllegalArgumentException e) {
+      log.warn("잘못된 Content URL 캐시 항목: {}", value);
+      return null;
+    }
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class CachedContent {
+
+    private final UUID contentId;
+    private final ContentStatus status;
+  }
+}
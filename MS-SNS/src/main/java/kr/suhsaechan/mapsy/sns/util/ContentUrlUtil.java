@@ -0,0 +1,268 @@
+package kr.suhsaechan.mapsy.sns.util;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import kr.suhsaechan.mapsy.sns.constant.ContentPlatform;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * SNS URL 정규화(canonicalization) 유틸리티
+ * - 같은 게시물을 가리키는 URL 변형을 하나의 canonical key로 변환 (Content 중복 판단용)
+ *   - 예: https://www.instagram.com/p/ABC/?igsh=xyz, instagram.com/p/ABC, /reel/ABC/ → "INSTAGRAM:ABC"
+ * - 플랫폼별 게시물 ID를 추출할 수 있으면 "{플랫폼}:{게시물 ID}"
+ * - 추출할 수 없으면 "URL:{정규화 URL}" (호스트 소문자/www 제거, 추적 파라미터 제거, 파라미터 정렬, fragment 제거)
+ *   - utm_*, fbclid, gclid는 모든 호스트에서 제거, 플랫폼 공유 파라미터(igsh, si, s, t 등)는 해당 플랫폼 호스트에서만 제거
+ * - 규칙 변경 시 기존 Content의 canonical_key 재계산 필요
+ */
+public final class ContentUrlUtil {
+
+  private static final String URL_KEY_PREFIX = "URL:";
+
+  private static final Set<String> STRIPPED_HOST_PREFIXES = Set.of("www.", "m.", "mobile.");
+
+  // 모든 호스트에서 제거하는 광고 추적 파라미터 (utm_* 포함)
+  private static final Set<String> TRACKING_PARAMS = Set.of("fbclid", "gclid");
+
+  // 플랫폼별 공유/추적 파라미터 (해당 플랫폼 호스트에서만 제거, 다른 사이트에서는 s, t, ref 등이 게시물 식별값일 수 있음)
+  private static final Map<ContentPlatform, Set<String>> PLATFORM_TRACKING_PARAMS = Map.of(
+      ContentPlatform.INSTAGRAM, Set.of("igsh", "igshid", "img_index"),
+      ContentPlatform.YOUTUBE, Set.of("si", "feature", "pp", "app", "t"),
+      ContentPlatform.TIKTOK, Set.of("_r", "_t", "is_from_webapp", "sender_device", "share_id"),
+      ContentPlatform.TWITTER, Set.of("s", "t", "ref_src", "ref_url"),
+      ContentPlatform.FACEBOOK, Set.of("mibextid", "rdid", "ref", "share_id"));
+
+  private static final Pattern INSTAGRAM_PATH =
+      Pattern.compile("^(?:/[A-Za-z0-9._]+)?/(?:p|reel|reels|tv)/([A-Za-z0-9_-]+)");
+  private static final Pattern YOUTUBE_PATH = Pattern.compile("^/(shorts|embed|live|v)/([A-Za-z0-9_-]{6,})");
+  private static final Pattern YOUTUBE_ID = Pattern.compile("^[A-Za-z0-9_-]{6,}$");
+  private static final Pattern TIKTOK_PATH = Pattern.compile("^/@[^/]+/(?:video|photo)/(\\d+)");
+  private static final Pattern TWITTER_PATH = Pattern.compile("^/(?:[A-Za-z0-9_]+|i/web)/status(?:es)?/(\\d+)");
+  private static final Pattern FACEBOOK_PATH =
+      Pattern.compile("^/(?:[^/]+/(?:posts|videos)|reel|watch/live)/([A-Za-z0-9]+)");
+
+  private ContentUrlUtil() {
+    throw new AssertionError();
+  }
+
+  /**
+   * URL 정규화
+   *
+   * @param url SNS URL (scheme 생략 허용)
+   * @return 플랫폼 및 canonical key, url이 비어 있으면 null
+   */
+  public static CanonicalUrl canonicalize(String url) {
+    if (url == null || url.isBlank()) {
+      return null;
+    }
+    String trimmed = url.trim();
+
+    URI uri;
+    try {
+      uri = new URI(trimmed.contains("://") ? trimmed : "https://" + trimmed);
+    } catch (URISyntaxException e) {
+      return new CanonicalUrl(null, URL_KEY_PREFIX + trimmed);
+    }
+    if (uri.getHost() == null) {
+      return new CanonicalUrl(null, URL_KEY_PREFIX + trimmed);
+    }
+
+    String host = normalizeHost(uri.getHost());
+    String path = normalizePath(uri.getRawPath());
+    ContentPlatform platform = detectPlatform(host);
+    List<String[]> params = parseQuery(uri.getRawQuery(), platform);
+
+    CanonicalUrl platformKey = extractPlatformKey(host, path, params);
+    if (platformKey != null) {
+      return platformKey;
+    }
+    return new CanonicalUrl(platform, URL_KEY_PREFIX + normalizedUrl(uri, host, path, params));
+  }
+
+  /**
+   * canonical key만 조회
+   *
+   * @param url SNS URL
+   * @return canonical key, url이 비어 있으면 null
+   */
+  public static String canonicalKey(String url) {
+    CanonicalUrl canonical = canonicalize(url);
+    return canonical != null ? canonical.getKey() : null;
+  }
+
+  private static CanonicalUrl extractPlatformKey(String host, String path, List<String[]> params) {
+    Matcher matcher;
+    switch (host) {
+      case "instagram.com", "instagr.am" -> {
+        matcher = INSTAGRAM_PATH.matcher(path);
+        if (matcher.find()) {
+          return new CanonicalUrl(ContentPlatform.INSTAGRAM, ContentPlatform.INSTAGRAM.name() + ":" + matcher.group(1));
+        }
+      }
+      case "youtube.com", "music.youtube.com", "youtube-nocookie.com" -> {
+        matcher = YOUTUBE_PATH.matcher(path);
+        if (matcher.find()) {
+          ContentPlatform platform = "shorts".equals(matcher.group(1))
+              ? ContentPlatform.YOUTUBE_SHORTS
+              : ContentPlatform.YOUTUBE;
+          return youtubeKey(platform, matcher.group(2));
+        }
+        String videoId = param(params, "v");
+        if ("/watch".equals(path) && videoId != null && YOUTUBE_ID.matcher(videoId).matches()) {
+          return youtubeKey(ContentPlatform.YOUTUBE, videoId);
+        }
+      }
+      case "youtu.be" -> {
+        String videoId = path.length() > 1 ? path.substring(1) : "";
+        if (YOUTUBE_ID.matcher(videoId).matches()) {
+          return youtubeKey(ContentPlatform.YOUTUBE, videoId);
+        }
+      }
+      case "tiktok.com" -> {
+        matcher = TIKTOK_PATH.matcher(path);
+        if (matcher.find()) {
+          return new CanonicalUrl(ContentPlatform.TIKTOK, ContentPlatform.TIKTOK.name() + ":" + matcher.group(1));
+        }
+      }
+      case "twitter.com", "x.com" -> {
+        matcher = TWITTER_PATH.matcher(path);
+        if (matcher.find()) {
+          return new CanonicalUrl(ContentPlatform.TWITTER, ContentPlatform.TWITTER.name() + ":" + matcher.group(1));
+        }
+      }
+      case "facebook.com", "fb.watch" -> {
+        matcher = FACEBOOK_PATH.matcher(path);
+        if (matcher.find()) {
+          return new CanonicalUrl(ContentPlatform.FACEBOOK, ContentPlatform.FACEBOOK.name() + ":" + matcher.group(1));
+        }
+        String videoId = param(params, "v");
+        if ("/watch".equals(path) && videoId != null) {
+          return new CanonicalUrl(ContentPlatform.FACEBOOK, ContentPlatform.FACEBOOK.name() + ":" + videoId);
+        }
+      }
+      default -> {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * 유튜브 영상/쇼츠는 같은 영상 ID 공간이므로 key는 YOUTUBE로 통일
+   */
+  private static CanonicalUrl youtubeKey(ContentPlatform platform, String videoId) {
+    return new CanonicalUrl(platform, ContentPlatform.YOUTUBE.name() + ":" + videoId);
+  }
+
+  private static ContentPlatform detectPlatform(String host) {
+    return switch (host) {
+      case "instagram.com", "instagr.am" -> ContentPlatform.INSTAGRAM;
+      case "youtube.com", "music.youtube.com", "youtube-nocookie.com", "youtu.be" -> ContentPlatform.YOUTUBE;
+      case "tiktok.com", "vm.tiktok.com", "vt.tiktok.com" -> ContentPlatform.TIKTOK;
+      case "twitter.com", "x.com", "t.co" -> ContentPlatform.TWITTER;
+      case "facebook.com", "fb.watch", "fb.com" -> ContentPlatform.FACEBOOK;
+      default -> null;
+    };
+  }
+
+  private static String normalizeHost(String host) {
+    String normalized = host.toLowerCase(Locale.ROOT);
+    if (normalized.endsWith(".")) {
+      normalized = normalized.substring(0, normalized.length() - 1);
+    }
+    for (String prefix : STRIPPED_HOST_PREFIXES) {
+      if (normalized.startsWith(prefix)) {
+        return normalized.substring(prefix.length());
+      }
+    }
+    return normalized;
+  }
+
+  /**
+   * 중복/마지막 슬래시 제거
+   */
+  private static String normalizePath(String rawPath) {
+    if (rawPath == null || rawPath.isEmpty()) {
+      return "";
+    }
+    String path = rawPath.replaceAll("/{2,}", "/");
+    while (path.length() > 1 && path.endsWith("/")) {
+      path = path.substring(0, path.length() - 1);
+    }
+    return "/".equals(path) ? "" : path;
+  }
+
+  /**
+   * 쿼리 파라미터 파싱 (추적 파라미터 제외)
+   *
+   * @param platform 호스트로 감지한 플랫폼 (null이면 공통 추적 파라미터만 제거)
+   */
+  private static List<String[]> parseQuery(String rawQuery, ContentPlatform platform) {
+    List<String[]> params = new ArrayList<>();
+    if (rawQuery == null || rawQuery.isEmpty()) {
+      return params;
+    }
+    Set<String> platformParams = platform != null
+        ? PLATFORM_TRACKING_PARAMS.getOrDefault(platform, Set.of())
+        : Set.of();
+    for (String pair : rawQuery.split("&")) {
+      if (pair.isEmpty()) {
+        continue;
+      }
+      int eq = pair.indexOf('=');
+      String name = eq >= 0 ? pair.substring(0, eq) : pair;
+      String value = eq >= 0 ? pair.substring(eq + 1) : "";
+      String lowerName = name.toLowerCase(Locale.ROOT);
+      if (TRACKING_PARAMS.contains(lowerName) || lowerName.startsWith("utm_") || platformParams.contains(lowerName)) {
+        continue;
+      }
+      params.add(new String[]{name, value});
+    }
+    return params;
+  }
+
+  private static String param(List<String[]> params, String name) {
+    return params.stream()
+        .filter(param -> param[0].equals(name))
+        .map(param -> param[1])
+        .findFirst()
+        .orElse(null);
+  }
+
+  /**
+   * https + 정규화 호스트 + 경로 + 정렬된 파라미터 (포트는 기본 포트가 아닐 때만, fragment 제거)
+   */
+  private static String normalizedUrl(URI uri, String host, String path, List<String[]> params) {
+    StringBuilder sb = new StringBuilder("https://").append(host);
+    int port = uri.getPort();
+    if (port != -1 && port != 80 && port != 443) {
+      sb.append(':').append(port);
+    }
+    sb.append(path);
+    if (!params.isEmpty()) {
+      sb.append('?');
+      params.stream()
+          .map(param -> param[0] + "=" + param[1])
+          .sorted()
+          .reduce((a, b) -> a + "&" + b)
+          .ifPresent(sb::append);
+    }
+    return sb.toString();
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class CanonicalUrl {
+
+    // 감지된 플랫폼 (알 수 없으면 null)
+    private final ContentPlatform platform;
+    private final String key;
+  }
+}
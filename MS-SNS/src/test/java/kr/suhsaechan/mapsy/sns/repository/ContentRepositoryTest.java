@@ -0,0 +1,120 @@
+package kr.suhsaechan.mapsy.sns.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import kr.suhsaechan.mapsy.common.constant.ContentStatus;
+import kr.suhsaechan.mapsy.common.test.PostgresRepositoryTest;
+import kr.suhsaechan.mapsy.sns.entity.Content;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 재요청 스위퍼 쿼리 검증
+ * - FAILED는 지수 백오프 지연이 지난 경우만, PENDING은 추가로 멈춘 경우(pendingStaleBefore 이전)만 대상
+ * - 최대 요청 횟수에 도달한 Content는 대상에서 제외되고, 멈춘 PENDING이면 FAILED로 변경
+ */
+class ContentRepositoryTest extends PostgresRepositoryTest {
+
+  private static final int MAX_ATTEMPTS = 5;
+  private static final long BASE_DELAY_MS = Duration.ofMinutes(1).toMillis();
+  private static final long MAX_DELAY_MS = Duration.ofMinutes(5).toMillis();
+  private static final long PENDING_TIMEOUT_MINUTES = 10;
+  private static final int LIMIT = 100;
+
+  @Autowired
+  private ContentRepository contentRepository;
+  @Autowired
+  private EntityManager entityManager;
+
+  private LocalDateTime now;
+
+  @BeforeEach
+  void setUp() {
+    now = LocalDateTime.now();
+  }
+
+  @Test
+  void FAILED는_백오프_지연이_지난_경우만_재요청_대상이다() {
+    // 3회 요청 → 지연 1분 * 2^2 = 4분
+    UUID due = save(ContentStatus.FAILED, 3, now.minusMinutes(5));
+    UUID notYetDue = save(ContentStatus.FAILED, 3, now.minusMinutes(3));
+    // 4회 요청 → 지연 8분이지만 최대 지연 5분으로 제한
+    UUID cappedDelay = save(ContentStatus.FAILED, 4, now.minusMinutes(6));
+
+    assertThat(findRetryCandidateIds()).contains(due, cappedDelay).doesNotContain(notYetDue);
+  }
+
+  @Test
+  void 최대_요청_횟수에_도달한_Content는_재요청하지_않는다() {
+    UUID belowCap = save(ContentStatus.FAILED, MAX_ATTEMPTS - 1, now.minusHours(1));
+    UUID failedAtCap = save(ContentStatus.FAILED, MAX_ATTEMPTS, now.minusHours(1));
+    UUID pendingAtCap = save(ContentStatus.PENDING, MAX_ATTEMPTS, now.minusHours(1));
+
+    assertThat(findRetryCandidateIds()).contains(belowCap).doesNotContain(failedAtCap, pendingAtCap);
+  }
+
+  @Test
+  void PENDING은_백오프가_지나도_멈춘_경우만_재요청_대상이다() {
+    // 둘 다 백오프(1분)는 지났고, 멈춘 기준(10분)은 stale만 지남
+    UUID stale = save(ContentStatus.PENDING, 1, now.minusMinutes(PENDING_TIMEOUT_MINUTES + 1));
+    UUID waitingCallback = save(ContentStatus.PENDING, 1, now.minusMinutes(5));
+    // 같은 시각의 FAILED는 멈춘 기준과 무관하게 대상
+    UUID failed = save(ContentStatus.FAILED, 1, now.minusMinutes(5));
+    UUID completed = save(ContentStatus.COMPLETED, 1, now.minusHours(1));
+
+    assertThat(findRetryCandidateIds()).contains(stale, failed).doesNotContain(waitingCallback, completed);
+  }
+
+  @Test
+  void 최대_요청_횟수에_도달한_멈춘_PENDING만_FAILED로_변경하고_ID를_반환한다() {
+    UUID exhausted = save(ContentStatus.PENDING, MAX_ATTEMPTS, now.minusMinutes(PENDING_TIMEOUT_MINUTES + 1));
+    UUID waitingCallback = save(ContentStatus.PENDING, MAX_ATTEMPTS, now.minusMinutes(1));
+    UUID retryable = save(ContentStatus.PENDING, 1, now.minusMinutes(PENDING_TIMEOUT_MINUTES + 1));
+
+    List<UUID> failed = contentRepository.failExhaustedPending(MAX_ATTEMPTS, pendingStaleBefore());
+    entityManager.clear();
+
+    assertThat(failed).containsExactly(exhausted);
+    assertThat(contentRepository.findById(exhausted)).get()
+        .extracting(Content::getStatus).isEqualTo(ContentStatus.FAILED);
+    assertThat(contentRepository.findById(waitingCallback)).get()
+        .extracting(Content::getStatus).isEqualTo(ContentStatus.PENDING);
+    assertThat(contentRepository.findById(retryable)).get()
+        .extracting(Content::getStatus).isEqualTo(ContentStatus.PENDING);
+  }
+
+  private List<UUID> findRetryCandidateIds() {
+    return contentRepository.findRetryCandidatesForUpdate(
+            now,
+            now.minus(Duration.ofMillis(BASE_DELAY_MS)),
+            pendingStaleBefore(),
+            MAX_ATTEMPTS,
+            BASE_DELAY_MS,
+            MAX_DELAY_MS,
+            LIMIT)
+        .stream()
+        .map(Content::getId)
+        .toList();
+  }
+
+  private LocalDateTime pendingStaleBefore() {
+    return now.minusMinutes(PENDING_TIMEOUT_MINUTES);
+  }
+
+  private UUID save(ContentStatus status, int extractionAttempts, LocalDateTime lastCheckedAt) {
+    Content content = contentRepository.saveAndFlush(Content.builder()
+        .originalUrl("https://www.instagram.com/p/" + UUID.randomUUID() + "/")
+        .status(status)
+        .extractionAttempts(extractionAttempts)
+        .lastCheckedAt(lastCheckedAt)
+        .build());
+    entityManager.clear();
+    return content.getId();
+  }
+}
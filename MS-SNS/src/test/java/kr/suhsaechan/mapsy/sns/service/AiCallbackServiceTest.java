@@ -0,0 +1,195 @@
+package kr.suhsaechan.mapsy.sns.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import kr.suhsaechan.mapsy.ai.dto.AiCallbackRequest;
+import kr.suhsaechan.mapsy.ai.dto.AiCallbackRequest.PlaceDetailCallback;
+import kr.suhsaechan.mapsy.common.constant.ContentStatus;
+import kr.suhsaechan.mapsy.place.constant.PlacePlatform;
+import kr.suhsaechan.mapsy.place.entity.Place;
+import kr.suhsaechan.mapsy.place.entity.PlacePlatformReference;
+import kr.suhsaechan.mapsy.place.repository.MemberPlaceRepository;
+import kr.suhsaechan.mapsy.place.repository.PlacePlatformReferenceRepository;
+import kr.suhsaechan.mapsy.place.repository.PlaceRepository;
+import kr.suhsaechan.mapsy.place.service.KeywordService;
+import kr.suhsaechan.mapsy.place.service.PlaceDetailCacheService;
+import kr.suhsaechan.mapsy.sns.entity.Content;
+import kr.suhsaechan.mapsy.sns.entity.ContentPlace;
+import kr.suhsaechan.mapsy.sns.repository.ContentMemberRepository;
+import kr.suhsaechan.mapsy.sns.repository.ContentPlaceRepository;
+import kr.suhsaechan.mapsy.sns.repository.ContentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * AI 콜백 장소 일괄 처리 시 장소 수와 무관하게 쿼리 수가 일정한지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class AiCallbackServiceTest {
+
+  private static final int PLACE_COUNT = 50;
+
+  @Mock
+  private ContentRepository contentRepository;
+  @Mock
+  private ContentMemberRepository contentMemberRepository;
+  @Mock
+  private PlaceRepository placeRepository;
+  @Mock
+  private ContentPlaceRepository contentPlaceRepository;
+  @Mock
+  private PlacePlatformReferenceRepository placePlatformReferenceRepository;
+  @Mock
+  private MemberPlaceRepository memberPlaceRepository;
+  @Mock
+  private ContentNotificationService contentNotificationService;
+  @Mock
+  private KeywordService keywordService;
+  @Mock
+  private PlaceDetailCacheService placeDetailCacheService;
+  @Mock
+  private ContentUrlCacheService contentUrlCacheService;
+  @Mock
+  private ContentExtractionDispatcher contentExtractionDispatcher;
+  @Mock
+  private ContentStatusPublisher contentStatusPublisher;
+
+  @InjectMocks
+  private AiCallbackService aiCallbackService;
+
+  @Captor
+  private ArgumentCaptor<List<Place>> placesCaptor;
+  @Captor
+  private ArgumentCaptor<List<PlacePlatformReference>> referencesCaptor;
+  @Captor
+  private ArgumentCaptor<List<ContentPlace>> contentPlacesCaptor;
+
+  private Content content;
+
+  @BeforeEach
+  void setUp() {
+    content = Content.builder()
+        .id(UUID.randomUUID())
+        .originalUrl("https://www.instagram.com/p/ABC123/")
+        .status(ContentStatus.PENDING)
+        .build();
+
+    when(contentRepository.findByIdForUpdate(content.getId())).thenReturn(Optional.of(content));
+  }
+
+  @Test
+  void 신규_장소_50개_콜백은_조회_2회와_일괄_저장_3회로_처리된다() {
+    List<PlaceDetailCallback> placeDetails = createPlaceDetails(PLACE_COUNT);
+
+    when(placePlatformReferenceRepository.findAllByPlacePlatformAndPlacePlatformIdIn(
+        eq(PlacePlatform.NAVER), anyCollection())).thenReturn(List.of());
+    when(placeRepository.findAllByNameIn(anyCollection())).thenReturn(List.of());
+    when(placeRepository.saveAll(anyIterable())).thenAnswer(invocation -> {
+      // persist 시점의 UUID 할당을 흉내냄
+      List<Place> places = new ArrayList<>();
+      invocation.<Iterable<Place>>getArgument(0).forEach(place -> {
+        place.setId(UUID.randomUUID());
+        places.add(place);
+      });
+      return places;
+    });
+
+    aiCallbackService.processAiServerCallback(createSuccessRequest(placeDetails));
+
+    // 조회: naverPlaceId IN 1회 + name IN 1회
+    verify(placePlatformReferenceRepository, times(1))
+        .findAllByPlacePlatformAndPlacePlatformIdIn(eq(PlacePlatform.NAVER), anyCollection());
+    verify(placeRepository, times(1)).findAllByNameIn(anyCollection());
+
+    // 저장: Place, PlacePlatformReference, ContentPlace 각각 saveAll 1회
+    verify(placeRepository, times(1)).saveAll(placesCaptor.capture());
+    verify(placePlatformReferenceRepository, times(1)).saveAll(referencesCaptor.capture());
+    verify(contentPlaceRepository, times(1)).saveAll(contentPlacesCaptor.capture());
+
+    assertThat(placesCaptor.getValue()).hasSize(PLACE_COUNT);
+    assertThat(referencesCaptor.getValue()).hasSize(PLACE_COUNT);
+    assertThat(contentPlacesCaptor.getValue())
+        .hasSize(PLACE_COUNT)
+        .extracting(ContentPlace::getPosition)
+        .containsExactlyElementsOf(IntStream.range(0, PLACE_COUNT).boxed().toList());
+
+    // 건별 조회/저장은 발생하지 않음
+    verify(placeRepository, never()).save(any());
+    verify(contentPlaceRepository, never()).existsByContentAndPlace(any(), any());
+    verifyNoMoreInteractions(placeRepository, placePlatformReferenceRepository, contentPlaceRepository);
+
+    // 알림은 Outbox 저장만 수행
+    verify(contentNotificationService, times(1)).enqueueContentComplete(content.getId(), PLACE_COUNT);
+  }
+
+  @Test
+  void 기존_장소는_naverPlaceId_조회_1회로_재사용되고_INSERT되지_않는다() {
+    List<PlaceDetailCallback> placeDetails = createPlaceDetails(PLACE_COUNT);
+    List<PlacePlatformReference> existingReferences = placeDetails.stream()
+        .map(placeDetail -> PlacePlatformReference.builder()
+            .place(Place.builder()
+                .id(UUID.randomUUID())
+                .name(placeDetail.getName())
+                .latitude(BigDecimal.valueOf(placeDetail.getLatitude()))
+                .longitude(BigDecimal.valueOf(placeDetail.getLongitude()))
+                .build())
+            .placePlatform(PlacePlatform.NAVER)
+            .placePlatformId(placeDetail.getPlaceId())
+            .build())
+        .toList();
+
+    when(placePlatformReferenceRepository.findAllByPlacePlatformAndPlacePlatformIdIn(
+        eq(PlacePlatform.NAVER), anyCollection())).thenReturn(existingReferences);
+
+    aiCallbackService.processAiServerCallback(createSuccessRequest(placeDetails));
+
+    verify(placePlatformReferenceRepository, times(1))
+        .findAllByPlacePlatformAndPlacePlatformIdIn(eq(PlacePlatform.NAVER), anyCollection());
+    verify(contentPlaceRepository, times(1)).saveAll(contentPlacesCaptor.capture());
+    assertThat(contentPlacesCaptor.getValue()).hasSize(PLACE_COUNT);
+
+    // name fallback 조회 및 신규 INSERT 없음
+    verifyNoMoreInteractions(placeRepository, placePlatformReferenceRepository, contentPlaceRepository);
+  }
+
+  private AiCallbackRequest createSuccessRequest(List<PlaceDetailCallback> placeDetails) {
+    return AiCallbackRequest.builder()
+        .contentId(content.getId())
+        .resultStatus("SUCCESS")
+        .placeDetails(placeDetails)
+        .build();
+  }
+
+  private List<PlaceDetailCallback> createPlaceDetails(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> PlaceDetailCallback.builder()
+            .placeId(String.valueOf(10000000 + i))
+            .name("테스트 장소 " + i)
+            .latitude(37.5 + i * 0.001)
+            .longitude(127.0 + i * 0.001)
+            .address("서울 송파구 테스트로 " + i)
+            .build())
+        .toList();
+  }
+}
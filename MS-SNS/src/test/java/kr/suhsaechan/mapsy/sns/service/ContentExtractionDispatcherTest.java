@@ -0,0 +1,132 @@
+package kr.suhsaechan.mapsy.sns.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import kr.suhsaechan.mapsy.ai.service.AiServerService;
+import kr.suhsaechan.mapsy.common.constant.ContentStatus;
+import kr.suhsaechan.mapsy.common.properties.ContentExtractionBatchProperties;
+import kr.suhsaechan.mapsy.sns.repository.ContentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 대기열이 가득 차 커밋 후 콜백에서 요청을 거절할 때 FAILED 변경이 커밋되고 상태가 발행되는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class ContentExtractionDispatcherTest {
+
+  @Mock
+  private AiServerService aiServerService;
+  @Mock
+  private ContentRepository contentRepository;
+  @Mock
+  private RedisTemplate<String, Object> redisTemplate;
+
+  private RecordingTransactionManager transactionManager;
+  private ContentExtractionDispatcher dispatcher;
+
+  @BeforeEach
+  void setUp() {
+    ContentExtractionBatchProperties properties = new ContentExtractionBatchProperties();
+    properties.setQueueCapacity(1);
+    properties.setMaxSize(1);
+    properties.setMaxWaitMs(0);
+    // 전송 스레드는 첫 요청을 꺼낸 뒤 과부하 대기에 머묾 → 이후 요청은 대기열(용량 1)에 남음
+    when(aiServerService.getOverloadBackoffMillis()).thenReturn(TimeUnit.MINUTES.toMillis(1));
+
+    transactionManager = new RecordingTransactionManager();
+    dispatcher = new ContentExtractionDispatcher(aiServerService, contentRepository, properties,
+        new SimpleMeterRegistry(), new ContentStatusPublisher(redisTemplate), transactionManager);
+    dispatcher.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    dispatcher.stop();
+  }
+
+  @Test
+  void 대기열이_가득_차면_새_트랜잭션에서_FAILED로_변경하고_상태를_발행한다() {
+    UUID sending = UUID.randomUUID();
+    UUID queued = UUID.randomUUID();
+    UUID rejected = UUID.randomUUID();
+    when(contentRepository.updateStatusIfMatches(rejected, ContentStatus.PENDING, ContentStatus.FAILED))
+        .thenReturn(1);
+
+    dispatchInTransaction(sending, "https://www.instagram.com/p/SENDING/");
+    verify(aiServerService, timeout(5_000)).getOverloadBackoffMillis();
+    dispatchInTransaction(queued, "https://www.instagram.com/p/QUEUED/");
+    dispatchInTransaction(rejected, "https://www.instagram.com/p/REJECTED/");
+
+    verify(contentRepository).updateStatusIfMatches(rejected, ContentStatus.PENDING, ContentStatus.FAILED);
+    verify(contentRepository, never()).updateStatusIfMatches(eq(queued), any(), any());
+    verify(redisTemplate).convertAndSend(ContentStatusPublisher.STATUS_CHANNEL, rejected.toString());
+    // 요청 트랜잭션 3건 + FAILED 변경 트랜잭션 1건
+    assertThat(transactionManager.commits).hasValue(4);
+  }
+
+  private void dispatchInTransaction(UUID contentId, String snsUrl) {
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> dispatcher.dispatch(contentId, snsUrl));
+  }
+
+  /**
+   * 커밋 횟수를 기록하는 트랜잭션 매니저
+   * - 동기화(afterCommit)와 REQUIRES_NEW 일시 중지는 AbstractPlatformTransactionManager 동작 그대로 사용
+   */
+  private static final class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+
+    private final AtomicInteger commits = new AtomicInteger();
+
+    @Override
+    protected Object doGetTransaction() {
+      return new Object();
+    }
+
+    @Override
+    protected boolean isExistingTransaction(Object transaction) {
+      return TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+    }
+
+    @Override
+    protected Object doSuspend(Object transaction) {
+      return transaction;
+    }
+
+    @Override
+    protected void doResume(Object transaction, Object suspendedResources) {
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+      commits.incrementAndGet();
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+    }
+  }
+}
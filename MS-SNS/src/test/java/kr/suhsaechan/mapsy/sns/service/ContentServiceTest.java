@@ -0,0 +1,144 @@
+package kr.suhsaechan.mapsy.sns.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import kr.suhsaechan.mapsy.common.constant.ContentStatus;
+import kr.suhsaechan.mapsy.common.test.PostgresRepositoryTest;
+import kr.suhsaechan.mapsy.common.util.CommonUtil;
+import kr.suhsaechan.mapsy.member.entity.Member;
+import kr.suhsaechan.mapsy.place.dto.PlaceDto;
+import kr.suhsaechan.mapsy.place.entity.Place;
+import kr.suhsaechan.mapsy.sns.dto.GetMemberContentPageResponse;
+import kr.suhsaechan.mapsy.sns.dto.GetRecentContentResponse;
+import kr.suhsaechan.mapsy.sns.entity.Content;
+import kr.suhsaechan.mapsy.sns.entity.ContentMember;
+import kr.suhsaechan.mapsy.sns.entity.ContentPlace;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * 회원 Content/저장 장소 목록 조회 시 회원의 요청 이력 수와 무관하게 SQL 문장 수가 일정한지 검증
+ * - 실제 PostgreSQL에 이력 수별로 데이터를 적재하고 Hibernate Statistics로 실행된 문장 수를 확인
+ * - 지연 로딩/건별 조회(N+1)가 생기면 이력 수에 비례해 문장 수가 늘어나므로 실패
+ */
+@Import(ContentService.class)
+class ContentServiceTest extends PostgresRepositoryTest {
+
+  private static final int PAGE_SIZE = 10;
+  private static final int RECENT_LIMIT = 10;
+
+  @Autowired
+  private ContentService contentService;
+  @Autowired
+  private EntityManager entityManager;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @MockitoBean
+  private CommonUtil commonUtil;
+  @MockitoBean
+  private ContentSubmissionService contentSubmissionService;
+  @MockitoBean
+  private ContentUrlCacheService contentUrlCacheService;
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 50, 500})
+  void 회원_콘텐츠_목록은_이력_수와_무관하게_쿼리_1회로_조회된다(int historySize) {
+    UUID memberId = seedHistory(historySize);
+    Statistics statistics = resetStatistics();
+
+    GetMemberContentPageResponse response = contentService.getMemberContentPage(memberId, PAGE_SIZE, null);
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(response.getContentPage().getContent()).hasSize(Math.min(historySize, PAGE_SIZE));
+    assertThat(response.isHasNext()).isEqualTo(historySize > PAGE_SIZE);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {15, 50, 500})
+  void 회원_콘텐츠_다음_페이지도_이력_수와_무관하게_쿼리_1회로_조회된다(int historySize) {
+    UUID memberId = seedHistory(historySize);
+    String cursor = contentService.getMemberContentPage(memberId, PAGE_SIZE, null).getNextCursor();
+    entityManager.clear();
+    Statistics statistics = resetStatistics();
+
+    GetMemberContentPageResponse response = contentService.getMemberContentPage(memberId, PAGE_SIZE, cursor);
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(response.getContentPage().getContent()).hasSize(Math.min(historySize - PAGE_SIZE, PAGE_SIZE));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 50, 500})
+  void 최근_콘텐츠는_이력_수와_무관하게_회원_확인과_조회_쿼리만_실행된다(int historySize) {
+    UUID memberId = seedHistory(historySize);
+    Statistics statistics = resetStatistics();
+
+    GetRecentContentResponse response = contentService.getRecentContents(memberId);
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    assertThat(response.getContents()).hasSize(Math.min(historySize, RECENT_LIMIT));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 50, 500})
+  void 저장_장소는_이력_수와_무관하게_회원_확인과_조회_쿼리만_실행된다(int historySize) {
+    UUID memberId = seedHistory(historySize);
+    Statistics statistics = resetStatistics();
+
+    List<PlaceDto> places = contentService.getSavedPlaces(memberId);
+
+    // Content별 ContentPlace/Place 조회 없음
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    assertThat(places).hasSize(Math.min(historySize, RECENT_LIMIT));
+  }
+
+  /**
+   * 회원 1명과 요청 이력(Content + ContentMember + ContentPlace/Place) historySize건 적재
+   * - 영속성 컨텍스트를 비워 조회 시 캐시 적중으로 문장 수가 가려지지 않도록 함
+   */
+  private UUID seedHistory(int historySize) {
+    Member member = Member.builder()
+        .email(UUID.randomUUID() + "@mapsy.test")
+        .name("테스트 회원")
+        .build();
+    entityManager.persist(member);
+
+    for (int i = 0; i < historySize; i++) {
+      Content content = Content.builder()
+          .originalUrl("https://www.instagram.com/p/" + UUID.randomUUID() + "/")
+          .status(ContentStatus.COMPLETED)
+          .build();
+      entityManager.persist(content);
+      entityManager.persist(ContentMember.builder().content(content).member(member).build());
+
+      Place place = Place.builder()
+          .name("테스트 장소 " + i)
+          .latitude(new BigDecimal("37.5665000"))
+          .longitude(new BigDecimal("126.9780000"))
+          .build();
+      entityManager.persist(place);
+      entityManager.persist(ContentPlace.builder().content(content).place(place).position(0).build());
+    }
+
+    entityManager.flush();
+    entityManager.clear();
+    return member.getId();
+  }
+
+  private Statistics resetStatistics() {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+    return statistics;
+  }
+}
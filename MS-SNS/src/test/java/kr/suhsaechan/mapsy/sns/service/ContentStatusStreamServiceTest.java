@@ -0,0 +1,234 @@
+package kr.suhsaechan.mapsy.sns.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import kr.suhsaechan.mapsy.common.constant.ContentStatus;
+import kr.suhsaechan.mapsy.common.exception.CustomException;
+import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
+import kr.suhsaechan.mapsy.common.properties.ContentStatusStreamProperties;
+import kr.suhsaechan.mapsy.sns.dto.ContentDto;
+import kr.suhsaechan.mapsy.sns.dto.GetContentInfoResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Content 상태 SSE 구독 검증
+ * - 구독 즉시 현재 상태 전송, 종료 상태 전송 후 연결 종료
+ * - 다른 인스턴스에서 발행한 상태 변경이 Redis pub/sub(리스너 컨테이너 mock)을 거쳐 구독 인스턴스에만 전달
+ * - 구독 수 상한과 실패 시 구독 수 복구
+ */
+@ExtendWith(MockitoExtension.class)
+class ContentStatusStreamServiceTest {
+
+  private static final String CONTENT_STATUS_METER = "content.status.stream.subscribers";
+
+  @Mock
+  private RedisTemplate<String, Object> redisTemplate;
+
+  private final ContentStatusStreamProperties properties = new ContentStatusStreamProperties();
+  // Redis 채널 구독자 (각 인스턴스의 리스너 컨테이너에 등록된 리스너)
+  private final List<MessageListener> channelListeners = new CopyOnWriteArrayList<>();
+  private final List<Node> nodes = new CopyOnWriteArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    properties.setMaxSubscribers(10);
+  }
+
+  @AfterEach
+  void tearDown() {
+    nodes.forEach(node -> node.service.shutdown());
+  }
+
+  @Test
+  void 구독하면_현재_상태를_즉시_전송하고_종료_상태면_연결을_닫는다() {
+    Node node = new Node();
+    UUID contentId = UUID.randomUUID();
+    when(node.contentService.getContentInfo(contentId)).thenReturn(response(ContentStatus.COMPLETED));
+
+    node.service.subscribe(contentId);
+
+    RecordingEmitter emitter = node.emitters.get(0);
+    assertThat(emitter.sentStatuses()).containsExactly(ContentStatus.COMPLETED);
+    assertThat(emitter.completed.getCount()).isZero();
+    assertThat(node.subscribers()).isZero();
+  }
+
+  @Test
+  void 다른_인스턴스에서_발행한_상태_변경을_구독_중인_인스턴스만_조회하여_전송한다() throws InterruptedException {
+    Node subscribed = new Node();
+    Node publishing = new Node();
+    connectChannel();
+    UUID contentId = UUID.randomUUID();
+    when(subscribed.contentService.getContentInfo(contentId)).thenReturn(
+        response(ContentStatus.PENDING), response(ContentStatus.PENDING), response(ContentStatus.COMPLETED));
+
+    subscribed.service.subscribe(contentId);
+    RecordingEmitter emitter = subscribed.emitters.get(0);
+    assertThat(emitter.sentStatuses()).containsExactly(ContentStatus.PENDING);
+    assertThat(subscribed.subscribers()).isEqualTo(1);
+
+    // 발행 인스턴스의 트랜잭션 밖 발행 → 즉시 채널로 전송
+    new ContentStatusPublisher(redisTemplate).publish(contentId);
+
+    assertThat(emitter.completed.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(emitter.sentStatuses()).containsExactly(ContentStatus.PENDING, ContentStatus.COMPLETED);
+    assertThat(subscribed.subscribers()).isZero();
+    verify(publishing.contentService, never()).getContentInfo(any());
+  }
+
+  @Test
+  void 구독_수_상한을_넘으면_거절하고_구독_수는_유지한다() {
+    properties.setMaxSubscribers(1);
+    Node node = new Node();
+    UUID contentId = UUID.randomUUID();
+    when(node.contentService.getContentInfo(contentId)).thenReturn(response(ContentStatus.PENDING));
+    node.service.subscribe(contentId);
+
+    assertThatThrownBy(() -> node.service.subscribe(contentId))
+        .isInstanceOf(CustomException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.CONTENT_STREAM_LIMIT_EXCEEDED);
+    assertThat(node.subscribers()).isEqualTo(1);
+    assertThat(node.emitters).hasSize(1);
+  }
+
+  @Test
+  void 없는_Content_구독은_실패하고_구독_수를_되돌린다() {
+    properties.setMaxSubscribers(1);
+    Node node = new Node();
+    UUID missing = UUID.randomUUID();
+    UUID contentId = UUID.randomUUID();
+    when(node.contentService.getContentInfo(missing)).thenThrow(new CustomException(ErrorCode.CONTENT_NOT_FOUND));
+    when(node.contentService.getContentInfo(contentId)).thenReturn(response(ContentStatus.PENDING));
+
+    assertThatThrownBy(() -> node.service.subscribe(missing))
+        .isInstanceOf(CustomException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.CONTENT_NOT_FOUND);
+    assertThat(node.subscribers()).isZero();
+
+    // 되돌린 자리로 다음 구독 가능
+    node.service.subscribe(contentId);
+    assertThat(node.subscribers()).isEqualTo(1);
+  }
+
+  /**
+   * convertAndSend를 채널에 등록된 모든 인스턴스의 리스너로 전달 (Redis pub/sub 대체)
+   */
+  private void connectChannel() {
+    doReturn(RedisSerializer.string()).when(redisTemplate).getValueSerializer();
+    when(redisTemplate.convertAndSend(eq(ContentStatusPublisher.STATUS_CHANNEL), any())).thenAnswer(invocation -> {
+      Message message = new DefaultMessage(
+          ContentStatusPublisher.STATUS_CHANNEL.getBytes(StandardCharsets.UTF_8),
+          RedisSerializer.string().serialize(invocation.getArgument(1, String.class)));
+      channelListeners.forEach(listener -> listener.onMessage(message, null));
+      return (long) channelListeners.size();
+    });
+  }
+
+  private static GetContentInfoResponse response(ContentStatus status) {
+    return GetContentInfoResponse.builder()
+        .content(ContentDto.builder().status(status).build())
+        .places(List.of())
+        .build();
+  }
+
+  /**
+   * 인스턴스 1개 (ContentService/리스너 컨테이너 mock, Redis 템플릿은 인스턴스 간 공유)
+   */
+  private final class Node {
+
+    private final ContentService contentService = mock(ContentService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final ContentStatusStreamService service;
+
+    private Node() {
+      RedisMessageListenerContainer container = mock(RedisMessageListenerContainer.class);
+      service = new ContentStatusStreamService(contentService, redisTemplate, container, properties, meterRegistry) {
+        @Override
+        SseEmitter createEmitter(long timeoutMs) {
+          RecordingEmitter emitter = new RecordingEmitter();
+          emitters.add(emitter);
+          return emitter;
+        }
+      };
+      service.init();
+
+      ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+      ArgumentCaptor<Topic> topic = ArgumentCaptor.forClass(Topic.class);
+      verify(container).addMessageListener(listener.capture(), topic.capture());
+      assertThat(topic.getValue().getTopic()).isEqualTo(ContentStatusPublisher.STATUS_CHANNEL);
+      channelListeners.add(listener.getValue());
+      nodes.add(this);
+    }
+
+    private double subscribers() {
+      return meterRegistry.get(CONTENT_STATUS_METER).gauge().value();
+    }
+  }
+
+  /**
+   * 전송 내용을 기록하는 SSE 연결
+   * - complete 시 서블릿 컨테이너처럼 onCompletion 콜백 실행
+   */
+  private static final class RecordingEmitter extends SseEmitter {
+
+    private final List<Object> sent = new CopyOnWriteArrayList<>();
+    private final List<Runnable> completionCallbacks = new CopyOnWriteArrayList<>();
+    private final CountDownLatch completed = new CountDownLatch(1);
+
+    @Override
+    public void send(SseEventBuilder builder) {
+      builder.build().stream().map(DataWithMediaType::getData).forEach(sent::add);
+    }
+
+    @Override
+    public void onCompletion(Runnable callback) {
+      completionCallbacks.add(callback);
+    }
+
+    @Override
+    public void complete() {
+      completionCallbacks.forEach(Runnable::run);
+      completed.countDown();
+    }
+
+    private List<ContentStatus> sentStatuses() {
+      return sent.stream()
+          .filter(GetContentInfoResponse.class::isInstance)
+          .map(data -> ((GetContentInfoResponse) data).getContent().getStatus())
+          .toList();
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package kr.suhsaechan.mapsy.sns.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import kr.suhsaechan.mapsy.common.constant.ContentStatus;
+import kr.suhsaechan.mapsy.common.properties.ContentExtractionRetryProperties;
+import kr.suhsaechan.mapsy.member.repository.MemberRepository;
+import kr.suhsaechan.mapsy.sns.dto.RequestPlaceExtractionResponse;
+import kr.suhsaechan.mapsy.sns.entity.Content;
+import kr.suhsaechan.mapsy.sns.repository.ContentMemberRepository;
+import kr.suhsaechan.mapsy.sns.repository.ContentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * 기존 Content 재요청 판단 검증
+ * - Callback 대기 중(PENDING, 마지막 요청이 pendingTimeoutMinutes 이내)이면 ContentMember만 추가하고 AI 재요청 없음
+ * - 멈춘 PENDING / FAILED / 요청 기록 없는 PENDING은 요청 횟수 초기화 후 다시 요청
+ */
+@ExtendWith(MockitoExtension.class)
+class ContentSubmissionServiceTest {
+
+  private static final String SNS_URL = "https://www.instagram.com/p/ABC123/";
+  private static final long PENDING_TIMEOUT_MINUTES = 10;
+
+  @Mock
+  private ContentRepository contentRepository;
+  @Mock
+  private ContentMemberRepository contentMemberRepository;
+  @Mock
+  private MemberRepository memberRepository;
+  @Mock
+  private ContentExtractionDispatcher contentExtractionDispatcher;
+  @Mock
+  private ContentUrlCacheService contentUrlCacheService;
+  @Mock
+  private ContentStatusPublisher contentStatusPublisher;
+
+  private ContentSubmissionService contentSubmissionService;
+  private final UUID memberId = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    ContentExtractionRetryProperties properties = new ContentExtractionRetryProperties();
+    properties.setPendingTimeoutMinutes(PENDING_TIMEOUT_MINUTES);
+    contentSubmissionService = new ContentSubmissionService(contentRepository, contentMemberRepository,
+        memberRepository, contentExtractionDispatcher, contentUrlCacheService, properties, contentStatusPublisher);
+    when(memberRepository.existsById(memberId)).thenReturn(true);
+  }
+
+  @Test
+  void Callback_대기_중인_PENDING이면_ContentMember만_추가하고_다시_요청하지_않는다() {
+    Content content = existing(ContentStatus.PENDING, LocalDateTime.now().minusMinutes(1));
+
+    RequestPlaceExtractionResponse response = contentSubmissionService.submit(SNS_URL, memberId);
+
+    assertThat(response.getContentId()).isEqualTo(content.getId());
+    assertThat(response.getStatus()).isEqualTo(ContentStatus.PENDING);
+    verify(contentMemberRepository).insertIgnore(content.getId(), memberId, false);
+    verify(contentRepository, never()).saveAndFlush(any());
+    verify(contentExtractionDispatcher, never()).redispatch(any(), anyString());
+    verify(contentExtractionDispatcher, never()).dispatch(any(), anyString());
+    assertThat(content.getExtractionAttempts()).isEqualTo(3);
+  }
+
+  @Test
+  void 대기_시간이_지난_PENDING은_멈춘_것으로_보고_다시_요청한다() {
+    Content content = existing(ContentStatus.PENDING, LocalDateTime.now().minusMinutes(PENDING_TIMEOUT_MINUTES + 1));
+    when(contentRepository.saveAndFlush(content)).thenReturn(content);
+
+    contentSubmissionService.submit(SNS_URL, memberId);
+
+    assertRedispatched(content);
+  }
+
+  @Test
+  void 최근에_요청했어도_FAILED면_다시_요청한다() {
+    Content content = existing(ContentStatus.FAILED, LocalDateTime.now().minusMinutes(1));
+    when(contentRepository.saveAndFlush(content)).thenReturn(content);
+
+    contentSubmissionService.submit(SNS_URL, memberId);
+
+    assertRedispatched(content);
+  }
+
+  @Test
+  void 요청_기록이_없는_PENDING은_다시_요청한다() {
+    Content content = existing(ContentStatus.PENDING, null);
+    when(contentRepository.saveAndFlush(content)).thenReturn(content);
+
+    contentSubmissionService.submit(SNS_URL, memberId);
+
+    assertRedispatched(content);
+  }
+
+  private Content existing(ContentStatus status, LocalDateTime lastCheckedAt) {
+    Content content = Content.builder()
+        .id(UUID.randomUUID())
+        .originalUrl(SNS_URL)
+        .canonicalKey("INSTAGRAM:ABC123")
+        .status(status)
+        .extractionAttempts(3)
+        .lastCheckedAt(lastCheckedAt)
+        .build();
+    when(contentRepository.findAllByCanonicalKeyOrOriginalUrl(anyString(), anyString())).thenReturn(List.of(content));
+    return content;
+  }
+
+  /**
+   * 사용자 요청이므로 요청 횟수를 초기화한 뒤 1회 요청으로 기록하고 재전송
+   */
+  private void assertRedispatched(Content content) {
+    verify(contentRepository).saveAndFlush(content);
+    verify(contentExtractionDispatcher).redispatch(content.getId(), SNS_URL);
+    verify(contentStatusPublisher).publish(content.getId());
+    assertThat(content.getStatus()).isEqualTo(ContentStatus.PENDING);
+    assertThat(content.getExtractionAttempts()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,14 @@
+package kr.suhsaechan.mapsy.web.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * - AI Callback Inbox 워커 폴링 등 @Scheduled 작업 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
@@ -6,7 +6,7 @@ import kr.suhsaechan.mapsy.common.exception.CustomException;
 import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
 import kr.suhsaechan.mapsy.common.properties.AiServerProperties;
 import kr.suhsaechan.mapsy.common.util.CommonUtil;
-import kr.suhsaechan.mapsy.sns.service.AiCallbackService;
+import kr.suhsaechan.mapsy.sns.service.AiCallbackInboxService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -24,7 +24,7 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "AI 서버 API", description = "AI 서버 연동 관련 API 제공")
 public class AiController implements AiControllerDocs {
 
-  private final AiCallbackService aiCallbackService;
+  private final AiCallbackInboxService aiCallbackInboxService;
   private final AiServerProperties aiServerProperties;
   private final CommonUtil commonUtil;
 
@@ -42,6 +42,7 @@ public class AiController implements AiControllerDocs {
       throw new CustomException(ErrorCode.INVALID_API_KEY);
     }
 
-    return ResponseEntity.ok(aiCallbackService.processAiServerCallback(request));
+    // Inbox에 저장 후 즉시 응답, 실제 처리는 워커가 비동기로 수행
+    return ResponseEntity.accepted().body(aiCallbackInboxService.enqueue(request));
   }
 }
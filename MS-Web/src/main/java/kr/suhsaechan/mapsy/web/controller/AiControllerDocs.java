@@ -36,12 +36,15 @@ public interface AiControllerDocs {
                 - **`description`**: 장소 설명
                 - **`rawData`**: AI 추출 원본 데이터
 
-              ## 반환값 (AiCallbackResponse)
+              ## 반환값 (AiCallbackResponse) - 202 Accepted
               - **`received`**: 수신 여부 (true)
               - **`contentId`**: Content UUID
+              - **`duplicate`**: 이미 수신된 동일 Callback 여부 (true면 재처리하지 않음)
 
               ## 특이사항
               - AI 서버가 장소 추출 분석 완료 후 이 Webhook을 호출합니다.
+              - 요청은 검증 후 Inbox에 저장되고 즉시 202를 반환합니다. 실제 처리는 워커가 비동기로 수행합니다.
+              - 동일 contentId + 동일 payload 재전송은 중복으로 판단하여 다시 처리하지 않습니다.
               - API Key는 환경변수를 통해 설정되며, 반드시 일치해야 합니다.
               - Content 상태를 ANALYZING → COMPLETED/FAILED로 변경합니다.
               - SUCCESS인 경우:
@@ -3,19 +3,19 @@ package kr.suhsaechan.mapsy.web.controller;
 import kr.suhsaechan.mapsy.auth.dto.CustomUserDetails;
 import kr.suhsaechan.mapsy.place.dto.GetSavedPlacesResponse;
 import kr.suhsaechan.mapsy.place.dto.PlaceDto;
-import kr.suhsaechan.mapsy.sns.dto.ContentDto;
 import kr.suhsaechan.mapsy.sns.dto.GetRecentContentResponse;
 import kr.suhsaechan.mapsy.sns.dto.GetContentInfoResponse;
 import kr.suhsaechan.mapsy.sns.dto.GetMemberContentPageResponse;
 import kr.suhsaechan.mapsy.sns.dto.RequestPlaceExtractionRequest;
 import kr.suhsaechan.mapsy.sns.dto.RequestPlaceExtractionResponse;
 import kr.suhsaechan.mapsy.sns.service.ContentService;
+import kr.suhsaechan.mapsy.sns.service.ContentStatusStreamService;
 import jakarta.validation.Valid;
 import java.util.UUID;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -25,6 +25,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -34,6 +35,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ContentController implements ContentControllerDocs {
 
   private final ContentService contentService;
+  private final ContentStatusStreamService contentStatusStreamService;
 
   /**
    * 프론트에서 전달한 SNS URL을 받아 AI 서버에 장소 추출을 의뢰합니다.
@@ -64,6 +66,20 @@ public class ContentController implements ContentControllerDocs {
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * Content 상태 실시간 구독 (Server-Sent Events)
+   * - 구독 즉시 현재 상태를, 이후 상태 변경 시마다 Content 정보와 장소 목록을 전송합니다.
+   * - COMPLETED/FAILED 전송 후 연결이 종료됩니다.
+   */
+  @GetMapping(value = "/{contentId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @Override
+  public SseEmitter streamContentStatus(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @PathVariable UUID contentId
+  ) {
+    return contentStatusStreamService.subscribe(contentId);
+  }
+
   /**
    * 회원의 Content 목록 조회
    * - 인증된 회원이 소유한 Content 목록을 최신순으로 조회합니다.
@@ -73,18 +89,14 @@ public class ContentController implements ContentControllerDocs {
   @Override
   public ResponseEntity<GetMemberContentPageResponse> getMemberContentPage(
       @AuthenticationPrincipal CustomUserDetails userDetails,
-      @RequestParam(required = false, defaultValue = "10") Integer pageSize
+      @RequestParam(required = false, defaultValue = "10") Integer pageSize,
+      @RequestParam(required = false) String cursor
   ) {
     // Member ID 추출
     UUID memberId = userDetails.getMemberId();
 
     // Service 호출
-    Page<ContentDto> contentPage = contentService.getMemberContentPage(memberId, pageSize);
-
-    // Response 생성
-    GetMemberContentPageResponse response = GetMemberContentPageResponse.builder()
-        .contentPage(contentPage)
-        .build();
+    GetMemberContentPageResponse response = contentService.getMemberContentPage(memberId, pageSize, cursor);
 
     return ResponseEntity.ok(response);
   }
@@ -17,6 +17,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public interface ContentControllerDocs {
 
@@ -73,12 +74,42 @@ public interface ContentControllerDocs {
       @AuthenticationPrincipal CustomUserDetails userDetails,
       @PathVariable UUID contentId);
 
+  @ApiLog(date = "2026.10.18", author = Author.SUHSAECHAN, issueNumber = 0, description = "Content 상태 실시간 구독(SSE) API 추가")
+  @Operation(summary = "SNS 컨텐츠 상태 실시간 구독 (SSE)", description = """
+              ## 인증(JWT): **필요**
+
+              ## 요청 파라미터
+              - **`contentId`**: 구독할 Content UUID (Path Variable)
+
+              ## 반환값 (text/event-stream)
+              - **`status`** 이벤트: `GET /api/content/{contentId}`와 같은 형식 (GetContentInfoResponse)
+                - `content`: Content 상세 정보 (ContentDto)
+                - `places`: 연관된 Place 목록 (position 순서)
+
+              ## 동작 방식
+              - 구독 즉시 현재 상태를 1회 전송합니다.
+              - 이후 상태가 변경될 때마다(분석 완료, 실패, 재분석 요청) 최신 상태를 전송합니다.
+              - `COMPLETED` / `FAILED` 상태 전송 후 서버가 연결을 종료합니다.
+              - 연결 유지 시간(기본 5분)이 지나면 연결이 종료되며, 클라이언트는 다시 구독합니다.
+              - 연결 유지를 위해 주기적으로 `ping` comment가 전송됩니다.
+              - 상태 확인을 위한 `GET /api/content/{contentId}` 폴링 대신 사용합니다.
+
+              ## 에러코드
+              - **`CONTENT_NOT_FOUND`**: Content가 존재하지 않습니다.
+              - **`CONTENT_STREAM_LIMIT_EXCEEDED`**: 서버의 구독 연결 수가 최대치에 도달했습니다.
+              """)
+  SseEmitter streamContentStatus(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @PathVariable UUID contentId);
+
+  @ApiLog(date = "2026.10.18", author = Author.SUHSAECHAN, issueNumber = 0, description = "회원 콘텐츠 목록 커서 기반 페이지네이션으로 변경")
   @ApiLog(date = "2025.11.23", author = Author.SUHSAECHAN, issueNumber = 112, description = "Member가 소유한 Content 목록 조회 API 추가")
   @Operation(summary = "회원 콘텐츠 목록 조회", description = """
               ## 인증(JWT): **필요**
 
               ## 요청 파라미터
-              - **`pageSize`**: 페이지 크기 (Query Parameter, 선택, 기본값 10)
+              - **`pageSize`**: 페이지 크기 (Query Parameter, 선택, 기본값 10, 최대 100)
+              - **`cursor`**: 이전 응답의 `nextCursor` (Query Parameter, 선택, 첫 페이지는 생략)
 
               ## 반환값
               - **`contentPage`**: Page<ContentDto>
@@ -99,16 +130,23 @@ public interface ContentControllerDocs {
                 - `size`: 페이지 크기
                 - `first`: 첫 페이지 여부
                 - `last`: 마지막 페이지 여부
+              - **`nextCursor`**: 다음 페이지 커서 (마지막 페이지면 null)
+              - **`hasNext`**: 다음 페이지 존재 여부
 
               ## 동작 방식
               - 인증된 회원이 소유한 Content 목록을 최신순(createdAt DESC)으로 조회합니다.
               - Place 정보는 제외하고 Content 정보만 반환합니다.
               - 페이지 크기를 지정하지 않으면 기본 10개가 조회됩니다.
-              - 첫 페이지(0번 페이지)만 조회됩니다.
+              - 다음 페이지는 `nextCursor`를 `cursor`로 전달하여 조회합니다.
+              - `contentPage`의 전체 개수/페이지 정보는 현재 페이지 기준입니다. 다음 페이지 여부는 `hasNext`를 사용하세요.
+
+              ## 에러코드
+              - **`INVALID_CURSOR`**: 유효하지 않은 페이지 커서입니다.
               """)
   ResponseEntity<GetMemberContentPageResponse> getMemberContentPage(
       @AuthenticationPrincipal CustomUserDetails userDetails,
-      @RequestParam(required = false, defaultValue = "10") Integer pageSize);
+      @RequestParam(required = false, defaultValue = "10") Integer pageSize,
+      @RequestParam(required = false) String cursor);
 
 
     @ApiLog(date = "2025.11.16", author = Author.KANGJIYUN, issueNumber = 78, description = "최근 콘텐츠 조회 Docs 추가 및 리팩토링")
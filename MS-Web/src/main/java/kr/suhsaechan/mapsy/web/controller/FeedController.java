@@ -2,6 +2,7 @@ package kr.suhsaechan.mapsy.web.controller;
 
 import java.util.List;
 import kr.suhsaechan.mapsy.auth.dto.CustomUserDetails;
+import kr.suhsaechan.mapsy.place.dto.GetLatestPlacesResponse;
 import kr.suhsaechan.mapsy.place.dto.KeywordDto;
 import kr.suhsaechan.mapsy.place.dto.PlaceDto;
 import kr.suhsaechan.mapsy.place.service.FeedService;
@@ -43,6 +44,23 @@ public class FeedController implements FeedControllerDocs {
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * 최신 장소 피드 조회 (커서 페이지네이션)
+   */
+  @GetMapping("/latest/cursor")
+  @Override
+  public ResponseEntity<GetLatestPlacesResponse> getLatestPlacesByCursor(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size
+  ) {
+    log.info("Get latest places feed by cursor: size={}", size);
+
+    GetLatestPlacesResponse response = feedService.getLatestPlaces(cursor, size);
+
+    return ResponseEntity.ok(response);
+  }
+
   /**
    * 인기 장소 피드 조회
    */
@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import java.util.List;
 import kr.suhsaechan.mapsy.auth.dto.CustomUserDetails;
 import kr.suhsaechan.mapsy.common.constant.Author;
+import kr.suhsaechan.mapsy.place.dto.GetLatestPlacesResponse;
 import kr.suhsaechan.mapsy.place.dto.KeywordDto;
 import kr.suhsaechan.mapsy.place.dto.PlaceDto;
 import kr.suhsaechan.suhapilog.annotation.ApiLog;
@@ -44,6 +45,40 @@ public interface FeedControllerDocs {
       Pageable pageable
   );
 
+  @ApiLog(date = "2026.10.18", author = Author.SUHSAECHAN, issueNumber = 0, description = "최신 장소 피드 커서 페이지네이션 API 추가")
+  @Operation(summary = "최신 장소 피드 조회 (커서)", description = """
+              ## 인증(JWT): **필요**
+
+              ## 요청 파라미터 (Query Parameters)
+              - **`cursor`**: 이전 응답의 `nextCursor` (첫 페이지는 생략)
+              - **`size`**: 페이지 크기 (기본값: 20, 최대 100)
+
+              ## 반환값 (GetLatestPlacesResponse)
+              - **`places`**: 장소 목록 (List<PlaceDto>)
+                - **`placeId`**: 장소 ID
+                - **`name`**: 장소명
+                - **`address`**: 주소
+                - **`rating`**: 별점 (0.0 ~ 5.0)
+                - **`userRatingsTotal`**: 리뷰 수
+                - **`photoUrls`**: 사진 URL 배열
+                - **`description`**: 장소 요약 설명
+              - **`nextCursor`**: 다음 페이지 커서 (마지막 페이지면 null)
+              - **`hasNext`**: 다음 페이지 존재 여부
+
+              ## 특이사항
+              - 생성일 기준 최신순으로 정렬됩니다.
+              - 전체 개수를 계산하지 않으며, 페이지가 깊어져도 조회 속도가 일정합니다.
+              - 삭제된 장소는 제외됩니다.
+
+              ## 에러코드
+              - **`INVALID_CURSOR`**: 유효하지 않은 페이지 커서입니다.
+              """)
+  ResponseEntity<GetLatestPlacesResponse> getLatestPlacesByCursor(
+      CustomUserDetails userDetails,
+      String cursor,
+      int size
+  );
+
   @ApiLog(date = "2026.01.28", author = Author.SUHSAECHAN, issueNumber = 19, description = "인기 장소 피드 API 추가")
   @Operation(summary = "인기 장소 피드 조회", description = """
               ## 인증(JWT): **필요**
@@ -0,0 +1,59 @@
+package kr.suhsaechan.mapsy.web.controller;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import kr.suhsaechan.mapsy.auth.dto.CustomUserDetails;
+import kr.suhsaechan.mapsy.place.dto.GetKeywordPlacesResponse;
+import kr.suhsaechan.mapsy.place.dto.KeywordSuggestionDto;
+import kr.suhsaechan.mapsy.place.service.KeywordService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/api/keyword")
+@Tag(name = "키워드 API", description = "키워드 자동완성 등 키워드 관련 API 제공")
+public class KeywordController implements KeywordControllerDocs {
+
+  private final KeywordService keywordService;
+
+  /**
+   * 키워드 자동완성
+   */
+  @GetMapping("/suggest")
+  @Override
+  public ResponseEntity<List<KeywordSuggestionDto>> suggestKeywords(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam String q,
+      @RequestParam(defaultValue = "10") int size
+  ) {
+    List<KeywordSuggestionDto> response = keywordService.suggestKeywords(q, size);
+
+    return ResponseEntity.ok(response);
+  }
+
+  /**
+   * 키워드 조건 장소 검색 (AND/OR/NOT)
+   */
+  @GetMapping("/places")
+  @Override
+  public ResponseEntity<GetKeywordPlacesResponse> searchPlacesByKeywords(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam(required = false) List<String> all,
+      @RequestParam(required = false) List<String> any,
+      @RequestParam(required = false) List<String> none,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size
+  ) {
+    GetKeywordPlacesResponse response = keywordService.searchPlacesByKeywords(all, any, none, cursor, size);
+
+    return ResponseEntity.ok(response);
+  }
+}
@@ -0,0 +1,75 @@
+package kr.suhsaechan.mapsy.web.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import java.util.List;
+import kr.suhsaechan.mapsy.auth.dto.CustomUserDetails;
+import kr.suhsaechan.mapsy.common.constant.Author;
+import kr.suhsaechan.mapsy.place.dto.GetKeywordPlacesResponse;
+import kr.suhsaechan.mapsy.place.dto.KeywordSuggestionDto;
+import kr.suhsaechan.suhapilog.annotation.ApiLog;
+import org.springframework.http.ResponseEntity;
+
+public interface KeywordControllerDocs {
+
+  @ApiLog(date = "2026.10.18", author = Author.SUHSAECHAN, issueNumber = 0, description = "키워드 자동완성 API 추가")
+  @Operation(summary = "키워드 자동완성", description = """
+              ## 인증(JWT): **필요**
+
+              ## 요청 파라미터 (Query Parameters)
+              - **`q`**: 검색어 (필수, `#` 제거 및 소문자로 정규화)
+              - **`size`**: 조회 개수 (기본값: 10, 최대 20)
+
+              ## 반환값 (List<KeywordSuggestionDto>)
+              - **`id`**: 키워드 ID
+              - **`keyword`**: 키워드 문자열
+              - **`count`**: 사용 횟수
+
+              ## 특이사항
+              - 사용 횟수 기준 내림차순으로 정렬됩니다.
+              - 접두사 검색: `강남` → 강남카페, 강남맛집
+              - 입력 중인 음절도 매칭됩니다: `강나` → 강남카페
+              - 초성 검색: `ㄱㄴㅋㅍ` → 강남카페
+              - 접두사 결과가 부족하면 검색어를 포함하는 키워드로 보충합니다: `카페` → 강남카페
+              - 새로 생성된 키워드는 즉시 반영되며, 사용 횟수 순위는 주기적으로(기본 10분) 갱신됩니다.
+              """)
+  ResponseEntity<List<KeywordSuggestionDto>> suggestKeywords(
+      CustomUserDetails userDetails,
+      String q,
+      int size
+  );
+
+  @ApiLog(date = "2026.10.18", author = Author.SUHSAECHAN, issueNumber = 0, description = "키워드 AND/OR/NOT 조건 장소 검색 API 추가")
+  @Operation(summary = "키워드 조건 장소 검색", description = """
+              ## 인증(JWT): **필요**
+
+              ## 요청 파라미터 (Query Parameters)
+              - **`all`**: 모두 포함해야 하는 키워드 (선택, 반복 또는 쉼표 구분)
+              - **`any`**: 하나 이상 포함해야 하는 키워드 (선택)
+              - **`none`**: 포함하면 안 되는 키워드 (선택)
+              - **`cursor`**: 이전 응답의 `nextCursor` (선택, 첫 페이지는 생략)
+              - **`size`**: 페이지 크기 (기본값: 20, 최대 100)
+
+              ## 반환값 (GetKeywordPlacesResponse)
+              - **`places`**: 장소 목록 (최신순)
+              - **`nextCursor`**: 다음 페이지 커서 (마지막 페이지면 null)
+              - **`hasNext`**: 다음 페이지 존재 여부
+
+              ## 특이사항
+              - 조건: (`all` 전체 포함) AND (`any` 중 하나 이상 포함) AND NOT (`none` 중 하나라도 포함)
+              - 예: `all=카페&any=강남,홍대&none=체인점`
+              - 키워드는 `#` 제거 및 소문자로 정규화됩니다.
+              - 새로 연결된 키워드는 즉시 반영되며, 삭제된 장소는 주기적(기본 10분) 색인 재구성 시 제외됩니다.
+
+              ## 에러코드
+              - **`INVALID_KEYWORD_QUERY`**: `all`과 `any`가 모두 비어 있습니다.
+              - **`INVALID_CURSOR`**: 유효하지 않은 페이지 커서입니다.
+              """)
+  ResponseEntity<GetKeywordPlacesResponse> searchPlacesByKeywords(
+      CustomUserDetails userDetails,
+      List<String> all,
+      List<String> any,
+      List<String> none,
+      String cursor,
+      int size
+  );
+}
@@ -1,11 +1,17 @@
 package kr.suhsaechan.mapsy.web.controller;
 
 import kr.suhsaechan.mapsy.auth.dto.CustomUserDetails;
+import kr.suhsaechan.mapsy.place.constant.PlaceSavedStatus;
+import kr.suhsaechan.mapsy.place.dto.GetNearbyPlacesResponse;
+import kr.suhsaechan.mapsy.place.dto.GetPlaceClustersResponse;
+import kr.suhsaechan.mapsy.place.dto.GetPlaceSearchResponse;
 import kr.suhsaechan.mapsy.place.dto.GetSavedPlacesResponse;
 import kr.suhsaechan.mapsy.place.dto.GetTemporaryPlacesResponse;
 import kr.suhsaechan.mapsy.place.dto.PlaceDetailDto;
 import kr.suhsaechan.mapsy.place.dto.SavePlaceResponse;
 import kr.suhsaechan.mapsy.place.service.MemberPlaceService;
+import kr.suhsaechan.mapsy.place.service.PlaceGeoService;
+import kr.suhsaechan.mapsy.place.service.PlaceSearchService;
 import kr.suhsaechan.mapsy.place.service.PlaceService;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +23,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -27,6 +34,8 @@ public class PlaceController implements PlaceControllerDocs {
 
   private final PlaceService placeService;
   private final MemberPlaceService memberPlaceService;
+  private final PlaceGeoService placeGeoService;
+  private final PlaceSearchService placeSearchService;
 
   /**
    * 장소 세부정보 조회
@@ -124,4 +133,95 @@ public class PlaceController implements PlaceControllerDocs {
 
     return ResponseEntity.noContent().build();
   }
+
+  /**
+   * 주변 장소 검색 (반경)
+   * - 거리순 정렬, 커서 페이지네이션
+   */
+  @GetMapping("/nearby")
+  @Override
+  public ResponseEntity<GetNearbyPlacesResponse> getNearbyPlaces(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam double latitude,
+      @RequestParam double longitude,
+      @RequestParam(defaultValue = "1000") double radius,
+      @RequestParam(defaultValue = "false") boolean mine,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size
+  ) {
+    GetNearbyPlacesResponse response = placeGeoService.searchWithinRadius(
+        latitude, longitude, radius,
+        mine ? userDetails.getMemberId() : null,
+        cursor, size
+    );
+    return ResponseEntity.ok(response);
+  }
+
+  /**
+   * 지도 영역 내 장소 검색
+   * - 영역 중심점 기준 거리순 정렬, 커서 페이지네이션
+   */
+  @GetMapping("/bounds")
+  @Override
+  public ResponseEntity<GetNearbyPlacesResponse> getPlacesInBounds(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam double minLat,
+      @RequestParam double minLng,
+      @RequestParam double maxLat,
+      @RequestParam double maxLng,
+      @RequestParam(defaultValue = "false") boolean mine,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size
+  ) {
+    GetNearbyPlacesResponse response = placeGeoService.searchWithinBounds(
+        minLat, minLng, maxLat, maxLng,
+        mine ? userDetails.getMemberId() : null,
+        cursor, size
+    );
+    return ResponseEntity.ok(response);
+  }
+
+  /**
+   * 지도 영역 내 내 장소 클러스터 조회
+   * - 줌 레벨에 따라 geohash 셀 단위 개수 집계, 높은 줌에서는 개별 핀
+   */
+  @GetMapping("/clusters")
+  @Override
+  public ResponseEntity<GetPlaceClustersResponse> getPlaceClusters(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam double minLat,
+      @RequestParam double minLng,
+      @RequestParam double maxLat,
+      @RequestParam double maxLng,
+      @RequestParam int zoom,
+      @RequestParam(required = false) PlaceSavedStatus savedStatus
+  ) {
+    GetPlaceClustersResponse response = placeGeoService.getMemberPlaceClusters(
+        userDetails.getMemberId(),
+        minLat, minLng, maxLat, maxLng,
+        zoom, savedStatus
+    );
+    return ResponseEntity.ok(response);
+  }
+
+  /**
+   * 장소 검색 (전문 검색)
+   * - 관련도순 정렬, 선택적 반경 필터, 커서 페이지네이션
+   */
+  @GetMapping("/search")
+  @Override
+  public ResponseEntity<GetPlaceSearchResponse> searchPlaces(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam String q,
+      @RequestParam(required = false) Double latitude,
+      @RequestParam(required = false) Double longitude,
+      @RequestParam(defaultValue = "5000") double radius,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size
+  ) {
+    GetPlaceSearchResponse response = placeSearchService.search(
+        q, latitude, longitude, radius, cursor, size
+    );
+    return ResponseEntity.ok(response);
+  }
 }
@@ -2,6 +2,10 @@ package kr.suhsaechan.mapsy.web.controller;
 
 import kr.suhsaechan.mapsy.auth.dto.CustomUserDetails;
 import kr.suhsaechan.mapsy.common.constant.Author;
+import kr.suhsaechan.mapsy.place.constant.PlaceSavedStatus;
+import kr.suhsaechan.mapsy.place.dto.GetNearbyPlacesResponse;
+import kr.suhsaechan.mapsy.place.dto.GetPlaceClustersResponse;
+import kr.suhsaechan.mapsy.place.dto.GetPlaceSearchResponse;
 import kr.suhsaechan.mapsy.place.dto.GetSavedPlacesResponse;
 import kr.suhsaechan.mapsy.place.dto.GetTemporaryPlacesResponse;
 import kr.suhsaechan.mapsy.place.dto.PlaceDetailDto;
@@ -156,4 +160,163 @@ public interface PlaceControllerDocs {
       CustomUserDetails userDetails,
       UUID placeId
   );
+
+  @ApiLog(date = "2026.10.18", author = Author.SUHSAECHAN, issueNumber = 0, description = "주변 장소 반경 검색 API 추가")
+  @Operation(summary = "주변 장소 검색 (반경)", description = """
+              ## 인증(JWT): **필요**
+
+              ## 요청 파라미터
+              - **`latitude`**: 중심 위도 (필수)
+              - **`longitude`**: 중심 경도 (필수)
+              - **`radius`**: 반경 (m, 기본값 1000, 최대 50000)
+              - **`mine`**: true면 내 장소(임시 저장 + 저장)만 검색 (기본값 false)
+              - **`cursor`**: 이전 응답의 `nextCursor` (첫 페이지는 생략)
+              - **`size`**: 페이지 크기 (기본값 20, 최대 100)
+
+              ## 반환값 (GetNearbyPlacesResponse)
+              - **`places`**: 장소 목록 (List<NearbyPlaceDto>, 거리 오름차순)
+                - **`placeId`**: 장소 ID
+                - **`name`**: 장소명
+                - **`address`**: 주소
+                - **`latitude`**: 위도
+                - **`longitude`**: 경도
+                - **`rating`**: 별점 (0.0 ~ 5.0)
+                - **`photoUrls`**: 사진 URL 배열
+                - **`distanceMeters`**: 중심점과의 거리 (m)
+              - **`nextCursor`**: 다음 페이지 커서 (마지막 페이지면 null)
+              - **`hasNext`**: 다음 페이지 존재 여부
+
+              ## 특이사항
+              - geohash 인덱스로 후보를 좁힌 뒤 거리순으로 정렬합니다.
+
+              ## 에러코드
+              - **`INVALID_GEO_RANGE`**: 유효하지 않은 검색 영역입니다.
+              - **`INVALID_CURSOR`**: 유효하지 않은 페이지 커서입니다.
+              """)
+  ResponseEntity<GetNearbyPlacesResponse> getNearbyPlaces(
+      CustomUserDetails userDetails,
+      double latitude,
+      double longitude,
+      double radius,
+      boolean mine,
+      String cursor,
+      int size
+  );
+
+  @ApiLog(date = "2026.10.18", author = Author.SUHSAECHAN, issueNumber = 0, description = "지도 영역 내 장소 검색 API 추가")
+  @Operation(summary = "지도 영역 내 장소 검색", description = """
+              ## 인증(JWT): **필요**
+
+              ## 요청 파라미터
+              - **`minLat`**, **`minLng`**: 남서쪽 좌표 (필수)
+              - **`maxLat`**, **`maxLng`**: 북동쪽 좌표 (필수)
+              - **`mine`**: true면 내 장소(임시 저장 + 저장)만 검색 (기본값 false)
+              - **`cursor`**: 이전 응답의 `nextCursor` (첫 페이지는 생략)
+              - **`size`**: 페이지 크기 (기본값 20, 최대 100)
+
+              ## 반환값 (GetNearbyPlacesResponse)
+              - 반경 검색과 동일하며, `distanceMeters`는 영역 중심점 기준입니다.
+
+              ## 특이사항
+              - 위도/경도 범위는 각각 최대 1도까지 허용됩니다.
+              - 날짜 변경선을 가로지르는 영역은 지원하지 않습니다.
+
+              ## 에러코드
+              - **`INVALID_GEO_RANGE`**: 유효하지 않은 검색 영역입니다.
+              - **`INVALID_CURSOR`**: 유효하지 않은 페이지 커서입니다.
+              """)
+  ResponseEntity<GetNearbyPlacesResponse> getPlacesInBounds(
+      CustomUserDetails userDetails,
+      double minLat,
+      double minLng,
+      double maxLat,
+      double maxLng,
+      boolean mine,
+      String cursor,
+      int size
+  );
+
+  @ApiLog(date = "2026.10.18", author = Author.SUHSAECHAN, issueNumber = 0, description = "지도 장소 클러스터 조회 API 추가")
+  @Operation(summary = "지도 영역 내 내 장소 클러스터 조회", description = """
+              ## 인증(JWT): **필요**
+
+              ## 요청 파라미터
+              - **`minLat`**, **`minLng`**: 지도 화면 남서쪽 좌표 (필수)
+              - **`maxLat`**, **`maxLng`**: 지도 화면 북동쪽 좌표 (필수)
+              - **`zoom`**: 지도 줌 레벨 (필수, 0~21)
+              - **`savedStatus`**: 저장 상태 필터 (TEMPORARY, SAVED / 생략 시 전체)
+
+              ## 반환값 (GetPlaceClustersResponse)
+              - **`precision`**: 클러스터링에 사용한 geohash 길이
+              - **`pinLevel`**: 개별 핀 단계 여부 (줌 17 이상)
+              - **`truncated`**: 클러스터가 1000개를 넘어 개수 상위 1000개만 포함했는지 여부
+              - **`clusters`**: 클러스터 목록 (List<PlaceClusterDto>, 개수 내림차순, 최대 1000개)
+                - **`cell`**: geohash 셀
+                - **`count`**: 셀 내 장소 수
+                - **`latitude`**: 셀 내 장소 평균 위도
+                - **`longitude`**: 셀 내 장소 평균 경도
+                - **`placeId`**: 셀에 장소가 하나뿐인 경우 장소 ID
+
+              ## 특이사항
+              - 줌 레벨에 맞는 geohash 접두사 단위로 서버에서 집계하여 반환합니다.
+              - `count`가 1인 클러스터는 `placeId`로 개별 핀을 표시할 수 있습니다.
+              - `truncated`가 true면 일부 클러스터가 빠진 결과이므로 지도를 확대하여 다시 조회해야 합니다.
+              - 날짜 변경선을 가로지르는 영역은 지원하지 않습니다.
+
+              ## 에러코드
+              - **`INVALID_GEO_RANGE`**: 유효하지 않은 검색 영역입니다.
+              """)
+  ResponseEntity<GetPlaceClustersResponse> getPlaceClusters(
+      CustomUserDetails userDetails,
+      double minLat,
+      double minLng,
+      double maxLat,
+      double maxLng,
+      int zoom,
+      PlaceSavedStatus savedStatus
+  );
+
+  @ApiLog(date = "2026.10.18", author = Author.SUHSAECHAN, issueNumber = 0, description = "장소 한글 전문 검색 API 추가")
+  @Operation(summary = "장소 검색", description = """
+              ## 인증(JWT): **필요**
+
+              ## 요청 파라미터
+              - **`q`**: 검색어 (필수, 장소명/주소/도로명 주소/업종/메뉴/키워드 대상)
+              - **`latitude`**: 중심 위도 (선택, 지정 시 반경 내 장소만 검색)
+              - **`longitude`**: 중심 경도 (latitude와 함께 지정)
+              - **`radius`**: 반경 (m, 기본값 5000, 최대 50000)
+              - **`cursor`**: 이전 응답의 `nextCursor` (첫 페이지는 생략)
+              - **`size`**: 페이지 크기 (기본값 20, 최대 100)
+
+              ## 반환값 (GetPlaceSearchResponse)
+              - **`places`**: 장소 목록 (List<PlaceDto>, 관련도순)
+                - **`placeId`**: 장소 ID
+                - **`name`**: 장소명
+                - **`address`**: 주소
+                - **`rating`**: 별점 (0.0 ~ 5.0)
+                - **`userRatingsTotal`**: 리뷰 수
+                - **`photoUrls`**: 사진 URL 배열
+                - **`description`**: 장소 요약 설명
+              - **`nextCursor`**: 다음 페이지 커서 (마지막 페이지면 null)
+              - **`hasNext`**: 다음 페이지 존재 여부
+
+              ## 특이사항
+              - 한글은 두 음절 단위로 색인되어 단어 일부로도 검색됩니다. (예: `벅스` → 스타벅스)
+              - 검색어의 모든 단어가 포함된 장소만 반환됩니다.
+              - 장소명에 검색어가 포함되거나 연결된 키워드가 검색어와 일치하면 상위에 노출됩니다.
+              - 검색 가능한 문자(한글, 영문, 숫자)가 없으면 빈 목록을 반환합니다.
+
+              ## 에러코드
+              - **`INVALID_GEO_RANGE`**: 유효하지 않은 검색 영역입니다.
+              - **`INVALID_CURSOR`**: 유효하지 않은 페이지 커서입니다.
+              """)
+  ResponseEntity<GetPlaceSearchResponse> searchPlaces(
+      CustomUserDetails userDetails,
+      String q,
+      Double latitude,
+      Double longitude,
+      double radius,
+      String cursor,
+      int size
+  );
 }
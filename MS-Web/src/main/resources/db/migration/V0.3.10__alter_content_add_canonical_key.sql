@@ -0,0 +1,58 @@
+-- ===================================================================
+-- Flyway Migration: V0.3.10
+-- Description: content 테이블에 canonical_key 컬럼 및 인덱스 추가
+--              같은 게시물의 URL 변형(추적 파라미터, www, /p·/reel 등)을 하나의 키로 중복 판단
+--              기존 데이터 값은 애플리케이션(ContentCanonicalKeyBackfillService)이 ContentUrlUtil 규칙으로 채움
+--              컬럼이 이미 있으면(JPA DDL 선반영) "URL:" 형식 키를 초기화하여 현재 규칙(플랫폼 공유 파라미터는 해당 호스트에서만 제거)으로 다시 채움
+-- Author: MapSee Team
+-- Date: 2026-10-18
+-- ===================================================================
+
+DO
+$$
+    DECLARE
+        reset_count INTEGER;
+    BEGIN
+        -- content 테이블이 없으면(초기 DB) JPA DDL이 컬럼과 인덱스를 생성하므로 건너뜀
+        IF NOT EXISTS (SELECT 1
+                       FROM information_schema.tables
+                       WHERE table_schema = 'public'
+                         AND table_name = 'content') THEN
+            RAISE NOTICE 'Table "public.content" does not exist. Skipping migration.';
+            RETURN;
+        END IF;
+
+        IF NOT EXISTS (SELECT 1
+                       FROM information_schema.columns
+                       WHERE table_schema = 'public'
+                         AND table_name = 'content'
+                         AND column_name = 'canonical_key') THEN
+
+            ALTER TABLE public.content
+                ADD COLUMN canonical_key VARCHAR(2100);
+
+            COMMENT ON COLUMN public.content.canonical_key IS '중복 판단용 URL 정규화 키 (예: INSTAGRAM:{shortcode}, URL:{정규화 URL})';
+
+            RAISE NOTICE 'Added canonical_key column to content';
+        ELSE
+            RAISE NOTICE 'content.canonical_key column already exists. Skipping creation.';
+
+            UPDATE public.content
+            SET canonical_key = NULL
+            WHERE canonical_key LIKE 'URL:%';
+
+            GET DIAGNOSTICS reset_count = ROW_COUNT;
+            RAISE NOTICE 'Reset % URL canonical keys', reset_count;
+        END IF;
+
+        IF NOT EXISTS (SELECT 1
+                       FROM pg_indexes
+                       WHERE schemaname = 'public'
+                         AND indexname = 'idx_content_canonical_key') THEN
+
+            CREATE INDEX idx_content_canonical_key ON public.content (canonical_key);
+
+            RAISE NOTICE 'Created idx_content_canonical_key index';
+        END IF;
+    END
+$$;
@@ -0,0 +1,54 @@
+-- ===================================================================
+-- Flyway Migration: V0.3.11
+-- Description: content 테이블에 extraction_attempts 컬럼 및 (status, last_checked_at) 인덱스 추가
+--              AI Callback 없이 멈춘 PENDING / 실패한 FAILED Content 재요청 스위퍼(ContentExtractionRetryService)용
+--              last_checked_at은 마지막 AI 서버 요청 시각으로 사용 (기존 PENDING/FAILED는 updated_at으로 채움)
+-- Author: MapSee Team
+-- Date: 2026-10-18
+-- ===================================================================
+
+DO
+$$
+    BEGIN
+        -- content 테이블이 없으면(초기 DB) JPA DDL이 컬럼과 인덱스를 생성하므로 건너뜀
+        IF NOT EXISTS (SELECT 1
+                       FROM information_schema.tables
+                       WHERE table_schema = 'public'
+                         AND table_name = 'content') THEN
+            RAISE NOTICE 'Table "public.content" does not exist. Skipping migration.';
+            RETURN;
+        END IF;
+
+        IF NOT EXISTS (SELECT 1
+                       FROM information_schema.columns
+                       WHERE table_schema = 'public'
+                         AND table_name = 'content'
+                         AND column_name = 'extraction_attempts') THEN
+
+            ALTER TABLE public.content
+                ADD COLUMN extraction_attempts INTEGER NOT NULL DEFAULT 0;
+
+            COMMENT ON COLUMN public.content.extraction_attempts IS '마지막 사용자 요청 이후 AI 서버 장소 추출 요청 횟수';
+
+            RAISE NOTICE 'Added extraction_attempts column to content';
+        ELSE
+            RAISE NOTICE 'content.extraction_attempts column already exists. Skipping creation.';
+        END IF;
+
+        -- 기존 PENDING/FAILED Content의 마지막 요청 시각 채움 (스위퍼 조회 대상에 포함)
+        UPDATE public.content
+        SET last_checked_at = updated_at
+        WHERE last_checked_at IS NULL
+          AND status IN ('PENDING', 'FAILED');
+
+        IF NOT EXISTS (SELECT 1
+                       FROM pg_indexes
+                       WHERE schemaname = 'public'
+                         AND indexname = 'idx_content_status_last_checked_at') THEN
+
+            CREATE INDEX idx_content_status_last_checked_at ON public.content (status, last_checked_at);
+
+            RAISE NOTICE 'Created idx_content_status_last_checked_at index';
+        END IF;
+    END
+$$;
@@ -0,0 +1,54 @@
+-- ===================================================================
+-- Flyway Migration: V0.3.12
+-- Description: 키워드 트렌드 마지막 감쇠 시각(keyword_trend_state) 테이블 생성
+--              감쇠 시 경과 시간만큼 0.5^(경과/반감기)로 감쇠하고 시각을 같은 UPDATE에서 갱신
+--              (감쇠 실패/누락 tick/다운타임 후에도 다음 감쇠에서 경과분 전체 반영)
+--              keywords.trend_score를 DOUBLE PRECISION으로 변경
+--              (NUMERIC(10,2)는 tick마다 반올림되어 약 2.08 미만 점수가 감쇠되지 않고 그대로 남음)
+-- Author: MapSee Team
+-- Date: 2026-10-18
+-- ===================================================================
+
+DO
+$$
+    BEGIN
+        -- keyword_trend_state 테이블이 이미 존재하는지 확인
+        IF NOT EXISTS (SELECT 1
+                       FROM information_schema.tables
+                       WHERE table_schema = 'public'
+                         AND table_name = 'keyword_trend_state') THEN
+
+            CREATE TABLE public.keyword_trend_state
+            (
+                id         INTEGER   NOT NULL,
+                decayed_at TIMESTAMP NOT NULL,
+
+                CONSTRAINT pk_keyword_trend_state PRIMARY KEY (id),
+                -- 단일 행만 허용
+                CONSTRAINT ck_keyword_trend_state_single_row CHECK (id = 1)
+            );
+
+            INSERT INTO public.keyword_trend_state (id, decayed_at) VALUES (1, now());
+
+            RAISE NOTICE 'Created keyword_trend_state table';
+        ELSE
+            RAISE NOTICE 'keyword_trend_state table already exists. Skipping creation.';
+        END IF;
+
+        -- keywords.trend_score가 NUMERIC이면 DOUBLE PRECISION으로 변경 (인덱스는 자동 재생성)
+        IF EXISTS (SELECT 1
+                   FROM information_schema.columns
+                   WHERE table_schema = 'public'
+                     AND table_name = 'keywords'
+                     AND column_name = 'trend_score'
+                     AND data_type = 'numeric') THEN
+
+            ALTER TABLE public.keywords
+                ALTER COLUMN trend_score TYPE DOUBLE PRECISION USING trend_score::DOUBLE PRECISION;
+
+            RAISE NOTICE 'Changed keywords.trend_score to DOUBLE PRECISION';
+        ELSE
+            RAISE NOTICE 'keywords.trend_score is not NUMERIC. Skipping type change.';
+        END IF;
+    END
+$$;
@@ -0,0 +1,46 @@
+-- ===================================================================
+-- Flyway Migration: V0.3.4
+-- Description: AI Callback 수신함(ai_callback_inbox) 테이블 생성
+--              Callback을 저장 후 즉시 응답하고 워커가 비동기로 처리
+-- Author: MapSee Team
+-- Date: 2026-10-18
+-- ===================================================================
+
+DO
+$$
+    BEGIN
+        -- ai_callback_inbox 테이블이 이미 존재하는지 확인
+        IF NOT EXISTS (SELECT 1
+                       FROM information_schema.tables
+                       WHERE table_schema = 'public'
+                         AND table_name = 'ai_callback_inbox') THEN
+
+            CREATE TABLE public.ai_callback_inbox
+            (
+                id            UUID                     NOT NULL,
+                content_id    UUID                     NOT NULL,
+                payload_hash  VARCHAR(64)              NOT NULL,
+                payload       TEXT                     NOT NULL,
+                status        VARCHAR(20)              NOT NULL DEFAULT 'PENDING',
+                attempt_count INTEGER                  NOT NULL DEFAULT 0,
+                last_error    VARCHAR(1000),
+                processed_at  TIMESTAMP,
+                created_at    TIMESTAMP,
+                updated_at    TIMESTAMP,
+                created_by    VARCHAR(255),
+                updated_by    VARCHAR(255),
+
+                CONSTRAINT pk_ai_callback_inbox PRIMARY KEY (id),
+                -- 동일 Content + 동일 Payload 재전송 시 중복 저장 방지 (멱등성)
+                CONSTRAINT uk_ai_callback_inbox_content_payload UNIQUE (content_id, payload_hash)
+            );
+
+            -- 워커 폴링(status = 'PENDING' ORDER BY created_at)을 위한 인덱스
+            CREATE INDEX idx_ai_callback_inbox_status_created ON public.ai_callback_inbox (status, created_at);
+
+            RAISE NOTICE 'Created ai_callback_inbox table with indexes';
+        ELSE
+            RAISE NOTICE 'ai_callback_inbox table already exists. Skipping creation.';
+        END IF;
+    END
+$$;
@@ -0,0 +1,44 @@
+-- ===================================================================
+-- Flyway Migration: V0.3.5
+-- Description: Content 분석 완료 알림 Outbox(content_notification_outbox) 테이블 생성
+--              AI Callback 트랜잭션에서 저장하고 디스패처가 커밋 이후 FCM 전송
+-- Author: MapSee Team
+-- Date: 2026-10-18
+-- ===================================================================
+
+DO
+$$
+    BEGIN
+        -- content_notification_outbox 테이블이 이미 존재하는지 확인
+        IF NOT EXISTS (SELECT 1
+                       FROM information_schema.tables
+                       WHERE table_schema = 'public'
+                         AND table_name = 'content_notification_outbox') THEN
+
+            CREATE TABLE public.content_notification_outbox
+            (
+                id            UUID         NOT NULL,
+                content_id    UUID         NOT NULL,
+                place_count   INTEGER      NOT NULL DEFAULT 0,
+                status        VARCHAR(20)  NOT NULL DEFAULT 'PENDING',
+                attempt_count INTEGER      NOT NULL DEFAULT 0,
+                last_error    VARCHAR(1000),
+                sent_at       TIMESTAMP,
+                created_at    TIMESTAMP,
+                updated_at    TIMESTAMP,
+                created_by    VARCHAR(255),
+                updated_by    VARCHAR(255),
+
+                CONSTRAINT pk_content_notification_outbox PRIMARY KEY (id)
+            );
+
+            -- 디스패처 폴링(status = 'PENDING' ORDER BY created_at)을 위한 인덱스
+            CREATE INDEX idx_content_notification_outbox_status_created
+                ON public.content_notification_outbox (status, created_at);
+
+            RAISE NOTICE 'Created content_notification_outbox table with indexes';
+        ELSE
+            RAISE NOTICE 'content_notification_outbox table already exists. Skipping creation.';
+        END IF;
+    END
+$$;
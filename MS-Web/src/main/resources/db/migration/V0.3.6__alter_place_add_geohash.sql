@@ -0,0 +1,107 @@
+-- ===================================================================
+-- Flyway Migration: V0.3.6
+-- Description: place 테이블에 geohash 컬럼 및 B-tree 인덱스 추가
+--              PostGIS 없이 geohash 접두사 범위 조회로 주변 장소 검색
+-- Author: MapSee Team
+-- Date: 2026-10-18
+-- ===================================================================
+
+-- 1. 기존 데이터 채우기용 geohash 인코딩 함수 (마이그레이션 종료 시 삭제)
+CREATE OR REPLACE FUNCTION public.mapsy_geohash_encode(lat DOUBLE PRECISION, lng DOUBLE PRECISION, precision_len INTEGER)
+    RETURNS VARCHAR AS
+$f$
+DECLARE
+    base32  CONSTANT TEXT := '0123456789bcdefghjkmnpqrstuvwxyz';
+    lat_min DOUBLE PRECISION := -90;
+    lat_max DOUBLE PRECISION := 90;
+    lng_min DOUBLE PRECISION := -180;
+    lng_max DOUBLE PRECISION := 180;
+    mid     DOUBLE PRECISION;
+    result  TEXT := '';
+    bit     INTEGER := 0;
+    ch      INTEGER := 0;
+    even    BOOLEAN := TRUE;
+BEGIN
+    WHILE length(result) < precision_len
+        LOOP
+            IF even THEN
+                mid := (lng_min + lng_max) / 2;
+                IF lng >= mid THEN
+                    ch := ch * 2 + 1;
+                    lng_min := mid;
+                ELSE
+                    ch := ch * 2;
+                    lng_max := mid;
+                END IF;
+            ELSE
+                mid := (lat_min + lat_max) / 2;
+                IF lat >= mid THEN
+                    ch := ch * 2 + 1;
+                    lat_min := mid;
+                ELSE
+                    ch := ch * 2;
+                    lat_max := mid;
+                END IF;
+            END IF;
+            even := NOT even;
+            bit := bit + 1;
+            IF bit = 5 THEN
+                result := result || substr(base32, ch + 1, 1);
+                bit := 0;
+                ch := 0;
+            END IF;
+        END LOOP;
+    RETURN result;
+END
+$f$ LANGUAGE plpgsql IMMUTABLE;
+
+-- 2. geohash 컬럼 추가 및 기존 데이터 채우기
+DO
+$$
+    BEGIN
+        -- place 테이블이 없으면(초기 DB) JPA DDL이 컬럼과 인덱스를 생성하므로 건너뜀
+        IF NOT EXISTS (SELECT 1
+                       FROM information_schema.tables
+                       WHERE table_schema = 'public'
+                         AND table_name = 'place') THEN
+            RAISE NOTICE 'Table "public.place" does not exist. Skipping migration.';
+            RETURN;
+        END IF;
+
+        IF NOT EXISTS (SELECT 1
+                       FROM information_schema.columns
+                       WHERE table_schema = 'public'
+                         AND table_name = 'place'
+                         AND column_name = 'geohash') THEN
+
+            -- 접두사 범위 비교(geohash >= 'wydm' AND geohash < 'wydm~')가 인덱스를 타도록 "C" collation 사용
+            ALTER TABLE public.place
+                ADD COLUMN geohash VARCHAR(12) COLLATE "C";
+
+            COMMENT ON COLUMN public.place.geohash IS '공간 검색용 geohash (9자리, 위경도로부터 계산)';
+
+            RAISE NOTICE 'Added geohash column to place';
+        ELSE
+            RAISE NOTICE 'place.geohash column already exists. Skipping creation.';
+        END IF;
+
+        UPDATE public.place
+        SET geohash = public.mapsy_geohash_encode(latitude::DOUBLE PRECISION, longitude::DOUBLE PRECISION, 9)
+        WHERE geohash IS NULL
+          AND latitude IS NOT NULL
+          AND longitude IS NOT NULL;
+
+        IF NOT EXISTS (SELECT 1
+                       FROM pg_indexes
+                       WHERE schemaname = 'public'
+                         AND indexname = 'idx_place_geohash') THEN
+
+            CREATE INDEX idx_place_geohash ON public.place (geohash);
+
+            RAISE NOTICE 'Created idx_place_geohash index';
+        END IF;
+    END
+$$;
+
+-- 3. 임시 함수 삭제
+DROP FUNCTION IF EXISTS public.mapsy_geohash_encode(DOUBLE PRECISION, DOUBLE PRECISION, INTEGER);
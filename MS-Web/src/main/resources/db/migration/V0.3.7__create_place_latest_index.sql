@@ -0,0 +1,36 @@
+-- ===================================================================
+-- Flyway Migration: V0.3.7
+-- Description: 최신 장소 피드 키셋 페이지네이션용 복합 인덱스 추가
+--              (created_at DESC, id DESC) WHERE is_deleted = false
+-- Author: MapSee Team
+-- Date: 2026-10-18
+-- ===================================================================
+
+DO
+$$
+    BEGIN
+        -- place 테이블 존재 확인
+        IF EXISTS (SELECT 1
+                   FROM information_schema.tables
+                   WHERE table_schema = 'public'
+                     AND table_name = 'place') THEN
+
+            IF NOT EXISTS (SELECT 1
+                           FROM pg_indexes
+                           WHERE schemaname = 'public'
+                             AND indexname = 'idx_place_latest') THEN
+
+                -- 삭제되지 않은 장소만 포함하는 부분 인덱스 (피드 조회 조건과 동일)
+                CREATE INDEX idx_place_latest
+                    ON public.place (created_at DESC, id DESC)
+                    WHERE is_deleted = false;
+
+                RAISE NOTICE 'Created idx_place_latest index';
+            ELSE
+                RAISE NOTICE 'idx_place_latest index already exists. Skipping creation.';
+            END IF;
+        ELSE
+            RAISE NOTICE 'Table "public.place" does not exist. Skipping migration.';
+        END IF;
+    END
+$$;
@@ -0,0 +1,54 @@
+-- ===================================================================
+-- Flyway Migration: V0.3.8
+-- Description: 키워드 포함(infix) 검색용 pg_trgm GIN 인덱스 추가
+--              LIKE '%검색어%' 조회가 전체 테이블 스캔 대신 인덱스를 사용
+-- Author: MapSee Team
+-- Date: 2026-10-18
+-- ===================================================================
+
+-- 1. pg_trgm 확장 설치 (권한이 없으면 건너뜀)
+DO
+$$
+    BEGIN
+        CREATE EXTENSION IF NOT EXISTS pg_trgm;
+    EXCEPTION
+        WHEN insufficient_privilege THEN
+            RAISE NOTICE 'No privilege to create extension pg_trgm. Skipping.';
+    END
+$$;
+
+-- 2. keywords.keyword trigram GIN 인덱스 생성
+DO
+$$
+    BEGIN
+        -- pg_trgm 확장 존재 확인
+        IF NOT EXISTS (SELECT 1
+                       FROM pg_extension
+                       WHERE extname = 'pg_trgm') THEN
+            RAISE NOTICE 'Extension pg_trgm is not installed. Skipping migration.';
+            RETURN;
+        END IF;
+
+        -- keywords 테이블 존재 확인
+        IF EXISTS (SELECT 1
+                   FROM information_schema.tables
+                   WHERE table_schema = 'public'
+                     AND table_name = 'keywords') THEN
+
+            IF NOT EXISTS (SELECT 1
+                           FROM pg_indexes
+                           WHERE schemaname = 'public'
+                             AND indexname = 'idx_keywords_keyword_trgm') THEN
+
+                CREATE INDEX idx_keywords_keyword_trgm
+                    ON public.keywords USING gin (keyword gin_trgm_ops);
+
+                RAISE NOTICE 'Created idx_keywords_keyword_trgm index';
+            ELSE
+                RAISE NOTICE 'idx_keywords_keyword_trgm index already exists. Skipping creation.';
+            END IF;
+        ELSE
+            RAISE NOTICE 'Table "public.keywords" does not exist. Skipping migration.';
+        END IF;
+    END
+$$;
@@ -0,0 +1,93 @@
+-- ===================================================================
+-- Flyway Migration: V0.3.9
+-- Description: place 테이블에 전문 검색용 search_tokens 컬럼 및 GIN 인덱스 추가
+--              한글은 두 음절(bi-gram), 영문/숫자는 단어 단위 토큰
+--              to_tsvector('simple', search_tokens) 표현식 인덱스로 검색
+-- Author: MapSee Team
+-- Date: 2026-10-18
+-- ===================================================================
+
+-- 1. 기존 데이터 채우기용 토큰 생성 함수 (마이그레이션 종료 시 삭제, SearchTokenUtil.toIndexText와 동일한 규칙)
+CREATE OR REPLACE FUNCTION public.mapsy_search_tokens(src TEXT)
+    RETURNS TEXT AS
+$f$
+DECLARE
+    run    TEXT;
+    tokens TEXT[] := '{}';
+    i      INTEGER;
+BEGIN
+    IF src IS NULL THEN
+        RETURN NULL;
+    END IF;
+
+    FOR run IN SELECT (regexp_matches(lower(src), '[0-9a-z]+|[가-힣]+', 'g'))[1]
+        LOOP
+            IF run ~ '^[가-힣]' AND length(run) > 1 THEN
+                FOR i IN 1..length(run) - 1
+                    LOOP
+                        tokens := tokens || substr(run, i, 2);
+                    END LOOP;
+            ELSE
+                tokens := tokens || run;
+            END IF;
+        END LOOP;
+
+    RETURN array_to_string(tokens, ' ');
+END;
+$f$ LANGUAGE plpgsql IMMUTABLE;
+
+-- 2. search_tokens 컬럼 추가, 기존 데이터 채우기, 인덱스 생성
+DO
+$$
+    BEGIN
+        -- place 테이블 존재 확인
+        IF NOT EXISTS (SELECT 1
+                       FROM information_schema.tables
+                       WHERE table_schema = 'public'
+                         AND table_name = 'place') THEN
+            RAISE NOTICE 'Table "public.place" does not exist. Skipping migration.';
+            RETURN;
+        END IF;
+
+        IF NOT EXISTS (SELECT 1
+                       FROM information_schema.columns
+                       WHERE table_schema = 'public'
+                         AND table_name = 'place'
+                         AND column_name = 'search_tokens') THEN
+
+            ALTER TABLE public.place
+                ADD COLUMN search_tokens TEXT;
+
+            RAISE NOTICE 'Added search_tokens column to place table';
+        ELSE
+            RAISE NOTICE 'search_tokens column already exists. Skipping column creation.';
+        END IF;
+
+        -- 기존 장소 토큰 채우기
+        UPDATE public.place
+        SET search_tokens = concat_ws(' ',
+                                      public.mapsy_search_tokens(name),
+                                      public.mapsy_search_tokens(address),
+                                      public.mapsy_search_tokens(road_address),
+                                      public.mapsy_search_tokens(business_type),
+                                      public.mapsy_search_tokens(array_to_string(menu_info, ' ')))
+        WHERE search_tokens IS NULL;
+
+        IF NOT EXISTS (SELECT 1
+                       FROM pg_indexes
+                       WHERE schemaname = 'public'
+                         AND indexname = 'idx_place_search_tokens') THEN
+
+            -- 검색 쿼리의 표현식과 동일해야 인덱스 사용
+            CREATE INDEX idx_place_search_tokens
+                ON public.place USING gin (to_tsvector('simple', COALESCE(search_tokens, '')));
+
+            RAISE NOTICE 'Created idx_place_search_tokens index';
+        ELSE
+            RAISE NOTICE 'idx_place_search_tokens index already exists. Skipping creation.';
+        END IF;
+    END
+$$;
+
+-- 3. 임시 함수 삭제
+DROP FUNCTION IF EXISTS public.mapsy_search_tokens(TEXT);